@@ -0,0 +1,33 @@
+package com.gh.mygreen.xlsmapper.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * ベンチマークを実行するメインクラス。
+ * <p>引数は、JMHのコマンドラインのオプションと同じです。
+ *   <br>プロファイラを指定しない場合は、GCのプロファイラ（{@code -prof gc}）を使用し、
+ *   GCの回数と時間、メモリの割り当て量を合わせて出力します。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class BenchmarkRunner {
+
+    public static void main(final String[] args) throws Exception {
+
+        final List<String> options = new ArrayList<>(Arrays.asList(args));
+        if(!options.contains("-prof")) {
+            options.add("-prof");
+            options.add("gc");
+        }
+
+        Main.main(options.toArray(new String[options.size()]));
+    }
+
+}
@@ -0,0 +1,393 @@
+package com.gh.mygreen.xlsmapper.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Calendar;
+import java.util.Date;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * ベンチマークで使用するExcelファイルを作成するクラス。
+ * <p>同じ引数からは、常に同じ内容のファイルを作成します。
+ *   <br>全てXLSX形式で作成するため、行数の上限は1,048,576行、列数の上限は16,384列です。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class Fixtures {
+
+    /**
+     * 表の見出し
+     */
+    public static final String TABLE_LABEL = "一覧";
+
+    /**
+     * 日付の列の基準日
+     */
+    private static final long BASE_DATE = createBaseDate();
+
+    /**
+     * 横方向の表のファイルを作成する。
+     * <p>シート「明細」のA1に表の見出し、2行目に列の見出しがあり、3行目以降にレコードがあります。</p>
+     * @param rows レコード数
+     * @return ファイルの内容
+     */
+    public static byte[] createHorizontalRecords(final int rows) throws IOException {
+
+        // 行数が多い場合もメモリを使い切らないよう、ストリーミングで作成する
+        final SXSSFWorkbook book = new SXSSFWorkbook(1000);
+        try {
+            final Sheet sheet = book.createSheet("明細");
+            final CellStyle dateStyle = createDateStyle(book);
+
+            sheet.createRow(0).createCell(0).setCellValue(TABLE_LABEL);
+            writeHeader(sheet.createRow(1), "No", "商品", "数量", "単価", "日付");
+
+            for(int i=0; i < rows; i++) {
+                final Row row = sheet.createRow(i + 2);
+                row.createCell(0).setCellValue(i + 1);
+                row.createCell(1).setCellValue("商品" + (i % 100));
+                row.createCell(2).setCellValue(i % 10 + 1);
+                row.createCell(3).setCellValue(100.0 + i % 1000);
+                row.createCell(4).setCellValue(dateOf(i));
+                row.getCell(4).setCellStyle(dateStyle);
+            }
+
+            return toBytes(book);
+
+        } finally {
+            book.dispose();
+            book.close();
+        }
+    }
+
+    /**
+     * 横方向の表の書き込み用のテンプレートを作成する。
+     * <p>列の見出しと、書式を設定した1行分の空のレコードを持ちます。</p>
+     * @return ファイルの内容
+     */
+    public static byte[] createHorizontalTemplate() throws IOException {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            final Sheet sheet = book.createSheet("明細");
+
+            sheet.createRow(0).createCell(0).setCellValue(TABLE_LABEL);
+            writeHeader(sheet.createRow(1), "No", "商品", "数量", "単価", "日付");
+            writeEmptyRecord(book, sheet.createRow(2), 5);
+
+            return toBytes(book);
+        }
+    }
+
+    /**
+     * 縦方向の表のファイルを作成する。
+     * <p>シート「明細」のA1に表の見出し、A列の2行目以降に列の見出しがあり、B列以降にレコードがあります。</p>
+     * @param columns レコード数。XLSX形式の列数の上限から、16,383以下である必要があります。
+     * @return ファイルの内容
+     */
+    public static byte[] createVerticalRecords(final int columns) throws IOException {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            final Sheet sheet = book.createSheet("明細");
+            final CellStyle dateStyle = createDateStyle(book);
+
+            final Row[] rows = new Row[5];
+            sheet.createRow(0).createCell(0).setCellValue(TABLE_LABEL);
+            final String[] headers = {"No", "商品", "数量", "単価", "日付"};
+            for(int r=0; r < rows.length; r++) {
+                rows[r] = sheet.createRow(r + 1);
+                rows[r].createCell(0).setCellValue(headers[r]);
+            }
+
+            for(int i=0; i < columns; i++) {
+                final int column = i + 1;
+                rows[0].createCell(column).setCellValue(i + 1);
+                rows[1].createCell(column).setCellValue("商品" + (i % 100));
+                rows[2].createCell(column).setCellValue(i % 10 + 1);
+                rows[3].createCell(column).setCellValue(100.0 + i % 1000);
+                rows[4].createCell(column).setCellValue(dateOf(i));
+                rows[4].getCell(column).setCellStyle(dateStyle);
+            }
+
+            return toBytes(book);
+        }
+    }
+
+    /**
+     * 縦方向の表の書き込み用のテンプレートを作成する。
+     * @return ファイルの内容
+     */
+    public static byte[] createVerticalTemplate() throws IOException {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            final Sheet sheet = book.createSheet("明細");
+
+            sheet.createRow(0).createCell(0).setCellValue(TABLE_LABEL);
+            final String[] headers = {"No", "商品", "数量", "単価", "日付"};
+            final CellStyle style = createBorderStyle(book);
+            for(int r=0; r < headers.length; r++) {
+                final Row row = sheet.createRow(r + 1);
+                row.createCell(0).setCellValue(headers[r]);
+                row.createCell(1).setCellStyle(style);
+            }
+
+            return toBytes(book);
+        }
+    }
+
+    /**
+     * 見出し付きのセルを多く持つ帳票のファイルを作成する。
+     * <p>マッピング対象の見出しの間に、マッピング対象外の見出しを配置し、見出しの検索の負荷を高くします。</p>
+     * @param fields マッピング対象の見出しの数
+     * @param fillers マッピング対象の見出しの間に配置する、対象外の見出しの数
+     * @return ファイルの内容
+     */
+    public static byte[] createLabelledForm(final int fields, final int fillers) throws IOException {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            final Sheet sheet = book.createSheet("帳票");
+
+            int rowIndex = 0;
+            for(int i=0; i < fields; i++) {
+                for(int f=0; f < fillers / fields; f++) {
+                    final Row row = sheet.createRow(rowIndex++);
+                    row.createCell(0).setCellValue("備考" + i + "-" + f);
+                    row.createCell(1).setCellValue("値" + f);
+                }
+
+                final Row row = sheet.createRow(rowIndex++);
+                row.createCell(0).setCellValue("項目" + i);
+                row.createCell(1).setCellValue("値" + i);
+            }
+
+            return toBytes(book);
+        }
+    }
+
+    /**
+     * 同じ形式の表を繰り返し持つファイルを作成する。
+     * <p>表ごとに、表の見出し「部門情報」、見出し付きのセル「部門名」、レコードが{@code records}件の表を持ちます。</p>
+     * @param tables 表の数
+     * @param records 表ごとのレコード数
+     * @return ファイルの内容
+     */
+    public static byte[] createIterateTables(final int tables, final int records) throws IOException {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            final Sheet sheet = book.createSheet("部門一覧");
+
+            int rowIndex = 0;
+            for(int t=0; t < tables; t++) {
+                sheet.createRow(rowIndex++).createCell(0).setCellValue("部門情報");
+
+                final Row nameRow = sheet.createRow(rowIndex++);
+                nameRow.createCell(0).setCellValue("部門名");
+                nameRow.createCell(1).setCellValue("部門" + t);
+
+                writeHeader(sheet.createRow(rowIndex++), "ID", "名前");
+                for(int i=0; i < records; i++) {
+                    final Row row = sheet.createRow(rowIndex++);
+                    row.createCell(0).setCellValue(i + 1);
+                    row.createCell(1).setCellValue("社員" + t + "-" + i);
+                }
+
+                // 表の区切りの空行
+                rowIndex++;
+            }
+
+            return toBytes(book);
+        }
+    }
+
+    /**
+     * 数式を多く持つ横方向の表のファイルを作成する。
+     * <p>列「金額」は「数量×単価」、列「累計」はそれまでの「金額」の合計の数式です。</p>
+     * @param rows レコード数
+     * @return ファイルの内容
+     */
+    public static byte[] createFormulaRecords(final int rows) throws IOException {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            final Sheet sheet = book.createSheet("明細");
+
+            sheet.createRow(0).createCell(0).setCellValue(TABLE_LABEL);
+            writeHeader(sheet.createRow(1), "No", "数量", "単価", "金額", "累計");
+
+            for(int i=0; i < rows; i++) {
+                final Row row = sheet.createRow(i + 2);
+                final int rowNumber = i + 3;
+                row.createCell(0).setCellValue(i + 1);
+                row.createCell(1).setCellValue(i % 10 + 1);
+                row.createCell(2).setCellValue(100.0 + i % 1000);
+                row.createCell(3).setCellFormula("B" + rowNumber + "*C" + rowNumber);
+                row.createCell(4).setCellFormula(i == 0 ? "D3" : "E" + (rowNumber - 1) + "+D" + rowNumber);
+            }
+
+            return toBytes(book);
+        }
+    }
+
+    /**
+     * 数式を持つ横方向の表の書き込み用のテンプレートを作成する。
+     * @return ファイルの内容
+     */
+    public static byte[] createFormulaTemplate() throws IOException {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            final Sheet sheet = book.createSheet("明細");
+
+            sheet.createRow(0).createCell(0).setCellValue(TABLE_LABEL);
+            writeHeader(sheet.createRow(1), "No", "数量", "単価", "金額", "累計");
+            writeEmptyRecord(book, sheet.createRow(2), 5);
+
+            return toBytes(book);
+        }
+    }
+
+    /**
+     * 結合したセルを多く持つ横方向の表のファイルを作成する。
+     * <p>列「分類」は、{@code groupSize}行ごとに結合しています。</p>
+     * @param rows レコード数
+     * @param groupSize 結合する行数
+     * @return ファイルの内容
+     */
+    public static byte[] createMergedRecords(final int rows, final int groupSize) throws IOException {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            final Sheet sheet = book.createSheet("明細");
+
+            sheet.createRow(0).createCell(0).setCellValue(TABLE_LABEL);
+            writeHeader(sheet.createRow(1), "分類", "No", "商品");
+
+            for(int i=0; i < rows; i++) {
+                final Row row = sheet.createRow(i + 2);
+                if(i % groupSize == 0) {
+                    row.createCell(0).setCellValue("分類" + (i / groupSize));
+                    final int lastRow = Math.min(i + groupSize, rows) + 1;
+                    if(lastRow > i + 2) {
+                        sheet.addMergedRegion(new CellRangeAddress(i + 2, lastRow, 0, 0));
+                    }
+                }
+                row.createCell(1).setCellValue(i + 1);
+                row.createCell(2).setCellValue("商品" + i);
+            }
+
+            return toBytes(book);
+        }
+    }
+
+    /**
+     * 結合したセルを多く持つ、横方向の表の書き込み用のテンプレートを作成する。
+     * <p>表の右側に、結合したセルで構成された入力欄を{@code mergedRegions}個配置します。</p>
+     * @param mergedRegions 表とは別に配置する結合したセルの数
+     * @return ファイルの内容
+     */
+    public static byte[] createMergedTemplate(final int mergedRegions) throws IOException {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            final Sheet sheet = book.createSheet("明細");
+
+            sheet.createRow(0).createCell(0).setCellValue(TABLE_LABEL);
+            writeHeader(sheet.createRow(1), "分類", "No", "商品");
+            writeEmptyRecord(book, sheet.createRow(2), 3);
+
+            // 表の右側の入力欄。2列×2行の結合したセルを縦に並べる。
+            for(int i=0; i < mergedRegions; i++) {
+                final int firstRow = i * 2;
+                sheet.addMergedRegion(new CellRangeAddress(firstRow, firstRow + 1, 5, 6));
+            }
+
+            return toBytes(book);
+        }
+    }
+
+    /**
+     * 日付の列の値を作成する。
+     * @param index レコードのインデックス
+     * @return 基準日から、インデックスの値の日数だけ進めた日付
+     */
+    public static Date dateOf(final int index) {
+        return new Date(BASE_DATE + (index % 3650) * 24L * 60L * 60L * 1000L);
+    }
+
+    private static long createBaseDate() {
+        final Calendar cal = Calendar.getInstance();
+        cal.clear();
+        cal.set(2018, Calendar.JANUARY, 1);
+        return cal.getTimeInMillis();
+    }
+
+    private static void writeHeader(final Row row, final String... labels) {
+        for(int i=0; i < labels.length; i++) {
+            row.createCell(i).setCellValue(labels[i]);
+        }
+    }
+
+    private static void writeEmptyRecord(final Workbook book, final Row row, final int columns) {
+        final CellStyle style = createBorderStyle(book);
+        for(int i=0; i < columns; i++) {
+            row.createCell(i).setCellStyle(style);
+        }
+    }
+
+    private static CellStyle createDateStyle(final Workbook book) {
+        final CellStyle style = book.createCellStyle();
+        style.setDataFormat(book.createDataFormat().getFormat("yyyy/m/d"));
+        return style;
+    }
+
+    private static CellStyle createBorderStyle(final Workbook book) {
+        final CellStyle style = book.createCellStyle();
+        style.setBorderTop(BorderStyle.THIN);
+        style.setBorderBottom(BorderStyle.THIN);
+        style.setBorderLeft(BorderStyle.THIN);
+        style.setBorderRight(BorderStyle.THIN);
+        return style;
+    }
+
+    private static byte[] toBytes(final Workbook book) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        book.write(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 書き込んだ内容を破棄する出力先。
+     * <p>出力したバイト数のみを保持し、結果がJITコンパイラにより除去されないようにします。</p>
+     */
+    public static final class DiscardOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(final int b) {
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            count += len;
+        }
+
+        /**
+         * 出力したバイト数を取得する。
+         * @return 出力したバイト数
+         */
+        public long getCount() {
+            return count;
+        }
+
+    }
+
+}
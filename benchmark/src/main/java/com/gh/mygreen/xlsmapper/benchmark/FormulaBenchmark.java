@@ -0,0 +1,83 @@
+package com.gh.mygreen.xlsmapper.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gh.mygreen.xlsmapper.XlsMapper;
+import com.gh.mygreen.xlsmapper.benchmark.Fixtures.DiscardOutputStream;
+import com.gh.mygreen.xlsmapper.benchmark.model.FormulaSheet;
+import com.gh.mygreen.xlsmapper.benchmark.model.FormulaSheet.FormulaRecord;
+
+/**
+ * 数式を多く持つ表の読み込み／書き込みの性能測定。
+ * <p>読み込み時は数式の評価、書き込み時はアノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsFormula}の
+ *   数式の組み立てと、ワークブック全体の再計算を含みます。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=3)
+@Measurement(iterations=5)
+@Fork(value=1, jvmArgsAppend={"-Xms2g", "-Xmx2g", "-Xss8m"})
+public class FormulaBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private XlsMapper mapper;
+
+    private byte[] file;
+
+    private byte[] template;
+
+    private FormulaSheet sheet;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        this.mapper = new XlsMapper();
+        this.file = Fixtures.createFormulaRecords(rows);
+        this.template = Fixtures.createFormulaTemplate();
+
+        final List<FormulaRecord> records = new ArrayList<>(rows);
+        for(int i=0; i < rows; i++) {
+            records.add(new FormulaRecord(i + 1, i % 10 + 1, 100.0 + i % 1000));
+        }
+
+        this.sheet = new FormulaSheet();
+        sheet.setRecords(records);
+    }
+
+    @Benchmark
+    public FormulaSheet load() throws Exception {
+        return mapper.load(new ByteArrayInputStream(file), FormulaSheet.class);
+    }
+
+    @Benchmark
+    public long save() throws Exception {
+        final DiscardOutputStream out = new DiscardOutputStream();
+        mapper.save(new ByteArrayInputStream(template), out, sheet);
+        return out.getCount();
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.gh.mygreen.xlsmapper.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gh.mygreen.xlsmapper.XlsMapper;
+import com.gh.mygreen.xlsmapper.benchmark.Fixtures.DiscardOutputStream;
+import com.gh.mygreen.xlsmapper.benchmark.model.HorizontalItemSheet;
+import com.gh.mygreen.xlsmapper.benchmark.model.ItemRecord;
+
+/**
+ * アノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords}の読み込み／書き込みの性能測定。
+ * <p>ワークブック全体をメモリ上に展開する、通常の方法で処理します。
+ *   <br>100万行の場合は、{@link HorizontalRecordsStreamingBenchmark}で測定します。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=3)
+@Measurement(iterations=5)
+@Fork(value=1, jvmArgsAppend={"-Xms4g", "-Xmx4g"})
+public class HorizontalRecordsBenchmark {
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    private XlsMapper mapper;
+
+    private byte[] file;
+
+    private byte[] template;
+
+    private HorizontalItemSheet sheet;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        this.mapper = new XlsMapper();
+        this.file = Fixtures.createHorizontalRecords(rows);
+        this.template = Fixtures.createHorizontalTemplate();
+
+        final List<ItemRecord> records = new ArrayList<>(rows);
+        for(int i=0; i < rows; i++) {
+            records.add(new ItemRecord(i + 1, "商品" + (i % 100), i % 10 + 1, 100.0 + i % 1000, Fixtures.dateOf(i)));
+        }
+
+        this.sheet = new HorizontalItemSheet();
+        sheet.setRecords(records);
+    }
+
+    @Benchmark
+    public HorizontalItemSheet load() throws Exception {
+        return mapper.load(new ByteArrayInputStream(file), HorizontalItemSheet.class);
+    }
+
+    @Benchmark
+    public long save() throws Exception {
+        final DiscardOutputStream out = new DiscardOutputStream();
+        mapper.save(new ByteArrayInputStream(template), out, sheet);
+        return out.getCount();
+    }
+
+}
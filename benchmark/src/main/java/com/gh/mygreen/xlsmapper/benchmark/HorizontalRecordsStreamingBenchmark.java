@@ -0,0 +1,99 @@
+package com.gh.mygreen.xlsmapper.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gh.mygreen.xlsmapper.XlsMapper;
+import com.gh.mygreen.xlsmapper.benchmark.Fixtures.DiscardOutputStream;
+import com.gh.mygreen.xlsmapper.benchmark.model.HorizontalItemSheet;
+import com.gh.mygreen.xlsmapper.benchmark.model.ItemRecord;
+
+/**
+ * アノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords}を、
+ * ストリーミングで読み込み／書き込みする場合の性能測定。
+ * <p>{@link com.gh.mygreen.xlsmapper.Configuration#setStreamingLoad(boolean)}、
+ *   {@link com.gh.mygreen.xlsmapper.Configuration#setStreamingSave(boolean)}を有効にして処理します。
+ *   <br>{@link #loadStream(Blackhole)}は、レコードを保持せずに1件ずつ処理するため、メモリの割り当て量がレコード数に比例しないことを確認できます。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=2)
+@Measurement(iterations=5)
+@Fork(value=1, jvmArgsAppend={"-Xms4g", "-Xmx4g"})
+public class HorizontalRecordsStreamingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private XlsMapper mapper;
+
+    private byte[] file;
+
+    private byte[] template;
+
+    private HorizontalItemSheet sheet;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        this.mapper = new XlsMapper();
+        mapper.getConfiguration()
+            .setStreamingLoad(true)
+            .setStreamingSave(true);
+
+        this.file = Fixtures.createHorizontalRecords(rows);
+        this.template = Fixtures.createHorizontalTemplate();
+
+        final List<ItemRecord> records = new ArrayList<>(rows);
+        for(int i=0; i < rows; i++) {
+            records.add(new ItemRecord(i + 1, "商品" + (i % 100), i % 10 + 1, 100.0 + i % 1000, Fixtures.dateOf(i)));
+        }
+
+        this.sheet = new HorizontalItemSheet();
+        sheet.setRecords(records);
+    }
+
+    @Benchmark
+    public HorizontalItemSheet load() throws Exception {
+        return mapper.load(new ByteArrayInputStream(file), HorizontalItemSheet.class);
+    }
+
+    @Benchmark
+    public void loadStream(final Blackhole blackhole) throws Exception {
+        try(Stream<ItemRecord> stream = mapper.loadStream(new ByteArrayInputStream(file), HorizontalItemSheet.class,
+                "records", ItemRecord.class)) {
+            stream.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public long save() throws Exception {
+        final DiscardOutputStream out = new DiscardOutputStream();
+        mapper.save(new ByteArrayInputStream(template), out, sheet);
+        return out.getCount();
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.gh.mygreen.xlsmapper.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gh.mygreen.xlsmapper.XlsMapper;
+import com.gh.mygreen.xlsmapper.benchmark.model.DepartmentSheet;
+
+/**
+ * アノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsIterateTables}の読み込みの性能測定。
+ * <p>表ごとに見出しの検索を行うため、表の数に対する処理時間の増え方を測定します。</p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=3)
+@Measurement(iterations=5)
+@Fork(value=1, jvmArgsAppend={"-Xms2g", "-Xmx2g"})
+public class IterateTablesBenchmark {
+
+    /**
+     * 表ごとのレコード数
+     */
+    private static final int RECORDS = 10;
+
+    @Param({"10", "100", "1000"})
+    private int tables;
+
+    private XlsMapper mapper;
+
+    private byte[] file;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.mapper = new XlsMapper();
+        this.file = Fixtures.createIterateTables(tables, RECORDS);
+    }
+
+    @Benchmark
+    public DepartmentSheet load() throws Exception {
+        return mapper.load(new ByteArrayInputStream(file), DepartmentSheet.class);
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.gh.mygreen.xlsmapper.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gh.mygreen.xlsmapper.XlsMapper;
+import com.gh.mygreen.xlsmapper.benchmark.Fixtures.DiscardOutputStream;
+import com.gh.mygreen.xlsmapper.benchmark.model.LabelledFormSheet;
+
+/**
+ * アノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsLabelledCell}を多く持つ帳票の読み込み／書き込みの性能測定。
+ * <p>マッピング対象外の見出しの数を変えて、見出しの検索にかかる時間を測定します。</p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3)
+@Measurement(iterations=5)
+@Fork(value=1, jvmArgsAppend={"-Xms1g", "-Xmx1g"})
+public class LabelledCellBenchmark {
+
+    /**
+     * マッピング対象の見出しの数。{@link LabelledFormSheet}のフィールド数と一致させる。
+     */
+    private static final int FIELDS = 20;
+
+    @Param({"0", "1000", "10000"})
+    private int fillers;
+
+    private XlsMapper mapper;
+
+    private byte[] file;
+
+    private LabelledFormSheet sheet;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        this.mapper = new XlsMapper();
+        this.file = Fixtures.createLabelledForm(FIELDS, fillers);
+
+        // 書き込み時は、読み込んだファイルをテンプレートとして使用する
+        this.sheet = mapper.load(new ByteArrayInputStream(file), LabelledFormSheet.class);
+    }
+
+    @Benchmark
+    public LabelledFormSheet load() throws Exception {
+        return mapper.load(new ByteArrayInputStream(file), LabelledFormSheet.class);
+    }
+
+    @Benchmark
+    public long save() throws Exception {
+        final DiscardOutputStream out = new DiscardOutputStream();
+        mapper.save(new ByteArrayInputStream(file), out, sheet);
+        return out.getCount();
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.gh.mygreen.xlsmapper.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gh.mygreen.xlsmapper.XlsMapper;
+import com.gh.mygreen.xlsmapper.benchmark.Fixtures.DiscardOutputStream;
+import com.gh.mygreen.xlsmapper.benchmark.model.MergedSheet;
+import com.gh.mygreen.xlsmapper.benchmark.model.MergedSheet.MergedRecord;
+
+/**
+ * 結合したセルを多く持つ表の読み込み／書き込みの性能測定。
+ * <p>書き込み時は、{@link com.gh.mygreen.xlsmapper.Configuration#setMergeCellOnSave(boolean)}を有効にし、
+ *   テンプレートにも結合したセルを配置して、結合情報の検索と行の挿入時の結合の移動にかかる時間を測定します。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=3)
+@Measurement(iterations=5)
+@Fork(value=1, jvmArgsAppend={"-Xms2g", "-Xmx2g"})
+public class MergedCellBenchmark {
+
+    /**
+     * 列「分類」を結合する行数
+     */
+    private static final int GROUP_SIZE = 5;
+
+    /**
+     * テンプレートの表とは別に配置する結合したセルの数
+     */
+    private static final int TEMPLATE_MERGED_REGIONS = 500;
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private XlsMapper mapper;
+
+    private byte[] file;
+
+    private byte[] template;
+
+    private MergedSheet sheet;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        this.mapper = new XlsMapper();
+        mapper.getConfiguration().setMergeCellOnSave(true);
+
+        this.file = Fixtures.createMergedRecords(rows, GROUP_SIZE);
+        this.template = Fixtures.createMergedTemplate(TEMPLATE_MERGED_REGIONS);
+
+        final List<MergedRecord> records = new ArrayList<>(rows);
+        for(int i=0; i < rows; i++) {
+            records.add(new MergedRecord("分類" + (i / GROUP_SIZE), i + 1, "商品" + i));
+        }
+
+        this.sheet = new MergedSheet();
+        sheet.setRecords(records);
+    }
+
+    @Benchmark
+    public MergedSheet load() throws Exception {
+        return mapper.load(new ByteArrayInputStream(file), MergedSheet.class);
+    }
+
+    @Benchmark
+    public long save() throws Exception {
+        final DiscardOutputStream out = new DiscardOutputStream();
+        mapper.save(new ByteArrayInputStream(template), out, sheet);
+        return out.getCount();
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.gh.mygreen.xlsmapper.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gh.mygreen.xlsmapper.XlsMapper;
+import com.gh.mygreen.xlsmapper.benchmark.Fixtures.DiscardOutputStream;
+import com.gh.mygreen.xlsmapper.benchmark.model.ItemRecord;
+import com.gh.mygreen.xlsmapper.benchmark.model.VerticalItemSheet;
+
+/**
+ * アノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsVerticalRecords}の読み込み／書き込みの性能測定。
+ * <p>XLSX形式の列数の上限は16,384列のため、レコード数は最大で1万件とします。</p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=3)
+@Measurement(iterations=5)
+@Fork(value=1, jvmArgsAppend={"-Xms2g", "-Xmx2g"})
+public class VerticalRecordsBenchmark {
+
+    @Param({"1000", "10000"})
+    private int columns;
+
+    private XlsMapper mapper;
+
+    private byte[] file;
+
+    private byte[] template;
+
+    private VerticalItemSheet sheet;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        this.mapper = new XlsMapper();
+        this.file = Fixtures.createVerticalRecords(columns);
+        this.template = Fixtures.createVerticalTemplate();
+
+        final List<ItemRecord> records = new ArrayList<>(columns);
+        for(int i=0; i < columns; i++) {
+            records.add(new ItemRecord(i + 1, "商品" + (i % 100), i % 10 + 1, 100.0 + i % 1000, Fixtures.dateOf(i)));
+        }
+
+        this.sheet = new VerticalItemSheet();
+        sheet.setRecords(records);
+    }
+
+    @Benchmark
+    public VerticalItemSheet load() throws Exception {
+        return mapper.load(new ByteArrayInputStream(file), VerticalItemSheet.class);
+    }
+
+    @Benchmark
+    public long save() throws Exception {
+        final DiscardOutputStream out = new DiscardOutputStream();
+        mapper.save(new ByteArrayInputStream(template), out, sheet);
+        return out.getCount();
+    }
+
+}
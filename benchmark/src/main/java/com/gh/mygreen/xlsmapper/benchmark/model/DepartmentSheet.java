@@ -0,0 +1,71 @@
+package com.gh.mygreen.xlsmapper.benchmark.model;
+
+import java.util.List;
+
+import com.gh.mygreen.xlsmapper.annotation.LabelledCellType;
+import com.gh.mygreen.xlsmapper.annotation.XlsColumn;
+import com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords;
+import com.gh.mygreen.xlsmapper.annotation.XlsIterateTables;
+import com.gh.mygreen.xlsmapper.annotation.XlsLabelledCell;
+import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
+
+/**
+ * 同じ形式の表を繰り返し持つシート。
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@XlsSheet(name="部門一覧")
+public class DepartmentSheet {
+
+    @XlsIterateTables(tableLabel="部門情報", bottom=2)
+    private List<DepartmentTable> tables;
+
+    public List<DepartmentTable> getTables() {
+        return tables;
+    }
+
+    /**
+     * 繰り返し部分の表
+     */
+    public static class DepartmentTable {
+
+        @XlsLabelledCell(label="部門名", type=LabelledCellType.Right)
+        private String name;
+
+        @XlsHorizontalRecords(tableLabel="部門情報")
+        private List<EmployeeRecord> records;
+
+        public String getName() {
+            return name;
+        }
+
+        public List<EmployeeRecord> getRecords() {
+            return records;
+        }
+
+    }
+
+    /**
+     * 表のレコード
+     */
+    public static class EmployeeRecord {
+
+        @XlsColumn(columnName="ID")
+        private int id;
+
+        @XlsColumn(columnName="名前")
+        private String name;
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+}
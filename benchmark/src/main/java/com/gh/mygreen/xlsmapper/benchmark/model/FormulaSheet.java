@@ -0,0 +1,77 @@
+package com.gh.mygreen.xlsmapper.benchmark.model;
+
+import java.util.List;
+
+import com.gh.mygreen.xlsmapper.annotation.XlsColumn;
+import com.gh.mygreen.xlsmapper.annotation.XlsFormula;
+import com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords;
+import com.gh.mygreen.xlsmapper.annotation.XlsRecordOption;
+import com.gh.mygreen.xlsmapper.annotation.XlsRecordOption.OverOperation;
+import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
+
+/**
+ * 数式を多く持つ表のシート。
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@XlsSheet(name="明細")
+public class FormulaSheet {
+
+    @XlsHorizontalRecords(tableLabel="一覧")
+    @XlsRecordOption(overOperation=OverOperation.Insert)
+    private List<FormulaRecord> records;
+
+    public List<FormulaRecord> getRecords() {
+        return records;
+    }
+
+    public void setRecords(List<FormulaRecord> records) {
+        this.records = records;
+    }
+
+    /**
+     * 表のレコード。
+     * <p>書き込み時は、列「金額」「累計」に数式を設定します。</p>
+     */
+    public static class FormulaRecord {
+
+        @XlsColumn(columnName="No")
+        private int no;
+
+        @XlsColumn(columnName="数量")
+        private int quantity;
+
+        @XlsColumn(columnName="単価")
+        private double price;
+
+        @XlsColumn(columnName="金額")
+        @XlsFormula("B{rowNumber}*C{rowNumber}")
+        private Double amount;
+
+        @XlsColumn(columnName="累計")
+        @XlsFormula("${rowNumber == 3 ? 'D3' : 'E' + (rowNumber - 1) + '+D' + rowNumber}")
+        private Double total;
+
+        public FormulaRecord() {
+
+        }
+
+        public FormulaRecord(final int no, final int quantity, final double price) {
+            this.no = no;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        public Double getAmount() {
+            return amount;
+        }
+
+        public Double getTotal() {
+            return total;
+        }
+
+    }
+
+}
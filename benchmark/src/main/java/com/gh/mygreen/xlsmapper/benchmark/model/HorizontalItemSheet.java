@@ -0,0 +1,33 @@
+package com.gh.mygreen.xlsmapper.benchmark.model;
+
+import java.util.List;
+
+import com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords;
+import com.gh.mygreen.xlsmapper.annotation.XlsRecordOption;
+import com.gh.mygreen.xlsmapper.annotation.XlsRecordOption.OverOperation;
+import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
+
+/**
+ * 横方向の表を持つシート。
+ * <p>ストリーミングでの読み込み／書き込みの対象となる形式です。</p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@XlsSheet(name="明細")
+public class HorizontalItemSheet {
+
+    @XlsHorizontalRecords(tableLabel="一覧")
+    @XlsRecordOption(overOperation=OverOperation.Insert)
+    private List<ItemRecord> records;
+
+    public List<ItemRecord> getRecords() {
+        return records;
+    }
+
+    public void setRecords(List<ItemRecord> records) {
+        this.records = records;
+    }
+
+}
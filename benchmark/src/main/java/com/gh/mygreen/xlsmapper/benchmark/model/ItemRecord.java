@@ -0,0 +1,66 @@
+package com.gh.mygreen.xlsmapper.benchmark.model;
+
+import java.util.Date;
+
+import com.gh.mygreen.xlsmapper.annotation.XlsColumn;
+import com.gh.mygreen.xlsmapper.annotation.XlsDateTimeConverter;
+
+/**
+ * 横方向、縦方向の表の1レコード。
+ * <p>数値、文字列、日付の変換処理を含みます。</p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class ItemRecord {
+
+    @XlsColumn(columnName="No")
+    private int no;
+
+    @XlsColumn(columnName="商品")
+    private String name;
+
+    @XlsColumn(columnName="数量")
+    private Integer quantity;
+
+    @XlsColumn(columnName="単価")
+    private double price;
+
+    @XlsColumn(columnName="日付")
+    @XlsDateTimeConverter(excelPattern="yyyy/m/d")
+    private Date date;
+
+    public ItemRecord() {
+
+    }
+
+    public ItemRecord(final int no, final String name, final Integer quantity, final double price, final Date date) {
+        this.no = no;
+        this.name = name;
+        this.quantity = quantity;
+        this.price = price;
+        this.date = date;
+    }
+
+    public int getNo() {
+        return no;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+}
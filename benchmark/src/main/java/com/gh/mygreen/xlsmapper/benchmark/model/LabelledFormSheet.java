@@ -0,0 +1,86 @@
+package com.gh.mygreen.xlsmapper.benchmark.model;
+
+import com.gh.mygreen.xlsmapper.annotation.LabelledCellType;
+import com.gh.mygreen.xlsmapper.annotation.XlsLabelledCell;
+import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
+
+/**
+ * 見出し付きのセルを多く持つ帳票のシート。
+ * <p>見出し「項目0」～「項目19」の右側のセルをマッピングします。</p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@XlsSheet(name="帳票")
+public class LabelledFormSheet {
+
+    @XlsLabelledCell(label="項目0", type=LabelledCellType.Right)
+    private String item0;
+
+    @XlsLabelledCell(label="項目1", type=LabelledCellType.Right)
+    private String item1;
+
+    @XlsLabelledCell(label="項目2", type=LabelledCellType.Right)
+    private String item2;
+
+    @XlsLabelledCell(label="項目3", type=LabelledCellType.Right)
+    private String item3;
+
+    @XlsLabelledCell(label="項目4", type=LabelledCellType.Right)
+    private String item4;
+
+    @XlsLabelledCell(label="項目5", type=LabelledCellType.Right)
+    private String item5;
+
+    @XlsLabelledCell(label="項目6", type=LabelledCellType.Right)
+    private String item6;
+
+    @XlsLabelledCell(label="項目7", type=LabelledCellType.Right)
+    private String item7;
+
+    @XlsLabelledCell(label="項目8", type=LabelledCellType.Right)
+    private String item8;
+
+    @XlsLabelledCell(label="項目9", type=LabelledCellType.Right)
+    private String item9;
+
+    @XlsLabelledCell(label="項目10", type=LabelledCellType.Right)
+    private String item10;
+
+    @XlsLabelledCell(label="項目11", type=LabelledCellType.Right)
+    private String item11;
+
+    @XlsLabelledCell(label="項目12", type=LabelledCellType.Right)
+    private String item12;
+
+    @XlsLabelledCell(label="項目13", type=LabelledCellType.Right)
+    private String item13;
+
+    @XlsLabelledCell(label="項目14", type=LabelledCellType.Right)
+    private String item14;
+
+    @XlsLabelledCell(label="項目15", type=LabelledCellType.Right)
+    private String item15;
+
+    @XlsLabelledCell(label="項目16", type=LabelledCellType.Right)
+    private String item16;
+
+    @XlsLabelledCell(label="項目17", type=LabelledCellType.Right)
+    private String item17;
+
+    @XlsLabelledCell(label="項目18", type=LabelledCellType.Right)
+    private String item18;
+
+    @XlsLabelledCell(label="項目19", type=LabelledCellType.Right)
+    private String item19;
+
+    /**
+     * マッピングした値を連結する。
+     * @return 全ての項目の値を連結した文字列
+     */
+    public String join() {
+        return String.join(",", item0, item1, item2, item3, item4, item5, item6, item7, item8, item9, item10, item11, item12, item13, item14, item15, item16, item17, item18, item19);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.gh.mygreen.xlsmapper.benchmark.model;
+
+import java.util.List;
+
+import com.gh.mygreen.xlsmapper.annotation.XlsColumn;
+import com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords;
+import com.gh.mygreen.xlsmapper.annotation.XlsRecordOption;
+import com.gh.mygreen.xlsmapper.annotation.XlsRecordOption.OverOperation;
+import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
+
+/**
+ * 結合したセルを多く持つ表のシート。
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@XlsSheet(name="明細")
+public class MergedSheet {
+
+    @XlsHorizontalRecords(tableLabel="一覧")
+    @XlsRecordOption(overOperation=OverOperation.Insert)
+    private List<MergedRecord> records;
+
+    public List<MergedRecord> getRecords() {
+        return records;
+    }
+
+    public void setRecords(List<MergedRecord> records) {
+        this.records = records;
+    }
+
+    /**
+     * 表のレコード。
+     * <p>列「分類」は、同じ値が連続する場合に結合します。</p>
+     */
+    public static class MergedRecord {
+
+        @XlsColumn(columnName="分類", merged=true)
+        private String category;
+
+        @XlsColumn(columnName="No")
+        private int no;
+
+        @XlsColumn(columnName="商品")
+        private String name;
+
+        public MergedRecord() {
+
+        }
+
+        public MergedRecord(final String category, final int no, final String name) {
+            this.category = category;
+            this.no = no;
+            this.name = name;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.gh.mygreen.xlsmapper.benchmark.model;
+
+import java.util.List;
+
+import com.gh.mygreen.xlsmapper.annotation.XlsRecordOption;
+import com.gh.mygreen.xlsmapper.annotation.XlsRecordOption.OverOperation;
+import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
+import com.gh.mygreen.xlsmapper.annotation.XlsVerticalRecords;
+
+/**
+ * 縦方向の表を持つシート。
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@XlsSheet(name="明細")
+public class VerticalItemSheet {
+
+    @XlsVerticalRecords(tableLabel="一覧", tableLabelAbove=true)
+    @XlsRecordOption(overOperation=OverOperation.Copy)
+    private List<ItemRecord> records;
+
+    public List<ItemRecord> getRecords() {
+        return records;
+    }
+
+    public void setRecords(List<ItemRecord> records) {
+        this.records = records;
+    }
+
+}
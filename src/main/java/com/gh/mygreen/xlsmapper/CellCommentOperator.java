@@ -14,6 +14,7 @@ import com.gh.mygreen.xlsmapper.fieldaccessor.CommentSetter;
 import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
 import com.gh.mygreen.xlsmapper.fieldaccessor.MapCommentGetter;
 import com.gh.mygreen.xlsmapper.fieldaccessor.MapCommentSetter;
+import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
 
 /**
@@ -30,6 +31,49 @@ public class CellCommentOperator {
      */
     private CellCommentHandler commentHandler = new DefaultCellCommentHandler();
     
+    /**
+     * 設定を変更できないかどうか
+     */
+    private final boolean frozen;
+    
+    public CellCommentOperator() {
+        this.frozen = false;
+    }
+    
+    /**
+     * 設定を変更できないスナップショットを作成するコンストラクタ。
+     * @param original コピー元のインスタンス
+     */
+    protected CellCommentOperator(final CellCommentOperator original) {
+        if(original.commentHandler instanceof DefaultCellCommentHandler) {
+            this.commentHandler = ((DefaultCellCommentHandler)original.commentHandler).snapshot();
+        } else {
+            this.commentHandler = original.commentHandler;
+        }
+        this.frozen = true;
+    }
+    
+    /**
+     * 現在の設定値をコピーした、設定を変更できないインスタンスを作成します。
+     * <p>作成したインスタンスの{@link #setCommentHandler(CellCommentHandler)}を呼び出すと、{@link IllegalStateException}をスローします。</p>
+     * <p>コメントを処理する実装が{@link DefaultCellCommentHandler}の場合は、{@link DefaultCellCommentHandler#snapshot()}で
+     *   設定を変更できないようにコピーします。それ以外の実装の場合は、コピー元と共有します。
+     * </p>
+     * <p>サブクラスの場合は、コピーコンストラクタを利用して本メソッドをオーバーライドしてください。</p>
+     * @return 設定を変更できないインスタンス。既に設定を変更できない場合は、自身のインスタンスを返します。
+     */
+    public CellCommentOperator snapshot() {
+        return frozen ? this : new CellCommentOperator(this);
+    }
+    
+    /**
+     * 設定を変更できないかどうか判定します。
+     * @return trueの場合、{@link #snapshot()}で作成した設定を変更できないインスタンスです。
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+    
     /**
      * セルのコメントを抽出し、フィールドに設定する。
      * @param commentSetter 抽出したコメントの設定先
@@ -194,8 +238,14 @@ public class CellCommentOperator {
      * セルのコメントを実際に処理する実装を設定する。
      * 
      * @param commentHandler セルのコメントを実際に処理する実装。
+     * @throws IllegalStateException {@link #snapshot()}で作成した設定を変更できないインスタンスの場合
      */
     public void setCommentHandler(CellCommentHandler commentHandler) {
+        if(frozen) {
+            throw new IllegalStateException(MessageBuilder.create("config.frozen")
+                    .var("property", "commentHandler")
+                    .format());
+        }
         this.commentHandler = commentHandler;
     }
 }
@@ -3,13 +3,14 @@ package com.gh.mygreen.xlsmapper;
 import java.util.Locale;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
 
 
 /**
  * セルフォーマッターのインタフェース。
  * <p>標準の実装として{@link DefaultCellFormatter}がある。
  *
- * @version 2.0
+ * @version 2.1
  * @since 0.1
  * @author T.TSUCHIE
  *
@@ -24,6 +25,29 @@ public interface CellFormatter {
 
     }
 
+    /**
+     * シートの処理を開始する際に、シートに対するキャッシュの初期化と設定を行います。
+     * <p>読み込み／書き込み処理から、シートごとに呼び出されます。
+     *   <br>読み込み処理の終了時には、{@link #releaseSheet(Sheet)}が呼び出されます。
+     *   <br>標準では、{@link #init(boolean)}を呼び出します。
+     * </p>
+     * @since 2.1
+     * @param sheet 処理対象のシート
+     * @param cached trueのとき、シートに対するキャッシュを有効にします。
+     */
+    public default void initSheet(Sheet sheet, boolean cached) {
+        init(cached);
+    }
+
+    /**
+     * シートの処理を終了する際に、シートに対するキャッシュを破棄します。
+     * @since 2.1
+     * @param sheet 処理対象のシート
+     */
+    public default void releaseSheet(Sheet sheet) {
+
+    }
+
     /**
      * セルの値を文字列として取得する
      * @param cell 取得対象のセル
@@ -3,14 +3,24 @@ package com.gh.mygreen.xlsmapper;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
+import com.gh.mygreen.xlsmapper.cellconverter.CellConverterCache;
 import com.gh.mygreen.xlsmapper.cellconverter.CellConverterRegistry;
 import com.gh.mygreen.xlsmapper.expression.CustomFunctions;
 import com.gh.mygreen.xlsmapper.expression.ExpressionLanguageJEXLImpl;
 import com.gh.mygreen.xlsmapper.fieldprocessor.FieldProcessorRegistry;
+import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
 import com.gh.mygreen.xlsmapper.localization.MessageInterpolator;
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+import com.gh.mygreen.xlsmapper.util.AsyncExecutors;
 import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
+import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 import com.gh.mygreen.xlsmapper.xml.bind.AnnotationMappingInfo;
 
 
@@ -47,9 +57,30 @@ public class Configuration {
     /** 書き込み時に式の再計算をするかどうか */
     private boolean formulaRecalcurationOnSave = true;
 
+    /** 読み込み時に式の再計算をするかどうか */
+    private boolean formulaRecalcurationOnLoad = true;
+
     /** 読み込み時にセルの値のキャッシュを行うかどうか */
     private boolean cacheCellValueOnLoad = true;
 
+    /** フィールドに対するCellConverterをキャッシュするかどうか */
+    private boolean cacheCellConverter = true;
+
+    /** 読み込み時にストリーミングで読み込むかどうか */
+    private boolean streamingLoad = false;
+
+    /** 書き込み時に表のレコードをストリーミングで書き込むかどうか */
+    private boolean streamingSave = false;
+
+    /** ストリーミングで書き込む時に、メモリ上に保持する行数 */
+    private int streamingSaveWindowSize = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+
+    /** 複数の書き込み処理を一括で実行する際に使用するスレッドプール */
+    private ExecutorService batchSavingExecutor = null;
+
+    /** 非同期に読み込み／書き込みを行う際に使用するスレッドプール */
+    private Executor asyncExecutor = null;
+
     /** POIのセルの値のフォーマッター */
     private CellFormatter cellFormatter = new DefaultCellFormatter();
 
@@ -77,7 +108,20 @@ public class Configuration {
     /** Beanに対するアノテーションのマッピング情報 */
     private AnnotationMappingInfo annotationMapping = null;
 
+    /** JavaBeanのクラスに対するマッピング情報のキャッシュ */
+    private final Map<MappingPlanKey, SheetMappingPlan> mappingPlanCache = new ConcurrentHashMap<>();
+
+    /** フィールドに対するCellConverterのキャッシュ */
+    private final CellConverterCache cellConverterCache = new CellConverterCache();
+
+    /** 書き込み時に使用するテンプレートのキャッシュ */
+    private TemplateCache templateCache = new TemplateCache();
+
+    /** 設定を変更できないかどうか */
+    private final boolean frozen;
+
     public Configuration() {
+        this.frozen = false;
 
         // 数式をフォーマットする際のEL関数を登録する。
         ExpressionLanguageJEXLImpl formulaEL = new ExpressionLanguageJEXLImpl();
@@ -88,6 +132,93 @@ public class Configuration {
         formulaFormatter.setExpressionLanguage(formulaEL);
     }
 
+    /**
+     * 設定を変更できないスナップショットを作成するコンストラクタ。
+     * @param original コピー元の設定
+     */
+    private Configuration(final Configuration original) {
+        this.ignoreSheetNotFound = original.ignoreSheetNotFound;
+        this.normalizeLabelText = original.normalizeLabelText;
+        this.regexLabelText = original.regexLabelText;
+        this.continueTypeBindFailure = original.continueTypeBindFailure;
+        this.mergeCellOnSave = original.mergeCellOnSave;
+        this.correctNameRangeOnSave = original.correctNameRangeOnSave;
+        this.correctCellDataValidationOnSave = original.correctCellDataValidationOnSave;
+        this.formulaRecalcurationOnSave = original.formulaRecalcurationOnSave;
+        this.formulaRecalcurationOnLoad = original.formulaRecalcurationOnLoad;
+        this.cacheCellValueOnLoad = original.cacheCellValueOnLoad;
+        this.cacheCellConverter = original.cacheCellConverter;
+        this.streamingLoad = original.streamingLoad;
+        this.streamingSave = original.streamingSave;
+        this.streamingSaveWindowSize = original.streamingSaveWindowSize;
+        this.batchSavingExecutor = original.batchSavingExecutor;
+        this.asyncExecutor = original.asyncExecutor;
+        this.cellFormatter = original.cellFormatter instanceof DefaultCellFormatter
+                ? ((DefaultCellFormatter)original.cellFormatter).snapshot() : original.cellFormatter;
+        this.fieldProcessorRegistry = original.fieldProcessorRegistry.snapshot();
+        this.converterRegistry = original.converterRegistry.snapshot();
+        this.beanFactory = original.beanFactory;
+        this.bindingErrorsFactory = original.bindingErrorsFactory;
+        this.sheetFinder = original.sheetFinder;
+        this.formulaFormatter = original.formulaFormatter.snapshot();
+        this.commentOperator = original.commentOperator.snapshot();
+        this.annotationMapping = original.annotationMapping != null ? original.annotationMapping.copy() : null;
+        this.templateCache = original.templateCache.snapshot();
+        this.frozen = true;
+    }
+
+    /**
+     * 現在の設定値をコピーした、設定を変更できないインスタンスを作成します。
+     * <p>作成したインスタンスの設定用のメソッド(setterメソッド)を呼び出すと、{@link IllegalStateException}をスローします。
+     *   <br>そのため、1つのインスタンスを、複数のスレッドで同時に実行する読み込み／書き込み処理から共有できます。
+     * </p>
+     * <p>{@link #getConverterRegistry()}、{@link #getFieldProcessorRegistry()}、{@link #getTemplateCache()}などの
+     *   設定を保持するインスタンスは、それぞれの{@code snapshot()}メソッドで、登録内容をコピーした変更できないインスタンスを作成します。
+     *   作成したインスタンスの登録用のメソッドを呼び出すと、{@link IllegalStateException}をスローします。
+     *   <br>そのため、スナップショットの作成後にコピー元の設定を変更しても、作成したインスタンスには反映されません。
+     * </p>
+     * <ul>
+     *   <li>{@link DefaultCellFormatter}、{@link CellConverterRegistry}、{@link FieldProcessorRegistry}、
+     *       {@link CellCommentOperator}、{@link TemplateCache}は、変更できないインスタンスをコピーします。</li>
+     *   <li>{@link #getFormulaFormatter()}は、式言語の実装が{@link ExpressionLanguageJEXLImpl}の場合、
+     *       登録されているEL関数を変更できないようにコピーします。</li>
+     *   <li>{@link #getAnnotationMapping()}は、全ての要素をコピーします。</li>
+     * </ul>
+     * <p>独自に実装した{@link CellFormatter}、{@link BeanFactory}、{@link com.gh.mygreen.xlsmapper.expression.ExpressionLanguage}、
+     *   {@link CellCommentHandler}や、{@link DefaultCellFormatter}の{@link com.github.mygreen.cellformatter.FormatterResolver}、
+     *   スレッドプールなどは、コピーできないため、コピー元と共有します。
+     *   複数のスレッドから共有する場合は、これらの実装がスレッドセーフである必要があります。
+     *   <br>マッピング情報({@link #getMappingPlan(Class, AnnotationReader)})などのキャッシュは、作成したインスタンスごとに保持します。
+     * </p>
+     * @since 2.1
+     * @return 設定を変更できないインスタンス。既に設定を変更できない場合は、自身のインスタンスを返します。
+     */
+    public Configuration snapshot() {
+        return frozen ? this : new Configuration(this);
+    }
+
+    /**
+     * 設定を変更できないかどうか判定します。
+     * @since 2.1
+     * @return trueの場合、{@link #snapshot()}で作成した設定を変更できないインスタンスです。
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * 設定を変更できるかどうか検証します。
+     * @param property 変更する設定の名称
+     * @throws IllegalStateException 設定を変更できない場合
+     */
+    private void assertNotFrozen(final String property) {
+        if(frozen) {
+            throw new IllegalStateException(MessageBuilder.create("config.frozen")
+                    .var("property", property)
+                    .format());
+        }
+    }
+
     /**
      * 指定したクラスタイプのインスタンスを作成する
      * @param clazz
@@ -112,6 +243,7 @@ public class Configuration {
      * @return 自身のインスタンス
      */
     public Configuration setIgnoreSheetNotFound(boolean ignoreSheetNotFound) {
+        assertNotFrozen("ignoreSheetNotFound");
         this.ignoreSheetNotFound = ignoreSheetNotFound;
         return this;
     }
@@ -134,6 +266,7 @@ public class Configuration {
      * @return 自身のインスタンス
      */
     public Configuration setNormalizeLabelText(boolean normalizeLabelText) {
+        assertNotFrozen("normalizeLabelText");
         this.normalizeLabelText = normalizeLabelText;
         return this;
     }
@@ -156,6 +289,7 @@ public class Configuration {
      * @return 自身のインスタンス
      */
     public Configuration setRegexLabelText(boolean regexLabelText) {
+        assertNotFrozen("regexLabelText");
         this.regexLabelText = regexLabelText;
         return this;
     }
@@ -174,6 +308,7 @@ public class Configuration {
      * @return
      */
     public Configuration setContinueTypeBindFailure(boolean continueTypeBindFailure) {
+        assertNotFrozen("continueTypeBindFailure");
         this.continueTypeBindFailure = continueTypeBindFailure;
         return this;
     }
@@ -192,6 +327,7 @@ public class Configuration {
      * @return 自身のインスタンス
      */
     public Configuration setMergeCellOnSave(boolean mergeCellOnSave) {
+        assertNotFrozen("mergeCellOnSave");
         this.mergeCellOnSave = mergeCellOnSave;
         return this;
     }
@@ -212,6 +348,7 @@ public class Configuration {
      * @return 自身のインスタンス
      */
     public Configuration setCorrectNameRangeOnSave(boolean correctNameRangeOnSave) {
+        assertNotFrozen("correctNameRangeOnSave");
         this.correctNameRangeOnSave = correctNameRangeOnSave;
         return this;
     }
@@ -232,6 +369,7 @@ public class Configuration {
      * @param correctCellDataValidationOnSave 初期値は、'false'です。
      */
     public Configuration setCorrectCellDataValidationOnSave(boolean correctCellDataValidationOnSave) {
+        assertNotFrozen("correctCellDataValidationOnSave");
         this.correctCellDataValidationOnSave = correctCellDataValidationOnSave;
         return this;
     }
@@ -256,10 +394,60 @@ public class Configuration {
      * @return 自身のインスタンス
      */
     public Configuration setFormulaRecalcurationOnSave(boolean formulaRecalcurationOnSave) {
+        assertNotFrozen("formulaRecalcurationOnSave");
         this.formulaRecalcurationOnSave = formulaRecalcurationOnSave;
         return this;
     }
 
+    /**
+     * 読み込み時に式の再計算をするか設定します。
+     * @since 2.1
+     * @return 初期値は、'true'です。
+     */
+    public boolean isFormulaRecalcurationOnLoad() {
+        return formulaRecalcurationOnLoad;
+    }
+
+    /**
+     * 読み込み時に式の再計算をするか設定します。
+     * <p>再計算する場合、数式のセルは計算結果の値に置き換えられます。
+     *   <br>再計算しない場合は、ファイルに保存されている計算結果をそのまま読み込み、セルも変更しません。
+     *   数式が多い場合に、読み込みの性能が向上します。
+     * </p>
+     * @since 2.1
+     * @param formulaRecalcurationOnLoad trueのとき、再計算します。
+     * @return 自身のインスタンス
+     */
+    public Configuration setFormulaRecalcurationOnLoad(boolean formulaRecalcurationOnLoad) {
+        assertNotFrozen("formulaRecalcurationOnLoad");
+        this.formulaRecalcurationOnLoad = formulaRecalcurationOnLoad;
+        return this;
+    }
+
+    /**
+     * フィールドに対する{@link com.gh.mygreen.xlsmapper.cellconverter.CellConverter}をキャッシュするかどうか。
+     * @since 2.1
+     * @return 初期値は、'true'です。
+     */
+    public boolean isCacheCellConverter() {
+        return cacheCellConverter;
+    }
+
+    /**
+     * フィールドに対する{@link com.gh.mygreen.xlsmapper.cellconverter.CellConverter}をキャッシュするかどうか設定します。
+     * <p>キャッシュする場合、読み込み／書き込みのたびに作成せず、複数のスレッドで共有します。
+     *   <br>スレッドセーフでない独自の{@link com.gh.mygreen.xlsmapper.cellconverter.CellConverter}を使用する場合は、falseを設定します。
+     * </p>
+     * @since 2.1
+     * @param cacheCellConverter trueのとき、キャッシュします。
+     * @return 自身のインスタンス
+     */
+    public Configuration setCacheCellConverter(boolean cacheCellConverter) {
+        assertNotFrozen("cacheCellConverter");
+        this.cacheCellConverter = cacheCellConverter;
+        return this;
+    }
+
     /**
      * 読み込み時にセルの値のキャッシュを行うかどうか設定します。
      * @since 2.0
@@ -275,10 +463,145 @@ public class Configuration {
      * @param cacheCellValueOnLoad trueのときキャッシュを行います。
      */
     public Configuration setCacheCellValueOnLoad(boolean cacheCellValueOnLoad) {
+        assertNotFrozen("cacheCellValueOnLoad");
         this.cacheCellValueOnLoad = cacheCellValueOnLoad;
         return this;
     }
 
+    /**
+     * 読み込み時にXLSX形式のファイルをストリーミングで読み込むかどうか設定します。
+     * <p>trueの場合、ワークブック全体をメモリ上に展開せずに、シートを1行ずつ読み込みマッピングします。
+     *   <br>ストリーミングで読み込める対象は、アノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords}と
+     *   {@link com.gh.mygreen.xlsmapper.annotation.XlsSheetName}を付与したフィールドのみです。
+     *   <br>XLS形式のファイルの場合は、通常の方法で読み込みます。
+     * </p>
+     * @since 2.1
+     * @return 初期値は、'false'です。
+     */
+    public boolean isStreamingLoad() {
+        return streamingLoad;
+    }
+
+    /**
+     * 読み込み時にXLSX形式のファイルをストリーミングで読み込むかどうか設定します。
+     * @since 2.1
+     * @param streamingLoad trueのときストリーミングで読み込みます。
+     * @return 自身のインスタンス
+     */
+    public Configuration setStreamingLoad(boolean streamingLoad) {
+        assertNotFrozen("streamingLoad");
+        this.streamingLoad = streamingLoad;
+        return this;
+    }
+
+    /**
+     * 書き込み時にXLSX形式のファイルの表のレコードを、ストリーミングで書き込むかどうか設定します。
+     * <p>trueの場合、{@link SXSSFWorkbook}を使用して、表のレコードを1行ずつ書き込みます。
+     *   <br>書き込んだ行は、{@link #getStreamingSaveWindowSize()}の行数を超えると一時ファイルに出力されるため、
+     *   レコード数が多い場合でもメモリの使用量を抑えることができます。
+     *   <br>ストリーミングで書き込める対象は、アノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords}を付与し、
+     *   {@link com.gh.mygreen.xlsmapper.annotation.XlsRecordOption#overOperation()}に、
+     *   {@link com.gh.mygreen.xlsmapper.annotation.XlsRecordOption.OverOperation#Insert}
+     *   または{@link com.gh.mygreen.xlsmapper.annotation.XlsRecordOption.OverOperation#Copy}を指定した、シートの最後に位置する表です。
+     *   <br>それ以外の表や、XLS形式のファイルの場合は、通常の方法で書き込みます。
+     *   <br>表の後に位置するセルを、他のフィールドや{@link com.gh.mygreen.xlsmapper.annotation.XlsPostSave}を付与したメソッドで書き込んだ場合も、
+     *   通常の方法で書き込みます。
+     * </p>
+     * @since 2.1
+     * @return 初期値は、'false'です。
+     */
+    public boolean isStreamingSave() {
+        return streamingSave;
+    }
+
+    /**
+     * 書き込み時にXLSX形式のファイルの表のレコードを、ストリーミングで書き込むかどうか設定します。
+     * @since 2.1
+     * @param streamingSave trueのときストリーミングで書き込みます。
+     * @return 自身のインスタンス
+     */
+    public Configuration setStreamingSave(boolean streamingSave) {
+        assertNotFrozen("streamingSave");
+        this.streamingSave = streamingSave;
+        return this;
+    }
+
+    /**
+     * ストリーミングで書き込む時に、メモリ上に保持する行数を取得します。
+     * @since 2.1
+     * @return 初期値は、'100'です。
+     */
+    public int getStreamingSaveWindowSize() {
+        return streamingSaveWindowSize;
+    }
+
+    /**
+     * ストリーミングで書き込む時に、メモリ上に保持する行数を設定します。
+     * @since 2.1
+     * @param streamingSaveWindowSize メモリ上に保持する行数。1以上の値を指定します。
+     * @return 自身のインスタンス
+     * @throws IllegalArgumentException {@literal streamingSaveWindowSize <= 0}
+     */
+    public Configuration setStreamingSaveWindowSize(int streamingSaveWindowSize) {
+        assertNotFrozen("streamingSaveWindowSize");
+        ArgUtils.notMin(streamingSaveWindowSize, 1, "streamingSaveWindowSize");
+        this.streamingSaveWindowSize = streamingSaveWindowSize;
+        return this;
+    }
+
+    /**
+     * 複数の書き込み処理を一括で実行する際に使用するスレッドプールを取得します。
+     * <p>設定されている場合、{@link XlsSaver#saveBatch(java.util.List)}で、書き込み処理ごとに並列に実行します。</p>
+     * @since 2.1
+     * @return 設定されていない場合は、空を返す。
+     */
+    public Optional<ExecutorService> getBatchSavingExecutor() {
+        return Optional.ofNullable(batchSavingExecutor);
+    }
+
+    /**
+     * 複数の書き込み処理を一括で実行する際に使用するスレッドプールを設定します。
+     * <p>スレッドプールのライフサイクルは、呼び出し元で管理する必要があります。</p>
+     * <p>並列に書き込む場合、{@link com.gh.mygreen.xlsmapper.annotation.XlsPreSave}などのコールバック用のメソッドや、
+     *   独自に登録した{@link FieldProcessorRegistry}、{@link CellConverterRegistry}、{@link CellFormatter}の処理は、
+     *   複数のスレッドから呼び出されるため、スレッドセーフである必要があります。
+     * </p>
+     * @since 2.1
+     * @param batchSavingExecutor スレッドプール。nullの場合は、1つずつ順に書き込みます。
+     * @return 自身のインスタンス
+     */
+    public Configuration setBatchSavingExecutor(ExecutorService batchSavingExecutor) {
+        assertNotFrozen("batchSavingExecutor");
+        this.batchSavingExecutor = batchSavingExecutor;
+        return this;
+    }
+
+    /**
+     * 非同期に読み込み／書き込みを行う際に使用するスレッドプールを取得します。
+     * <p>{@link XlsLoader#loadAsync(java.io.InputStream, Class)}、
+     *   {@link XlsSaver#saveAsync(java.io.InputStream, java.io.OutputStream, Object)}などで使用します。
+     * </p>
+     * @since 2.1
+     * @return 設定されていない場合は、{@link AsyncExecutors#getDefaultExecutor()}を返します。
+     *         JDK21以上の場合は、タスクごとに仮想スレッドを作成するスレッドプールです。
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor != null ? asyncExecutor : AsyncExecutors.getDefaultExecutor();
+    }
+
+    /**
+     * 非同期に読み込み／書き込みを行う際に使用するスレッドプールを設定します。
+     * <p>スレッドプールのライフサイクルは、呼び出し元で管理する必要があります。</p>
+     * @since 2.1
+     * @param asyncExecutor スレッドプール。nullの場合は、{@link AsyncExecutors#getDefaultExecutor()}を使用します。
+     * @return 自身のインスタンス
+     */
+    public Configuration setAsyncExecutor(Executor asyncExecutor) {
+        assertNotFrozen("asyncExecutor");
+        this.asyncExecutor = asyncExecutor;
+        return this;
+    }
+
     /**
      * POIのセルのフォーマッターを取得します。
      * @return セルのフォーマッタ。
@@ -293,6 +616,7 @@ public class Configuration {
      * @return 自身のインスタンス
      */
     public Configuration setCellFormatter(CellFormatter cellFormatter) {
+        assertNotFrozen("cellFormatter");
         this.cellFormatter = cellFormatter;
         return this;
     }
@@ -311,6 +635,7 @@ public class Configuration {
      * @return 自身のインスタンス
      */
     public Configuration setConverterRegistry(CellConverterRegistry converterRegistry) {
+        assertNotFrozen("converterRegistry");
         this.converterRegistry = converterRegistry;
         return this;
     }
@@ -328,6 +653,7 @@ public class Configuration {
      * @return 自身のインスタンス
      */
     public Configuration setFieldProcessorRegistry(FieldProcessorRegistry fieldProcessorRegistry) {
+        assertNotFrozen("fieldProcessorRegistry");
         this.fieldProcessorRegistry = fieldProcessorRegistry;
         return this;
     }
@@ -337,6 +663,7 @@ public class Configuration {
      * @return
      */
     public Configuration setBeanFactory(BeanFactory<Class<?>, Object> beanFactory) {
+        assertNotFrozen("beanFactory");
         this.beanFactory = beanFactory;
         return this;
     }
@@ -365,6 +692,7 @@ public class Configuration {
      * @param bindingErrorsFactory
      */
     public void setBindingErrorsFactory(SheetBindingErrorsFactory bindingErrorsFactory) {
+        assertNotFrozen("bindingErrorsFactory");
         this.bindingErrorsFactory = bindingErrorsFactory;
     }
 
@@ -386,6 +714,7 @@ public class Configuration {
      * @return 自身のインスタンス
      */
     public Configuration setSheetFinder(SheetFinder sheetFinder) {
+        assertNotFrozen("sheetFinder");
         this.sheetFinder = sheetFinder;
         return this;
     }
@@ -410,6 +739,7 @@ public class Configuration {
      * @return 自身のインスタンス
      */
     public Configuration setFormulaFormatter(MessageInterpolator formulaFormatter) {
+        assertNotFrozen("formulaFormatter");
         this.formulaFormatter = formulaFormatter;
         return this;
     }
@@ -429,9 +759,115 @@ public class Configuration {
      * @param annotationMapping アノテーションの設定情報
      */
     public void setAnnotationMapping(AnnotationMappingInfo annotationMapping) {
+        assertNotFrozen("annotationMapping");
         this.annotationMapping = annotationMapping;
     }
 
+    /**
+     * JavaBeanのクラスに対するマッピング情報を取得します。
+     * <p>マッピング情報は、JavaBeanのクラスとアノテーションのマッピング情報({@link AnnotationReader#getAnnotationMapping()})の組み合わせごとにキャッシュします。
+     *   <br>{@link #getFieldProcessorRegistry()}の登録内容、または{@link #getBeanFactory()}が変更された場合は、再作成します。
+     * </p>
+     * @since 2.1
+     * @param beanClass シートをマッピングするJavaBeanのクラスタイプ
+     * @param annoReader アノテーションの取得に使用するクラス
+     * @return マッピング情報
+     * @throws IllegalArgumentException {@literal beanClass == null or annoReader == null}
+     * @throws AnnotationInvalidException {@link com.gh.mygreen.xlsmapper.fieldprocessor.FieldProcessor}が見つからない場合
+     */
+    public SheetMappingPlan getMappingPlan(final Class<?> beanClass, final AnnotationReader annoReader) {
+
+        ArgUtils.notNull(beanClass, "beanClass");
+        ArgUtils.notNull(annoReader, "annoReader");
+
+        final MappingPlanKey key = new MappingPlanKey(beanClass, annoReader.getAnnotationMapping().orElse(null));
+        SheetMappingPlan plan = mappingPlanCache.get(key);
+        if(plan == null || !plan.isUpToDate(this)) {
+            plan = SheetMappingPlan.create(beanClass, annoReader, this);
+            mappingPlanCache.put(key, plan);
+        }
+
+        return plan;
+    }
+
+    /**
+     * JavaBeanのクラスに対するマッピング情報のキャッシュを破棄します。
+     * <p>{@link com.gh.mygreen.xlsmapper.fieldprocessor.FieldProcessor}の実装を独自に変更した場合などに使用します。</p>
+     * @since 2.1
+     */
+    public void clearMappingPlanCache() {
+        mappingPlanCache.clear();
+    }
+
+    /**
+     * フィールドに対する{@link com.gh.mygreen.xlsmapper.cellconverter.CellConverter}のキャッシュを取得します。
+     * @since 2.1
+     * @return {@link CellConverterCache}のインスタンス
+     */
+    public CellConverterCache getCellConverterCache() {
+        return cellConverterCache;
+    }
+
+    /**
+     * 書き込み時に使用するテンプレートのファイルの内容のキャッシュを取得します。
+     * @since 2.1
+     * @return {@link TemplateCache}のインスタンス
+     */
+    public TemplateCache getTemplateCache() {
+        return templateCache;
+    }
+
+    /**
+     * 書き込み時に使用するテンプレートのファイルの内容のキャッシュを設定します。
+     * <p>複数の{@link Configuration}でテンプレートを共有する場合などに使用します。</p>
+     * @since 2.1
+     * @param templateCache テンプレートのキャッシュ
+     * @return 自身のインスタンス
+     * @throws IllegalArgumentException {@literal templateCache == null}
+     */
+    public Configuration setTemplateCache(TemplateCache templateCache) {
+        assertNotFrozen("templateCache");
+        ArgUtils.notNull(templateCache, "templateCache");
+        this.templateCache = templateCache;
+        return this;
+    }
+
+    /**
+     * マッピング情報のキャッシュのキー。
+     * <p>アノテーションのマッピング情報は、インスタンスが同一かどうかで比較します。</p>
+     */
+    private static final class MappingPlanKey {
+
+        private final Class<?> beanClass;
+
+        private final AnnotationMappingInfo annotationMapping;
+
+        private MappingPlanKey(final Class<?> beanClass, final AnnotationMappingInfo annotationMapping) {
+            this.beanClass = beanClass;
+            this.annotationMapping = annotationMapping;
+        }
+
+        @Override
+        public int hashCode() {
+            return beanClass.hashCode() * 31 + System.identityHashCode(annotationMapping);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if(this == obj) {
+                return true;
+            }
+
+            if(!(obj instanceof MappingPlanKey)) {
+                return false;
+            }
+
+            final MappingPlanKey other = (MappingPlanKey) obj;
+            return beanClass.equals(other.beanClass) && annotationMapping == other.annotationMapping;
+        }
+
+    }
+
     /**
      * セルコメントを操作するクラスを取得します。
      * @since 2.1
@@ -448,6 +884,7 @@ public class Configuration {
      * @return 自身のインスタンス
      */
     public Configuration setCommentOperator(CellCommentOperator commentOperator) {
+        assertNotFrozen("commentOperator");
         this.commentOperator = commentOperator;
         return this;
     }
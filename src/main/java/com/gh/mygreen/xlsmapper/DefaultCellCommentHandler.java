@@ -19,8 +19,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.gh.mygreen.xlsmapper.annotation.XlsCommentOption;
+import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
+import com.gh.mygreen.xlsmapper.util.POIUtils;
 
 /**
  * {@link CellCommentHandler}の標準の実装。
@@ -57,6 +59,58 @@ public class DefaultCellCommentHandler implements CellCommentHandler {
      */
     private int maxHorizontalSize = 3;
     
+    /**
+     * 設定を変更できないかどうか
+     */
+    private final boolean frozen;
+    
+    public DefaultCellCommentHandler() {
+        this.frozen = false;
+    }
+    
+    /**
+     * 設定を変更できないスナップショットを作成するコンストラクタ。
+     * @param original コピー元のインスタンス
+     */
+    protected DefaultCellCommentHandler(final DefaultCellCommentHandler original) {
+        this.vertialPrefix = original.vertialPrefix;
+        this.horizontalPrefix = original.horizontalPrefix;
+        this.maxVerticalSize = original.maxVerticalSize;
+        this.maxHorizontalSize = original.maxHorizontalSize;
+        this.frozen = true;
+    }
+    
+    /**
+     * 現在の設定値をコピーした、設定を変更できないインスタンスを作成します。
+     * <p>作成したインスタンスの設定用のメソッド(setterメソッド)を呼び出すと、{@link IllegalStateException}をスローします。</p>
+     * <p>サブクラスの場合は、コピーコンストラクタを利用して本メソッドをオーバーライドしてください。</p>
+     * @return 設定を変更できないインスタンス。既に設定を変更できない場合は、自身のインスタンスを返します。
+     */
+    public DefaultCellCommentHandler snapshot() {
+        return frozen ? this : new DefaultCellCommentHandler(this);
+    }
+    
+    /**
+     * 設定を変更できないかどうか判定します。
+     * @return trueの場合、{@link #snapshot()}で作成した設定を変更できないインスタンスです。
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+    
+    /**
+     * 設定を変更できるかどうか検証します。
+     * @param property 変更するプロパティ名
+     * @throws IllegalStateException {@link #snapshot()}で作成した設定を変更できないインスタンスの場合
+     */
+    private void assertNotFrozen(final String property) {
+        if(frozen) {
+            throw new IllegalStateException(MessageBuilder.create("config.frozen")
+                    .var("property", property)
+                    .format());
+        }
+    }
+    
     @Override
     public Optional<String> handleLoad(final Cell cell, Optional<XlsCommentOption> commentOption) {
         
@@ -81,13 +135,8 @@ public class DefaultCellCommentHandler implements CellCommentHandler {
         }
         
         final Sheet sheet = cell.getSheet();
-        final int size = sheet.getNumMergedRegions();
-        
-        for(int i=0; i < size; i++) {
-            final CellRangeAddress range = sheet.getMergedRegion(i);
-            if(!range.isInRange(cell)) {
-                continue;
-            }
+        final CellRangeAddress range = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+        if(range != null) {
             
             // nullでないセルを取得する。
             for(int rowIdx=range.getFirstRow(); rowIdx <= range.getLastRow(); rowIdx++) {
@@ -260,9 +309,11 @@ public class DefaultCellCommentHandler implements CellCommentHandler {
      * 行数分で表現する。
      * @param vertialPrefix コメントの縦方向の開始位置。(0以上)
      * @throws IllegalArgumentException {@literal vertialPrefix < 0}
+     * @throws IllegalStateException {@link #snapshot()}で作成した設定を変更できないインスタンスの場合
      */
     public void setVertialPrefix(int vertialPrefix) {
         ArgUtils.notMin(vertialPrefix, 0, "vertialPrefix");
+        assertNotFrozen("vertialPrefix");
         this.vertialPrefix = vertialPrefix;
     }
 
@@ -280,9 +331,11 @@ public class DefaultCellCommentHandler implements CellCommentHandler {
      * 列数分で表現する。
      * @param horizontalPrefix コメントの横方向の開始位置。(0以上)
      * @throws IllegalArgumentException {@literal horizontalPrefix < 0}
+     * @throws IllegalStateException {@link #snapshot()}で作成した設定を変更できないインスタンスの場合
      */
     public void setHorizontalPrefix(int horizontalPrefix) {
         ArgUtils.notMin(horizontalPrefix, 0, "horizontalPrefix");
+        assertNotFrozen("horizontalPrefix");
         this.horizontalPrefix = horizontalPrefix;
     }
     
@@ -301,9 +354,11 @@ public class DefaultCellCommentHandler implements CellCommentHandler {
      * 行数分で表現する。
      * @param maxVerticalSize コメントの縦方向の最大サイズ。(1以上)
      * @throws IllegalArgumentException {@literal maxVerticalSize < 1}
+     * @throws IllegalStateException {@link #snapshot()}で作成した設定を変更できないインスタンスの場合
      */
     public void setMaxVerticalSize(int maxVerticalSize) {
         ArgUtils.notMin(maxVerticalSize, 1, "maxVerticalSize");
+        assertNotFrozen("maxVerticalSize");
         this.maxVerticalSize = maxVerticalSize;
     }
 
@@ -324,9 +379,11 @@ public class DefaultCellCommentHandler implements CellCommentHandler {
      * 列数分で表現する。
      * @param maxHorizontalSize コメントの横方向の最大サイズ。(1以上)
      * @throws IllegalArgumentException {@literal maxHorizontalSize < 1}
+     * @throws IllegalStateException {@link #snapshot()}で作成した設定を変更できないインスタンスの場合
      */
     public void setMaxHorizontalSize(int maxHorizontalSize) {
         ArgUtils.notMin(maxHorizontalSize, 1, "maxHorizontalSize");
+        assertNotFrozen("maxHorizontalSize");
         this.maxHorizontalSize = maxHorizontalSize;
     }
 
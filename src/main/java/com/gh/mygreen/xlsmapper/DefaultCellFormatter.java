@@ -1,11 +1,16 @@
 package com.gh.mygreen.xlsmapper;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
 
+import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
 import com.github.mygreen.cellformatter.FormatterResolver;
 import com.github.mygreen.cellformatter.POICell;
 import com.github.mygreen.cellformatter.POICellFormatter;
@@ -14,8 +19,13 @@ import com.github.mygreen.cellformatter.POICellFormatter;
 /**
  * 標準のセルフォーマッター。
  * 書式をフォーマットするライブラリ、<a href="https://github.com/mygreen/excel-cellformatter" target="_blank">excel-cellformatter</a>を利用する。
+ * <p>キャッシュはシートごとに保持し、複数のスレッドから同時に利用できます。
+ *   <br>読み込み処理では、{@link #initSheet(Sheet, boolean)}、{@link #releaseSheet(Sheet)}により、
+ *   処理中のシートに対してのみキャッシュを有効にするため、他のスレッドで処理中のシートのキャッシュには影響しません。
+ *   <br>{@link #init(boolean)}による設定は、{@link #initSheet(Sheet, boolean)}で設定されていないシートに対して有効になります。
+ * </p>
  *
- * @version 2.0
+ * @version 2.1
  * @since 0.5
  * @author T.TSUCHIE
  *
@@ -25,19 +35,104 @@ public class DefaultCellFormatter implements CellFormatter {
     /**
      * 値をキャッシュするかどうか
      */
-    private boolean cached;
+    private volatile boolean cached;
 
     /**
-     * 値のキャッシュ
+     * キャッシュのサイズの標準値
      */
-    private Map<String, String> cacheData = new ConcurrentHashMap<>();
+    public static final int DEFAULT_CACHE_SIZE = 4096;
+
+    /**
+     * シートごとの値のキャッシュ
+     */
+    private final Map<Sheet, SheetCache> cacheData = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * シート、ロケールごとのキャッシュのサイズ
+     */
+    private int cacheSize = DEFAULT_CACHE_SIZE;
 
     private POICellFormatter poiCellFormatter = new POICellFormatter();
 
+    /**
+     * 設定を変更できないかどうか
+     */
+    private final boolean frozen;
+
+    public DefaultCellFormatter() {
+        this.frozen = false;
+    }
+
+    /**
+     * 設定を変更できないスナップショットを作成するコンストラクタ。
+     * <p>{@link POICellFormatter}は設定値をコピーした新しいインスタンスを作成します。
+     *   ただし、{@link FormatterResolver}はコピーできないため、コピー元と共有します。
+     * </p>
+     * @since 2.1
+     * @param original コピー元のインスタンス
+     */
+    protected DefaultCellFormatter(final DefaultCellFormatter original) {
+        ArgUtils.notNull(original, "original");
+
+        final POICellFormatter originalFormatter = original.poiCellFormatter;
+        this.poiCellFormatter = new POICellFormatter();
+        this.poiCellFormatter.setFormatterResolver(originalFormatter.getFormatterResolver());
+        this.poiCellFormatter.setCache(originalFormatter.isCache());
+        this.poiCellFormatter.setErrorCellAsEmpty(originalFormatter.isErrorCellAsEmpty());
+        this.poiCellFormatter.setThrowFailEvaluateFormula(originalFormatter.isThrowFailEvaluateFormula());
+        this.poiCellFormatter.setConsiderMergedCell(originalFormatter.isConsiderMergedCell());
+
+        this.cached = original.cached;
+        this.cacheSize = original.cacheSize;
+        this.frozen = true;
+    }
+
+    /**
+     * 現在の設定値をコピーした、設定を変更できないインスタンスを作成します。
+     * <p>作成したインスタンスの設定用のメソッドや{@link #init(boolean)}を呼び出すと、{@link IllegalStateException}をスローします。
+     *   <br>セルの値のキャッシュはコピーせず、作成したインスタンスごとに保持します。
+     * </p>
+     * <p>独自の処理を追加したサブクラスの場合は、{@link #DefaultCellFormatter(DefaultCellFormatter)}を使用して
+     *   このメソッドをオーバーライドしてください。
+     * </p>
+     * @since 2.1
+     * @return 設定を変更できないインスタンス。既に変更できない場合は、自身のインスタンスを返します。
+     */
+    public DefaultCellFormatter snapshot() {
+        return frozen ? this : new DefaultCellFormatter(this);
+    }
+
+    /**
+     * 設定を変更できないかどうか判定します。
+     * @since 2.1
+     * @return trueの場合、{@link #snapshot()}で作成した設定を変更できないインスタンスです。
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * 設定を変更できるかどうか検証します。
+     * @param property 変更する設定の名称
+     * @throws IllegalStateException 設定を変更できない場合
+     */
+    private void assertNotFrozen(final String property) {
+        if(frozen) {
+            throw new IllegalStateException(MessageBuilder.create("config.frozen")
+                    .var("property", property)
+                    .format());
+        }
+    }
+
     @Override
     public void init(boolean cached) {
+
+        // キャッシュしない状態が続く場合は、キャッシュされている値がないため、クリアしない
+        final boolean before = isCached();
         setCached(cached);
-        clearCacheData();
+        if(before || cached) {
+            clearCacheData();
+        }
     }
 
     @Override
@@ -45,12 +140,40 @@ public class DefaultCellFormatter implements CellFormatter {
         return format(cell, Locale.getDefault());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>キャッシュを有効にする場合は、シートに対する新たなキャッシュを作成します。
+     *   <br>キャッシュを無効にする場合は、シートに対するキャッシュを破棄します。
+     * </p>
+     */
+    @Override
+    public void initSheet(final Sheet sheet, final boolean cached) {
+        if(cached) {
+            cacheData.put(sheet, new SheetCache(cacheSize));
+        } else {
+            cacheData.remove(sheet);
+        }
+    }
+
+    @Override
+    public void releaseSheet(final Sheet sheet) {
+        cacheData.remove(sheet);
+    }
+
     @Override
     public String format(final Cell cell, final Locale locale) {
 
-        if(isCached()) {
-            final String cachedKey = createKey(cell, locale);
-            return cacheData.computeIfAbsent(cachedKey, key -> poiCellFormatter.formatAsString(cell, locale));
+        final SheetCache sheetCache = cell != null ? findSheetCache(cell.getSheet()) : null;
+        if(sheetCache != null) {
+            final FormatCache cache = sheetCache.get(locale);
+            final long key = FormatCache.createKey(cell.getRowIndex(), cell.getColumnIndex());
+
+            String value = cache.get(key);
+            if(value == null) {
+                value = poiCellFormatter.formatAsString(cell, locale);
+                cache.put(key, value);
+            }
+            return value;
 
         } else {
             return poiCellFormatter.formatAsString(cell, locale);
@@ -58,23 +181,42 @@ public class DefaultCellFormatter implements CellFormatter {
     }
 
     /**
-     * キャッシュのキーを作成する。
-     * @param cell
-     * @param locale
-     * @return
+     * シートに対するキャッシュを取得する。
+     * <p>{@link #initSheet(Sheet, boolean)}でキャッシュが作成されていない場合は、
+     *   {@link #isCached()}の値がtrueのときのみ作成して返す。
+     * </p>
+     * @param sheet シート
+     * @return キャッシュしない場合は、nullを返す。
      */
-    private String createKey(final Cell cell, final Locale locale) {
+    private SheetCache findSheetCache(final Sheet sheet) {
 
-        if(cell == null) {
-            return "empty_cell_value";
+        final SheetCache sheetCache = cacheData.get(sheet);
+        if(sheetCache != null) {
+            return sheetCache;
         }
 
-        StringBuilder sb = new StringBuilder();
-        sb.append(":sheet=").append(cell.getSheet().getSheetName());
-        sb.append(":address=").append(cell.getAddress().formatAsString());
-        sb.append(":locale=").append(locale.toString());
+        return isCached() ? getSheetCache(sheet) : null;
+    }
+
+    /**
+     * シートに対するキャッシュを取得する。
+     * @param sheet シート
+     * @return まだ作成されていない場合は作成して返す。
+     */
+    private SheetCache getSheetCache(final Sheet sheet) {
+
+        SheetCache sheetCache = cacheData.get(sheet);
+        if(sheetCache == null) {
+            synchronized(cacheData) {
+                sheetCache = cacheData.get(sheet);
+                if(sheetCache == null) {
+                    sheetCache = new SheetCache(cacheSize);
+                    cacheData.put(sheet, sheetCache);
+                }
+            }
+        }
 
-        return sb.toString();
+        return sheetCache;
     }
 
     /**
@@ -90,6 +232,7 @@ public class DefaultCellFormatter implements CellFormatter {
      * @param poiCellFormatter
      */
     public void setPoiCellFormatter(POICellFormatter poiCellFormatter) {
+        assertNotFrozen("poiCellFormatter");
         this.poiCellFormatter = poiCellFormatter;
     }
 
@@ -106,9 +249,35 @@ public class DefaultCellFormatter implements CellFormatter {
      * @param cached trueのときキャッシュする。
      */
     public void setCached(boolean cached) {
+        assertNotFrozen("cached");
         this.cached = cached;
     }
 
+    /**
+     * シート、ロケールごとのキャッシュのサイズを取得します。
+     * @since 2.1
+     * @return キャッシュに保持するセルの値の最大数。
+     */
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * シート、ロケールごとのキャッシュのサイズを設定します。
+     * <p>サイズを超える値は、古い値から置き換えられます。
+     *   <br>既に作成済みのキャッシュには反映されないため、{@link #clearCacheData()}を呼び出すか、
+     *   次の{@link #init(boolean)}、{@link #initSheet(Sheet, boolean)}の呼び出し以降に反映されます。
+     * </p>
+     * @since 2.1
+     * @param cacheSize キャッシュに保持するセルの値の最大数。1以上の値を指定します。
+     * @throws IllegalArgumentException {@literal cacheSize < 1}
+     */
+    public void setCacheSize(int cacheSize) {
+        ArgUtils.notMin(cacheSize, 1, "cacheSize");
+        assertNotFrozen("cacheSize");
+        this.cacheSize = cacheSize;
+    }
+
     /**
      * キャッシュをクリアします。
      */
@@ -142,4 +311,80 @@ public class DefaultCellFormatter implements CellFormatter {
         }
     }
 
+    /**
+     * シートに対する、ロケールごとのキャッシュ。
+     */
+    private static final class SheetCache {
+
+        private final int size;
+
+        private final Map<Locale, FormatCache> caches = new HashMap<>();
+
+        private SheetCache(final int size) {
+            this.size = size;
+        }
+
+        private synchronized FormatCache get(final Locale locale) {
+            FormatCache cache = caches.get(locale);
+            if(cache == null) {
+                cache = new FormatCache(size);
+                caches.put(locale, cache);
+            }
+            return cache;
+        }
+
+    }
+
+    /**
+     * セルの位置をキーとした、フォーマットした値のキャッシュ。
+     * <p>行番号と列番号をlong型の値にまとめたものをキーとし、キーのハッシュ値に対応する1つの要素に値を保持します。
+     *   <br>要素が既に使用されている場合は、新しい値で置き換えます。
+     *   <br>キーと値は配列で保持するため、値の取得時にオブジェクトを生成しません。
+     * </p>
+     */
+    private static final class FormatCache {
+
+        private final long[] keys;
+
+        private final String[] values;
+
+        private final int shift;
+
+        private FormatCache(final int size) {
+            final int capacity = Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+            this.keys = new long[capacity];
+            this.values = new String[capacity];
+            this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        }
+
+        /**
+         * セルの位置からキーを作成します。
+         * @param rowIndex 行番号
+         * @param columnIndex 列番号
+         * @return キャッシュのキー
+         */
+        private static long createKey(final int rowIndex, final int columnIndex) {
+            return ((long)rowIndex << 32) | (columnIndex & 0xFFFFFFFFL);
+        }
+
+        private int indexOf(final long key) {
+            return (int)((key * 0x9E3779B97F4A7C15L) >>> shift);
+        }
+
+        private synchronized String get(final long key) {
+            final int index = indexOf(key);
+            if(keys[index] == key) {
+                return values[index];
+            }
+            return null;
+        }
+
+        private synchronized void put(final long key, final String value) {
+            final int index = indexOf(key);
+            keys[index] = key;
+            values[index] = value;
+        }
+
+    }
+
 }
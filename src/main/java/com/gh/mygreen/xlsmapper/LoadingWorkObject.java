@@ -6,13 +6,17 @@ import java.util.List;
 import org.apache.poi.ss.usermodel.Cell;
 
 import com.gh.mygreen.xlsmapper.cellconverter.TypeBindException;
+import com.gh.mygreen.xlsmapper.util.CellLabelIndex;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
+import com.gh.mygreen.xlsmapper.util.MergedRegionIndex;
+import com.gh.mygreen.xlsmapper.util.SharedFormulaEvaluator;
 import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
 import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 
 /**
  * 読み込み処理中で持ち回すオブジェクトを保持するクラス。
  * 
+ * @version 2.1
  * @author T.TSUCHIE
  */
 public class LoadingWorkObject {
@@ -23,6 +27,12 @@ public class LoadingWorkObject {
     
     private SheetBindingErrors<?> errors;
     
+    private CellLabelIndex labelIndex;
+    
+    private MergedRegionIndex mergedRegionIndex;
+    
+    private SharedFormulaEvaluator formulaEvaluator;
+    
     public AnnotationReader getAnnoReader() {
         return annoReader;
     }
@@ -47,6 +57,76 @@ public class LoadingWorkObject {
         this.errors = errors;
     }
     
+    /**
+     * 読み込み中のシートの、ラベルの検索用のインデックスを取得します。
+     * @since 2.1
+     * @return 設定されていない場合は、nullを返します。
+     */
+    public CellLabelIndex getLabelIndex() {
+        return labelIndex;
+    }
+    
+    /**
+     * 読み込み中のシートの、ラベルの検索用のインデックスを設定します。
+     * <p>インデックスは読み込み処理ごとに作成し、他の読み込み処理とは共有しません。</p>
+     * @since 2.1
+     * @param labelIndex ラベルの検索用のインデックス
+     */
+    public void setLabelIndex(CellLabelIndex labelIndex) {
+        this.labelIndex = labelIndex;
+    }
+    
+    /**
+     * 処理中のシートの、結合情報の検索用のインデックスを取得します。
+     * @since 2.1
+     * @return 設定されていない場合は、nullを返します。
+     */
+    public MergedRegionIndex getMergedRegionIndex() {
+        return mergedRegionIndex;
+    }
+    
+    /**
+     * 処理中のシートの、結合情報の検索用のインデックスを設定します。
+     * <p>インデックスは読み込み処理ごとに作成し、他の読み込み処理とは共有しません。</p>
+     * @since 2.1
+     * @param mergedRegionIndex 結合情報の検索用のインデックス
+     */
+    public void setMergedRegionIndex(MergedRegionIndex mergedRegionIndex) {
+        this.mergedRegionIndex = mergedRegionIndex;
+    }
+    
+    /**
+     * 結合情報の検索用のインデックスを破棄し、次の検索時に作成し直すようにします。
+     * <p>リスナーのメソッドなど、{@link com.gh.mygreen.xlsmapper.util.POIUtils}を経由せずに
+     *   シートの結合情報や行の位置が変更される可能性がある処理を呼び出した後に使用します。
+     * </p>
+     * @since 2.1
+     */
+    public void invalidateMergedRegionIndex() {
+        if(mergedRegionIndex != null) {
+            mergedRegionIndex.invalidate();
+        }
+    }
+    
+    /**
+     * 読み込み中のワークブックの、数式の評価処理を取得します。
+     * @since 2.1
+     * @return 設定されていない場合は、nullを返します。
+     */
+    public SharedFormulaEvaluator getFormulaEvaluator() {
+        return formulaEvaluator;
+    }
+    
+    /**
+     * 読み込み中のワークブックの、数式の評価処理を設定します。
+     * <p>同じワークブックを順番に読み込む場合は、シート間で共有することができます。</p>
+     * @since 2.1
+     * @param formulaEvaluator 数式の評価処理
+     */
+    public void setFormulaEvaluator(SharedFormulaEvaluator formulaEvaluator) {
+        this.formulaEvaluator = formulaEvaluator;
+    }
+    
     /**
      * 型変換エラーを追加します。
      * @param bindException 型変換エラー
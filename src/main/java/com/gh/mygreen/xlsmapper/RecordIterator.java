@@ -0,0 +1,121 @@
+package com.gh.mygreen.xlsmapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import com.gh.mygreen.xlsmapper.fieldprocessor.ProcessCase;
+import com.gh.mygreen.xlsmapper.util.Utils;
+import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
+
+/**
+ * 表のレコードを1件ずつ読み込むイテレータ。
+ * <p>{@link XlsLoader#loadIterator(java.io.InputStream, Class, String, Class)}により作成します。</p>
+ * <p>レコードのインスタンスの作成、セルの値の変換は、次のレコードを取得するときに行います。
+ *   <br>レコードに対する{@link com.gh.mygreen.xlsmapper.annotation.XlsPostLoad}が付与されたメソッドは、
+ *   レコードを取得するときに実行します。
+ * </p>
+ * <p>読み込みに使用したワークブックを保持しているため、使用後は{@link #close()}を呼び出す必要があります。</p>
+ *
+ * @since 2.1
+ * @param <R> レコードのクラスタイプ
+ * @author T.TSUCHIE
+ *
+ */
+public class RecordIterator<R> implements Iterator<R>, Closeable {
+
+    private final Iterator<Object> delegate;
+
+    private final Class<R> recordClass;
+
+    private final Workbook workbook;
+
+    private final Sheet sheet;
+
+    private final Configuration configuration;
+
+    private final LoadingWorkObject work;
+
+    private boolean closed;
+
+    /**
+     * コンストラクタ
+     * @param delegate レコードを読み込むイテレータ
+     * @param recordClass レコードのクラスタイプ
+     * @param workbook 読み込み対象のワークブック
+     * @param sheet 読み込み対象のシート
+     * @param configuration システム設定
+     * @param work 作業用の情報
+     */
+    RecordIterator(final Iterator<Object> delegate, final Class<R> recordClass, final Workbook workbook, final Sheet sheet,
+            final Configuration configuration, final LoadingWorkObject work) {
+        this.delegate = delegate;
+        this.recordClass = recordClass;
+        this.workbook = workbook;
+        this.sheet = sheet;
+        this.configuration = configuration;
+        this.work = work;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if(closed) {
+            return false;
+        }
+
+        return delegate.hasNext();
+    }
+
+    @Override
+    public R next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final R record = recordClass.cast(delegate.next());
+
+        // 読み込んだレコードの@PostLoadが付与されているメソッドの実行
+        final List<NeedProcess> needProcesses = new ArrayList<>(work.getNeedPostProcesses());
+        work.getNeedPostProcesses().clear();
+        for(NeedProcess need : needProcesses) {
+            Utils.invokeNeedProcessMethod(need.getProcess(), need.getMethod(), need.getTarget(), sheet, configuration, work.getErrors(), ProcessCase.Load);
+        }
+
+        return record;
+    }
+
+    /**
+     * これまでに読み込んだレコードのマッピング結果を取得します。
+     * <p>型変換エラーは、レコードを読み込むごとに追加されます。</p>
+     * @return マッピング結果。ルートのオブジェクトは、マッピング対象のフィールドを持つクラスのインスタンスです。
+     */
+    public SheetBindingErrors<?> getErrors() {
+        return work.getErrors();
+    }
+
+    /**
+     * 読み込みに使用したワークブックを閉じます。
+     * <p>閉じた後は、レコードを取得できません。</p>
+     */
+    @Override
+    public void close() throws IOException {
+        if(closed) {
+            return;
+        }
+
+        this.closed = true;
+        try {
+            workbook.close();
+        } finally {
+            // セルのキャッシュ情報の破棄
+            configuration.getCellFormatter().releaseSheet(sheet);
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.gh.mygreen.xlsmapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+
+/**
+ * {@link XlsSaver#saveBatch(java.util.List)}で一括して書き込む際の、1つの書き込み処理の情報。
+ * <p>テンプレート、書き込むオブジェクト、出力先の組み合わせを保持します。
+ *   <br>テンプレートは、{@link TemplateCache}に登録したIDか、テンプレートのExcelファイルの入力を指定します。
+ *   同じテンプレートを元に大量のファイルを出力する場合は、{@link TemplateCache}に登録したIDを指定します。
+ * </p>
+ * <p>出力先のストリームは、書き込み処理の実行時に{@link OutputProvider}から取得し、書き込み後に閉じます。
+ *   <br>そのため、大量の書き込み処理を登録しても、実行前に全てのファイルを開く必要はありません。
+ * </p>
+ *
+ * @param <P> 書き込むオブジェクトのクラスタイプ
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class SaveJob<P> {
+
+    /**
+     * テンプレートのID
+     */
+    private final String templateId;
+
+    /**
+     * テンプレートのExcelファイルの入力
+     */
+    private final InputStream templateXlsIn;
+
+    /**
+     * 書き込むオブジェクト
+     */
+    private final P beanObj;
+
+    /**
+     * 出力先のストリームの取得処理
+     */
+    private final OutputProvider output;
+
+    private SaveJob(final String templateId, final InputStream templateXlsIn, final P beanObj, final OutputProvider output) {
+        this.templateId = templateId;
+        this.templateXlsIn = templateXlsIn;
+        this.beanObj = beanObj;
+        this.output = output;
+    }
+
+    /**
+     * {@link TemplateCache}に登録したテンプレートを元に書き込む処理を作成します。
+     * @param <P> 書き込むオブジェクトのクラスタイプ
+     * @param templateId {@link Configuration#getTemplateCache()}に登録したテンプレートのID
+     * @param beanObj 書き込むオブジェクト
+     * @param output 出力先のストリームの取得処理
+     * @return 書き込み処理の情報
+     * @throws IllegalArgumentException {@literal templateId is empty or beanObj == null or output == null}
+     */
+    public static <P> SaveJob<P> withTemplateId(final String templateId, final P beanObj, final OutputProvider output) {
+        ArgUtils.notEmpty(templateId, "templateId");
+        ArgUtils.notNull(beanObj, "beanObj");
+        ArgUtils.notNull(output, "output");
+
+        return new SaveJob<>(templateId, null, beanObj, output);
+    }
+
+    /**
+     * テンプレートのExcelファイルの入力を元に書き込む処理を作成します。
+     * <p>テンプレートの入力は、呼び出し元で閉じる必要があります。</p>
+     * @param <P> 書き込むオブジェクトのクラスタイプ
+     * @param templateXlsIn テンプレートのExcelファイルの入力
+     * @param beanObj 書き込むオブジェクト
+     * @param output 出力先のストリームの取得処理
+     * @return 書き込み処理の情報
+     * @throws IllegalArgumentException {@literal templateXlsIn == null or beanObj == null or output == null}
+     */
+    public static <P> SaveJob<P> withTemplate(final InputStream templateXlsIn, final P beanObj, final OutputProvider output) {
+        ArgUtils.notNull(templateXlsIn, "templateXlsIn");
+        ArgUtils.notNull(beanObj, "beanObj");
+        ArgUtils.notNull(output, "output");
+
+        return new SaveJob<>(null, templateXlsIn, beanObj, output);
+    }
+
+    /**
+     * テンプレートのIDを取得します。
+     * @return テンプレートの入力を指定した場合は、空を返します。
+     */
+    public Optional<String> getTemplateId() {
+        return Optional.ofNullable(templateId);
+    }
+
+    /**
+     * テンプレートのExcelファイルの入力を取得します。
+     * @return テンプレートのIDを指定した場合は、空を返します。
+     */
+    public Optional<InputStream> getTemplateXlsIn() {
+        return Optional.ofNullable(templateXlsIn);
+    }
+
+    /**
+     * 書き込むオブジェクトを取得します。
+     * @return 書き込むオブジェクト
+     */
+    public P getBeanObj() {
+        return beanObj;
+    }
+
+    /**
+     * 出力先のストリームの取得処理を取得します。
+     * @return 出力先のストリームの取得処理
+     */
+    public OutputProvider getOutput() {
+        return output;
+    }
+
+    /**
+     * 出力先のストリームを取得する処理。
+     * <p>書き込み処理の実行時に呼び出され、取得したストリームは書き込み後に閉じます。</p>
+     *
+     * @since 2.1
+     * @author T.TSUCHIE
+     *
+     */
+    @FunctionalInterface
+    public static interface OutputProvider {
+
+        /**
+         * 出力先のストリームを開きます。
+         * @return 出力先のストリーム
+         * @throws IOException ストリームを開くのに失敗した場合
+         */
+        OutputStream open() throws IOException;
+
+    }
+
+}
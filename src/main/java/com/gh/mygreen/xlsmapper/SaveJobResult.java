@@ -0,0 +1,94 @@
+package com.gh.mygreen.xlsmapper;
+
+import java.util.Optional;
+
+import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
+
+/**
+ * {@link XlsSaver#saveBatch(java.util.List)}で一括して書き込んだ際の、1つの書き込み処理の結果。
+ * <p>書き込み処理は互いに独立して実行するため、一部の処理が失敗した場合でも、他の処理の結果は取得できます。</p>
+ *
+ * @param <P> 書き込んだオブジェクトのクラスタイプ
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class SaveJobResult<P> {
+
+    /**
+     * 書き込み処理の情報
+     */
+    private final SaveJob<P> job;
+
+    /**
+     * マッピング結果
+     */
+    private final SheetBindingErrors<P> bindingErrors;
+
+    /**
+     * 失敗した場合の例外
+     */
+    private final Exception exception;
+
+    private SaveJobResult(final SaveJob<P> job, final SheetBindingErrors<P> bindingErrors, final Exception exception) {
+        this.job = job;
+        this.bindingErrors = bindingErrors;
+        this.exception = exception;
+    }
+
+    /**
+     * 成功した書き込み処理の結果を作成します。
+     * @param <P> 書き込んだオブジェクトのクラスタイプ
+     * @param job 書き込み処理の情報
+     * @param bindingErrors マッピング結果
+     * @return 書き込み処理の結果
+     */
+    static <P> SaveJobResult<P> success(final SaveJob<P> job, final SheetBindingErrors<P> bindingErrors) {
+        return new SaveJobResult<>(job, bindingErrors, null);
+    }
+
+    /**
+     * 失敗した書き込み処理の結果を作成します。
+     * @param <P> 書き込んだオブジェクトのクラスタイプ
+     * @param job 書き込み処理の情報
+     * @param exception 失敗した原因の例外
+     * @return 書き込み処理の結果
+     */
+    static <P> SaveJobResult<P> failure(final SaveJob<P> job, final Exception exception) {
+        return new SaveJobResult<>(job, null, exception);
+    }
+
+    /**
+     * 書き込み処理の情報を取得します。
+     * @return 書き込み処理の情報
+     */
+    public SaveJob<P> getJob() {
+        return job;
+    }
+
+    /**
+     * 書き込み処理が成功したかどうか判定します。
+     * @return trueの場合、成功しました。
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * マッピング結果を取得します。
+     * @return 書き込み処理が失敗した場合、または{@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、
+     *         シートが見つからない場合は、空を返します。
+     */
+    public Optional<SheetBindingErrors<P>> getBindingErrors() {
+        return Optional.ofNullable(bindingErrors);
+    }
+
+    /**
+     * 書き込み処理が失敗した原因の例外を取得します。
+     * @return 書き込み処理が成功した場合は、空を返します。
+     */
+    public Optional<Exception> getException() {
+        return Optional.ofNullable(exception);
+    }
+
+}
@@ -5,14 +5,18 @@ import java.util.List;
 
 import org.apache.poi.ss.usermodel.Cell;
 
+import com.gh.mygreen.xlsmapper.cellconverter.CellStyleRegistry;
 import com.gh.mygreen.xlsmapper.cellconverter.TypeBindException;
+import com.gh.mygreen.xlsmapper.streaming.SheetRowWriter;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
+import com.gh.mygreen.xlsmapper.util.MergedRegionIndex;
 import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
 import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 
 /**
  * 書き込み処理中で持ち回すオブジェクトを保持するクラス。
  *
+ * @version 2.1
  */
 public class SavingWorkObject {
     
@@ -22,6 +26,14 @@ public class SavingWorkObject {
     
     private SheetBindingErrors<?> errors;
     
+    private boolean streamingSave;
+    
+    private final List<SheetRowWriter> rowWriters = new ArrayList<>();
+    
+    private MergedRegionIndex mergedRegionIndex;
+    
+    private CellStyleRegistry cellStyleRegistry;
+    
     public AnnotationReader getAnnoReader() {
         return annoReader;
     }
@@ -46,6 +58,93 @@ public class SavingWorkObject {
         this.errors = errors;
     }
     
+    /**
+     * 表のレコードをストリーミングで書き込むかどうか。
+     * @since 2.1
+     * @return trueの場合、レコードの書き込み処理は{@link #addRowWriter(SheetRowWriter)}で登録し、後から実行します。
+     */
+    public boolean isStreamingSave() {
+        return streamingSave;
+    }
+    
+    /**
+     * 表のレコードをストリーミングで書き込むかどうか設定します。
+     * @since 2.1
+     * @param streamingSave trueのときストリーミングで書き込みます。
+     */
+    public void setStreamingSave(boolean streamingSave) {
+        this.streamingSave = streamingSave;
+    }
+    
+    /**
+     * ストリーミングで行を書き込む処理を追加します。
+     * @since 2.1
+     * @param rowWriter 行を書き込む処理
+     */
+    public void addRowWriter(SheetRowWriter rowWriter) {
+        this.rowWriters.add(rowWriter);
+    }
+    
+    /**
+     * ストリーミングで行を書き込む処理を取得します。
+     * @since 2.1
+     * @return 追加した順の書き込み処理
+     */
+    public List<SheetRowWriter> getRowWriters() {
+        return rowWriters;
+    }
+    
+    /**
+     * 処理中のシートの、結合情報の検索用のインデックスを取得します。
+     * @since 2.1
+     * @return 設定されていない場合は、nullを返します。
+     */
+    public MergedRegionIndex getMergedRegionIndex() {
+        return mergedRegionIndex;
+    }
+    
+    /**
+     * 処理中のシートの、結合情報の検索用のインデックスを設定します。
+     * <p>インデックスは書き込み処理ごとに作成し、他の書き込み処理とは共有しません。</p>
+     * @since 2.1
+     * @param mergedRegionIndex 結合情報の検索用のインデックス
+     */
+    public void setMergedRegionIndex(MergedRegionIndex mergedRegionIndex) {
+        this.mergedRegionIndex = mergedRegionIndex;
+    }
+    
+    /**
+     * 結合情報の検索用のインデックスを破棄し、次の検索時に作成し直すようにします。
+     * <p>リスナーのメソッドなど、{@link com.gh.mygreen.xlsmapper.util.POIUtils}を経由せずに
+     *   シートの結合情報や行の位置が変更される可能性がある処理を呼び出した後に使用します。
+     * </p>
+     * @since 2.1
+     */
+    public void invalidateMergedRegionIndex() {
+        if(mergedRegionIndex != null) {
+            mergedRegionIndex.invalidate();
+        }
+    }
+    
+    /**
+     * 書き込み中のワークブックの、作成したセルのスタイルの管理情報を取得します。
+     * @since 2.1
+     * @return 設定されていない場合は、nullを返します。
+     */
+    public CellStyleRegistry getCellStyleRegistry() {
+        return cellStyleRegistry;
+    }
+    
+    /**
+     * 書き込み中のワークブックの、作成したセルのスタイルの管理情報を設定します。
+     * <p>管理情報は書き込み処理ごとに作成し、同じワークブックに書き込むシート間で共有します。</p>
+     * @since 2.1
+     * @param cellStyleRegistry 作成したセルのスタイルの管理情報
+     */
+    public void setCellStyleRegistry(CellStyleRegistry cellStyleRegistry) {
+        this.cellStyleRegistry = cellStyleRegistry;
+    }
+    
     /**
      * 型変換エラーを追加します。
      * @param bindException 型変換エラー
@@ -0,0 +1,350 @@
+package com.gh.mygreen.xlsmapper;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+import com.gh.mygreen.xlsmapper.annotation.XlsFieldProcessor;
+import com.gh.mygreen.xlsmapper.annotation.XlsListener;
+import com.gh.mygreen.xlsmapper.annotation.XlsPostLoad;
+import com.gh.mygreen.xlsmapper.annotation.XlsPostSave;
+import com.gh.mygreen.xlsmapper.annotation.XlsPreLoad;
+import com.gh.mygreen.xlsmapper.annotation.XlsPreSave;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorFactory;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorProxy;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorProxyComparator;
+import com.gh.mygreen.xlsmapper.fieldprocessor.FieldProcessor;
+import com.gh.mygreen.xlsmapper.fieldprocessor.FieldProcessorRegistry;
+import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+import com.gh.mygreen.xlsmapper.util.ClassUtils;
+import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
+
+/**
+ * シートをマッピングするJavaBeanのクラスに対する、マッピング情報。
+ * <p>クラスのフィールド／メソッドに付与されているアノテーションを解析した結果として、
+ *   処理順に並び替えた{@link FieldAccessorProxy}と、{@link XlsPreLoad}などが付与されたコールバック用のメソッドを保持します。
+ *   <br>インスタンスは{@link Configuration#getMappingPlan(Class, AnnotationReader)}で取得します。
+ *   JavaBeanのクラスとアノテーションのマッピング情報の組み合わせごとにキャッシュされるため、
+ *   読み込み／書き込みのたびにリフレクションによる解析を行う必要がありません。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class SheetMappingPlan {
+
+    /**
+     * コールバック用のメソッドに付与するアノテーション
+     */
+    private static final List<Class<? extends Annotation>> CALLBACK_ANNOTATIONS = Collections.unmodifiableList(
+            Arrays.asList(XlsPreLoad.class, XlsPostLoad.class, XlsPreSave.class, XlsPostSave.class));
+
+    private final Class<?> beanClass;
+
+    private final AnnotationReader annoReader;
+
+    /**
+     * 作成時の{@link FieldProcessorRegistry}
+     */
+    private final FieldProcessorRegistry processorRegistry;
+
+    /**
+     * 作成時の{@link FieldProcessorRegistry}の登録内容の変更回数
+     */
+    private final int processorRegistryVersion;
+
+    /**
+     * 作成時の{@link BeanFactory}
+     */
+    private final BeanFactory<Class<?>, Object> beanFactory;
+
+    /**
+     * 処理順に並び替えたフィールド情報
+     */
+    private final List<FieldAccessorProxy> accessorProxies;
+
+    /**
+     * アノテーション{@link XlsFieldProcessor}で指定された{@link FieldProcessor}を使用するフィールドがあるかどうか
+     */
+    private final boolean hasDeferredProcessor;
+
+    /**
+     * JavaBeanのコールバック用のメソッド
+     */
+    private final Map<Class<? extends Annotation>, List<Method>> callbackMethods;
+
+    /**
+     * アノテーション{@link XlsListener}で指定されたリスナークラス
+     */
+    private final List<Class<?>> listenerClasses;
+
+    /**
+     * リスナーのインスタンスのクラスタイプと、コールバック用のメソッドのキャッシュ
+     */
+    private final Map<Class<?>, Map<Class<? extends Annotation>, List<Method>>> listenerCallbackMethods = new ConcurrentHashMap<>();
+
+    private SheetMappingPlan(final Class<?> beanClass, final AnnotationReader annoReader, final Configuration config,
+            final int processorRegistryVersion, final List<FieldAccessorProxy> accessorProxies,
+            final List<Class<?>> listenerClasses) {
+
+        this.beanClass = beanClass;
+        this.annoReader = annoReader;
+        this.processorRegistry = config.getFieldProcessorRegistry();
+        this.processorRegistryVersion = processorRegistryVersion;
+        this.beanFactory = config.getBeanFactory();
+        this.accessorProxies = Collections.unmodifiableList(accessorProxies);
+        this.hasDeferredProcessor = accessorProxies.stream()
+                .anyMatch(proxy -> proxy.getProcessor() instanceof DeferredFieldProcessor);
+        this.callbackMethods = collectCallbackMethods(beanClass, annoReader);
+        this.listenerClasses = Collections.unmodifiableList(listenerClasses);
+    }
+
+    /**
+     * JavaBeanのクラスを解析し、マッピング情報を作成します。
+     *
+     * @param beanClass シートをマッピングするJavaBeanのクラスタイプ
+     * @param annoReader アノテーションの取得に使用するクラス
+     * @param config システム設定
+     * @return マッピング情報
+     * @throws IllegalArgumentException {@literal beanClass == null or annoReader == null or config == null}
+     * @throws AnnotationInvalidException {@link FieldProcessor}が見つからない場合
+     */
+    public static SheetMappingPlan create(final Class<?> beanClass, final AnnotationReader annoReader,
+            final Configuration config) throws AnnotationInvalidException {
+
+        ArgUtils.notNull(beanClass, "beanClass");
+        ArgUtils.notNull(annoReader, "annoReader");
+        ArgUtils.notNull(config, "config");
+
+        final int processorRegistryVersion = config.getFieldProcessorRegistry().getVersion();
+        final FieldAccessorFactory adpterFactory = new FieldAccessorFactory(annoReader);
+
+        final List<FieldAccessorProxy> accessorProxies = new ArrayList<>();
+
+        // public メソッドの処理
+        for(Method method : beanClass.getMethods()) {
+            method.setAccessible(true);
+
+            for(Annotation anno : annoReader.getAnnotations(method)) {
+                final XlsFieldProcessor annoFieldProcessor = anno.annotationType().getAnnotation(XlsFieldProcessor.class);
+                if(ClassUtils.isAccessorMethod(method) && annoFieldProcessor != null) {
+                    final FieldProcessor<?> processor = getProcessor(anno, annoFieldProcessor, config);
+                    final FieldAccessorProxy accessorProxy = new FieldAccessorProxy(anno, processor, adpterFactory.create(method));
+                    if(!accessorProxies.contains(accessorProxy)) {
+                        accessorProxies.add(accessorProxy);
+                    }
+                }
+            }
+        }
+
+        // フィールドの処理
+        for(Field field : beanClass.getDeclaredFields()) {
+            field.setAccessible(true);
+
+            FieldAccessor accessor = null;
+            for(Annotation anno : annoReader.getAnnotations(field)) {
+                final XlsFieldProcessor annoFieldProcessor = anno.annotationType().getAnnotation(XlsFieldProcessor.class);
+                if(annoFieldProcessor != null) {
+                    final FieldProcessor<?> processor = getProcessor(anno, annoFieldProcessor, config);
+                    if(accessor == null) {
+                        accessor = adpterFactory.create(field);
+                    }
+
+                    final FieldAccessorProxy accessorProxy = new FieldAccessorProxy(anno, processor, accessor);
+                    if(!accessorProxies.contains(accessorProxy)) {
+                        accessorProxies.add(accessorProxy);
+                    }
+                }
+            }
+        }
+
+        // 順番を並び替える
+        Collections.sort(accessorProxies, new FieldAccessorProxyComparator());
+
+        final XlsListener listenerAnno = annoReader.getAnnotation(beanClass, XlsListener.class);
+        final List<Class<?>> listenerClasses = listenerAnno != null ? Arrays.asList(listenerAnno.value()) : Collections.emptyList();
+
+        return new SheetMappingPlan(beanClass, annoReader, config, processorRegistryVersion, accessorProxies, listenerClasses);
+
+    }
+
+    /**
+     * アノテーションに対する{@link FieldProcessor}を取得する。
+     * <p>{@link FieldProcessorRegistry}に登録されている{@link FieldProcessor}は、インスタンスを共有します。
+     *   <br>アノテーション{@link XlsFieldProcessor}で指定された{@link FieldProcessor}は、状態を持つ可能性があるため、
+     *   クラスタイプのみを保持し、インスタンスは読み込み／書き込みの処理ごとに作成します。
+     * </p>
+     * @param anno フィールド／メソッドに付与されているアノテーション
+     * @param annoFieldProcessor アノテーションに付与されている{@link XlsFieldProcessor}
+     * @param config システム設定
+     * @return {@link FieldProcessor}のインスタンス
+     * @throws AnnotationInvalidException {@link FieldProcessor}が見つからない場合
+     */
+    private static FieldProcessor<?> getProcessor(final Annotation anno, final XlsFieldProcessor annoFieldProcessor,
+            final Configuration config) throws AnnotationInvalidException {
+
+        // 登録済みのFieldProcessorの取得
+        FieldProcessor<?> processor = config.getFieldProcessorRegistry().getProcessor(anno.annotationType());
+
+        // アノテーションに指定されているFieldProcessorの場合
+        if(processor == null && annoFieldProcessor.value().length > 0) {
+            processor = new DeferredFieldProcessor(annoFieldProcessor.value()[0]);
+        }
+
+        if(processor == null) {
+            // FieldProcessorが見つからない場合
+            throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.XlsFieldProcessor.notResolve")
+                    .varWithAnno("anno", anno.annotationType())
+                    .format());
+        }
+
+        return processor;
+    }
+
+    /**
+     * クラスのpublicメソッドのうち、コールバック用のアノテーションが付与されているメソッドを取得する。
+     * @param targetClass 対象のクラス
+     * @param annoReader アノテーションの取得に使用するクラス
+     * @return アノテーションの種類ごとのメソッド
+     */
+    private static Map<Class<? extends Annotation>, List<Method>> collectCallbackMethods(final Class<?> targetClass,
+            final AnnotationReader annoReader) {
+
+        final Map<Class<? extends Annotation>, List<Method>> map = new HashMap<>();
+        for(Class<? extends Annotation> annoClass : CALLBACK_ANNOTATIONS) {
+            final List<Method> methods = new ArrayList<>();
+            for(Method method : targetClass.getMethods()) {
+                if(annoReader.hasAnnotation(method, annoClass)) {
+                    methods.add(method);
+                }
+            }
+
+            map.put(annoClass, Collections.unmodifiableList(methods));
+        }
+
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * 作成時から、システム設定の{@link FieldProcessor}の登録内容、{@link BeanFactory}が変更されていないか判定します。
+     * @param config システム設定
+     * @return 変更されていない場合は、trueを返します。
+     */
+    boolean isUpToDate(final Configuration config) {
+        return processorRegistry == config.getFieldProcessorRegistry()
+                && processorRegistryVersion == processorRegistry.getVersion()
+                && beanFactory == config.getBeanFactory();
+    }
+
+    /**
+     * マッピング対象のJavaBeanのクラスタイプを取得します。
+     * @return JavaBeanのクラスタイプ
+     */
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * 処理順に並び替えたフィールド情報を取得します。
+     * <p>アノテーション{@link XlsFieldProcessor}で指定された{@link FieldProcessor}は、
+     *   呼び出しごとに{@link BeanFactory}で新しいインスタンスを作成します。
+     *   そのため、読み込み／書き込みの処理ごとに1回呼び出し、取得したリストを処理の間で使用します。
+     * </p>
+     * @return 変更できないリスト
+     */
+    public List<FieldAccessorProxy> getAccessorProxies() {
+
+        if(!hasDeferredProcessor) {
+            return accessorProxies;
+        }
+
+        final List<FieldAccessorProxy> list = new ArrayList<>(accessorProxies.size());
+        for(FieldAccessorProxy proxy : accessorProxies) {
+            if(proxy.getProcessor() instanceof DeferredFieldProcessor) {
+                final FieldProcessor<?> processor = ((DeferredFieldProcessor)proxy.getProcessor()).create(beanFactory);
+                list.add(new FieldAccessorProxy(proxy.getAnnotation(), processor, proxy.getField()));
+            } else {
+                list.add(proxy);
+            }
+        }
+
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * JavaBeanのpublicメソッドのうち、コールバック用のアノテーションが付与されているメソッドを取得します。
+     * @param annoClass {@link XlsPreLoad}、{@link XlsPostLoad}、{@link XlsPreSave}、{@link XlsPostSave}のいずれか。
+     * @return 該当するメソッドが存在しない場合は、空のリストを返します。
+     */
+    public List<Method> getCallbackMethods(final Class<? extends Annotation> annoClass) {
+        return callbackMethods.getOrDefault(annoClass, Collections.emptyList());
+    }
+
+    /**
+     * アノテーション{@link XlsListener}で指定されたリスナークラスを取得します。
+     * @return アノテーションが付与されていない場合は、空のリストを返します。
+     */
+    public List<Class<?>> getListenerClasses() {
+        return listenerClasses;
+    }
+
+    /**
+     * リスナーのpublicメソッドのうち、コールバック用のアノテーションが付与されているメソッドを取得します。
+     * <p>リスナーのインスタンスは{@link BeanFactory}により作成されるため、インスタンスのクラスタイプごとにキャッシュします。</p>
+     * @param listenerClass リスナーのインスタンスのクラスタイプ
+     * @param annoClass {@link XlsPreLoad}、{@link XlsPostLoad}、{@link XlsPreSave}、{@link XlsPostSave}のいずれか。
+     * @return 該当するメソッドが存在しない場合は、空のリストを返します。
+     */
+    public List<Method> getListenerCallbackMethods(final Class<?> listenerClass, final Class<? extends Annotation> annoClass) {
+        return listenerCallbackMethods.computeIfAbsent(listenerClass, key -> collectCallbackMethods(key, annoReader))
+                .getOrDefault(annoClass, Collections.emptyList());
+    }
+
+    /**
+     * アノテーション{@link XlsFieldProcessor}で指定された{@link FieldProcessor}のクラスタイプを保持し、
+     * インスタンスの作成を処理の実行時まで遅らせるためのクラス。
+     * <p>{@link SheetMappingPlan#getAccessorProxies()}で、処理ごとに作成したインスタンスに置き換えます。
+     *   <br>直接実行された場合も、その都度インスタンスを作成して処理を委譲します。
+     * </p>
+     */
+    private static final class DeferredFieldProcessor implements FieldProcessor<Annotation> {
+
+        private final Class<? extends FieldProcessor<?>> processorClass;
+
+        DeferredFieldProcessor(final Class<? extends FieldProcessor<?>> processorClass) {
+            this.processorClass = processorClass;
+        }
+
+        FieldProcessor<?> create(final BeanFactory<Class<?>, Object> beanFactory) {
+            return (FieldProcessor<?>) beanFactory.create(processorClass);
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        @Override
+        public void loadProcess(final Sheet sheet, final Object beansObj, final Annotation anno, final FieldAccessor accessor,
+                final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
+            ((FieldProcessor)config.createBean(processorClass)).loadProcess(sheet, beansObj, anno, accessor, config, work);
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        @Override
+        public void saveProcess(final Sheet sheet, final Object beansObj, final Annotation anno, final FieldAccessor accessor,
+                final Configuration config, final SavingWorkObject work) throws XlsMapperException {
+            ((FieldProcessor)config.createBean(processorClass)).saveProcess(sheet, beansObj, anno, accessor, config, work);
+        }
+
+    }
+
+}
@@ -0,0 +1,390 @@
+package com.gh.mygreen.xlsmapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+
+import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+
+/**
+ * 書き込み時に使用するテンプレートのExcelファイルの内容(バイト列)のキャッシュ。
+ * <p>テンプレートのファイルの内容をバイト列としてメモリ上に保持し、書き込みのたびにファイルやストリームから読み直さないようにします。
+ *   <br>XLSX形式のファイルは、登録時にZIPの各エントリを展開し、圧縮しない形式(STORED)で格納し直して保持するため、
+ *   ワークブックを作成するときのZIPの展開(解凍)を省略できます。
+ *   <br>テンプレートは、呼び出し元で指定したIDか、内容のハッシュ値をキーとして登録し、
+ *   {@link XlsSaver#saveDetail(String, java.io.OutputStream, Object)}などでIDを指定して使用します。
+ * </p>
+ * <p>書き込みごとに、保持している内容から独立した{@link Workbook}を作成するため、
+ *   複数のスレッドから同じテンプレートを同時に使用できます。
+ *   <br>ただし、ワークブックは書き込みで変更されるため解析済みのものは保持せず、
+ *   ワークブックを作成するたびにシートなどのXMLを解析します。
+ * </p>
+ * <p>テンプレートのサイズは、XLSX形式の場合は圧縮せずに格納し直した後のサイズとします。
+ *   <br>保持するテンプレートの合計サイズの上限を超えた場合は、最も長く使用されていないテンプレートから破棄します。
+ *   <br>破棄されたテンプレートを使用する場合は、再度登録する必要があります。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class TemplateCache {
+
+    /**
+     * デフォルトの保持するテンプレートの合計サイズの上限(32MB)
+     */
+    public static final long DEFAULT_MAX_BYTES = 32L * 1024L * 1024L;
+
+    /**
+     * 保持するテンプレートの合計サイズの上限
+     */
+    private final long maxBytes;
+
+    /**
+     * IDをキーとしたテンプレートのファイルの内容。使用した順に並べる。
+     */
+    private final LinkedHashMap<String, byte[]> templates = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 保持しているテンプレートの合計サイズ
+     */
+    private long totalBytes;
+
+    /**
+     * 上限を超えたために破棄したテンプレートの数
+     */
+    private long evictionCount;
+
+    /**
+     * 登録内容を変更できないかどうか
+     */
+    private final boolean frozen;
+
+    /**
+     * 合計サイズの上限を{@link #DEFAULT_MAX_BYTES}とするコンストラクタ。
+     */
+    public TemplateCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * 合計サイズの上限を指定するコンストラクタ。
+     * @param maxBytes 保持するテンプレートの合計サイズの上限(バイト数)
+     * @throws IllegalArgumentException {@literal maxBytes < 1}
+     */
+    public TemplateCache(final long maxBytes) {
+        ArgUtils.notMin(maxBytes, 1L, "maxBytes");
+        this.maxBytes = maxBytes;
+        this.frozen = false;
+    }
+
+    /**
+     * 登録内容を変更できないスナップショットを作成するコンストラクタ。
+     * @param original コピー元のインスタンス
+     */
+    protected TemplateCache(final TemplateCache original) {
+        this.maxBytes = original.maxBytes;
+        synchronized(original) {
+            this.templates.putAll(original.templates);
+            this.totalBytes = original.totalBytes;
+        }
+        this.frozen = true;
+    }
+
+    /**
+     * 現在登録されているテンプレートをコピーした、登録内容を変更できないインスタンスを作成します。
+     * <p>作成したインスタンスの{@link #register(InputStream)}、{@link #remove(String)}などの
+     *   登録内容を変更するメソッドを呼び出すと、{@link IllegalStateException}をスローします。
+     *   <br>コピー元のテンプレートの登録や破棄は、作成したインスタンスには反映されません。
+     * </p>
+     * <p>テンプレートの内容(バイト列)は変更されないため、コピー元と共有します。</p>
+     * <p>サブクラスの場合は、コピーコンストラクタを利用して本メソッドをオーバーライドしてください。</p>
+     * @return 登録内容を変更できないインスタンス。既に変更できない場合は、自身のインスタンスを返します。
+     */
+    public TemplateCache snapshot() {
+        return frozen ? this : new TemplateCache(this);
+    }
+
+    /**
+     * 登録内容を変更できないかどうか判定します。
+     * @return trueの場合、{@link #snapshot()}で作成した登録内容を変更できないインスタンスです。
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * 登録内容を変更できるかどうか検証します。
+     * @throws IllegalStateException {@link #snapshot()}で作成した登録内容を変更できないインスタンスの場合
+     */
+    private void assertNotFrozen() {
+        if(frozen) {
+            throw new IllegalStateException(MessageBuilder.create("config.frozen")
+                    .var("property", "templates")
+                    .format());
+        }
+    }
+
+    /**
+     * テンプレートを、内容のハッシュ値(SHA-256)をIDとして登録します。
+     * <p>同じ内容のテンプレートが既に登録されている場合は、同じIDを返します。</p>
+     * @param templateXlsIn テンプレートのExcelファイルの入力
+     * @return 登録したテンプレートのID
+     * @throws IllegalArgumentException {@literal templateXlsIn == null}
+     * @throws IllegalArgumentException テンプレートのサイズが合計サイズの上限を超える場合
+     * @throws IOException テンプレートの読み込みに失敗した場合
+     * @throws IllegalStateException {@link #snapshot()}で作成した登録内容を変更できないインスタンスの場合
+     */
+    public String register(final InputStream templateXlsIn) throws IOException {
+        ArgUtils.notNull(templateXlsIn, "templateXlsIn");
+        assertNotFrozen();
+
+        final byte[] content = readFully(templateXlsIn);
+        final String id = hash(content);
+        put(id, toStoredContent(content));
+
+        return id;
+    }
+
+    /**
+     * テンプレートを、IDを指定して登録します。
+     * <p>同じIDのテンプレートが既に登録されている場合は、置き換えます。</p>
+     * @param id テンプレートのID
+     * @param templateXlsIn テンプレートのExcelファイルの入力
+     * @throws IllegalArgumentException {@literal id is empty or templateXlsIn == null}
+     * @throws IllegalArgumentException テンプレートのサイズが合計サイズの上限を超える場合
+     * @throws IOException テンプレートの読み込みに失敗した場合
+     * @throws IllegalStateException {@link #snapshot()}で作成した登録内容を変更できないインスタンスの場合
+     */
+    public void register(final String id, final InputStream templateXlsIn) throws IOException {
+        ArgUtils.notEmpty(id, "id");
+        ArgUtils.notNull(templateXlsIn, "templateXlsIn");
+        assertNotFrozen();
+
+        put(id, toStoredContent(readFully(templateXlsIn)));
+    }
+
+    /**
+     * 登録したテンプレートから、書き込み用のワークブックを作成します。
+     * <p>保持している内容を{@link WorkbookFactory}で解析して、呼び出しごとに新しいワークブックを作成します。
+     *   <br>XLSX形式の場合、ZIPのエントリは圧縮されていないため、展開はバイト列のコピーのみとなります。
+     *   <br>作成したワークブックは、他の書き込み処理で作成したワークブックとは独立しています。
+     * </p>
+     * @param id テンプレートのID
+     * @return 登録されていない場合、または破棄されている場合は、空を返します。
+     * @throws IOException ワークブックの作成に失敗した場合
+     * @throws InvalidFormatException サポートしていないExcelファイルの形式の場合
+     */
+    public Optional<Workbook> createWorkbook(final String id) throws IOException, InvalidFormatException {
+
+        final byte[] content;
+        synchronized(this) {
+            content = templates.get(id);
+        }
+
+        if(content == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(WorkbookFactory.create(new ByteArrayInputStream(content)));
+    }
+
+    /**
+     * テンプレートが登録されているかどうか判定します。
+     * @param id テンプレートのID
+     * @return trueの場合、登録されています。
+     */
+    public synchronized boolean contains(final String id) {
+        return templates.containsKey(id);
+    }
+
+    /**
+     * テンプレートを破棄します。
+     * @param id テンプレートのID
+     * @return trueの場合、登録されていたテンプレートを破棄しました。
+     * @throws IllegalStateException {@link #snapshot()}で作成した登録内容を変更できないインスタンスの場合
+     */
+    public synchronized boolean remove(final String id) {
+        assertNotFrozen();
+        final byte[] content = templates.remove(id);
+        if(content == null) {
+            return false;
+        }
+
+        totalBytes -= content.length;
+        return true;
+    }
+
+    /**
+     * 全てのテンプレートを破棄します。
+     * @throws IllegalStateException {@link #snapshot()}で作成した登録内容を変更できないインスタンスの場合
+     */
+    public synchronized void clear() {
+        assertNotFrozen();
+        templates.clear();
+        totalBytes = 0L;
+    }
+
+    /**
+     * 登録されているテンプレートの数を取得します。
+     * @return テンプレートの数
+     */
+    public synchronized int size() {
+        return templates.size();
+    }
+
+    /**
+     * 保持しているテンプレートの合計サイズを取得します。
+     * @return バイト数
+     */
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * 保持するテンプレートの合計サイズの上限を取得します。
+     * @return バイト数
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * 合計サイズの上限を超えたために破棄したテンプレートの数を取得します。
+     * @return 破棄したテンプレートの数
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private synchronized void put(final String id, final byte[] content) {
+
+        final byte[] old = templates.put(id, content);
+        if(old != null) {
+            totalBytes -= old.length;
+        }
+        totalBytes += content.length;
+
+        // 上限を超えた場合は、使用されていない順に破棄する
+        for(Iterator<Map.Entry<String, byte[]>> itr = templates.entrySet().iterator(); totalBytes > maxBytes && itr.hasNext(); ) {
+            final Map.Entry<String, byte[]> entry = itr.next();
+            if(entry.getKey().equals(id)) {
+                continue;
+            }
+
+            totalBytes -= entry.getValue().length;
+            itr.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * 保持するテンプレートの内容に変換します。
+     * <p>XLSX形式(ZIP形式)の場合は、各エントリを展開し、圧縮しない形式(STORED)で格納し直します。
+     *   <br>XLS形式の場合は、そのままの内容を返します。
+     * </p>
+     * @param content テンプレートのファイルの内容
+     * @return 保持する内容
+     * @throws IllegalArgumentException テンプレートのサイズが合計サイズの上限を超える場合
+     * @throws IOException ZIPの展開に失敗した場合
+     */
+    private byte[] toStoredContent(final byte[] content) throws IOException {
+
+        if(!isZip(content)) {
+            checkSize(content.length);
+            return content;
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(content.length * 4);
+        try(ZipInputStream zipIn = new ZipInputStream(new ByteArrayInputStream(content));
+                ZipOutputStream zipOut = new ZipOutputStream(out)) {
+
+            zipOut.setMethod(ZipOutputStream.STORED);
+
+            long size = 0L;
+            ZipEntry entry;
+            while((entry = zipIn.getNextEntry()) != null) {
+                final byte[] data = readFully(zipIn);
+
+                // 圧縮率の高いファイルを展開し続けないよう、上限を超えた時点で中断する
+                size += data.length;
+                checkSize(size);
+
+                final CRC32 crc = new CRC32();
+                crc.update(data);
+
+                final ZipEntry storedEntry = new ZipEntry(entry.getName());
+                storedEntry.setMethod(ZipEntry.STORED);
+                storedEntry.setSize(data.length);
+                storedEntry.setCompressedSize(data.length);
+                storedEntry.setCrc(crc.getValue());
+
+                zipOut.putNextEntry(storedEntry);
+                zipOut.write(data);
+                zipOut.closeEntry();
+            }
+        }
+
+        final byte[] storedContent = out.toByteArray();
+        checkSize(storedContent.length);
+        return storedContent;
+    }
+
+    private void checkSize(final long size) {
+        if(size > maxBytes) {
+            throw new IllegalArgumentException(String.format("template size %d should be less than or equal to %d.",
+                    size, maxBytes));
+        }
+    }
+
+    private static boolean isZip(final byte[] content) {
+        return content.length >= 4
+                && content[0] == 'P' && content[1] == 'K' && content[2] == 3 && content[3] == 4;
+    }
+
+    private static byte[] readFully(final InputStream in) throws IOException {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int length;
+        while((length = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, length);
+        }
+
+        return out.toByteArray();
+    }
+
+    private static String hash(final byte[] content) {
+
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        for(byte b : digest.digest(content)) {
+            sb.append(String.format("%02x", b));
+        }
+
+        return sb.toString();
+    }
+
+}
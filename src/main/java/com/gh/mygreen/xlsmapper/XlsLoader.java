@@ -2,35 +2,46 @@ package com.gh.mygreen.xlsmapper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.gh.mygreen.xlsmapper.annotation.XlsFieldProcessor;
-import com.gh.mygreen.xlsmapper.annotation.XlsListener;
+import com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords;
 import com.gh.mygreen.xlsmapper.annotation.XlsPostLoad;
 import com.gh.mygreen.xlsmapper.annotation.XlsPreLoad;
 import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
-import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
-import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorFactory;
+import com.gh.mygreen.xlsmapper.annotation.XlsSheetName;
+import com.gh.mygreen.xlsmapper.annotation.XlsVerticalRecords;
 import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorProxy;
-import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorProxyComparator;
 import com.gh.mygreen.xlsmapper.fieldprocessor.FieldProcessor;
 import com.gh.mygreen.xlsmapper.fieldprocessor.ProcessCase;
+import com.gh.mygreen.xlsmapper.fieldprocessor.impl.HorizontalRecordsProcessor;
+import com.gh.mygreen.xlsmapper.fieldprocessor.impl.VerticalRecordsProcessor;
 import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
+import com.gh.mygreen.xlsmapper.streaming.SheetRowListener;
+import com.gh.mygreen.xlsmapper.streaming.XlsxStreamingReader;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
-import com.gh.mygreen.xlsmapper.util.ClassUtils;
+import com.gh.mygreen.xlsmapper.util.AsyncExecutors;
+import com.gh.mygreen.xlsmapper.util.CellLabelIndex;
+import com.gh.mygreen.xlsmapper.util.MergedRegionIndex;
+import com.gh.mygreen.xlsmapper.util.SharedFormulaEvaluator;
 import com.gh.mygreen.xlsmapper.util.Utils;
 import com.gh.mygreen.xlsmapper.validation.MultipleSheetBindingErrors;
 import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
@@ -40,7 +51,7 @@ import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 /**
  * ExcelのシートをJavaBeanにマッピングするクラス。
  *
- * @version 2.0
+ * @version 2.1
  * @author T.TSUCHIE
  *
  */
@@ -115,9 +126,14 @@ public class XlsLoader {
                     .format());
         }
 
+        final InputStream in = configuration.isStreamingLoad() ? FileMagic.prepareToCheckMagic(xlsIn) : xlsIn;
+        if(configuration.isStreamingLoad() && FileMagic.valueOf(in) == FileMagic.OOXML) {
+            return loadDetailWithStreaming(in, clazz, sheetAnno, annoReader);
+        }
+
         Workbook book = null;
         try {
-            book = WorkbookFactory.create(xlsIn);
+            book = WorkbookFactory.create(in);
 
         } catch (InvalidFormatException e) {
             throw new XlsMapperException(MessageBuilder.create("file.failLoadExcel.notSupportType").format(), e);
@@ -129,7 +145,38 @@ public class XlsLoader {
 
         try {
             final Sheet[] xlsSheet = configuration.getSheetFinder().findForLoading(book, sheetAnno, annoReader, clazz);
-            return loadSheet(xlsSheet[0], clazz, annoReader);
+            return loadSheet(xlsSheet[0], clazz, annoReader, new SharedFormulaEvaluator(book));
+
+        } catch(SheetNotFoundException e) {
+            if(configuration.isIgnoreSheetNotFound()){
+                logger.warn(MessageBuilder.create("log.skipNotFoundSheet").format(), e);
+                return null;
+
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * XLSX形式のExcelファイルの1シートをストリーミングで読み込み、任意のクラスにマッピングする。
+     *
+     * @param <P> シートをマッピングするクラスタイプ
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param clazz マッピング先のクラスタイプ。
+     * @param sheetAnno マッピング先のクラスに付与されているアノテーション
+     * @param annoReader
+     * @return マッピングの詳細情報。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、nullを返します。
+     * @throws XlsMapperException Excelファイルのマッピングに失敗した場合
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    private <P> SheetBindingErrors<P> loadDetailWithStreaming(final InputStream xlsIn, final Class<P> clazz,
+            final XlsSheet sheetAnno, final AnnotationReader annoReader) throws XlsMapperException, IOException {
+
+        try(XlsxStreamingReader reader = XlsxStreamingReader.open(xlsIn)) {
+            final Sheet[] xlsSheet = configuration.getSheetFinder().findForLoading(reader.getWorkbook(), sheetAnno, annoReader, clazz);
+            return loadSheetWithStreaming(reader, xlsSheet[0], clazz, annoReader);
 
         } catch(SheetNotFoundException e) {
             if(configuration.isIgnoreSheetNotFound()){
@@ -142,6 +189,29 @@ public class XlsLoader {
         }
     }
 
+    /**
+     * Excelファイルの1シートを非同期に読み込み、任意のクラスにマッピングする。
+     * <p>{@link Configuration#getAsyncExecutor()}のスレッドプールで、{@link #loadDetail(InputStream, Class)}を実行します。
+     *   <br>マッピングやファイルの読み込みに失敗した場合は、{@link XlsMapperException}、{@link IOException}を原因として失敗します。
+     *   <br>読み込み元のストリームは、処理の完了後に呼び出し元で閉じる必要があります。
+     * </p>
+     *
+     * @since 2.1
+     * @param <P> シートをマッピングするクラスタイプ
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param clazz マッピング先のクラスタイプ。
+     * @return マッピングの詳細情報。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、nullで完了します。
+     * @throws IllegalArgumentException {@literal xlsIn == null or clazz == null}
+     */
+    public <P> CompletableFuture<SheetBindingErrors<P>> loadAsync(final InputStream xlsIn, final Class<P> clazz) {
+
+        ArgUtils.notNull(xlsIn, "xlsIn");
+        ArgUtils.notNull(clazz, "clazz");
+
+        return AsyncExecutors.supplyAsync(() -> loadDetail(xlsIn, clazz), configuration.getAsyncExecutor());
+    }
+
     /**
      * Excelファイルの同じ形式の複数シートを読み込み、任意のクラスにマップする。
      * <p>{@link XlsSheet#regex()}により、複数のシートが同じ形式で、同じクラスにマッピングすする際に使用します。</p>
@@ -192,11 +262,16 @@ public class XlsLoader {
                     .format());
         }
 
+        final InputStream in = configuration.isStreamingLoad() ? FileMagic.prepareToCheckMagic(xlsIn) : xlsIn;
+        if(configuration.isStreamingLoad() && FileMagic.valueOf(in) == FileMagic.OOXML) {
+            return loadMultipleDetailWithStreaming(in, clazz, sheetAnno, annoReader);
+        }
+
         final MultipleSheetBindingErrors<P> multipleResult = new MultipleSheetBindingErrors<>();
 
         Workbook book = null;
         try {
-            book = WorkbookFactory.create(xlsIn);
+            book = WorkbookFactory.create(in);
 
         } catch (InvalidFormatException e) {
             throw new XlsMapperException(MessageBuilder.create("file.failLoadExcel.notSupportType").format(), e);
@@ -206,13 +281,16 @@ public class XlsLoader {
             }
         }
 
+        // 数式の評価処理は、全てのシートで共有する
+        final SharedFormulaEvaluator formulaEvaluator = new SharedFormulaEvaluator(book);
+
         if(sheetAnno.number() == -1 && sheetAnno.name().isEmpty() && sheetAnno.regex().isEmpty()) {
             // 読み込むシートの条件が指定されていない場合、全て読み込む
             int sheetNum = book.getNumberOfSheets();
             for(int i=0; i < sheetNum; i++) {
                 final Sheet sheet = book.getSheetAt(i);
 
-                multipleResult.addBindingErrors(loadSheet(sheet, clazz, annoReader));
+                multipleResult.addBindingErrors(loadSheet(sheet, clazz, annoReader, formulaEvaluator));
 
             }
 
@@ -221,7 +299,7 @@ public class XlsLoader {
             try {
                 final Sheet[] xlsSheet = configuration.getSheetFinder().findForLoading(book, sheetAnno, annoReader, clazz);
                 for(Sheet sheet : xlsSheet) {
-                    multipleResult.addBindingErrors(loadSheet(sheet, clazz, annoReader));
+                    multipleResult.addBindingErrors(loadSheet(sheet, clazz, annoReader, formulaEvaluator));
 
                 }
 
@@ -238,6 +316,59 @@ public class XlsLoader {
         return multipleResult;
     }
 
+    /**
+     * XLSX形式のExcelファイルの同じ形式の複数シートをストリーミングで読み込み、任意のクラスにマップする。
+     *
+     * @param <P> シートをマッピングするクラスタイプ
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param clazz マッピング先のクラスタイプ。
+     * @param sheetAnno マッピング先のクラスに付与されているアノテーション
+     * @param annoReader
+     * @return 複数のシートのマッピング結果。
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    private <P> MultipleSheetBindingErrors<P> loadMultipleDetailWithStreaming(final InputStream xlsIn, final Class<P> clazz,
+            final XlsSheet sheetAnno, final AnnotationReader annoReader) throws XlsMapperException, IOException {
+
+        final MultipleSheetBindingErrors<P> multipleResult = new MultipleSheetBindingErrors<>();
+
+        try(XlsxStreamingReader reader = XlsxStreamingReader.open(xlsIn)) {
+            final Workbook book = reader.getWorkbook();
+
+            if(sheetAnno.number() == -1 && sheetAnno.name().isEmpty() && sheetAnno.regex().isEmpty()) {
+                // 読み込むシートの条件が指定されていない場合、全て読み込む
+                int sheetNum = book.getNumberOfSheets();
+                for(int i=0; i < sheetNum; i++) {
+                    final Sheet sheet = book.getSheetAt(i);
+
+                    multipleResult.addBindingErrors(loadSheetWithStreaming(reader, sheet, clazz, annoReader));
+
+                }
+
+            } else {
+                // 読み込むシートの条件が指定されている場合
+                try {
+                    final Sheet[] xlsSheet = configuration.getSheetFinder().findForLoading(book, sheetAnno, annoReader, clazz);
+                    for(Sheet sheet : xlsSheet) {
+                        multipleResult.addBindingErrors(loadSheetWithStreaming(reader, sheet, clazz, annoReader));
+
+                    }
+
+                } catch(SheetNotFoundException e) {
+                    if(configuration.isIgnoreSheetNotFound()){
+                        logger.warn(MessageBuilder.create("log.skipNotFoundSheet").format(), e);
+                    } else {
+                        throw e;
+                    }
+                }
+
+            }
+        }
+
+        return multipleResult;
+    }
+
     /**
      * Excelファイルの異なる形式の複数シートを読み込み、任意のクラスにマップする。
      * <p>複数のシートの形式を一度に読み込む際に使用します。</p>
@@ -280,11 +411,16 @@ public class XlsLoader {
 
         final AnnotationReader annoReader = new AnnotationReader(configuration.getAnnotationMapping().orElse(null));
 
+        final InputStream in = configuration.isStreamingLoad() ? FileMagic.prepareToCheckMagic(xlsIn) : xlsIn;
+        if(configuration.isStreamingLoad() && FileMagic.valueOf(in) == FileMagic.OOXML) {
+            return loadMultipleDetailWithStreaming(in, classes, annoReader);
+        }
+
         final MultipleSheetBindingErrors<Object> multipleStore = new MultipleSheetBindingErrors<>();
 
         Workbook book = null;
         try {
-            book = WorkbookFactory.create(xlsIn);
+            book = WorkbookFactory.create(in);
 
         } catch (InvalidFormatException e) {
             throw new XlsMapperException(MessageBuilder.create("file.failLoadExcel.notSupportType").format(), e);
@@ -294,6 +430,9 @@ public class XlsLoader {
             }
         }
 
+        // 数式の評価処理は、全てのシートで共有する
+        final SharedFormulaEvaluator formulaEvaluator = new SharedFormulaEvaluator(book);
+
         for(Class<?> clazz : classes) {
             final XlsSheet sheetAnno = clazz.getAnnotation(XlsSheet.class);
             if(sheetAnno == null) {
@@ -306,7 +445,7 @@ public class XlsLoader {
             try {
                 final Sheet[] xlsSheet = configuration.getSheetFinder().findForLoading(book, sheetAnno, annoReader, clazz);
                 for(Sheet sheet : xlsSheet) {
-                    multipleStore.addBindingErrors(loadSheet(sheet, (Class)clazz, annoReader));
+                    multipleStore.addBindingErrors(loadSheet(sheet, (Class)clazz, annoReader, formulaEvaluator));
 
                 }
 
@@ -323,16 +462,174 @@ public class XlsLoader {
     }
 
     /**
-     * シートを読み込み、任意のクラスにマッピングする。
+     * XLSX形式のExcelファイルの異なる形式の複数シートをストリーミングで読み込み、任意のクラスにマップする。
+     *
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param classes マッピング先のクラスタイプの配列。
+     * @param annoReader
+     * @return マッピングした複数のシートの結果。
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private MultipleSheetBindingErrors<Object> loadMultipleDetailWithStreaming(final InputStream xlsIn, final Class<?>[] classes,
+            final AnnotationReader annoReader) throws XlsMapperException, IOException {
+
+        final MultipleSheetBindingErrors<Object> multipleStore = new MultipleSheetBindingErrors<>();
+
+        try(XlsxStreamingReader reader = XlsxStreamingReader.open(xlsIn)) {
+            for(Class<?> clazz : classes) {
+                final XlsSheet sheetAnno = clazz.getAnnotation(XlsSheet.class);
+                if(sheetAnno == null) {
+                    throw new AnnotationInvalidException(sheetAnno, MessageBuilder.create("anno.notFound")
+                            .varWithClass("property", clazz)
+                            .varWithAnno("anno", XlsSheet.class)
+                            .format());
+                }
+
+                try {
+                    final Sheet[] xlsSheet = configuration.getSheetFinder().findForLoading(reader.getWorkbook(), sheetAnno, annoReader, clazz);
+                    for(Sheet sheet : xlsSheet) {
+                        multipleStore.addBindingErrors(loadSheetWithStreaming(reader, sheet, (Class)clazz, annoReader));
+
+                    }
+
+                } catch(SheetNotFoundException ex){
+                    if(!configuration.isIgnoreSheetNotFound()){
+                        logger.warn(MessageBuilder.create("log.skipNotFoundSheet").format(), ex);
+                        throw ex;
+                    }
+                }
+
+            }
+        }
+
+        return multipleStore;
+    }
+
+    /**
+     * Excelファイルの1シートの表を、レコードを1件ずつ読み込むイテレータとして取得する。
+     * <p>アノテーション{@link XlsHorizontalRecords}または{@link XlsVerticalRecords}が付与されたフィールドの表を読み込みます。
+     *   <br>レコードのインスタンスの作成、セルの値の変換は、レコードを取得するときに行います。
+     *   <br>そのため、全てのレコードをメモリ上に保持せずに処理することができます。
+     * </p>
+     * <p>シートをマッピングするクラスの{@link XlsPreLoad}、{@link XlsPostLoad}が付与されたメソッドは実行しません。</p>
+     * <p>使用後は、{@link RecordIterator#close()}を呼び出してワークブックを閉じる必要があります。</p>
+     *
+     * @since 2.1
+     * @param <P> シートをマッピングするクラスタイプ
+     * @param <R> レコードのクラスタイプ
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param clazz マッピング先のクラスタイプ。
+     * @param fieldName 表がマッピングされるフィールド名。
+     * @param recordClass レコードのクラスタイプ。
+     * @return レコードのイテレータ。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、nullを返します。
+     * @throws IllegalArgumentException {@literal xlsIn == null or clazz == null or fieldName is empty or recordClass == null}
+     * @throws AnnotationInvalidException 指定したフィールドに、表のアノテーションが付与されていない場合
+     * @throws XlsMapperException Excelファイルのマッピングに失敗した場合
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    public <P, R> RecordIterator<R> loadIterator(final InputStream xlsIn, final Class<P> clazz,
+            final String fieldName, final Class<R> recordClass) throws XlsMapperException, IOException {
+
+        ArgUtils.notNull(xlsIn, "xlsIn");
+        ArgUtils.notNull(clazz, "clazz");
+        ArgUtils.notEmpty(fieldName, "fieldName");
+        ArgUtils.notNull(recordClass, "recordClass");
+
+        final AnnotationReader annoReader = new AnnotationReader(configuration.getAnnotationMapping().orElse(null));
+
+        final XlsSheet sheetAnno = annoReader.getAnnotation(clazz, XlsSheet.class);
+        if(sheetAnno == null) {
+            throw new AnnotationInvalidException(sheetAnno, MessageBuilder.create("anno.notFound")
+                    .varWithClass("property", clazz)
+                    .varWithAnno("anno", XlsSheet.class)
+                    .format());
+        }
+
+        final Workbook book;
+        try {
+            book = WorkbookFactory.create(xlsIn);
+
+        } catch (InvalidFormatException e) {
+            throw new XlsMapperException(MessageBuilder.create("file.failLoadExcel.notSupportType").format(), e);
+        }
+
+        try {
+            final Sheet[] xlsSheet = configuration.getSheetFinder().findForLoading(book, sheetAnno, annoReader, clazz);
+            return createRecordIterator(book, xlsSheet[0], clazz, fieldName, recordClass, annoReader);
+
+        } catch(SheetNotFoundException e) {
+            book.close();
+            if(configuration.isIgnoreSheetNotFound()){
+                logger.warn(MessageBuilder.create("log.skipNotFoundSheet").format(), e);
+                return null;
+
+            } else {
+                throw e;
+            }
+
+        } catch(RuntimeException e) {
+            book.close();
+            throw e;
+        }
+
+    }
+
+    /**
+     * Excelファイルの1シートの表を、レコードを1件ずつ読み込むストリームとして取得する。
+     * <p>{@link #loadIterator(InputStream, Class, String, Class)}で取得したイテレータを、ストリームとして返します。
+     *   <br>ストリームを閉じたときに、ワークブックも閉じられるため、try-with-resources文で使用してください。
+     * </p>
+     *
+     * @since 2.1
+     * @param <P> シートをマッピングするクラスタイプ
+     * @param <R> レコードのクラスタイプ
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param clazz マッピング先のクラスタイプ。
+     * @param fieldName 表がマッピングされるフィールド名。
+     * @param recordClass レコードのクラスタイプ。
+     * @return レコードのストリーム。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、空のストリームを返します。
+     * @throws IllegalArgumentException {@literal xlsIn == null or clazz == null or fieldName is empty or recordClass == null}
+     * @throws AnnotationInvalidException 指定したフィールドに、表のアノテーションが付与されていない場合
+     * @throws XlsMapperException Excelファイルのマッピングに失敗した場合
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    public <P, R> Stream<R> loadStream(final InputStream xlsIn, final Class<P> clazz,
+            final String fieldName, final Class<R> recordClass) throws XlsMapperException, IOException {
+
+        final RecordIterator<R> iterator = loadIterator(xlsIn, clazz, fieldName, recordClass);
+        if(iterator == null) {
+            return Stream.empty();
+        }
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch(IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+    }
+
+    /**
+     * 指定したフィールドの表を読み込むイテレータを作成する。
+     * @param book 読み込み対象のワークブック
      * @param sheet シート情報
      * @param clazz マッピング先のクラスタイプ。
+     * @param fieldName 表がマッピングされるフィールド名。
+     * @param recordClass レコードのクラスタイプ。
      * @param annoReader
-     * @return シートのマッピング情報
-     * @throws XlsMapperException
-     *
+     * @return レコードのイテレータ
+     * @throws AnnotationInvalidException 指定したフィールドに、表のアノテーションが付与されていない場合
+     * @throws XlsMapperException マッピングに失敗した場合
      */
-    private <P> SheetBindingErrors<P> loadSheet(final Sheet sheet, final Class<P> clazz, final AnnotationReader annoReader)
-            throws XlsMapperException {
+    private <P, R> RecordIterator<R> createRecordIterator(final Workbook book, final Sheet sheet, final Class<P> clazz,
+            final String fieldName, final Class<R> recordClass, final AnnotationReader annoReader) throws XlsMapperException {
 
         // 値の読み込み対象のJavaBeanオブジェクトの作成
         final P beanObj = configuration.createBean(clazz);
@@ -344,130 +641,242 @@ public class XlsLoader {
         final LoadingWorkObject work = new LoadingWorkObject();
         work.setAnnoReader(annoReader);
         work.setErrors(errors);
+        work.setFormulaEvaluator(new SharedFormulaEvaluator(book));
 
-        // セルのキャッシュ情報の初期化
-        configuration.getCellFormatter().init(configuration.isCacheCellValueOnLoad());
+        // セルのキャッシュ情報の初期化。キャッシュは、RecordIterator#close()で破棄する。
+        configuration.getCellFormatter().initSheet(sheet, configuration.isCacheCellValueOnLoad());
+
+        try {
+            final List<FieldAccessorProxy> accessorProxies = createAccessorProxies(clazz, beanObj, annoReader, work);
 
-        final FieldAccessorFactory adpterFactory = new FieldAccessorFactory(annoReader);
+            // シートをマッピングするクラスの@PostLoadは実行しない
+            work.getNeedPostProcesses().clear();
 
-        // リスナークラスの@PreLoad用メソッドの実行
-        final XlsListener listenerAnno = annoReader.getAnnotation(beanObj.getClass(), XlsListener.class);
-        if(listenerAnno != null) {
-            for(Class<?> listenerClass : listenerAnno.value()) {
-                final Object listenerObj = configuration.createBean(listenerClass);
-
-                for(Method method : listenerObj.getClass().getMethods()) {
-                    if(annoReader.hasAnnotation(method, XlsPreLoad.class)) {
-                        Utils.invokeNeedProcessMethod(listenerObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Load);
-                    }
+            for(FieldAccessorProxy accessorProxy : accessorProxies) {
+                if(!accessorProxy.getField().getName().equals(fieldName)) {
+                    continue;
                 }
-            }
 
-        }
+                final Annotation anno = accessorProxy.getAnnotation();
+                if(anno instanceof XlsHorizontalRecords && accessorProxy.getProcessor() instanceof HorizontalRecordsProcessor) {
+                    final HorizontalRecordsProcessor processor = (HorizontalRecordsProcessor) accessorProxy.getProcessor();
+                    final Iterator<Object> delegate = processor.loadRecordIterator(sheet, beanObj, (XlsHorizontalRecords)anno,
+                            accessorProxy.getField(), configuration, work);
+                    return new RecordIterator<>(delegate, recordClass, book, sheet, configuration, work);
 
-        // @PreLoad用のメソッドの実行
-        for(Method method : clazz.getMethods()) {
+                } else if(anno instanceof XlsVerticalRecords && accessorProxy.getProcessor() instanceof VerticalRecordsProcessor) {
+                    final VerticalRecordsProcessor processor = (VerticalRecordsProcessor) accessorProxy.getProcessor();
+                    final Iterator<Object> delegate = processor.loadRecordIterator(sheet, beanObj, (XlsVerticalRecords)anno,
+                            accessorProxy.getField(), configuration, work);
+                    return new RecordIterator<>(delegate, recordClass, book, sheet, configuration, work);
 
-            if(annoReader.hasAnnotation(method, XlsPreLoad.class)) {
-                Utils.invokeNeedProcessMethod(beanObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Load);
+                }
             }
+
+            throw new AnnotationInvalidException(MessageBuilder.create("anno.notFound")
+                    .var("property", clazz.getName() + "#" + fieldName)
+                    .var("anno", "@XlsHorizontalRecords or @XlsVerticalRecords")
+                    .format());
+
+        } catch(RuntimeException e) {
+            configuration.getCellFormatter().releaseSheet(sheet);
+            throw e;
         }
 
-        final List<FieldAccessorProxy> accessorProxies = new ArrayList<>();
+    }
+
+    /**
+     * シートを読み込み、任意のクラスにマッピングする。
+     * @param sheet シート情報
+     * @param clazz マッピング先のクラスタイプ。
+     * @param annoReader
+     * @param formulaEvaluator シートのワークブックに対する数式の評価処理
+     * @return シートのマッピング情報
+     * @throws XlsMapperException
+     *
+     */
+    private <P> SheetBindingErrors<P> loadSheet(final Sheet sheet, final Class<P> clazz, final AnnotationReader annoReader,
+            final SharedFormulaEvaluator formulaEvaluator) throws XlsMapperException {
 
-        // public メソッドの処理
-        for(Method method : clazz.getMethods()) {
-            method.setAccessible(true);
-            for(Annotation anno : annoReader.getAnnotations(method)) {
-                final XlsFieldProcessor annoFieldProcessor = anno.annotationType().getAnnotation(XlsFieldProcessor.class);
-                if(ClassUtils.isAccessorMethod(method) && annoFieldProcessor != null) {
-                    // 登録済みのFieldProcessorの取得
-                    FieldProcessor<?> processor = configuration.getFieldProcessorRegistry().getProcessor(anno.annotationType());
+        // セルのキャッシュ情報の初期化
+        configuration.getCellFormatter().initSheet(sheet, configuration.isCacheCellValueOnLoad());
 
-                    // アノテーションに指定されているFieldProcessorの場合
-                    if(processor == null && annoFieldProcessor.value().length > 0) {
-                        processor = configuration.createBean(annoFieldProcessor.value()[0]);
+        try {
+            return bindSheet(sheet, clazz, annoReader, formulaEvaluator);
 
-                    }
+        } finally {
+            // セルのキャッシュ情報の破棄
+            configuration.getCellFormatter().releaseSheet(sheet);
+        }
+    }
 
-                    if(processor != null) {
-                        final FieldAccessor accessor = adpterFactory.create(method);
-                        final FieldAccessorProxy accessorProxy = new FieldAccessorProxy(anno, processor, accessor);
-                        if(!accessorProxies.contains(accessorProxy)) {
-                            accessorProxies.add(accessorProxy);
-                        }
+    /**
+     * シートを読み込み、任意のクラスにマッピングする。
+     * <p>セルのキャッシュ情報の初期化は、呼び出し元で行います。</p>
+     * <p>読み込み中は、ラベルの検索用のインデックス({@link CellLabelIndex})と、結合情報の検索用のインデックス({@link MergedRegionIndex})を
+     *   作業用の情報({@link LoadingWorkObject})に保持します。
+     *   <br>数式の評価処理({@link SharedFormulaEvaluator})は、同じワークブックのシート間で共有できるため、呼び出し元で作成します。
+     *   <br>結合情報の検索用のインデックスは、リスナーのメソッドやフィールドの処理によりシートが変更される可能性があるため、
+     *   それらの処理の前後で破棄します。
+     * </p>
+     * @param sheet シート情報
+     * @param clazz マッピング先のクラスタイプ。
+     * @param annoReader
+     * @param formulaEvaluator シートのワークブックに対する数式の評価処理
+     * @return シートのマッピング情報
+     * @throws XlsMapperException
+     */
+    private <P> SheetBindingErrors<P> bindSheet(final Sheet sheet, final Class<P> clazz, final AnnotationReader annoReader,
+            final SharedFormulaEvaluator formulaEvaluator) throws XlsMapperException {
 
-                    } else {
-                        // FieldProcessorが見つからない場合
-                        throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.XlsFieldProcessor.notResolve")
-                                .varWithAnno("anno", anno.annotationType())
-                                .format());
-                    }
+        // 値の読み込み対象のJavaBeanオブジェクトの作成
+        final P beanObj = configuration.createBean(clazz);
 
-                }
+        final SheetBindingErrors<P> errors =  configuration.getBindingErrorsFactory().create(beanObj);
+        errors.setSheetName(sheet.getSheetName());
+        errors.setSheetIndex(sheet.getWorkbook().getSheetIndex(sheet));
 
-                if(anno instanceof XlsPostLoad) {
-                    work.addNeedPostProcess(new NeedProcess(beanObj, beanObj, method));
-                }
-            }
+        final LoadingWorkObject work = new LoadingWorkObject();
+        work.setAnnoReader(annoReader);
+        work.setErrors(errors);
 
+        // ラベルの検索用のインデックスは、セルの値を変更しない読み込み処理の間のみ使用する
+        if(configuration.isCacheCellValueOnLoad()) {
+            work.setLabelIndex(new CellLabelIndex(sheet, configuration));
         }
+        work.setMergedRegionIndex(new MergedRegionIndex(sheet));
+        work.setFormulaEvaluator(formulaEvaluator);
 
-        // フィールドの処理
-        for(Field field : clazz.getDeclaredFields()) {
+        // @PreLoad用のメソッドの実行
+        invokePreLoadMethods(sheet, clazz, beanObj, annoReader, work);
 
-            field.setAccessible(true);
-            for(Annotation anno : annoReader.getAnnotations(field)) {
+        final List<FieldAccessorProxy> accessorProxies = createAccessorProxies(clazz, beanObj, annoReader, work);
 
-                final XlsFieldProcessor annoFieldProcessor = anno.annotationType().getAnnotation(XlsFieldProcessor.class);
-                if(annoFieldProcessor != null) {
+        // 順番を並び替えて保存処理を実行する
+        for(FieldAccessorProxy accessorProxy : accessorProxies) {
+            // リスナーや前のフィールドの処理によるシートの変更は検知できないため、結合情報のインデックスを作成し直す
+            work.invalidateMergedRegionIndex();
+            accessorProxy.loadProcess(sheet, beanObj, configuration, work);
+        }
 
-                    // 登録済みのFieldProcessorの取得
-                    FieldProcessor<?> processor = configuration.getFieldProcessorRegistry().getProcessor(anno.annotationType());
+        //@PostLoadが付与されているメソッドの実行
+        invokePostLoadMethods(sheet, beanObj, annoReader, work);
 
-                    // アノテーションに指定されているFieldProcessorの場合
-                    if(processor == null && annoFieldProcessor.value().length > 0) {
-                        processor = configuration.createBean(annoFieldProcessor.value()[0]);
+        return errors;
+    }
 
-                    }
+    /**
+     * シートをストリーミングで読み込み、任意のクラスにマッピングする。
+     * <p>アノテーション{@link XlsHorizontalRecords}を付与したフィールドは、シートの行を読み込みながらマッピングします。</p>
+     *
+     * @param reader ストリーミング読み込み用のリーダー
+     * @param sheet 作業用のワークブックのシート情報
+     * @param clazz マッピング先のクラスタイプ。
+     * @param annoReader
+     * @return シートのマッピング情報
+     * @throws AnnotationInvalidException ストリーミング読み込みでサポートしていないアノテーションが付与されている場合
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    private <P> SheetBindingErrors<P> loadSheetWithStreaming(final XlsxStreamingReader reader, final Sheet sheet,
+            final Class<P> clazz, final AnnotationReader annoReader) throws XlsMapperException, IOException {
 
-                    if(processor != null) {
-                        final FieldAccessor accessor = adpterFactory.create(field);
-                        final FieldAccessorProxy accessorProxy = new FieldAccessorProxy(anno, processor, accessor);
-                        if(!accessorProxies.contains(accessorProxy)) {
-                            accessorProxies.add(accessorProxy);
-                        }
+        // 値の読み込み対象のJavaBeanオブジェクトの作成
+        final P beanObj = configuration.createBean(clazz);
 
-                    } else {
-                        // FieldProcessorが見つからない場合
-                        throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.XlsFieldProcessor.notResolve")
-                                .varWithAnno("anno", anno.annotationType())
-                                .format());
-                    }
+        final SheetBindingErrors<P> errors =  configuration.getBindingErrorsFactory().create(beanObj);
+        errors.setSheetName(sheet.getSheetName());
+        errors.setSheetIndex(sheet.getWorkbook().getSheetIndex(sheet));
 
-                }
+        final LoadingWorkObject work = new LoadingWorkObject();
+        work.setAnnoReader(annoReader);
+        work.setErrors(errors);
 
+        // 行は読み込み中のものしか保持しないため、セルの値はキャッシュしない
+        configuration.getCellFormatter().initSheet(sheet, false);
+
+        // @PreLoad用のメソッドの実行
+        invokePreLoadMethods(sheet, clazz, beanObj, annoReader, work);
+
+        final List<FieldAccessorProxy> accessorProxies = createAccessorProxies(clazz, beanObj, annoReader, work);
+
+        final List<SheetRowListener> rowListeners = new ArrayList<>();
+        for(FieldAccessorProxy accessorProxy : accessorProxies) {
+            final Annotation anno = accessorProxy.getAnnotation();
+            if(anno instanceof XlsHorizontalRecords && accessorProxy.getProcessor() instanceof HorizontalRecordsProcessor) {
+                final HorizontalRecordsProcessor processor = (HorizontalRecordsProcessor) accessorProxy.getProcessor();
+                processor.createStreamingListener(sheet, beanObj, (XlsHorizontalRecords)anno, accessorProxy.getField(), configuration, work)
+                        .ifPresent(rowListeners::add);
 
+            } else if(anno instanceof XlsSheetName) {
+                accessorProxy.loadProcess(sheet, beanObj, configuration, work);
+
+            } else {
+                throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.streaming.notSupport")
+                        .var("property", accessorProxy.getField().getNameWithClass())
+                        .varWithAnno("anno", anno.annotationType())
+                        .format());
             }
         }
 
-        // 順番を並び替えて保存処理を実行する
-        Collections.sort(accessorProxies, new FieldAccessorProxyComparator());
-        for(FieldAccessorProxy accessorProxy : accessorProxies) {
-            accessorProxy.loadProcess(sheet, beanObj, configuration, work);
+        reader.readRows(sheet, rowListeners);
+
+        //@PostLoadが付与されているメソッドの実行
+        invokePostLoadMethods(sheet, beanObj, annoReader, work);
+
+        // セルのキャッシュ情報の破棄
+        configuration.getCellFormatter().releaseSheet(sheet);
+
+        return errors;
+    }
+
+    /**
+     * リスナークラスとJavaBeanの{@link XlsPreLoad}が付与されているメソッドを実行する。
+     * @param sheet シート情報
+     * @param clazz マッピング先のクラスタイプ。
+     * @param beanObj 値の読み込み対象のJavaBeanオブジェクト
+     * @param annoReader
+     * @param work 作業用の情報
+     */
+    private void invokePreLoadMethods(final Sheet sheet, final Class<?> clazz, final Object beanObj,
+            final AnnotationReader annoReader, final LoadingWorkObject work) {
+
+        // リスナークラスの@PreLoad用メソッドの実行
+        final SheetMappingPlan beanPlan = configuration.getMappingPlan(beanObj.getClass(), annoReader);
+        for(Class<?> listenerClass : beanPlan.getListenerClasses()) {
+            final Object listenerObj = configuration.createBean(listenerClass);
+
+            for(Method method : beanPlan.getListenerCallbackMethods(listenerObj.getClass(), XlsPreLoad.class)) {
+                Utils.invokeNeedProcessMethod(listenerObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Load);
+            }
         }
 
+        // @PreLoad用のメソッドの実行
+        for(Method method : configuration.getMappingPlan(clazz, annoReader).getCallbackMethods(XlsPreLoad.class)) {
+            Utils.invokeNeedProcessMethod(beanObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Load);
+        }
+
+    }
+
+    /**
+     * リスナークラスとJavaBeanの{@link XlsPostLoad}が付与されているメソッドを実行する。
+     * <p>JavaBeanのメソッドは、{@link #createAccessorProxies(Class, Object, AnnotationReader, LoadingWorkObject)}で
+     *    事前に登録されているものを実行します。</p>
+     * @param sheet シート情報
+     * @param beanObj 値の読み込み対象のJavaBeanオブジェクト
+     * @param annoReader
+     * @param work 作業用の情報
+     */
+    private void invokePostLoadMethods(final Sheet sheet, final Object beanObj, final AnnotationReader annoReader,
+            final LoadingWorkObject work) {
+
         // リスナークラスの@PostLoadの取得
-        if(listenerAnno != null) {
-            for(Class<?> listenerClass : listenerAnno.value()) {
-                Object listenerObj = configuration.createBean(listenerClass);
-                for(Method method : listenerObj.getClass().getMethods()) {
-                    if(annoReader.hasAnnotation(method, XlsPostLoad.class)) {
-                        work.addNeedPostProcess(new NeedProcess(beanObj, listenerObj, method));
-                    }
-                }
+        final SheetMappingPlan beanPlan = configuration.getMappingPlan(beanObj.getClass(), annoReader);
+        for(Class<?> listenerClass : beanPlan.getListenerClasses()) {
+            final Object listenerObj = configuration.createBean(listenerClass);
+            for(Method method : beanPlan.getListenerCallbackMethods(listenerObj.getClass(), XlsPostLoad.class)) {
+                work.addNeedPostProcess(new NeedProcess(beanObj, listenerObj, method));
             }
-
         }
 
         //@PostLoadが付与されているメソッドの実行
@@ -475,10 +884,29 @@ public class XlsLoader {
             Utils.invokeNeedProcessMethod(need.getProcess(), need.getMethod(), need.getTarget(), sheet, configuration, work.getErrors(), ProcessCase.Load);
         }
 
-        // セルのキャッシュ情報の初期化
-        configuration.getCellFormatter().init(configuration.isCacheCellValueOnLoad());
+    }
 
-        return errors;
+    /**
+     * JavaBeanのフィールド／メソッドに付与されているアノテーションに対する{@link FieldProcessor}を取得し、処理順に並び替える。
+     * <p>{@link XlsPostLoad}が付与されているメソッドは、後処理として登録します。</p>
+     * @param clazz マッピング先のクラスタイプ。
+     * @param beanObj 値の読み込み対象のJavaBeanオブジェクト
+     * @param annoReader
+     * @param work 作業用の情報
+     * @return 処理順に並び替えたフィールド情報
+     * @throws AnnotationInvalidException {@link FieldProcessor}が見つからない場合
+     */
+    private List<FieldAccessorProxy> createAccessorProxies(final Class<?> clazz, final Object beanObj,
+            final AnnotationReader annoReader, final LoadingWorkObject work) throws AnnotationInvalidException {
+
+        final SheetMappingPlan plan = configuration.getMappingPlan(clazz, annoReader);
+
+        // @PostLoadが付与されているメソッドの登録
+        for(Method method : plan.getCallbackMethods(XlsPostLoad.class)) {
+            work.addNeedPostProcess(new NeedProcess(beanObj, beanObj, method));
+        }
+
+        return plan.getAccessorProxies();
     }
 
     /**
@@ -3,6 +3,8 @@ package com.gh.mygreen.xlsmapper;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import com.gh.mygreen.xlsmapper.annotation.XlsColumn;
 import com.gh.mygreen.xlsmapper.annotation.XlsDateTimeConverter;
@@ -161,7 +163,7 @@ import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
  *     );
  * </code></pre>
  *
- * @version 2.0
+ * @version 2.1
  * @author T.TSUCHIE
  *
  */
@@ -318,6 +320,68 @@ public class XlsMapper {
         return loader.loadMultipleDetail(xlsIn, classes);
     }
 
+    /**
+     * Excelファイルの1シートの表を、レコードを1件ずつ読み込むイテレータとして取得する。
+     * <p>使用後は、{@link RecordIterator#close()}を呼び出してワークブックを閉じる必要があります。</p>
+     *
+     * @since 2.1
+     * @param <P> シートをマッピングするクラスタイプ
+     * @param <R> レコードのクラスタイプ
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param clazz マッピング先のクラスタイプ。
+     * @param fieldName 表がマッピングされるフィールド名。
+     * @param recordClass レコードのクラスタイプ。
+     * @return レコードのイテレータ。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、nullを返します。
+     * @throws IllegalArgumentException {@literal xlsIn == null or clazz == null or fieldName is empty or recordClass == null}
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    public <P, R> RecordIterator<R> loadIterator(final InputStream xlsIn, final Class<P> clazz,
+            final String fieldName, final Class<R> recordClass) throws XlsMapperException, IOException {
+        return loader.loadIterator(xlsIn, clazz, fieldName, recordClass);
+    }
+
+    /**
+     * Excelファイルの1シートの表を、レコードを1件ずつ読み込むストリームとして取得する。
+     * <p>ストリームを閉じたときに、ワークブックも閉じられます。</p>
+     *
+     * @since 2.1
+     * @param <P> シートをマッピングするクラスタイプ
+     * @param <R> レコードのクラスタイプ
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param clazz マッピング先のクラスタイプ。
+     * @param fieldName 表がマッピングされるフィールド名。
+     * @param recordClass レコードのクラスタイプ。
+     * @return レコードのストリーム。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、空のストリームを返します。
+     * @throws IllegalArgumentException {@literal xlsIn == null or clazz == null or fieldName is empty or recordClass == null}
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    public <P, R> Stream<R> loadStream(final InputStream xlsIn, final Class<P> clazz,
+            final String fieldName, final Class<R> recordClass) throws XlsMapperException, IOException {
+        return loader.loadStream(xlsIn, clazz, fieldName, recordClass);
+    }
+
+    /**
+     * Excelファイルの1シートを非同期に読み込み、任意のクラスにマッピングする。
+     * <p>{@link Configuration#getAsyncExecutor()}のスレッドプールで実行します。
+     *   <br>読み込み元のストリームは、処理の完了後に呼び出し元で閉じる必要があります。
+     * </p>
+     *
+     * @since 2.1
+     * @param <P> シートをマッピングするクラスタイプ
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param clazz マッピング先のクラスタイプ。
+     * @return シートのマッピング結果。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、nullで完了します。
+     * @throws IllegalArgumentException {@literal xlsIn == null or clazz == null}
+     */
+    public <P> CompletableFuture<SheetBindingErrors<P>> loadAsync(final InputStream xlsIn, final Class<P> clazz) {
+        return loader.loadAsync(xlsIn, clazz);
+    }
+
     /**
      * JavaのオブジェクトをExeclファイルに出力する。
      * <p>出力するファイルは、引数で指定した雛形となるテンプレート用のExcelファイルをもとに出力する。</p>
@@ -351,6 +415,44 @@ public class XlsMapper {
         return saver.saveDetail(templateXlsIn, xlsOut, beanObjs);
     }
 
+    /**
+     * JavaのオブジェクトをExeclファイルに非同期に出力する。
+     * <p>{@link Configuration#getAsyncExecutor()}のスレッドプールで実行します。
+     *   <br>テンプレートの入力と出力先のストリームは、処理の完了後に呼び出し元で閉じる必要があります。
+     * </p>
+     *
+     * @since 2.1
+     * @param <P> マッピング対象のクラスタイプ
+     * @param templateXlsIn 雛形となるExcelファイルの入力
+     * @param xlsOut 出力先のストリーム
+     * @param beanObj 書き込むBeanオブジェクト
+     * @return マッピング結果。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、nullで完了します。
+     * @throws IllegalArgumentException {@literal templateXlsIn == null or xlsOut == null or beanObj == null}
+     */
+    public <P> CompletableFuture<SheetBindingErrors<P>> saveAsync(final InputStream templateXlsIn, final OutputStream xlsOut, final P beanObj) {
+        return saver.saveAsync(templateXlsIn, xlsOut, beanObj);
+    }
+
+    /**
+     * {@link Configuration#getTemplateCache()}に登録したテンプレートを元に、JavaのオブジェクトをExeclファイルに非同期に出力する。
+     * <p>{@link Configuration#getAsyncExecutor()}のスレッドプールで実行します。
+     *   <br>出力先のストリームは、処理の完了後に呼び出し元で閉じる必要があります。
+     * </p>
+     *
+     * @since 2.1
+     * @param <P> マッピング対象のクラスタイプ
+     * @param templateId {@link TemplateCache}に登録したテンプレートのID
+     * @param xlsOut 出力先のストリーム
+     * @param beanObj 書き込むBeanオブジェクト
+     * @return マッピング結果。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、nullで完了します。
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObj == null}
+     */
+    public <P> CompletableFuture<SheetBindingErrors<P>> saveAsync(final String templateId, final OutputStream xlsOut, final P beanObj) {
+        return saver.saveAsync(templateId, xlsOut, beanObj);
+    }
+
     /**
      * 複数のオブジェクトをそれぞれのシートへ保存する。
      * @param templateXlsIn 雛形となるExcelファイルの入力
@@ -3,34 +3,36 @@ package com.gh.mygreen.xlsmapper;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.gh.mygreen.xlsmapper.annotation.XlsFieldProcessor;
-import com.gh.mygreen.xlsmapper.annotation.XlsListener;
 import com.gh.mygreen.xlsmapper.annotation.XlsPostSave;
 import com.gh.mygreen.xlsmapper.annotation.XlsPreSave;
 import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
-import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
-import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorFactory;
+import com.gh.mygreen.xlsmapper.cellconverter.CellStyleRegistry;
 import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorProxy;
-import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorProxyComparator;
-import com.gh.mygreen.xlsmapper.fieldprocessor.FieldProcessor;
 import com.gh.mygreen.xlsmapper.fieldprocessor.ProcessCase;
 import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
+import com.gh.mygreen.xlsmapper.streaming.SheetRowWriter;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
-import com.gh.mygreen.xlsmapper.util.ClassUtils;
+import com.gh.mygreen.xlsmapper.util.AsyncExecutors;
+import com.gh.mygreen.xlsmapper.util.MergedRegionIndex;
 import com.gh.mygreen.xlsmapper.util.Utils;
 import com.gh.mygreen.xlsmapper.validation.MultipleSheetBindingErrors;
 import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
@@ -39,8 +41,11 @@ import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 
 /**
  * JavaBeanをExcelのシートにマッピングし出力するクラス。
+ * <p>書き込みごとにワークブックを作成するため、同じインスタンスを複数のスレッドから同時に使用できます。
+ *   <br>ただし、{@link #setConfiguration(Configuration)}などで設定を変更する処理とは同時に使用できません。
+ * </p>
  *
- * @version 2.0
+ * @version 2.1
  * @author T.TSUCHIE
  *
  */
@@ -103,48 +108,174 @@ public class XlsSaver {
         ArgUtils.notNull(xlsOut, "xlsOut");
         ArgUtils.notNull(beanObj, "beanObj");
 
+        try(Workbook book = WorkbookFactory.create(templateXlsIn)) {
+            return saveDetail(book, xlsOut, beanObj);
+
+        } catch (InvalidFormatException e) {
+            throw new XlsMapperException(MessageBuilder.create("file.faiiLoadTemplateExcel.notSupportType").format(), e);
+        }
+
+    }
+
+    /**
+     * {@link Configuration#getTemplateCache()}に登録したテンプレートを元に、JavaのオブジェクトをExeclファイルに出力する。
+     *
+     * @since 2.1
+     * @param templateId {@link TemplateCache}に登録したテンプレートのID
+     * @param xlsOut 出力先のストリーム
+     * @param beanObj 書き込むBeanオブジェクト
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObj == null}
+     * @throws XlsMapperException マッピングに失敗した場合、またはテンプレートが登録されていない場合
+     * @throws IOException ファイルの出力に失敗した場合
+     */
+    public void save(final String templateId, final OutputStream xlsOut, final Object beanObj)
+            throws XlsMapperException, IOException {
+
+        saveDetail(templateId, xlsOut, beanObj);
+    }
+
+    /**
+     * {@link Configuration#getTemplateCache()}に登録したテンプレートを元に、JavaのオブジェクトをExeclファイルに出力する。
+     * <p>テンプレートのファイルやストリームを書き込みのたびに読み込まず、メモリ上に保持している内容からワークブックを作成します。
+     *   <br>ワークブックは書き込みごとに作成するため、テンプレートの内容の解析は書き込みのたびに行います。
+     * </p>
+     *
+     * @since 2.1
+     * @param <P> マッピング対象のクラスタイプ
+     * @param templateId {@link TemplateCache}に登録したテンプレートのID
+     * @param xlsOut 出力先のストリーム
+     * @param beanObj 書き込むBeanオブジェクト
+     * @return マッピング結果。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、nullを返します。
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObj == null}
+     * @throws XlsMapperException マッピングに失敗した場合、またはテンプレートが登録されていない場合
+     * @throws IOException ファイルの出力に失敗した場合
+     */
+    public <P> SheetBindingErrors<P> saveDetail(final String templateId, final OutputStream xlsOut, final P beanObj)
+            throws XlsMapperException, IOException {
+
+        ArgUtils.notEmpty(templateId, "templateId");
+        ArgUtils.notNull(xlsOut, "xlsOut");
+        ArgUtils.notNull(beanObj, "beanObj");
+
+        try(Workbook book = createTemplateWorkbook(templateId)) {
+            return saveDetail(book, xlsOut, beanObj);
+        }
+
+    }
+
+    /**
+     * JavaのオブジェクトをExeclファイルに非同期に出力する。
+     * <p>{@link Configuration#getAsyncExecutor()}のスレッドプールで、{@link #saveDetail(InputStream, OutputStream, Object)}を実行します。
+     *   <br>マッピングやファイルの出力に失敗した場合は、{@link XlsMapperException}、{@link IOException}を原因として失敗します。
+     *   <br>テンプレートの入力と出力先のストリームは、処理の完了後に呼び出し元で閉じる必要があります。
+     * </p>
+     *
+     * @since 2.1
+     * @param <P> マッピング対象のクラスタイプ
+     * @param templateXlsIn 雛形となるExcelファイルの入力
+     * @param xlsOut 出力先のストリーム
+     * @param beanObj 書き込むBeanオブジェクト
+     * @return マッピング結果。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、nullで完了します。
+     * @throws IllegalArgumentException {@literal templateXlsIn == null or xlsOut == null or beanObj == null}
+     */
+    public <P> CompletableFuture<SheetBindingErrors<P>> saveAsync(final InputStream templateXlsIn, final OutputStream xlsOut, final P beanObj) {
+
+        ArgUtils.notNull(templateXlsIn, "templateXlsIn");
+        ArgUtils.notNull(xlsOut, "xlsOut");
+        ArgUtils.notNull(beanObj, "beanObj");
+
+        return AsyncExecutors.supplyAsync(() -> saveDetail(templateXlsIn, xlsOut, beanObj), configuration.getAsyncExecutor());
+    }
+
+    /**
+     * {@link Configuration#getTemplateCache()}に登録したテンプレートを元に、JavaのオブジェクトをExeclファイルに非同期に出力する。
+     * <p>{@link Configuration#getAsyncExecutor()}のスレッドプールで、{@link #saveDetail(String, OutputStream, Object)}を実行します。
+     *   <br>出力先のストリームは、処理の完了後に呼び出し元で閉じる必要があります。
+     * </p>
+     *
+     * @since 2.1
+     * @param <P> マッピング対象のクラスタイプ
+     * @param templateId {@link TemplateCache}に登録したテンプレートのID
+     * @param xlsOut 出力先のストリーム
+     * @param beanObj 書き込むBeanオブジェクト
+     * @return マッピング結果。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、nullで完了します。
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObj == null}
+     */
+    public <P> CompletableFuture<SheetBindingErrors<P>> saveAsync(final String templateId, final OutputStream xlsOut, final P beanObj) {
+
+        ArgUtils.notEmpty(templateId, "templateId");
+        ArgUtils.notNull(xlsOut, "xlsOut");
+        ArgUtils.notNull(beanObj, "beanObj");
+
+        return AsyncExecutors.supplyAsync(() -> saveDetail(templateId, xlsOut, beanObj), configuration.getAsyncExecutor());
+    }
+
+    /**
+     * テンプレートのワークブックに、JavaのオブジェクトをマッピングしExcelファイルに出力する。
+     * @param book テンプレートのワークブック
+     * @param xlsOut 出力先のストリーム
+     * @param beanObj 書き込むBeanオブジェクト
+     * @return マッピング結果。
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ファイルの出力に失敗した場合
+     */
+    private <P> SheetBindingErrors<P> saveDetail(final Workbook book, final OutputStream xlsOut, final P beanObj)
+            throws XlsMapperException, IOException {
 
         final AnnotationReader annoReader = new AnnotationReader(configuration.getAnnotationMapping().orElse(null));
 
-        try(Workbook book = WorkbookFactory.create(templateXlsIn)) {
+        final Class<?> clazz = beanObj.getClass();
+        final XlsSheet sheetAnno = clazz.getAnnotation(XlsSheet.class);
+        if(sheetAnno == null) {
+            throw new AnnotationInvalidException(sheetAnno, MessageBuilder.create("anno.notFound")
+                    .varWithClass("property", clazz)
+                    .varWithAnno("anno", XlsSheet.class)
+                    .format());
 
-            final Class<?> clazz = beanObj.getClass();
-            final XlsSheet sheetAnno = clazz.getAnnotation(XlsSheet.class);
-            if(sheetAnno == null) {
-                throw new AnnotationInvalidException(sheetAnno, MessageBuilder.create("anno.notFound")
-                        .varWithClass("property", clazz)
-                        .varWithAnno("anno", XlsSheet.class)
-                        .format());
-    
-            }
-    
-            final SheetBindingErrors<P> bindingResult;
-            try {
-                final Sheet[] xlsSheet = configuration.getSheetFinder().findForSaving(book, sheetAnno, annoReader, beanObj);
-                bindingResult = saveSheet(xlsSheet[0], beanObj, annoReader);
-    
-            } catch(SheetNotFoundException e) {
-                if(configuration.isIgnoreSheetNotFound()){
-                    logger.warn(MessageBuilder.create("log.skipNotFoundSheet").format(), e);
-                    return null;
-    
-                } else {
-                    throw e;
-                }
+        }
+
+        final boolean streamingSave = isStreamingSave(book);
+
+        // 作成したスタイルの管理情報は、この書き込み処理の間のみ使用し、作業用の情報と共に破棄する
+        final CellStyleRegistry styleRegistry = new CellStyleRegistry(book);
+
+        final Sheet sheet;
+        final SavingWorkObject work;
+        try {
+            final Sheet[] xlsSheet = configuration.getSheetFinder().findForSaving(book, sheetAnno, annoReader, beanObj);
+            sheet = xlsSheet[0];
+            work = processSheet(sheet, beanObj, annoReader, streamingSave, styleRegistry);
+
+        } catch(SheetNotFoundException e) {
+            if(configuration.isIgnoreSheetNotFound()){
+                logger.warn(MessageBuilder.create("log.skipNotFoundSheet").format(), e);
+                return null;
+
+            } else {
+                throw e;
             }
-    
+        }
+
+        if(streamingSave) {
+            writeWithStreaming((XSSFWorkbook) book, xlsOut, Arrays.asList(sheet), Arrays.asList(work));
+
+        } else {
+            invokePostSaveMethods(sheet, work);
+
             if(configuration.isFormulaRecalcurationOnSave()) {
                 book.setForceFormulaRecalculation(true);
             }
-    
+
             book.write(xlsOut);
-    
-            return bindingResult;
-            
-        } catch (InvalidFormatException e) {
-            throw new XlsMapperException(MessageBuilder.create("file.faiiLoadTemplateExcel.notSupportType").format(), e);
         }
 
+        @SuppressWarnings("unchecked")
+        final SheetBindingErrors<P> bindingResult = (SheetBindingErrors<P>) work.getErrors();
+        return bindingResult;
+
     }
 
     /**
@@ -180,206 +311,383 @@ public class XlsSaver {
         ArgUtils.notNull(xlsOut, "xlsOut");
         ArgUtils.notEmpty(beanObjs, "beanObjs");
 
+        try(Workbook book = WorkbookFactory.create(templateXlsIn)) {
+            return saveMultipleDetail(book, xlsOut, beanObjs);
+
+        } catch (InvalidFormatException e) {
+            throw new XlsMapperException(MessageBuilder.create("file.faiiLoadTemplateExcel.notSupportType").format(), e);
+        }
+
+    }
+
+    /**
+     * {@link Configuration#getTemplateCache()}に登録したテンプレートを元に、複数のオブジェクトをそれぞれのシートへ保存する。
+     * @since 2.1
+     * @param templateId {@link TemplateCache}に登録したテンプレートのID
+     * @param xlsOut xlsOut 出力先のストリーム
+     * @param beanObjs 書き込むオブジェクトの配列。
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObjs == null}
+     * @throws XlsMapperException マッピングに失敗した場合、またはテンプレートが登録されていない場合
+     * @throws IOException ファイルの出力に失敗した場合
+     */
+    public void saveMultiple(final String templateId, final OutputStream xlsOut, final Object[] beanObjs)
+            throws XlsMapperException, IOException {
+
+        saveMultipleDetail(templateId, xlsOut, beanObjs);
+    }
+
+    /**
+     * {@link Configuration#getTemplateCache()}に登録したテンプレートを元に、複数のオブジェクトをそれぞれのシートへ保存する。
+     * @since 2.1
+     * @param templateId {@link TemplateCache}に登録したテンプレートのID
+     * @param xlsOut xlsOut 出力先のストリーム
+     * @param beanObjs 書き込むオブジェクトの配列。
+     * @return マッピング結果。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、結果に含まれません。
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObjs == null}
+     * @throws XlsMapperException マッピングに失敗した場合、またはテンプレートが登録されていない場合
+     * @throws IOException ファイルの出力に失敗した場合
+     */
+    public MultipleSheetBindingErrors<Object> saveMultipleDetail(final String templateId, final OutputStream xlsOut, final Object[] beanObjs)
+            throws XlsMapperException, IOException {
+
+        ArgUtils.notEmpty(templateId, "templateId");
+        ArgUtils.notNull(xlsOut, "xlsOut");
+        ArgUtils.notEmpty(beanObjs, "beanObjs");
+
+        try(Workbook book = createTemplateWorkbook(templateId)) {
+            return saveMultipleDetail(book, xlsOut, beanObjs);
+        }
+
+    }
+
+    /**
+     * テンプレートのワークブックに、複数のオブジェクトをそれぞれのシートへマッピングしExcelファイルに出力する。
+     * @param book テンプレートのワークブック
+     * @param xlsOut 出力先のストリーム
+     * @param beanObjs 書き込むオブジェクトの配列。
+     * @return マッピング結果。
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ファイルの出力に失敗した場合
+     */
+    private MultipleSheetBindingErrors<Object> saveMultipleDetail(final Workbook book, final OutputStream xlsOut, final Object[] beanObjs)
+            throws XlsMapperException, IOException {
+
         final AnnotationReader annoReader = new AnnotationReader(configuration.getAnnotationMapping().orElse(null));
 
         final MultipleSheetBindingErrors<Object> multipleResult = new MultipleSheetBindingErrors<>();
 
-        try(Workbook book = WorkbookFactory.create(templateXlsIn)) {
+        final boolean streamingSave = isStreamingSave(book);
+        final List<Sheet> sheets = new ArrayList<>();
+        final List<SavingWorkObject> works = new ArrayList<>();
 
-            for(int i=0; i < beanObjs.length; i++) {
-                final Object beanObj = beanObjs[i];
-                final Class<?> clazz = beanObj.getClass();
-    
-                final XlsSheet sheetAnno = annoReader.getAnnotation(clazz, XlsSheet.class);
-                if(sheetAnno == null) {
-                    throw new AnnotationInvalidException(sheetAnno, MessageBuilder.create("anno.notFound")
-                            .varWithClass("property", clazz)
-                            .varWithAnno("anno", XlsSheet.class)
-                            .format());
+        // 作成したスタイルの管理情報は、全てのシートで共有し、この書き込み処理の間のみ使用する
+        final CellStyleRegistry styleRegistry = new CellStyleRegistry(book);
+
+        for(int i=0; i < beanObjs.length; i++) {
+            final Object beanObj = beanObjs[i];
+            final Class<?> clazz = beanObj.getClass();
+
+            final XlsSheet sheetAnno = annoReader.getAnnotation(clazz, XlsSheet.class);
+            if(sheetAnno == null) {
+                throw new AnnotationInvalidException(sheetAnno, MessageBuilder.create("anno.notFound")
+                        .varWithClass("property", clazz)
+                        .varWithAnno("anno", XlsSheet.class)
+                        .format());
+            }
+
+            try {
+                final Sheet[] xlsSheet = configuration.getSheetFinder().findForSaving(book, sheetAnno, annoReader, beanObj);
+                final SavingWorkObject work = processSheet(xlsSheet[0], beanObj, annoReader, streamingSave, styleRegistry);
+                if(streamingSave) {
+                    // 後処理は、全てのシートのレコードの書き込み後に行う
+                    sheets.add(xlsSheet[0]);
+                    works.add(work);
+                } else {
+                    invokePostSaveMethods(xlsSheet[0], work);
                 }
-    
-                try {
-                    final Sheet[] xlsSheet = configuration.getSheetFinder().findForSaving(book, sheetAnno, annoReader, beanObj);
-                    multipleResult.addBindingErrors(saveSheet(xlsSheet[0], beanObj, annoReader));
-    
-                } catch(SheetNotFoundException e) {
-                    if(configuration.isIgnoreSheetNotFound()){
-                        logger.warn(MessageBuilder.create("log.skipNotFoundSheet").format(), e);
-                        continue;
-                    } else {
-                        throw e;
-                    }
+
+                @SuppressWarnings("unchecked")
+                final SheetBindingErrors<Object> errors = (SheetBindingErrors<Object>) work.getErrors();
+                multipleResult.addBindingErrors(errors);
+
+            } catch(SheetNotFoundException e) {
+                if(configuration.isIgnoreSheetNotFound()){
+                    logger.warn(MessageBuilder.create("log.skipNotFoundSheet").format(), e);
+                    continue;
+                } else {
+                    throw e;
                 }
             }
-    
-            if(configuration.isFormulaRecalcurationOnSave()) {
-                book.setForceFormulaRecalculation(true);
-            }
-    
-            book.write(xlsOut);
-    
+        }
+
+        if(streamingSave) {
+            writeWithStreaming((XSSFWorkbook) book, xlsOut, sheets, works);
             return multipleResult;
-            
-        } catch (InvalidFormatException e) {
-            throw new XlsMapperException(MessageBuilder.create("file.faiiLoadTemplateExcel.notSupportType").format(), e);
         }
 
+        if(configuration.isFormulaRecalcurationOnSave()) {
+            book.setForceFormulaRecalculation(true);
+        }
+
+        book.write(xlsOut);
+
+        return multipleResult;
+
     }
 
     /**
-     * 任意のクラスのオブジェクトを、Excelシートにマッピングする。
-     * @param sheet
-     * @param beanObj
-     * @param configuration
-     * @param work
-     * @throws XlsMapperException
+     * 複数の書き込み処理を一括して実行する。
+     * <p>{@link Configuration#getBatchSavingExecutor()}が設定されている場合、書き込み処理ごとに並列に実行します。
+     *   <br>ワークブックは書き込み処理ごとに作成し、{@link Configuration}が保持するキャッシュはスレッドセーフなため、
+     *   書き込み処理の間で共有されるのは、マッピング情報などの読み取りのみの情報です。
+     * </p>
+     * <p>書き込み処理は互いに独立して実行し、一部の処理が失敗した場合でも残りの処理は続行します。
+     *   <br>失敗した処理は、{@link SaveJobResult#getException()}で原因の例外を取得できます。
+     * </p>
+     *
+     * @since 2.1
+     * @param <P> マッピング対象のクラスタイプ
+     * @param jobs 書き込み処理の情報
+     * @return 書き込み処理と同じ順番の結果。
+     * @throws IllegalArgumentException {@literal jobs == null}
+     * @throws XlsMapperException 並列に実行中に、呼び出し元のスレッドが中断された場合
      */
-    private <P> SheetBindingErrors<P> saveSheet(final Sheet sheet, final P beanObj, final AnnotationReader annoReader)
-            throws XlsMapperException {
+    public <P> List<SaveJobResult<P>> saveBatch(final List<SaveJob<P>> jobs) throws XlsMapperException {
 
-        final Class<?> clazz = beanObj.getClass();
+        ArgUtils.notNull(jobs, "jobs");
 
-        final SheetBindingErrors<P> errors =  configuration.getBindingErrorsFactory().create(beanObj);
-        errors.setSheetName(sheet.getSheetName());
-        errors.setSheetIndex(sheet.getWorkbook().getSheetIndex(sheet));
+        final Optional<ExecutorService> executor = configuration.getBatchSavingExecutor();
+        final List<SaveJobResult<P>> results = new ArrayList<>(jobs.size());
 
-        final SavingWorkObject work = new SavingWorkObject();
-        work.setAnnoReader(annoReader);
-        work.setErrors(errors);
+        if(!executor.isPresent() || jobs.size() <= 1) {
+            for(SaveJob<P> job : jobs) {
+                results.add(saveJob(job));
+            }
+            return results;
+        }
 
-        // セルのキャッシュ情報の初期化
-        configuration.getCellFormatter().init(false);
+        final List<Future<SaveJobResult<P>>> futures = new ArrayList<>(jobs.size());
+        try {
+            for(SaveJob<P> job : jobs) {
+                futures.add(executor.get().submit(() -> saveJob(job)));
+            }
 
-        final FieldAccessorFactory adpterFactory = new FieldAccessorFactory(annoReader);
+            for(Future<SaveJobResult<P>> future : futures) {
+                try {
+                    results.add(future.get());
 
-        // リスナークラスの@PreSave用メソッドの実行
-        final XlsListener listenerAnno = annoReader.getAnnotation(beanObj.getClass(), XlsListener.class);
-        if(listenerAnno != null) {
-            for(Class<?> listenerClass : listenerAnno.value()) {
-                final Object listenerObj = configuration.createBean(listenerClass);
-
-                for(Method method : listenerObj.getClass().getMethods()) {
-                    if(annoReader.hasAnnotation(method, XlsPreSave.class)) {
-                        Utils.invokeNeedProcessMethod(listenerObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Save);
+                } catch(ExecutionException e) {
+                    // 例外は書き込み処理の結果として返すため、ここではErrorのみ発生する
+                    final Throwable cause = e.getCause();
+                    if(cause instanceof Error) {
+                        throw (Error) cause;
                     }
+                    throw new IllegalStateException(cause);
                 }
             }
 
-        }
+            return results;
 
-        // @PreSave用のメソッドの取得と実行
-        for(Method method : clazz.getMethods()) {
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new XlsMapperException(MessageBuilder.create("file.interruptedSaveBatch").format(), e);
 
-            final XlsPreSave preProcessAnno = annoReader.getAnnotation(method, XlsPreSave.class);
-            if(preProcessAnno != null) {
-                Utils.invokeNeedProcessMethod(beanObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Save);
-            }
+        } finally {
+            // 中断したときは、残りの書き込み処理を中止する
+            futures.forEach(future -> future.cancel(true));
         }
 
-        final List<FieldAccessorProxy> accessorProxies = new ArrayList<>();
-
-        // public メソッドの処理
-        for(Method method : clazz.getMethods()) {
-            method.setAccessible(true);
-
-            for(Annotation anno : annoReader.getAnnotations(method)) {
+    }
 
-                final XlsFieldProcessor annoFieldProcessor = anno.annotationType().getAnnotation(XlsFieldProcessor.class);
-                if(ClassUtils.isAccessorMethod(method) && annoFieldProcessor != null) {
+    /**
+     * 1つの書き込み処理を実行する。
+     * <p>出力先のストリームは、書き込み後に閉じる。</p>
+     * @param job 書き込み処理の情報
+     * @return 書き込み処理の結果。失敗した場合は、原因の例外を保持する。
+     */
+    private <P> SaveJobResult<P> saveJob(final SaveJob<P> job) {
+
+        try(OutputStream xlsOut = job.getOutput().open()) {
+            final SheetBindingErrors<P> errors;
+            if(job.getTemplateId().isPresent()) {
+                errors = saveDetail(job.getTemplateId().get(), xlsOut, job.getBeanObj());
+            } else {
+                errors = saveDetail(job.getTemplateXlsIn().get(), xlsOut, job.getBeanObj());
+            }
 
-                    // 登録済みのFieldProcessorの取得
-                    FieldProcessor<?> processor = configuration.getFieldProcessorRegistry().getProcessor(anno.annotationType());
+            return SaveJobResult.success(job, errors);
 
-                    // アノテーションに指定されているFieldProcessorの場合
-                    if(processor == null && annoFieldProcessor.value().length > 0) {
-                        processor = configuration.createBean(annoFieldProcessor.value()[0]);
+        } catch(IOException | RuntimeException e) {
+            return SaveJobResult.failure(job, e);
+        }
 
-                    }
+    }
 
-                    if(processor != null) {
-                        final FieldAccessor accessor = adpterFactory.create(method);
+    /**
+     * {@link Configuration#getTemplateCache()}に登録したテンプレートから、ワークブックを作成する。
+     * @param templateId テンプレートのID
+     * @return テンプレートのワークブック
+     * @throws XlsMapperException テンプレートが登録されていない場合、またはサポートしていないファイル形式の場合
+     * @throws IOException ワークブックの作成に失敗した場合
+     */
+    private Workbook createTemplateWorkbook(final String templateId) throws XlsMapperException, IOException {
 
-                        final FieldAccessorProxy accessorProxy = new FieldAccessorProxy(anno, processor, accessor);
-                        if(!accessorProxies.contains(accessorProxy)) {
-                            accessorProxies.add(accessorProxy);
-                        }
+        try {
+            return configuration.getTemplateCache().createWorkbook(templateId)
+                    .orElseThrow(() -> new XlsMapperException(MessageBuilder.create("file.templateNotRegistered")
+                            .var("templateId", templateId)
+                            .format()));
 
-                    } else {
-                        // FieldProcessorが見つからない場合
-                        throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.XlsFieldProcessor.notResolve")
-                                .varWithAnno("anno", anno.annotationType())
-                                .format());
-                    }
+        } catch (InvalidFormatException e) {
+            throw new XlsMapperException(MessageBuilder.create("file.faiiLoadTemplateExcel.notSupportType").format(), e);
+        }
+    }
 
-                }
+    /**
+     * ストリーミングで書き込むかどうか判定する。
+     * @param book テンプレートのワークブック
+     * @return {@link Configuration#isStreamingSave()}がtrueで、XLSX形式の場合にtrueを返す。
+     */
+    private boolean isStreamingSave(final Workbook book) {
+        return configuration.isStreamingSave() && book instanceof XSSFWorkbook;
+    }
 
-                if(anno instanceof XlsPostSave) {
-                    work.addNeedPostProcess(new NeedProcess(beanObj, beanObj, method));
-                }
-            }
-        }
+    /**
+     * 任意のクラスのオブジェクトを、Excelシートにマッピングする。
+     * <p>{@link XlsPostSave}が付与されたメソッドは登録のみ行い、
+     *    {@link #invokePostSaveMethods(Sheet, SavingWorkObject)}で実行します。</p>
+     * @param sheet
+     * @param beanObj
+     * @param annoReader
+     * @param streamingSave 表のレコードをストリーミングで書き込むかどうか
+     * @param styleRegistry 書き込み処理で作成したセルのスタイルの管理情報
+     * @return 作業用の情報
+     * @throws XlsMapperException
+     */
+    private <P> SavingWorkObject processSheet(final Sheet sheet, final P beanObj, final AnnotationReader annoReader,
+            final boolean streamingSave, final CellStyleRegistry styleRegistry) throws XlsMapperException {
 
-        // フィールドの処理
-        for(Field field : clazz.getDeclaredFields()) {
+        final Class<?> clazz = beanObj.getClass();
 
-            field.setAccessible(true);
-            final FieldAccessor accessor = adpterFactory.create(field);
+        final SheetBindingErrors<P> errors =  configuration.getBindingErrorsFactory().create(beanObj);
+        errors.setSheetName(sheet.getSheetName());
+        errors.setSheetIndex(sheet.getWorkbook().getSheetIndex(sheet));
 
-            for(Annotation anno : annoReader.getAnnotations(field)) {
+        final SavingWorkObject work = new SavingWorkObject();
+        work.setAnnoReader(annoReader);
+        work.setErrors(errors);
+        work.setStreamingSave(streamingSave);
+        work.setCellStyleRegistry(styleRegistry);
 
-                final XlsFieldProcessor annoFieldProcessor = anno.annotationType().getAnnotation(XlsFieldProcessor.class);
-                if(annoFieldProcessor != null) {
-                    // 登録済みのFieldProcessorの取得
-                    FieldProcessor<?> processor = configuration.getFieldProcessorRegistry().getProcessor(anno.annotationType());
+        // 書き込みによりセルの値が変わるため、セルの値はキャッシュしない
+        configuration.getCellFormatter().initSheet(sheet, false);
 
-                    // アノテーションに指定されているFieldProcessorの場合
-                    if(processor == null && annoFieldProcessor.value().length > 0) {
-                        processor = configuration.createBean(annoFieldProcessor.value()[0]);
-                    }
+        final SheetMappingPlan plan = configuration.getMappingPlan(clazz, annoReader);
 
-                    if(processor != null) {
-                        final FieldAccessorProxy accessorProxy = new FieldAccessorProxy(anno, processor, accessor);
-                        if(!accessorProxies.contains(accessorProxy)) {
-                            accessorProxies.add(accessorProxy);
-                        }
-
-                    } else {
-                        // FieldProcessorが見つからない場合
-                        throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.XlsFieldProcessor.notResolve")
-                                .varWithAnno("anno", anno.annotationType())
-                                .format());
-                    }
+        // リスナークラスの@PreSave用メソッドの実行
+        for(Class<?> listenerClass : plan.getListenerClasses()) {
+            final Object listenerObj = configuration.createBean(listenerClass);
 
-                }
+            for(Method method : plan.getListenerCallbackMethods(listenerObj.getClass(), XlsPreSave.class)) {
+                Utils.invokeNeedProcessMethod(listenerObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Save);
             }
+        }
+
+        // @PreSave用のメソッドの実行
+        for(Method method : plan.getCallbackMethods(XlsPreSave.class)) {
+            Utils.invokeNeedProcessMethod(beanObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Save);
+        }
 
+        // @PostSaveが付与されているメソッドの登録
+        for(Method method : plan.getCallbackMethods(XlsPostSave.class)) {
+            work.addNeedPostProcess(new NeedProcess(beanObj, beanObj, method));
         }
 
         // 順番を並び替えて保存処理を実行する
-        Collections.sort(accessorProxies, new FieldAccessorProxyComparator());
-        for(FieldAccessorProxy accessorProxy : accessorProxies) {
-            accessorProxy.saveProcess(sheet, beanObj, configuration, work);
+        // 結合情報の検索用のインデックスは、保存処理による結合の変更を反映しながら、このシートの保存処理の間のみ使用する
+        work.setMergedRegionIndex(new MergedRegionIndex(sheet));
+        try {
+            for(FieldAccessorProxy accessorProxy : plan.getAccessorProxies()) {
+                // リスナーや前のフィールドの処理によるシートの変更は検知できないため、結合情報のインデックスを作成し直す
+                work.invalidateMergedRegionIndex();
+                accessorProxy.saveProcess(sheet, beanObj, configuration, work);
+            }
+        } finally {
+            work.setMergedRegionIndex(null);
         }
 
         // リスナークラスの@PostSaveの取得
-        if(listenerAnno != null) {
-            for(Class<?> listenerClass : listenerAnno.value()) {
-                final Object listenerObj = configuration.createBean(listenerClass);
-                for(Method method : listenerObj.getClass().getMethods()) {
-                    if(annoReader.hasAnnotation(method, XlsPostSave.class)) {
-                        work.addNeedPostProcess(new NeedProcess(beanObj, listenerObj, method));
-                    }
-                }
+        for(Class<?> listenerClass : plan.getListenerClasses()) {
+            final Object listenerObj = configuration.createBean(listenerClass);
+            for(Method method : plan.getListenerCallbackMethods(listenerObj.getClass(), XlsPostSave.class)) {
+                work.addNeedPostProcess(new NeedProcess(beanObj, listenerObj, method));
             }
-
         }
 
+        return work;
+
+    }
+
+    /**
+     * {@link XlsPostSave}が付与されているメソッドを実行する。
+     * @param sheet シート情報
+     * @param work 作業用の情報
+     */
+    private void invokePostSaveMethods(final Sheet sheet, final SavingWorkObject work) {
+
         //@PostSaveが付与されているメソッドの実行
         for(NeedProcess need : work.getNeedPostProcesses()) {
             Utils.invokeNeedProcessMethod(need.getProcess(), need.getMethod(), need.getTarget(), sheet, configuration, work.getErrors(), ProcessCase.Save);
         }
 
-        return errors;
+    }
+
+    /**
+     * {@link SXSSFWorkbook}を使用して、表のレコードをストリーミングで書き込み、ファイルに出力する。
+     * <p>テンプレートのワークブックに対する処理が全て終わった後に、シートごとに登録された書き込み処理を実行します。
+     *   <br>{@link XlsPostSave}が付与されたメソッドのうち、シートのクラスなどに付与されたものは、
+     *   シートへの変更を書き込み処理で検知できるように、レコードの書き込み前に実行します。
+     *   <br>ストリーミングで書き込むレコードのクラスに付与されたものは、レコードの書き込み後に実行します。
+     * </p>
+     * @param book テンプレートのワークブック
+     * @param xlsOut 出力先のストリーム
+     * @param sheets 処理したシート
+     * @param works シートに対応する作業用の情報
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ファイルの出力に失敗した場合
+     */
+    private void writeWithStreaming(final XSSFWorkbook book, final OutputStream xlsOut,
+            final List<Sheet> sheets, final List<SavingWorkObject> works) throws XlsMapperException, IOException {
+
+        final SXSSFWorkbook streamingBook = new SXSSFWorkbook(book, configuration.getStreamingSaveWindowSize());
+        try {
+            for(int i=0; i < sheets.size(); i++) {
+                final Sheet sheet = sheets.get(i);
+                final SavingWorkObject work = works.get(i);
+
+                // 書き込み処理で登録されるレコードの@XlsPostSaveと区別するため、実行済みのものは除く
+                invokePostSaveMethods(sheet, work);
+                work.getNeedPostProcesses().clear();
+
+                final Sheet streamingSheet = streamingBook.getSheet(sheet.getSheetName());
+                for(SheetRowWriter writer : work.getRowWriters()) {
+                    writer.write(streamingSheet);
+                }
+
+                invokePostSaveMethods(sheet, work);
+            }
+
+            if(configuration.isFormulaRecalcurationOnSave()) {
+                streamingBook.setForceFormulaRecalculation(true);
+            }
+
+            streamingBook.write(xlsOut);
+
+        } finally {
+            // 一時ファイルの削除
+            streamingBook.dispose();
+        }
 
     }
 
@@ -6,7 +6,6 @@ import java.util.Optional;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
-import org.apache.poi.ss.usermodel.CreationHelper;
 import org.apache.poi.ss.usermodel.FormulaEvaluator;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.Sheet;
@@ -14,6 +13,8 @@ import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
 
 import com.gh.mygreen.xlsmapper.Configuration;
+import com.gh.mygreen.xlsmapper.LoadingWorkObject;
+import com.gh.mygreen.xlsmapper.SavingWorkObject;
 import com.gh.mygreen.xlsmapper.XlsMapperException;
 import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
 import com.gh.mygreen.xlsmapper.fieldprocessor.ProcessCase;
@@ -22,6 +23,7 @@ import com.gh.mygreen.xlsmapper.textformatter.TextFormatter;
 import com.gh.mygreen.xlsmapper.textformatter.TextParseException;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
 import com.gh.mygreen.xlsmapper.util.POIUtils;
+import com.gh.mygreen.xlsmapper.util.SharedFormulaEvaluator;
 import com.gh.mygreen.xlsmapper.util.Utils;
 import com.gh.mygreen.xlsmapper.validation.fieldvalidation.FieldFormatter;
 
@@ -29,7 +31,7 @@ import com.gh.mygreen.xlsmapper.validation.fieldvalidation.FieldFormatter;
  * {@link CellConverter}を実装するときのベースとなる抽象クラス。
  * 通常は、このクラスを継承して{@link CellConverter}を実装します。
  *
- * @version 2.0
+ * @version 2.1
  * @author T.TSUCHIE
  *
  */
@@ -97,8 +99,28 @@ public abstract class BaseCellConverter<T> implements CellConverter<T>, FieldFor
 
     @Override
     public T toObject(final Cell cell) throws XlsMapperException {
+        return toObject(cell, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>作業用の情報に数式の評価処理が設定されている場合は、それを使用して数式を評価します。</p>
+     * @since 2.1
+     * @param work 読み込み処理中の作業用の情報。nullの場合は、作業用の情報を使用しません。
+     */
+    @Override
+    public T toObject(final Cell cell, final LoadingWorkObject work) throws XlsMapperException {
 
         final ProcessCase processCase = ProcessCase.Load;
+
+        // 初期値が不要な場合は、フォーマットせずにセルの値を直接読み込む
+        if(!defaultValue.isPresent(processCase)) {
+            final Optional<T> directValue = readCellDirectly(cell);
+            if(directValue.isPresent()) {
+                return directValue.get();
+            }
+        }
+
         final String formattedValue = Utils.trim(configuration.getCellFormatter().format(cell), trimmed);
 
         // デフォルト値の設定
@@ -109,11 +131,7 @@ public abstract class BaseCellConverter<T> implements CellConverter<T>, FieldFor
         // 数式のセルの場合、予め評価しておく
         final Cell evaluatedCell;
         if(cell.getCellTypeEnum().equals(CellType.FORMULA)) {
-            final Workbook workbook = cell.getSheet().getWorkbook();
-            final CreationHelper helper = workbook.getCreationHelper();
-            final FormulaEvaluator evaluator = helper.createFormulaEvaluator();
-
-            evaluatedCell = evaluator.evaluateInCell(cell);
+            evaluatedCell = evaluateFormulaCell(cell, work);
         } else {
             evaluatedCell = cell;
         }
@@ -121,6 +139,49 @@ public abstract class BaseCellConverter<T> implements CellConverter<T>, FieldFor
         return parseCell(evaluatedCell, formattedValue);
     }
 
+    /**
+     * 数式のセルを評価します。
+     * <p>{@link Configuration#isFormulaRecalcurationOnLoad()}がfalseの場合は、再計算せずに、
+     *   セルにキャッシュされている計算結果を参照します。その場合、セルは変更しません。
+     * </p>
+     * <p>作業用の情報に、読み込み中のワークブックに対する{@link SharedFormulaEvaluator}が設定されている場合は、
+     *   評価結果のキャッシュを共有するため、それを使用して評価します。
+     * </p>
+     * @since 2.1
+     * @param cell 数式のセル
+     * @param work 読み込み処理中の作業用の情報。nullの場合もあります。
+     * @return 評価済みのセル
+     */
+    private Cell evaluateFormulaCell(final Cell cell, final LoadingWorkObject work) {
+
+        if(!configuration.isFormulaRecalcurationOnLoad()) {
+            return CachedFormulaResultCell.of(cell);
+        }
+
+        final Workbook workbook = cell.getSheet().getWorkbook();
+        final SharedFormulaEvaluator sharedEvaluator = work != null ? work.getFormulaEvaluator() : null;
+        if(sharedEvaluator != null && sharedEvaluator.getWorkbook() == workbook) {
+            return sharedEvaluator.evaluateInCell(cell);
+        }
+
+        final FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
+        return evaluator.evaluateInCell(cell);
+    }
+
+    /**
+     * セルの値を、文字列にフォーマットせずに直接読み込みます。
+     * <p>セルの種類が数値や真偽値など、フォーマットした文字列を使用せずに変換できる場合に実装します。
+     *   <br>空を返した場合は、フォーマットした文字列と共に{@link #parseCell(Cell, String)}で変換します。
+     * </p>
+     * <p>初期値が設定されている場合は、セルが空かどうかをフォーマットした文字列で判定するため、呼び出されません。</p>
+     * @since 2.1
+     * @param cell 読み込み対象のセル。数式のセルの場合は、評価前のセル。
+     * @return 直接読み込めない場合は、空を返します。
+     */
+    protected Optional<T> readCellDirectly(final Cell cell) {
+        return Optional.empty();
+    }
+
     /**
      * セルをJavaのオブジェクト型に変換します。
      * @param evaluatedCell 数式を評価済みのセル
@@ -197,11 +258,23 @@ public abstract class BaseCellConverter<T> implements CellConverter<T>, FieldFor
 
     @Override
     public Cell toCell(final T targetValue, final Object targetBean, final Sheet sheet, final CellPosition address) throws XlsMapperException {
+        return toCell(targetValue, targetBean, sheet, address, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>作業用の情報に作成したセルのスタイルの管理情報が設定されている場合は、それを使用してスタイルを使い回します。</p>
+     * @since 2.1
+     * @param work 書き込み処理中の作業用の情報。nullの場合は、作業用の情報を使用しません。
+     */
+    @Override
+    public Cell toCell(final T targetValue, final Object targetBean, final Sheet sheet, final CellPosition address,
+            final SavingWorkObject work) throws XlsMapperException {
 
         final ProcessCase processCase = ProcessCase.Save;
         final Cell cell = POIUtils.getCell(sheet, address);
 
-        final CellStyleProxy cellStyle = new CellStyleProxy(cell);
+        final CellStyleProxy cellStyle = new CellStyleProxy(cell, work != null ? work.getCellStyleRegistry() : null);
 
         // セルの制御の設定
         if(shrinktToFit) {
@@ -231,7 +304,7 @@ public abstract class BaseCellConverter<T> implements CellConverter<T>, FieldFor
         }
 
         // 各書式に沿った値の設定
-        setupCell(cell, Optional.ofNullable(cellValue));
+        setupCell(cell, Optional.ofNullable(cellValue), cellStyle);
 
         // 数式の設定
         formulaHandler.ifPresent(handler -> {
@@ -286,6 +359,21 @@ public abstract class BaseCellConverter<T> implements CellConverter<T>, FieldFor
      */
     protected abstract void setupCell(Cell cell, Optional<T> cellValue) throws TypeBindException;
 
+    /**
+     * 書き込み時のセルに値と書式を設定します。
+     * <p>書式を変更する場合は、引数のスタイルの管理情報を使用することで、作成したスタイルを書き込み処理の中で使い回します。
+     *   <br>デフォルトの実装では、{@link #setupCell(Cell, Optional)}を呼び出します。
+     * </p>
+     * @since 2.1
+     * @param cell 設定対象のセル
+     * @param cellValue 設定対象の値。
+     * @param cellStyle 設定対象のセルのスタイルの管理情報
+     * @throws TypeBindException 変換に失敗した場合
+     */
+    protected void setupCell(final Cell cell, final Optional<T> cellValue, final CellStyleProxy cellStyle) throws TypeBindException {
+        setupCell(cell, cellValue);
+    }
+
     /**
      * フィールド情報を取得します。
      * @return フィールド情報
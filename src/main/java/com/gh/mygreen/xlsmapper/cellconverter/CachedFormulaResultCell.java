@@ -0,0 +1,67 @@
+package com.gh.mygreen.xlsmapper.cellconverter;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+
+/**
+ * 数式のセルを、キャッシュされている計算結果のセルとして参照するためのビュー。
+ * <p>セルの種類({@link Cell#getCellTypeEnum()})は、計算結果の種類を返します。
+ *   <br>値の取得などその他の処理は、元のセルに委譲するため、キャッシュされている計算結果を返します。
+ * </p>
+ * <p>{@link org.apache.poi.ss.usermodel.FormulaEvaluator#evaluateInCell(Cell)}と異なり、数式を再計算せず、元のセルも変更しません。</p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+final class CachedFormulaResultCell implements InvocationHandler {
+
+    private final Cell cell;
+
+    private CachedFormulaResultCell(final Cell cell) {
+        this.cell = cell;
+    }
+
+    /**
+     * 数式のセルのビューを作成します。
+     * @param cell 数式のセル
+     * @return 計算結果のセルとして参照するビュー
+     */
+    static Cell of(final Cell cell) {
+        return (Cell) Proxy.newProxyInstance(Cell.class.getClassLoader(), new Class<?>[]{Cell.class},
+                new CachedFormulaResultCell(cell));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+
+        final String name = method.getName();
+        if(name.equals("getCellTypeEnum") && method.getParameterCount() == 0) {
+            return cell.getCachedFormulaResultTypeEnum();
+
+        } else if(name.equals("getCellType") && method.getParameterCount() == 0) {
+            final CellType type = cell.getCachedFormulaResultTypeEnum();
+            return method.getReturnType().equals(CellType.class) ? type : type.getCode();
+
+        } else if(name.equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+
+        } else if(name.equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+
+        }
+
+        try {
+            return method.invoke(cell, args);
+        } catch(InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
@@ -3,13 +3,15 @@ package com.gh.mygreen.xlsmapper.cellconverter;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Sheet;
 
+import com.gh.mygreen.xlsmapper.LoadingWorkObject;
+import com.gh.mygreen.xlsmapper.SavingWorkObject;
 import com.gh.mygreen.xlsmapper.XlsMapperException;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
 
 /**
  * ExcelのCellの値とJavaオブジェクトを相互に変換するインタフェース。
  *
- * @version 2.0
+ * @version 2.1
  * @author T.TSUCHIE
  * @param <T> 変換対象のJavaのオブジェクトのタイプ
  */
@@ -23,6 +25,21 @@ public interface CellConverter<T> {
      */
     T toObject(Cell cell) throws XlsMapperException;
     
+    /**
+     * 読み込み処理中の作業用の情報を使用して、シート読み込み時のExcel Cell {@literal =>} Javaオブジェクトに変換する。
+     * <p>作業用の情報には、数式の評価処理など読み込み処理ごとの情報が保持されています。
+     *   <br>デフォルトの実装では、{@link #toObject(Cell)}を呼び出します。
+     * </p>
+     * @since 2.1
+     * @param cell 読み込み対象のセル
+     * @param work 読み込み処理中の作業用の情報
+     * @return 変換したJavaオブジェクト
+     * @throws XlsMapperException 変換に失敗した場合
+     */
+    default T toObject(Cell cell, LoadingWorkObject work) throws XlsMapperException {
+        return toObject(cell);
+    }
+    
     /**
      * シート書き込み時のJavaオブジェクト {@literal =>} Excel Cellに変換する。
      * @param targetValue 書き込み対象のオブジェクト。
@@ -35,4 +52,23 @@ public interface CellConverter<T> {
     Cell toCell(T targetValue, Object targetBean, Sheet sheet, CellPosition address)
             throws XlsMapperException;
     
+    /**
+     * 書き込み処理中の作業用の情報を使用して、シート書き込み時のJavaオブジェクト {@literal =>} Excel Cellに変換する。
+     * <p>作業用の情報には、作成したセルのスタイルの管理情報など書き込み処理ごとの情報が保持されています。
+     *   <br>デフォルトの実装では、{@link #toCell(Object, Object, Sheet, CellPosition)}を呼び出します。
+     * </p>
+     * @since 2.1
+     * @param targetValue 書き込み対象のオブジェクト。
+     * @param targetBean 書き込み対象のフィールドが設定されているJavaBeanオブジェクト。
+     * @param sheet 書き込み先のシート
+     * @param address 書き込み先のセルのアドレス
+     * @param work 書き込み処理中の作業用の情報
+     * @return 書き込んだセル
+     * @throws XlsMapperException 変換に失敗した場合
+     */
+    default Cell toCell(T targetValue, Object targetBean, Sheet sheet, CellPosition address, SavingWorkObject work)
+            throws XlsMapperException {
+        return toCell(targetValue, targetBean, sheet, address);
+    }
+    
 }
@@ -0,0 +1,227 @@
+package com.gh.mygreen.xlsmapper.cellconverter;
+
+import java.lang.annotation.Annotation;
+import java.util.function.Supplier;
+
+import com.gh.mygreen.xlsmapper.BeanFactory;
+import com.gh.mygreen.xlsmapper.Configuration;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+import com.gh.mygreen.xlsmapper.util.ConcurrentLruCache;
+import com.gh.mygreen.xlsmapper.xml.DynamicAnnotationBuilder;
+
+/**
+ * フィールドに対する{@link CellConverter}のキャッシュ。
+ * <p>{@link CellConverterFactory#create(FieldAccessor, Configuration)}では、アノテーションの解析や書式の作成を行うため、
+ *   フィールドごとに作成した{@link CellConverter}を保持し、読み込み／書き込みのたびに作成し直さないようにします。
+ * </p>
+ * <p>キャッシュのキーは、フィールドの宣言元のクラス、フィールド名、変換対象のクラスタイプと、
+ *   フィールドに付与されているアノテーションです。アノテーションは、{@link Annotation#equals(Object)}で比較します。
+ *   <br>XMLで定義したアノテーションは、取得するたびにインスタンスが作成されるため、キャッシュしません。
+ * </p>
+ * <p>保持する件数には上限があり、超えた場合は最も長く参照されていない{@link CellConverter}を破棄します。
+ *   <br>そのため、不要になったクラスの情報を保持し続けることはありません。
+ * </p>
+ * <p>キャッシュした{@link CellConverter}は複数のスレッドから共有されるため、スレッドセーフである必要があります。
+ *   <br>スレッドセーフでない独自の{@link CellConverter}を使用する場合は、
+ *   {@link Configuration#setCacheCellConverter(boolean)}でキャッシュを無効にします。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class CellConverterCache {
+
+    /**
+     * キャッシュする最大件数の初期値
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final ConcurrentLruCache<ConverterKey, CachedConverter> cache;
+
+    /**
+     * キャッシュする最大件数を{@link #DEFAULT_MAX_SIZE}とするコンストラクタ。
+     */
+    public CellConverterCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * キャッシュする最大件数を指定するコンストラクタ。
+     * @param maxSize キャッシュする最大件数
+     * @throws IllegalArgumentException {@literal maxSize < 1}
+     */
+    public CellConverterCache(final int maxSize) {
+        this.cache = new ConcurrentLruCache<>(maxSize);
+    }
+
+    /**
+     * フィールドに対する{@link CellConverter}を取得します。
+     * <p>キャッシュされていない場合、または作成時から{@link Configuration#getConverterRegistry()}の登録内容や
+     *   {@link Configuration#getBeanFactory()}が変更されている場合は、新たに作成してキャッシュします。
+     * </p>
+     * @param accessor フィールド情報
+     * @param targetType 変換対象のクラスタイプ
+     * @param config システム設定
+     * @param creator {@link CellConverter}を作成する処理
+     * @return {@link CellConverter}のインスタンス
+     * @throws IllegalArgumentException {@literal accessor == null or targetType == null or config == null or creator == null}
+     */
+    public CellConverter<?> get(final FieldAccessor accessor, final Class<?> targetType, final Configuration config,
+            final Supplier<CellConverter<?>> creator) {
+
+        ArgUtils.notNull(accessor, "accessor");
+        ArgUtils.notNull(targetType, "targetType");
+        ArgUtils.notNull(config, "config");
+        ArgUtils.notNull(creator, "creator");
+
+        if(!config.isCacheCellConverter() || !isCacheable(accessor)) {
+            return creator.get();
+        }
+
+        final ConverterKey key = new ConverterKey(accessor, targetType);
+        CachedConverter cached = cache.get(key);
+        if(cached == null || !cached.isUpToDate(config)) {
+            cached = new CachedConverter(creator.get(), config);
+            cache.put(key, cached);
+        }
+
+        return cached.converter;
+    }
+
+    /**
+     * キャッシュを破棄します。
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * キャッシュしている件数を取得します。
+     * @return キャッシュしている件数
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * キャッシュする最大件数を取得します。
+     * @return キャッシュする最大件数
+     */
+    public int getMaxSize() {
+        return cache.getMaxSize();
+    }
+
+    /**
+     * キャッシュ可能なフィールドかどうか判定します。
+     * @param accessor フィールド情報
+     * @return XMLで定義したアノテーションを持つ場合は、falseを返します。
+     */
+    private static boolean isCacheable(final FieldAccessor accessor) {
+
+        for(Annotation anno : accessor.getAnnotations()) {
+            if(DynamicAnnotationBuilder.isDynamicAnnotation(anno)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * キャッシュした{@link CellConverter}と、作成時の設定。
+     */
+    private static final class CachedConverter {
+
+        private final CellConverter<?> converter;
+
+        private final CellConverterRegistry converterRegistry;
+
+        private final int converterRegistryVersion;
+
+        private final BeanFactory<Class<?>, Object> beanFactory;
+
+        private CachedConverter(final CellConverter<?> converter, final Configuration config) {
+            this.converter = converter;
+            this.converterRegistry = config.getConverterRegistry();
+            this.converterRegistryVersion = converterRegistry.getVersion();
+            this.beanFactory = config.getBeanFactory();
+        }
+
+        private boolean isUpToDate(final Configuration config) {
+            return converterRegistry == config.getConverterRegistry()
+                    && converterRegistryVersion == converterRegistry.getVersion()
+                    && beanFactory == config.getBeanFactory();
+        }
+
+    }
+
+    /**
+     * キャッシュのキー。
+     * <p>アノテーションは、属性の値が等しいかどうかで比較します。
+     *   <br>フィールド情報を作成し直し、アノテーションのインスタンスが異なる場合でも同じキーとして扱います。
+     * </p>
+     */
+    private static final class ConverterKey {
+
+        private final Class<?> declaringClass;
+
+        private final String name;
+
+        private final Class<?> targetType;
+
+        private final Annotation[] annotations;
+
+        private ConverterKey(final FieldAccessor accessor, final Class<?> targetType) {
+            this.declaringClass = accessor.getDeclaringClass();
+            this.name = accessor.getName();
+            this.targetType = targetType;
+            this.annotations = accessor.getAnnotations().toArray(new Annotation[0]);
+        }
+
+        @Override
+        public int hashCode() {
+            return (declaringClass.hashCode() * 31 + name.hashCode()) * 31 + targetType.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if(this == obj) {
+                return true;
+            }
+
+            if(!(obj instanceof ConverterKey)) {
+                return false;
+            }
+
+            final ConverterKey other = (ConverterKey) obj;
+            if(declaringClass != other.declaringClass || !name.equals(other.name) || targetType != other.targetType) {
+                return false;
+            }
+
+            if(annotations.length != other.annotations.length) {
+                return false;
+            }
+
+            for(Annotation anno : annotations) {
+                if(!containsEqual(other.annotations, anno)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private static boolean containsEqual(final Annotation[] annotations, final Annotation target) {
+            for(Annotation anno : annotations) {
+                if(anno == target || anno.equals(target)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
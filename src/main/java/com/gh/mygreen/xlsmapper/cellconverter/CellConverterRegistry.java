@@ -9,11 +9,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.gh.mygreen.xlsmapper.cellconverter.impl.ArrayCellConverterFactory;
 import com.gh.mygreen.xlsmapper.cellconverter.impl.BigDecimalCellConverterFactory;
@@ -40,6 +43,7 @@ import com.gh.mygreen.xlsmapper.cellconverter.impl.SqlTimeCellConverterFactory;
 import com.gh.mygreen.xlsmapper.cellconverter.impl.SqlTimestampCellConverterFactory;
 import com.gh.mygreen.xlsmapper.cellconverter.impl.StringCellConverterFactory;
 import com.gh.mygreen.xlsmapper.cellconverter.impl.URICellConverterFactory;
+import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
 
 
@@ -47,7 +51,7 @@ import com.gh.mygreen.xlsmapper.util.ArgUtils;
  * ExcelのCell {@literal <=>} Javaオブジェクト の相互変換をする{@link CellConverter}を管理するクラス。
  * 独自の{@link CellConverter}を登録したりする場合は、このクラスを経由する。
  * 
- * @version 1.0
+ * @version 2.1
  * @author T.TSUCHIE
  *
  */
@@ -60,15 +64,79 @@ public class CellConverterRegistry {
      */
     private Map<Class<?>, CellConverterFactory<?>> converterFactoryMap;
     
+    /**
+     * 登録内容の変更回数
+     */
+    private final AtomicInteger version = new AtomicInteger();
+    
+    /**
+     * 登録内容を変更できないかどうか
+     */
+    private final boolean frozen;
+    
     public CellConverterRegistry() {
+        this.frozen = false;
         init();
     }
     
+    /**
+     * 登録内容を変更できないスナップショットを作成するコンストラクタ。
+     * @since 2.1
+     * @param original コピー元のインスタンス
+     */
+    protected CellConverterRegistry(final CellConverterRegistry original) {
+        ArgUtils.notNull(original, "original");
+        
+        this.converterFactoryMap = Collections.unmodifiableMap(new HashMap<>(original.converterFactoryMap));
+        this.version.set(original.getVersion());
+        this.frozen = true;
+    }
+    
+    /**
+     * 現在の登録内容をコピーした、登録内容を変更できないインスタンスを作成します。
+     * <p>作成したインスタンスの{@link #init()}、{@link #registerConverter(Class, CellConverterFactory)}を呼び出すと、
+     *   {@link IllegalStateException}をスローします。
+     *   <br>コピー元の登録内容を変更しても、作成したインスタンスには反映されません。
+     * </p>
+     * <p>独自の処理を追加したサブクラスの場合は、{@link #CellConverterRegistry(CellConverterRegistry)}を使用して
+     *   このメソッドをオーバーライドしてください。
+     * </p>
+     * @since 2.1
+     * @return 登録内容を変更できないインスタンス。既に変更できない場合は、自身のインスタンスを返します。
+     */
+    public CellConverterRegistry snapshot() {
+        return frozen ? this : new CellConverterRegistry(this);
+    }
+    
+    /**
+     * 登録内容を変更できないかどうか判定します。
+     * @since 2.1
+     * @return trueの場合、{@link #snapshot()}で作成した登録内容を変更できないインスタンスです。
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+    
+    /**
+     * 登録内容を変更できるかどうか検証します。
+     * @param property 変更する内容の名称
+     * @throws IllegalStateException 登録内容を変更できない場合
+     */
+    private void assertNotFrozen(final String property) {
+        if(frozen) {
+            throw new IllegalStateException(MessageBuilder.create("config.frozen")
+                    .var("property", property)
+                    .format());
+        }
+    }
+    
     /**
      * 初期化を行います。
      * <p>システム標準の{@link CellConverter}を登録などを行います。
+     * @throws IllegalStateException {@link #snapshot()}で作成した登録内容を変更できないインスタンスの場合
      */
     protected void init() {
+        assertNotFrozen("converterFactory");
         
         if(converterFactoryMap == null) {
             this.converterFactoryMap = new ConcurrentHashMap<>();
@@ -76,6 +144,8 @@ public class CellConverterRegistry {
             converterFactoryMap.clear();
         }
         
+        version.incrementAndGet();
+        
         registerConverter(Boolean.class, new BooleanCellConverterFactory());
         registerConverter(boolean.class, new BooleanCellConverterFactory());
         
@@ -158,12 +228,25 @@ public class CellConverterRegistry {
      * タイプに対する{@link CellConverter}を登録する。
      * @param clazz 変換対象のJavaのクラスタイプ。
      * @param converterFactory 変換する{@link CellConverterFactory}のインスタンス。
+     * @throws IllegalStateException {@link #snapshot()}で作成した登録内容を変更できないインスタンスの場合
      */
     public <T> void registerConverter(final Class<T> clazz, final CellConverterFactory<T> converterFactory) {
         ArgUtils.notNull(clazz, "clazz");
         ArgUtils.notNull(converterFactory, "converterFactory");
+        assertNotFrozen("converterFactory");
         
         converterFactoryMap.put(clazz, converterFactory);
+        version.incrementAndGet();
+    }
+    
+    /**
+     * 登録内容の変更回数を取得します。
+     * <p>{@link CellConverterCache}のキャッシュが、最新の登録内容で作成されたものか判定する際に使用します。</p>
+     * @since 2.1
+     * @return {@link #init()}、{@link #registerConverter(Class, CellConverterFactory)}を呼び出すたびに増加します。
+     */
+    public int getVersion() {
+        return version.get();
     }
     
 }
@@ -1,11 +1,15 @@
 package com.gh.mygreen.xlsmapper.cellconverter;
 
+import java.util.function.Consumer;
+
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
 
 import com.gh.mygreen.xlsmapper.CellFormatter;
+import com.gh.mygreen.xlsmapper.cellconverter.CellStyleRegistry.Attribute;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
 import com.gh.mygreen.xlsmapper.util.POIUtils;
 import com.gh.mygreen.xlsmapper.util.Utils;
@@ -13,7 +17,11 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * セルのスタイルを管理するクラス。
  * <p>既存のものを異なる設定をするならば、新しくする。</p>
+ * <p>新しくするスタイルは、{@link CellStyleRegistry}が指定されている場合、元のスタイルと設定内容が同じならば、
+ *   既に作成したものを使い回す。指定されていない場合は、セルごとにスタイルを新しくする。
+ * </p>
  *
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -22,6 +30,11 @@ public class CellStyleProxy {
 
     private final Cell cell;
 
+    /**
+     * 作成したスタイルの管理情報。使用しない場合はnull。
+     */
+    private final CellStyleRegistry registry;
+
     /**
      * 既にスタイルを新しくしたかどうか。
      */
@@ -29,28 +42,55 @@ public class CellStyleProxy {
 
     /**
      * セルを指定してインスタンスを作成する。
+     * <p>作成したスタイルは使い回さず、セルごとにスタイルを新しくする。</p>
      * @param cell 管理対象のセル
      * @throws IllegalArgumentException {@literal cell is null.}
      */
     public CellStyleProxy(final Cell cell) {
+        this(cell, null);
+    }
+
+    /**
+     * セルと作成したスタイルの管理情報を指定してインスタンスを作成する。
+     * @since 2.1
+     * @param cell 管理対象のセル
+     * @param registry 作成したスタイルの管理情報。使用しない場合はnullを指定する。
+     * @throws IllegalArgumentException {@literal cell is null.}
+     */
+    public CellStyleProxy(final Cell cell, final CellStyleRegistry registry) {
         ArgUtils.notNull(cell, "cell");
 
         this.cell = cell;
+        this.registry = registry;
         this.updated = false;
     }
 
-    private void cloneStyle() {
-        if(updated) {
-            // 既に更新済みの場合
+    /**
+     * 設定を変更したスタイルをセルに設定する。
+     * <p>元のスタイルは他のセルと共有している可能性があるため、直接変更しない。</p>
+     * <p>セルのワークブックに対する管理情報がない場合は、元のスタイルを一度だけコピーし、コピーしたスタイルを変更する。</p>
+     * @param attribute 変更内容の種類
+     * @param value 変更後の値
+     * @param modifier スタイルの設定を変更する処理
+     */
+    private void updateStyle(final Attribute attribute, final int value, final Consumer<CellStyle> modifier) {
+
+        final Workbook workbook = cell.getSheet().getWorkbook();
+        if(registry != null && registry.isTarget(workbook)) {
+            cell.setCellStyle(registry.derive(cell.getCellStyle(), attribute, value, modifier));
             return;
         }
 
-        CellStyle style = cell.getSheet().getWorkbook().createCellStyle();
-        style.cloneStyleFrom(cell.getCellStyle());
-        cell.setCellStyle(style);
+        if(!updated) {
+            final CellStyle style = workbook.createCellStyle();
+            style.cloneStyleFrom(cell.getCellStyle());
+            cell.setCellStyle(style);
+
+            // 更新フラグをtrueにする
+            this.updated = true;
+        }
 
-        // 更新フラグをtrueにする
-        this.updated = true;
+        modifier.accept(cell.getCellStyle());
     }
 
     /**
@@ -69,9 +109,10 @@ public class CellStyleProxy {
             return;
         }
 
-        cloneStyle();
-        cell.getCellStyle().setShrinkToFit(false);
-        cell.getCellStyle().setWrapText(true);
+        updateStyle(Attribute.WRAP_TEXT, 1, style -> {
+            style.setShrinkToFit(false);
+            style.setWrapText(true);
+        });
     }
 
     /**
@@ -83,9 +124,10 @@ public class CellStyleProxy {
             return;
         }
 
-        cloneStyle();
-        cell.getCellStyle().setWrapText(false);
-        cell.getCellStyle().setShrinkToFit(true);
+        updateStyle(Attribute.SHRINK_TO_FIT, 1, style -> {
+            style.setWrapText(false);
+            style.setShrinkToFit(true);
+        });
     }
 
     /**
@@ -99,8 +141,7 @@ public class CellStyleProxy {
             return;
         }
 
-        cloneStyle();
-        cell.getCellStyle().setIndention(indent);
+        updateStyle(Attribute.INDENT, indent, style -> style.setIndention(indent));
 
     }
 
@@ -115,8 +156,7 @@ public class CellStyleProxy {
             return;
         }
 
-        cloneStyle();
-        cell.getCellStyle().setAlignment(align);
+        updateStyle(Attribute.HORIZONTAL_ALIGNMENT, align.ordinal(), style -> style.setAlignment(align));
     }
 
     /**
@@ -130,8 +170,7 @@ public class CellStyleProxy {
             return;
         }
 
-        cloneStyle();
-        cell.getCellStyle().setVerticalAlignment(align);
+        updateStyle(Attribute.VERTICAL_ALIGNMENT, align.ordinal(), style -> style.setVerticalAlignment(align));
     }
 
     /**
@@ -146,8 +185,8 @@ public class CellStyleProxy {
             return;
         }
 
-        cloneStyle();
-        cell.getCellStyle().setDataFormat(POIUtils.getDataFormatIndex(cell.getSheet(), pattern));
+        final short formatIndex = POIUtils.getDataFormatIndex(cell.getSheet(), pattern);
+        updateStyle(Attribute.DATA_FORMAT, formatIndex, style -> style.setDataFormat(formatIndex));
 
     }
 
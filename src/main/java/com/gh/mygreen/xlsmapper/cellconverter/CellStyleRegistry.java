@@ -0,0 +1,150 @@
+package com.gh.mygreen.xlsmapper.cellconverter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+
+/**
+ * 書き込み処理ごとに、設定を変更して作成したセルのスタイルを管理するクラス。
+ * <p>元のスタイルと変更内容の組み合わせが同じ場合は、既に作成したスタイルを返します。
+ *   <br>セルごとにスタイルを作成しないため、書き込むレコードの件数が増えても、スタイルの数は増えません。
+ * </p>
+ * <p>作成したスタイルは複数のセルで共有するため、作成後に設定を変更してはいけません。</p>
+ * <p>インスタンスは書き込み処理ごとに作成して作業用の情報({@link com.gh.mygreen.xlsmapper.SavingWorkObject})に保持し、
+ *   書き込み処理が終わると破棄します。他の書き込み処理とは共有しないため、スレッドセーフではありません。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public final class CellStyleRegistry {
+
+    /**
+     * スタイルの変更内容の種類
+     */
+    enum Attribute {
+        WRAP_TEXT,
+        SHRINK_TO_FIT,
+        INDENT,
+        HORIZONTAL_ALIGNMENT,
+        VERTICAL_ALIGNMENT,
+        DATA_FORMAT;
+    }
+
+    /**
+     * 元のスタイルと変更内容をキーとした、作成したスタイルのインデックス
+     */
+    private final Map<StyleKey, Integer> derivedStyles = new HashMap<>();
+
+    /**
+     * スタイルを作成するワークブック
+     */
+    private final Workbook workbook;
+
+    /**
+     * 書き込み対象のワークブックを指定してインスタンスを作成します。
+     * @param workbook 書き込み対象のワークブック
+     * @throws IllegalArgumentException {@literal workbook == null}
+     */
+    public CellStyleRegistry(final Workbook workbook) {
+        ArgUtils.notNull(workbook, "workbook");
+        this.workbook = workbook;
+    }
+
+    /**
+     * スタイルを作成するワークブックを取得します。
+     * @return コンストラクタで指定したワークブック
+     */
+    public Workbook getWorkbook() {
+        return workbook;
+    }
+
+    /**
+     * 指定したワークブックのスタイルを管理対象とするかどうか判定します。
+     * <p>ストリーミングで書き込む場合のワークブック({@link SXSSFWorkbook})は、
+     *   元のワークブックとスタイルを共有するため、管理対象とします。
+     * </p>
+     * @param target 判定対象のワークブック
+     * @return trueの場合、管理対象です。
+     */
+    boolean isTarget(final Workbook target) {
+        if(target == workbook) {
+            return true;
+        }
+
+        return target instanceof SXSSFWorkbook && ((SXSSFWorkbook) target).getXSSFWorkbook() == workbook;
+    }
+
+    /**
+     * 元のスタイルの設定を変更したスタイルを取得します。
+     * <p>同じ組み合わせで既に作成済みの場合は、そのスタイルを返します。
+     *   <br>作成されていない場合は、元のスタイルをコピーして設定を変更したスタイルを作成します。
+     * </p>
+     * @param base 元のスタイル
+     * @param attribute 変更内容の種類
+     * @param value 変更後の値
+     * @param modifier スタイルの設定を変更する処理
+     * @return 設定を変更したスタイル
+     */
+    CellStyle derive(final CellStyle base, final Attribute attribute, final int value,
+            final Consumer<CellStyle> modifier) {
+
+        final StyleKey key = new StyleKey(base.getIndex(), attribute, value);
+        final Integer index = derivedStyles.get(key);
+        if(index != null && index < workbook.getNumCellStyles()) {
+            return workbook.getCellStyleAt(index);
+        }
+
+        final CellStyle style = workbook.createCellStyle();
+        style.cloneStyleFrom(base);
+        modifier.accept(style);
+
+        derivedStyles.put(key, (int)style.getIndex());
+        return style;
+    }
+
+    /**
+     * スタイルを検索するためのキー
+     */
+    private static final class StyleKey {
+
+        private final int baseIndex;
+
+        private final Attribute attribute;
+
+        private final int value;
+
+        private StyleKey(final int baseIndex, final Attribute attribute, final int value) {
+            this.baseIndex = baseIndex;
+            this.attribute = attribute;
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return (baseIndex * 31 + attribute.hashCode()) * 31 + value;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if(this == obj) {
+                return true;
+            }
+
+            if(!(obj instanceof StyleKey)) {
+                return false;
+            }
+
+            final StyleKey other = (StyleKey) obj;
+            return baseIndex == other.baseIndex && attribute == other.attribute && value == other.value;
+        }
+    }
+
+}
@@ -24,6 +24,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link Date}または、その子クラスに対する{@link CellConverterFactory}のベースクラス。
  *
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -54,14 +55,17 @@ public abstract class AbstractDateCellConverterFactory<T extends Date> extends C
     protected TextFormatter<T> createTextFormatter(final FieldAccessor field, final Configuration config) {
 
         final Optional<XlsDateTimeConverter> converterAnno = field.getAnnotation(XlsDateTimeConverter.class);
-        DateFormat formatter = createFormatter(converterAnno);
+        final DateFormat prototype = createFormatter(converterAnno);
+
+        // DateFormatはスレッドセーフでないため、スレッドごとに複製して使用する
+        final ThreadLocal<DateFormat> formatter = ThreadLocal.withInitial(() -> (DateFormat)prototype.clone());
 
         return new TextFormatter<T>() {
 
             @Override
             public T parse(final String text) {
                 try {
-                    return parseString(formatter, text);
+                    return parseString(formatter.get(), text);
 
                 } catch(ParseException e) {
                     final Map<String, Object> vars = new HashMap<>();
@@ -74,7 +78,7 @@ public abstract class AbstractDateCellConverterFactory<T extends Date> extends C
 
             @Override
             public String format(final T value) {
-                return formatter.format(value);
+                return formatter.get().format(value);
             }
         };
 
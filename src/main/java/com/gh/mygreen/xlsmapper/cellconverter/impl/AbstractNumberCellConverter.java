@@ -20,7 +20,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
  * 数値型のConverterの抽象クラス。
  * <p>数値型のConverterは、基本的にこのクラスを継承して作成する。</p>
  *
- * @version 2.0
+ * @version 2.1
  * @author T.TSUCHIE
  *
  */
@@ -40,6 +40,22 @@ public abstract class AbstractNumberCellConverter<T extends Number> extends Base
         super(field, config);
     }
 
+    @Override
+    protected Optional<T> readCellDirectly(final Cell cell) {
+
+        if(cell.getCellTypeEnum().equals(CellType.NUMERIC)) {
+            try {
+                return Optional.ofNullable(convertTypeValue(new BigDecimal(cell.getNumericCellValue(), mathContext)));
+
+            } catch(ArithmeticException e) {
+                // エラーメッセージにフォーマットした値を使用するため、通常の処理で変換する
+                return Optional.empty();
+            }
+        }
+
+        return Optional.empty();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     protected T parseCell(final Cell evaluatedCell, final String formattedValue) throws TypeBindException {
@@ -86,10 +102,14 @@ public abstract class AbstractNumberCellConverter<T extends Number> extends Base
 
     @Override
     protected void setupCell(final Cell cell, final Optional<T> cellValue) throws TypeBindException {
+        setupCell(cell, cellValue, new CellStyleProxy(cell));
+    }
 
-        // 書式を設定する
-        final CellStyleProxy cellStyle = new CellStyleProxy(cell);
+    @Override
+    protected void setupCell(final Cell cell, final Optional<T> cellValue, final CellStyleProxy cellStyle)
+            throws TypeBindException {
 
+        // 書式を設定する
         excelPattern.ifPresent(pattern -> {
             cellStyle.setDataFormat(pattern, getConfiguration().getCellFormatter());
         });
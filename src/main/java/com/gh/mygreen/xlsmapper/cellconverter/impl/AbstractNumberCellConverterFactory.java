@@ -27,6 +27,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * 数値型のCellConverterを作成するためのベースクラス。
  *
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -62,7 +63,9 @@ public abstract class AbstractNumberCellConverterFactory<T extends Number> exten
         final MathContext mathContext = createMathContext(convertAnno);
         
         if(numberFormat.isPresent()) {
-            final NumberFormat fromatter = numberFormat.get();
+            // NumberFormatはスレッドセーフでないため、スレッドごとに複製して使用する
+            final NumberFormat prototype = numberFormat.get();
+            final ThreadLocal<NumberFormat> fromatter = ThreadLocal.withInitial(() -> (NumberFormat)prototype.clone());
             
             // 書式が指定されている場合
             return new TextFormatter<T>() {
@@ -70,7 +73,7 @@ public abstract class AbstractNumberCellConverterFactory<T extends Number> exten
                 @Override
                 public T parse(final String text) {
                     ParsePosition position = new ParsePosition(0);
-                    BigDecimal number = (BigDecimal) fromatter.parse(text, position);
+                    BigDecimal number = (BigDecimal) fromatter.get().parse(text, position);
                     
                     if(position.getIndex() != text.length()) {
                         throw new TextParseException(text, field.getType());
@@ -91,7 +94,7 @@ public abstract class AbstractNumberCellConverterFactory<T extends Number> exten
                 
                 @Override
                 public String format(final T value) {
-                    return fromatter.format(value);
+                    return fromatter.get().format(value);
                 }
                 
             };
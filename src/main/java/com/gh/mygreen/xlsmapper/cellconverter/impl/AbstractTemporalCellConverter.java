@@ -21,6 +21,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
  * JSR-310 'Date and Time API' の{@link TemporalAccessor}のテンプレートクラス。
  * <p>基本的に、{@link TemporalAccessor}のサブクラスのビルダは、このクラスを継承して作成する。</p>
  *
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -43,6 +44,16 @@ public abstract class AbstractTemporalCellConverter<T extends TemporalAccessor &
         super(field, config);
     }
 
+    @Override
+    protected Optional<T> readCellDirectly(final Cell cell) {
+
+        if(cell.getCellTypeEnum().equals(CellType.NUMERIC)) {
+            return Optional.ofNullable(convertFromDate(cell.getDateCellValue()));
+        }
+
+        return Optional.empty();
+    }
+
     @Override
     protected T parseCell(final Cell evaluatedCell, final String formattedValue) throws TypeBindException {
 
@@ -65,9 +76,14 @@ public abstract class AbstractTemporalCellConverter<T extends TemporalAccessor &
 
     @Override
     protected void setupCell(final Cell cell, final Optional<T> cellValue) throws TypeBindException {
+        setupCell(cell, cellValue, new CellStyleProxy(cell));
+    }
+
+    @Override
+    protected void setupCell(final Cell cell, final Optional<T> cellValue, final CellStyleProxy cellStyle)
+            throws TypeBindException {
 
         // 書式を設定する
-        final CellStyleProxy cellStyle = new CellStyleProxy(cell);
         cellStyle.setDataFormat(settingExcelPattern.orElse(null), defaultExcelPattern, getConfiguration().getCellFormatter());
 
         if(cellValue.isPresent()) {
@@ -20,6 +20,7 @@ import com.gh.mygreen.xlsmapper.textformatter.TextParseException;
 /**
  * {@link boolean}/{@link Boolean}型を処理する{@link CellConverter}を作成するためのファクトリクラス。
  *
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -60,6 +61,16 @@ public class BooleanCellConverterFactory extends CellConverterFactorySupport<Boo
             super(field, config);
         }
         
+        @Override
+        protected Optional<Boolean> readCellDirectly(final Cell cell) {
+            
+            if(cell.getCellTypeEnum().equals(CellType.BOOLEAN)) {
+                return Optional.of(cell.getBooleanCellValue());
+            }
+            
+            return Optional.empty();
+        }
+        
         @Override
         protected Boolean parseCell(final Cell evaluatedCell, final String formattedValue) throws TypeBindException {
             
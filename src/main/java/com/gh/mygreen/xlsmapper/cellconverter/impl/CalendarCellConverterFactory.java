@@ -11,6 +11,7 @@ import com.gh.mygreen.xlsmapper.cellconverter.BaseCellConverter;
 import com.gh.mygreen.xlsmapper.cellconverter.CellConverterFactorySupport;
 import com.gh.mygreen.xlsmapper.cellconverter.CellConverter;
 import com.gh.mygreen.xlsmapper.cellconverter.CellConverterFactory;
+import com.gh.mygreen.xlsmapper.cellconverter.CellStyleProxy;
 import com.gh.mygreen.xlsmapper.cellconverter.TypeBindException;
 import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
 import com.gh.mygreen.xlsmapper.textformatter.TextFormatter;
@@ -19,6 +20,7 @@ import com.gh.mygreen.xlsmapper.textformatter.TextParseException;
 /**
  * {@link Calendar}を処理する{@link CellConverter}を作成するためのファクトリクラス。
  * 
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -102,5 +104,13 @@ public class CalendarCellConverterFactory extends CellConverterFactorySupport<Ca
             dateCellConverter.setupCell(cell, dateCellValue);
         }
         
+        @Override
+        protected void setupCell(final Cell cell, final Optional<Calendar> cellValue, final CellStyleProxy cellStyle)
+                throws TypeBindException {
+            
+            Optional<Date> dateCellValue = cellValue.map(c -> c.getTime());
+            dateCellConverter.setupCell(cell, dateCellValue, cellStyle);
+        }
+        
     }
 }
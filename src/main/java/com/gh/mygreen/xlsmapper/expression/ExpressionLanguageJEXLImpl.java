@@ -1,19 +1,24 @@
 package com.gh.mygreen.xlsmapper.expression;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.commons.jexl2.Expression;
+import org.apache.commons.jexl2.JexlArithmetic;
 import org.apache.commons.jexl2.JexlEngine;
 import org.apache.commons.jexl2.MapContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
 
 /**
  * 式言語「JEXL」の実装。
  * <p>利用する際には、JEXL2.1のライブラリが必要です。
  *
+ * @version 2.1
  * @since 1.5
  * @author T.TSUCHIE
  *
@@ -26,6 +31,11 @@ public class ExpressionLanguageJEXLImpl implements ExpressionLanguage {
     
     private final ObjectCache<String, Expression> expressionCache = new ObjectCache<>();
     
+    /**
+     * 設定を変更できないかどうか
+     */
+    private final boolean frozen;
+    
     public ExpressionLanguageJEXLImpl() {
         this(new JexlEngine());
         this.jexlEngine.setLenient(true);
@@ -38,6 +48,42 @@ public class ExpressionLanguageJEXLImpl implements ExpressionLanguage {
      */
     public ExpressionLanguageJEXLImpl(final JexlEngine jexlEngine) {
         this.jexlEngine = jexlEngine;
+        this.frozen = false;
+    }
+    
+    /**
+     * 設定を変更できないスナップショットを作成するコンストラクタ。
+     * @param original コピー元のインスタンス
+     */
+    private ExpressionLanguageJEXLImpl(final ExpressionLanguageJEXLImpl original) {
+        this.jexlEngine = new FrozenJexlEngine(original.jexlEngine);
+        this.frozen = true;
+    }
+    
+    /**
+     * 現在の設定値をコピーした、設定を変更できないインスタンスを作成します。
+     * <p>登録されている関数などの設定値をコピーした{@link JexlEngine}を使用します。
+     *   コピーした{@link JexlEngine}の設定用のメソッドを呼び出すと、{@link IllegalStateException}をスローし、
+     *   {@link JexlEngine#getFunctions()}で取得した関数の定義は変更できません。
+     *   <br>そのため、コピー元の関数の登録などを変更しても、作成したインスタンスには反映されません。
+     * </p>
+     * <p>{@link org.apache.commons.jexl2.introspection.Uberspect}はコピーできないため、コピー元と共有します。
+     *   <br>解析した式のキャッシュは、作成したインスタンスごとに保持します。
+     * </p>
+     * @since 2.1
+     * @return 設定を変更できないインスタンス。既に変更できない場合は、自身のインスタンスを返します。
+     */
+    public ExpressionLanguageJEXLImpl snapshot() {
+        return frozen ? this : new ExpressionLanguageJEXLImpl(this);
+    }
+    
+    /**
+     * 設定を変更できないかどうか判定します。
+     * @since 2.1
+     * @return trueの場合、{@link #snapshot()}で作成した設定を変更できないインスタンスです。
+     */
+    public boolean isFrozen() {
+        return frozen;
     }
     
     @SuppressWarnings("unchecked")
@@ -73,4 +119,81 @@ public class ExpressionLanguageJEXLImpl implements ExpressionLanguage {
         return jexlEngine;
     }
     
+    /**
+     * 解析した式のキャッシュを取得します。
+     * <p>キャッシュの統計情報の確認などに使用します。</p>
+     * @since 2.1
+     * @return 式のキャッシュ
+     */
+    public ObjectCache<String, Expression> getExpressionCache() {
+        return expressionCache;
+    }
+    
+    /**
+     * 設定を変更できない{@link JexlEngine}。
+     * <p>コピー元の関数の定義と演算処理の設定をコピーして作成します。</p>
+     *
+     * @since 2.1
+     */
+    private static final class FrozenJexlEngine extends JexlEngine {
+        
+        private FrozenJexlEngine(final JexlEngine original) {
+            super(original.getUberspect(), copyArithmetic(original.getArithmetic()),
+                    Collections.unmodifiableMap(new HashMap<>(original.getFunctions())), null);
+            this.silent = original.isSilent();
+            this.debug = original.isDebug();
+        }
+        
+        /**
+         * 演算処理をコピーします。
+         * <p>独自に拡張した演算処理はコピーできないため、そのまま使用します。</p>
+         * @param arithmetic コピー元の演算処理
+         * @return コピーした演算処理
+         */
+        private static JexlArithmetic copyArithmetic(final JexlArithmetic arithmetic) {
+            if(arithmetic.getClass() != JexlArithmetic.class) {
+                return arithmetic;
+            }
+            
+            return new JexlArithmetic(arithmetic.isLenient(), arithmetic.getMathContext(), arithmetic.getMathScale());
+        }
+        
+        private static IllegalStateException newFrozenException(final String property) {
+            return new IllegalStateException(MessageBuilder.create("config.frozen")
+                    .var("property", property)
+                    .format());
+        }
+        
+        @Override
+        public void setDebug(boolean flag) {
+            throw newFrozenException("debug");
+        }
+        
+        @Override
+        public void setSilent(boolean flag) {
+            throw newFrozenException("silent");
+        }
+        
+        @Override
+        public void setLenient(boolean flag) {
+            throw newFrozenException("lenient");
+        }
+        
+        @Override
+        public void setClassLoader(ClassLoader loader) {
+            throw newFrozenException("classLoader");
+        }
+        
+        @Override
+        public void setCache(int size) {
+            throw newFrozenException("cache");
+        }
+        
+        @Override
+        public void setFunctions(Map<String, Object> funcs) {
+            throw newFrozenException("functions");
+        }
+        
+    }
+    
 }
@@ -1,62 +1,49 @@
 package com.gh.mygreen.xlsmapper.expression;
 
-import java.lang.ref.SoftReference;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
+import com.gh.mygreen.xlsmapper.util.ConcurrentLruCache;
 
-
-public class ObjectCache<K, V> {
-    
-    private final Map<K, SoftReference<V>> map = new HashMap<K, SoftReference<V>>();
+/**
+ * 式言語の解析結果などを保持するキャッシュ。
+ * <p>複数のスレッドから利用可能な、最大件数を持つLRU方式のキャッシュです。
+ *   <br>詳細は、{@link ConcurrentLruCache}を参照してください。
+ * </p>
+ *
+ * @param <K> キーのクラスタイプ
+ * @param <V> 値のクラスタイプ
+ * @version 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class ObjectCache<K, V> extends ConcurrentLruCache<K, V> {
     
-    private final LinkedList<V> objectsLastAccessed = new LinkedList<V>();
-    private final int objectsToKeepCount;
+    /**
+     * デフォルトの最大件数
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
     
     /**
-     * Creates a new cache keeping all objects.
+     * 最大件数が{@link #DEFAULT_MAX_SIZE}のキャッシュを作成します。
      */
     public ObjectCache() {
-        this.objectsToKeepCount = -1;
+        this(DEFAULT_MAX_SIZE);
     }
     
     /**
-     * @param maxObjectsToKeep the number of cached objects that should stay in memory when GC 
-     * starts removing SoftReferences to free memory 
+     * 最大件数を指定してキャッシュを作成します。
+     * @param maxObjectsToKeep 保持する値の最大件数。1未満の場合は、{@link #DEFAULT_MAX_SIZE}を使用します。
      */
     public ObjectCache(final int maxObjectsToKeep) {
-        this.objectsToKeepCount = maxObjectsToKeep;
+        super(maxObjectsToKeep > 0 ? maxObjectsToKeep : DEFAULT_MAX_SIZE);
     }
     
+    /**
+     * 以前のバージョンとの互換性のためのメソッドです。
+     * <p>値をソフト参照で保持しなくなったため、何も処理を行いません。</p>
+     * @deprecated 最大件数を超えた値は自動的に破棄されるため、呼び出す必要はありません。
+     */
+    @Deprecated
     public void compact() {
-        for (final Map.Entry<K, SoftReference<V>> entry : map.entrySet()) {
-            final SoftReference<V> ref = entry.getValue();
-            if (ref.get() == null) map.remove(entry.getKey());
-        }
+        // 何もしない
     }
     
-    public boolean contains(final K key) {
-        return map.containsKey(key);
-    }
-    
-    public V get(final K key) {
-        final SoftReference<V> softReference = map.get(key);
-        if (softReference != null) {
-            final V value = softReference.get();
-            if (value == null) {
-                map.remove(key);
-            } else if (objectsToKeepCount > 0 && value != objectsLastAccessed.getFirst()) {
-                objectsLastAccessed.remove(value);
-                objectsLastAccessed.addFirst(value);
-                if (objectsLastAccessed.size() > objectsToKeepCount) objectsLastAccessed.removeLast();
-            }
-            return softReference.get();
-        }
-        return null;
-    }
-    
-    public void put(final K key, final V value) {
-        map.remove(key);
-        map.put(key, new SoftReference<V>(value));
-    }
 }
@@ -1,7 +1,7 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.List;
@@ -17,6 +17,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link ArrayCommentGetter}のインスタンスを作成する。
  * 
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -77,6 +78,7 @@ public class ArrayCommentGetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle commentsFieldGetter = PropertyHandles.getter(commentsField);
         
         if(!Map.class.isAssignableFrom(commentsField.getType())) {
             return Optional.empty();
@@ -95,7 +97,7 @@ public class ArrayCommentGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        Map<String, String> commentsMapObj = (Map<String, String>) commentsField.get(beanObj);
+                        Map<String, String> commentsMapObj = (Map<String, String>) commentsFieldGetter.invoke(beanObj);
                         if(commentsMapObj == null) {
                             return Optional.empty();
                         }
@@ -103,7 +105,10 @@ public class ArrayCommentGetterFactory {
                         final String mapKey = createMapKey(fieldName, index);
                         return Optional.ofNullable(commentsMapObj.get(mapKey));
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comments field.", e);
                     }
                 }
@@ -129,6 +134,7 @@ public class ArrayCommentGetterFactory {
         } catch (NoSuchMethodException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle methodHandle = PropertyHandles.invoker(method);
         
         if(method.getReturnType().equals(String.class)) {
             return Optional.of(new ArrayCommentGetter() {
@@ -138,10 +144,13 @@ public class ArrayCommentGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        final String address = (String)method.invoke(beanObj, index);
+                        final String address = (String)methodHandle.invoke(beanObj, index);
                         return Optional.ofNullable(address);
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comments getter method.", e);
                     }
                     
@@ -166,6 +175,7 @@ public class ArrayCommentGetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle commentFieldGetter = PropertyHandles.getter(commentField);
         
         if(!List.class.isAssignableFrom(commentField.getType())) {
             return Optional.empty();
@@ -183,7 +193,7 @@ public class ArrayCommentGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        List<String> commentListObj = (List<String>) commentField.get(beanObj);
+                        List<String> commentListObj = (List<String>) commentFieldGetter.invoke(beanObj);
                         if(commentListObj == null) {
                             return Optional.empty();
                         }
@@ -196,7 +206,10 @@ public class ArrayCommentGetterFactory {
                         String comment = commentListObj.get(index);
                         return Optional.ofNullable(comment);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comment field.", e);
                     }
                 }
@@ -1,7 +1,7 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
@@ -85,6 +85,8 @@ public class ArrayCommentSetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle commentsFieldGetter = PropertyHandles.getter(commentsField);
+        final MethodHandle commentsFieldSetter = PropertyHandles.setter(commentsField);
         
         if(!Map.class.isAssignableFrom(commentsField.getType())) {
             return Optional.empty();
@@ -104,17 +106,20 @@ public class ArrayCommentSetterFactory {
                     ArgUtils.notEmpty(comment, "comment");
                     
                     try {
-                        Map<String, String> commentsMapObj = (Map<String, String>) commentsField.get(beanObj);
+                        Map<String, String> commentsMapObj = (Map<String, String>) commentsFieldGetter.invoke(beanObj);
                         if(commentsMapObj == null) {
                             commentsMapObj = new LinkedHashMap<>();
-                            commentsField.set(beanObj, commentsMapObj);
+                            commentsFieldSetter.invoke(beanObj, commentsMapObj);
                         }
                         
                         final String mapKey = createMapKey(fieldName, index);
                         
                         commentsMapObj.put(mapKey, comment);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comments field.", e);
                     }
                 }
@@ -143,6 +148,7 @@ public class ArrayCommentSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(commentMethodName, Integer.TYPE, String.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new ArrayCommentSetter() {
                 
@@ -153,9 +159,12 @@ public class ArrayCommentSetterFactory {
                     ArgUtils.notEmpty(comment, "comment");
                     
                     try {
-                        method.invoke(beanObj, index, comment);
+                        methodHandle.invoke(beanObj, index, comment);
+                        
+                    } catch (Error e) {
+                        throw e;
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comment field.", e);
                     }
                     
@@ -190,6 +199,8 @@ public class ArrayCommentSetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle commentFieldGetter = PropertyHandles.getter(commentField);
+        final MethodHandle commentFieldSetter = PropertyHandles.setter(commentField);
         
         if(!List.class.isAssignableFrom(commentField.getType())) {
             return Optional.empty();
@@ -209,15 +220,18 @@ public class ArrayCommentSetterFactory {
                     ArgUtils.notEmpty(comment, "comment");
                     
                    try {
-                       List<String> commentListObj = (List<String>) commentField.get(beanObj);
+                       List<String> commentListObj = (List<String>) commentFieldGetter.invoke(beanObj);
                        if(commentListObj == null) {
                            commentListObj = new ArrayList<>();
-                           commentField.set(beanObj, commentListObj);
+                           commentFieldSetter.invoke(beanObj, commentListObj);
                        }
                        
                        Utils.addListWithIndex(commentListObj, comment, index);
                        
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comment field.", e);
                     }
                 }
@@ -1,7 +1,7 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
@@ -19,6 +19,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link ArrayLabelSetter}のインスタンスを作成する
  *
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -85,6 +86,8 @@ public class ArrayLabelSetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle labelsFieldGetter = PropertyHandles.getter(labelsField);
+        final MethodHandle labelsFieldSetter = PropertyHandles.setter(labelsField);
         
         if(!Map.class.isAssignableFrom(labelsField.getType())) {
             return Optional.empty();
@@ -104,17 +107,20 @@ public class ArrayLabelSetterFactory {
                     ArgUtils.notEmpty(label, "label");
                     
                     try {
-                        Map<String, String> labelsMapObj = (Map<String, String>) labelsField.get(beanObj);
+                        Map<String, String> labelsMapObj = (Map<String, String>) labelsFieldGetter.invoke(beanObj);
                         if(labelsMapObj == null) {
                             labelsMapObj = new LinkedHashMap<>();
-                            labelsField.set(beanObj, labelsMapObj);
+                            labelsFieldSetter.invoke(beanObj, labelsMapObj);
                         }
                         
                         final String mapKey = createMapKey(fieldName, index);
                         
                         labelsMapObj.put(mapKey, label);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access labels field.", e);
                     }
                 }
@@ -143,6 +149,7 @@ public class ArrayLabelSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(labelMethodName, Integer.TYPE, String.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new ArrayLabelSetter() {
                 
@@ -153,9 +160,12 @@ public class ArrayLabelSetterFactory {
                     ArgUtils.notEmpty(label, "label");
                     
                     try {
-                        method.invoke(beanObj, index, label);
+                        methodHandle.invoke(beanObj, index, label);
+                        
+                    } catch (Error e) {
+                        throw e;
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access label field.", e);
                     }
                     
@@ -190,6 +200,8 @@ public class ArrayLabelSetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle labelFieldGetter = PropertyHandles.getter(labelField);
+        final MethodHandle labelFieldSetter = PropertyHandles.setter(labelField);
         
         if(!List.class.isAssignableFrom(labelField.getType())) {
             return Optional.empty();
@@ -209,15 +221,18 @@ public class ArrayLabelSetterFactory {
                     ArgUtils.notEmpty(label, "label");
                     
                    try {
-                       List<String> labelListObj = (List<String>) labelField.get(beanObj);
+                       List<String> labelListObj = (List<String>) labelFieldGetter.invoke(beanObj);
                        if(labelListObj == null) {
                            labelListObj = new ArrayList<>();
-                           labelField.set(beanObj, labelListObj);
+                           labelFieldSetter.invoke(beanObj, labelListObj);
                        }
                        
                        Utils.addListWithIndex(labelListObj, label, index);
                        
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access label field.", e);
                     }
                 }
@@ -1,8 +1,8 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
 import java.awt.Point;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
@@ -22,6 +22,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link ArrayPositionSetter}のインスタンスを作成する
  *
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -89,6 +90,8 @@ public class ArrayPositionSetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle positionsFieldGetter = PropertyHandles.getter(positionsField);
+        final MethodHandle positionsFieldSetter = PropertyHandles.setter(positionsField);
         
         if(!Map.class.isAssignableFrom(positionsField.getType())) {
             return Optional.empty();
@@ -108,17 +111,20 @@ public class ArrayPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        Map<String, CellPosition> positionsMapObj = (Map<String, CellPosition>) positionsField.get(beanObj);
+                        Map<String, CellPosition> positionsMapObj = (Map<String, CellPosition>) positionsFieldGetter.invoke(beanObj);
                         if(positionsMapObj == null) {
                             positionsMapObj = new LinkedHashMap<>();
-                            positionsField.set(beanObj, positionsMapObj);
+                            positionsFieldSetter.invoke(beanObj, positionsMapObj);
                         }
                         
                         final String mapKey = createMapKey(fieldName, index);
                         
                         positionsMapObj.put(mapKey, position);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions field.", e);
                     }
                 }
@@ -135,16 +141,19 @@ public class ArrayPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        Map<String, Point> positionsMapObj = (Map<String, Point>) positionsField.get(beanObj);
+                        Map<String, Point> positionsMapObj = (Map<String, Point>) positionsFieldGetter.invoke(beanObj);
                         if(positionsMapObj == null) {
                             positionsMapObj = new LinkedHashMap<>();
-                            positionsField.set(beanObj, positionsMapObj);
+                            positionsFieldSetter.invoke(beanObj, positionsMapObj);
                         }
                         
                         final String mapKey = createMapKey(fieldName, index);
                         positionsMapObj.put(mapKey, position.toPoint());
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions field.", e);
                     }
                 }
@@ -162,16 +171,19 @@ public class ArrayPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        Map<String, CellAddress> positionsMapObj = (Map<String, CellAddress>) positionsField.get(beanObj);
+                        Map<String, CellAddress> positionsMapObj = (Map<String, CellAddress>) positionsFieldGetter.invoke(beanObj);
                         if(positionsMapObj == null) {
                             positionsMapObj = new LinkedHashMap<>();
-                            positionsField.set(beanObj, positionsMapObj);
+                            positionsFieldSetter.invoke(beanObj, positionsMapObj);
                         }
                         
                         final String mapKey = createMapKey(fieldName, index);
                         positionsMapObj.put(mapKey, position.toCellAddress());
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions field.", e);
                     }
                 }
@@ -202,6 +214,7 @@ public class ArrayPositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, Integer.TYPE, CellPosition.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new ArrayPositionSetter() {
                 
@@ -212,9 +225,12 @@ public class ArrayPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        method.invoke(beanObj, index, position);
+                        methodHandle.invoke(beanObj, index, position);
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -228,6 +244,7 @@ public class ArrayPositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, Integer.TYPE, Point.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new ArrayPositionSetter() {
                 
@@ -238,9 +255,12 @@ public class ArrayPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        method.invoke(beanObj, index, position.toPoint());
+                        methodHandle.invoke(beanObj, index, position.toPoint());
+                        
+                    } catch (Error e) {
+                        throw e;
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -254,6 +274,7 @@ public class ArrayPositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, Integer.TYPE, CellAddress.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new ArrayPositionSetter() {
                 
@@ -264,9 +285,12 @@ public class ArrayPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        method.invoke(beanObj, index, position.toCellAddress());
+                        methodHandle.invoke(beanObj, index, position.toCellAddress());
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -280,6 +304,7 @@ public class ArrayPositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, Integer.TYPE, Integer.TYPE, Integer.TYPE);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new ArrayPositionSetter() {
                 
@@ -290,9 +315,12 @@ public class ArrayPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        method.invoke(beanObj, index, position.getColumn(), position.getRow());
+                        methodHandle.invoke(beanObj, index, position.getColumn(), position.getRow());
+                        
+                    } catch (Error e) {
+                        throw e;
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -328,6 +356,8 @@ public class ArrayPositionSetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle positionFieldGetter = PropertyHandles.getter(positionField);
+        final MethodHandle positionFieldSetter = PropertyHandles.setter(positionField);
         
         if(!List.class.isAssignableFrom(positionField.getType())) {
             return Optional.empty();
@@ -347,15 +377,18 @@ public class ArrayPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                    try {
-                       List<CellPosition> positionListObj = (List<CellPosition>) positionField.get(beanObj);
+                       List<CellPosition> positionListObj = (List<CellPosition>) positionFieldGetter.invoke(beanObj);
                        if(positionListObj == null) {
                            positionListObj = new ArrayList<>();
-                           positionField.set(beanObj, positionListObj);
+                           positionFieldSetter.invoke(beanObj, positionListObj);
                        }
                        
                        Utils.addListWithIndex(positionListObj, position, index);
                        
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                 }
@@ -372,16 +405,19 @@ public class ArrayPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        List<Point> positionListObj = (List<Point>) positionField.get(beanObj);
+                        List<Point> positionListObj = (List<Point>) positionFieldGetter.invoke(beanObj);
                         if(positionListObj == null) {
                             positionListObj = new ArrayList<>();
-                            positionField.set(beanObj, positionListObj);
+                            positionFieldSetter.invoke(beanObj, positionListObj);
                         }
                         
                         
                         Utils.addListWithIndex(positionListObj, position.toPoint(), index);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                 }
@@ -398,15 +434,18 @@ public class ArrayPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        List<CellAddress> positionListObj = (List<CellAddress>) positionField.get(beanObj);
+                        List<CellAddress> positionListObj = (List<CellAddress>) positionFieldGetter.invoke(beanObj);
                         if(positionListObj == null) {
                             positionListObj = new ArrayList<>();
-                            positionField.set(beanObj, positionListObj);
+                            positionFieldSetter.invoke(beanObj, positionListObj);
                         }
                         
                         Utils.addListWithIndex(positionListObj, position.toCellAddress(), index);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                 }
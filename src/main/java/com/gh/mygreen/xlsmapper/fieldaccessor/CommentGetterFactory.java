@@ -1,7 +1,7 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.Map;
@@ -16,6 +16,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link CommentGetter}のインスタンスを作成する。
  * 
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -72,6 +73,7 @@ public class CommentGetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle commentsFieldGetter = PropertyHandles.getter(commentsField);
         
         if(!Map.class.isAssignableFrom(commentsField.getType())) {
             return Optional.empty();
@@ -90,14 +92,17 @@ public class CommentGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        Map<String, String> commentsMapObj = (Map<String, String>) commentsField.get(beanObj);
+                        Map<String, String> commentsMapObj = (Map<String, String>) commentsFieldGetter.invoke(beanObj);
                         if(commentsMapObj == null) {
                             return Optional.empty();
                         }
                         
                         return Optional.ofNullable(commentsMapObj.get(fieldName));
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comments field.", e);
                     }
                 }
@@ -123,6 +128,7 @@ public class CommentGetterFactory {
         } catch (NoSuchMethodException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle methodHandle = PropertyHandles.invoker(method);
         
         if(method.getReturnType().equals(String.class)) {
             return Optional.of(new CommentGetter() {
@@ -132,10 +138,13 @@ public class CommentGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        final String address = (String)method.invoke(beanObj);
+                        final String address = (String)methodHandle.invoke(beanObj);
                         return Optional.ofNullable(address);
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comments getter method.", e);
                     }
                     
@@ -160,6 +169,7 @@ public class CommentGetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle commentFieldGetter = PropertyHandles.getter(commentField);
         
         if(commentField.getType().equals(String.class)) {
             
@@ -170,10 +180,13 @@ public class CommentGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        final String comment = (String) commentField.get(beanObj);
+                        final String comment = (String) commentFieldGetter.invoke(beanObj);
                         return Optional.ofNullable(comment);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comment field.", e);
                     }
                 }
@@ -1,8 +1,8 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
 import java.awt.Point;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.LinkedHashMap;
@@ -19,6 +19,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link CommentSetter}のインスタンスを作成する
  * 
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -82,6 +83,8 @@ public class CommentSetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle commentFieldGetter = PropertyHandles.getter(commentField);
+        final MethodHandle commentFieldSetter = PropertyHandles.setter(commentField);
         
         if(!Map.class.isAssignableFrom(commentField.getType())) {
             return Optional.empty();
@@ -101,15 +104,18 @@ public class CommentSetterFactory {
                     ArgUtils.notEmpty(comment, "comment");
                     
                     try {
-                        Map<String, String> commentsMapObj = (Map<String, String>) commentField.get(beanObj);
+                        Map<String, String> commentsMapObj = (Map<String, String>) commentFieldGetter.invoke(beanObj);
                         if(commentsMapObj == null) {
                             commentsMapObj = new LinkedHashMap<>();
-                            commentField.set(beanObj, commentsMapObj);
+                            commentFieldSetter.invoke(beanObj, commentsMapObj);
                         }
                         
                         commentsMapObj.put(fieldName, comment);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comments field.", e);
                     }
                 }
@@ -139,6 +145,7 @@ public class CommentSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(commentMethodName, String.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new CommentSetter() {
                 
@@ -149,9 +156,12 @@ public class CommentSetterFactory {
                     ArgUtils.notEmpty(comment, "comment");
                     
                     try {
-                        method.invoke(beanObj, comment);
+                        methodHandle.invoke(beanObj, comment);
+                        
+                    } catch (Error e) {
+                        throw e;
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comments field.", e);
                     }
                     
@@ -187,6 +197,7 @@ public class CommentSetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle commentFieldSetter = PropertyHandles.setter(commentField);
         
         if(commentField.getType().equals(String.class)) {
             
@@ -198,8 +209,11 @@ public class CommentSetterFactory {
                     ArgUtils.notNull(comment, "comment");
                     
                     try {
-                        commentField.set(beanObj, comment);
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                        commentFieldSetter.invoke(beanObj, comment);
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comment field.", e);
                     }
                 }
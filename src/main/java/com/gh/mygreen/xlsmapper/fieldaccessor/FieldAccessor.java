@@ -1,8 +1,8 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
@@ -54,6 +54,20 @@ public class FieldAccessor {
      */
     Optional<Method> targetSetter = Optional.empty();
     
+    /**
+     * 値を取得するためのハンドル。
+     * <p>getterメソッドが存在する場合はgetterメソッド、存在しない場合はフィールドから作成します。</p>
+     * @since 2.1
+     */
+    Optional<MethodHandle> getterHandle = Optional.empty();
+    
+    /**
+     * 値を設定するためのハンドル。
+     * <p>setterメソッドが存在する場合はsetterメソッド、存在しない場合はフィールドから作成します。</p>
+     * @since 2.1
+     */
+    Optional<MethodHandle> setterHandle = Optional.empty();
+    
     /**
      * フィールドのタイプがListや配列の時の要素のクラスタイプ
      */
@@ -138,6 +152,33 @@ public class FieldAccessor {
         
     }
     
+    /**
+     * 値を取得／設定するためのハンドルを作成します。
+     * <p>{@link FieldAccessorFactory}により、フィールド、メソッドの情報を設定した後に呼び出されます。</p>
+     * @since 2.1
+     */
+    void initHandles() {
+        
+        if(targetGetter.isPresent()) {
+            targetGetter.get().setAccessible(true);
+            this.getterHandle = Optional.of(PropertyHandles.invoker(targetGetter.get()));
+            
+        } else if(targetField.isPresent()) {
+            targetField.get().setAccessible(true);
+            this.getterHandle = Optional.of(PropertyHandles.getter(targetField.get()));
+        }
+        
+        if(targetSetter.isPresent()) {
+            targetSetter.get().setAccessible(true);
+            this.setterHandle = Optional.of(PropertyHandles.invoker(targetSetter.get()));
+            
+        } else if(targetField.isPresent()) {
+            targetField.get().setAccessible(true);
+            this.setterHandle = Optional.of(PropertyHandles.setter(targetField.get()));
+        }
+        
+    }
+    
     /**
      * フィールドとメソッドに同じアノテーションが付与されているときに重複を除外するための判定に使用する。
      * そのため、{@link FieldAccessor#getNameWithClass()}が等しいかで判定します。
@@ -194,22 +235,19 @@ public class FieldAccessor {
         
         ArgUtils.notNull(targetObj, "targetObj");
         
-        if(targetGetter.isPresent()) {
-            try {
-                return targetGetter.get().invoke(targetObj);
-            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                throw new FieldAccessException(this, "fail getter value", e);
-            }
+        if(!getterHandle.isPresent()) {
+            throw new FieldAccessException(this, "not found getter method or field.");
+        }
+        
+        // getterメソッドとフィールドのどちらの場合も、ハンドルの呼び出し方は同じ
+        try {
+            return getterHandle.get().invoke(targetObj);
             
-        } else if(targetField.isPresent()) {
-            try {
-                return targetField.get().get(targetObj);
-            } catch (IllegalArgumentException | IllegalAccessException e) {
-                throw new FieldAccessException(this, "fail get field value", e);
-            }
+        } catch (Error e) {
+            throw e;
             
-        } else {
-            throw new FieldAccessException(this, "not found getter method or field.");
+        } catch (Throwable e) {
+            throw new FieldAccessException(this, targetGetter.isPresent() ? "fail getter value" : "fail get field value", e);
         }
         
     }
@@ -226,23 +264,19 @@ public class FieldAccessor {
     public void setValue(final Object targetObj, final Object value) {
         ArgUtils.notNull(targetObj, "targetObj");
         
-        if(targetSetter.isPresent()) {
-            try {
-                targetSetter.get().invoke(targetObj, value);
-            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                throw new FieldAccessException(this, "fail setter value", e);
-            }
+        if(!setterHandle.isPresent()) {
+            throw new FieldAccessException(this, "not found setter method or field.");
+        }
+        
+        // setterメソッドとフィールドのどちらの場合も、ハンドルの呼び出し方は同じ
+        try {
+            setterHandle.get().invoke(targetObj, value);
             
-        } else if(targetField.isPresent()) {
-            try {
-                targetField.get().set(targetObj, value);
-                
-            } catch (IllegalArgumentException | IllegalAccessException e) {
-                throw new FieldAccessException(this, "fail setter field value", e);
-            }
+        } catch (Error e) {
+            throw e;
             
-        } else {
-            throw new FieldAccessException(this, "not found setter method or field.");
+        } catch (Throwable e) {
+            throw new FieldAccessException(this, targetSetter.isPresent() ? "fail setter value" : "fail setter field value", e);
         }
     }
     
@@ -155,6 +155,8 @@ public class FieldAccessorFactory {
 
         }
 
+        accessor.initHandles();
+
         return accessor;
     }
 
@@ -286,6 +288,7 @@ public class FieldAccessorFactory {
 
         }
 
+        accessor.initHandles();
 
         return accessor;
     }
@@ -1,7 +1,7 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.Map;
@@ -16,6 +16,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link LabelGetter}のインスタンスを作成する。
  * 
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -72,6 +73,7 @@ public class LabelGetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle labelsFieldGetter = PropertyHandles.getter(labelsField);
         
         if(!Map.class.isAssignableFrom(labelsField.getType())) {
             return Optional.empty();
@@ -90,14 +92,17 @@ public class LabelGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        Map<String, String> labelsMapObj = (Map<String, String>) labelsField.get(beanObj);
+                        Map<String, String> labelsMapObj = (Map<String, String>) labelsFieldGetter.invoke(beanObj);
                         if(labelsMapObj == null) {
                             return Optional.empty();
                         }
                         
                         return Optional.ofNullable(labelsMapObj.get(fieldName));
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access labels field.", e);
                     }
                 }
@@ -123,6 +128,7 @@ public class LabelGetterFactory {
         } catch (NoSuchMethodException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle methodHandle = PropertyHandles.invoker(method);
         
         if(method.getReturnType().equals(String.class)) {
             return Optional.of(new LabelGetter() {
@@ -132,10 +138,13 @@ public class LabelGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        final String address = (String)method.invoke(beanObj);
+                        final String address = (String)methodHandle.invoke(beanObj);
                         return Optional.ofNullable(address);
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access labels getter method.", e);
                     }
                     
@@ -160,6 +169,7 @@ public class LabelGetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle labelFieldGetter = PropertyHandles.getter(labelField);
         
         if(labelField.getType().equals(String.class)) {
             
@@ -170,10 +180,13 @@ public class LabelGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        final String address = (String) labelField.get(beanObj);
+                        final String address = (String) labelFieldGetter.invoke(beanObj);
                         return Optional.ofNullable(address);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access label field.", e);
                     }
                 }
@@ -1,8 +1,8 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
 import java.awt.Point;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.LinkedHashMap;
@@ -19,6 +19,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link LabelSetter}のインスタンスを作成する
  * 
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -82,6 +83,8 @@ public class LabelSetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle labelFieldGetter = PropertyHandles.getter(labelField);
+        final MethodHandle labelFieldSetter = PropertyHandles.setter(labelField);
         
         if(!Map.class.isAssignableFrom(labelField.getType())) {
             return Optional.empty();
@@ -101,15 +104,18 @@ public class LabelSetterFactory {
                     ArgUtils.notEmpty(label, "label");
                     
                     try {
-                        Map<String, String> labelsMapObj = (Map<String, String>) labelField.get(beanObj);
+                        Map<String, String> labelsMapObj = (Map<String, String>) labelFieldGetter.invoke(beanObj);
                         if(labelsMapObj == null) {
                             labelsMapObj = new LinkedHashMap<>();
-                            labelField.set(beanObj, labelsMapObj);
+                            labelFieldSetter.invoke(beanObj, labelsMapObj);
                         }
                         
                         labelsMapObj.put(fieldName, label);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access labels field.", e);
                     }
                 }
@@ -139,6 +145,7 @@ public class LabelSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(labelMethodName, String.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new LabelSetter() {
                 
@@ -149,9 +156,12 @@ public class LabelSetterFactory {
                     ArgUtils.notEmpty(label, "label");
                     
                     try {
-                        method.invoke(beanObj, label);
+                        methodHandle.invoke(beanObj, label);
+                        
+                    } catch (Error e) {
+                        throw e;
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access labels field.", e);
                     }
                     
@@ -187,6 +197,7 @@ public class LabelSetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle labelFieldSetter = PropertyHandles.setter(labelField);
         
         if(labelField.getType().equals(String.class)) {
             
@@ -198,8 +209,11 @@ public class LabelSetterFactory {
                     ArgUtils.notNull(label, "label");
                     
                     try {
-                        labelField.set(beanObj, label);
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                        labelFieldSetter.invoke(beanObj, label);
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access label field.", e);
                     }
                 }
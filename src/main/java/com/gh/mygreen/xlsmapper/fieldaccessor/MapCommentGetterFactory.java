@@ -1,7 +1,7 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.Map;
@@ -76,6 +76,7 @@ public class MapCommentGetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle commentsFieldGetter = PropertyHandles.getter(commentsField);
         
         if(!Map.class.isAssignableFrom(commentsField.getType())) {
             return Optional.empty();
@@ -94,7 +95,7 @@ public class MapCommentGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        Map<String, String> commentsMapObj = (Map<String, String>) commentsField.get(beanObj);
+                        Map<String, String> commentsMapObj = (Map<String, String>) commentsFieldGetter.invoke(beanObj);
                         if(commentsMapObj == null) {
                             return Optional.empty();
                         }
@@ -103,7 +104,10 @@ public class MapCommentGetterFactory {
                         
                         return Optional.ofNullable(commentsMapObj.get(mapKey));
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comments field.", e);
                     }
                 }
@@ -129,6 +133,7 @@ public class MapCommentGetterFactory {
         } catch (NoSuchMethodException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle methodHandle = PropertyHandles.invoker(method);
         
         if(method.getReturnType().equals(String.class)) {
             return Optional.of(new MapCommentGetter() {
@@ -138,10 +143,13 @@ public class MapCommentGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        final String address = (String)method.invoke(beanObj, key);
+                        final String address = (String)methodHandle.invoke(beanObj, key);
                         return Optional.ofNullable(address);
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comments getter method.", e);
                     }
                     
@@ -166,6 +174,7 @@ public class MapCommentGetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle commentFieldGetter = PropertyHandles.getter(commentField);
         
         if(!Map.class.isAssignableFrom(commentField.getType())) {
             return Optional.empty();
@@ -184,7 +193,7 @@ public class MapCommentGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        Map<String, String> commentMapObj = (Map<String, String>) commentField.get(beanObj);
+                        Map<String, String> commentMapObj = (Map<String, String>) commentFieldGetter.invoke(beanObj);
                         if(commentMapObj == null) {
                             return Optional.empty();
                         }
@@ -192,7 +201,10 @@ public class MapCommentGetterFactory {
                         final String comment = commentMapObj.get(key);
                         return Optional.ofNullable(comment);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comment field.", e);
                     }
                 }
@@ -1,7 +1,7 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.LinkedHashMap;
@@ -83,6 +83,8 @@ public class MapCommentSetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle commentsFieldGetter = PropertyHandles.getter(commentsField);
+        final MethodHandle commentsFieldSetter = PropertyHandles.setter(commentsField);
         
         if(!Map.class.isAssignableFrom(commentsField.getType())) {
             return Optional.empty();
@@ -102,17 +104,20 @@ public class MapCommentSetterFactory {
                     ArgUtils.notEmpty(comment, "comment");
                     
                     try {
-                        Map<String, String> commentsMapObj = (Map<String, String>) commentsField.get(beanObj);
+                        Map<String, String> commentsMapObj = (Map<String, String>) commentsFieldGetter.invoke(beanObj);
                         if(commentsMapObj == null) {
                             commentsMapObj = new LinkedHashMap<>();
-                            commentsField.set(beanObj, commentsMapObj);
+                            commentsFieldSetter.invoke(beanObj, commentsMapObj);
                         }
                         
                         final String mapKey = createMapKey(fieldName, key);
                         
                         commentsMapObj.put(mapKey, comment);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comments field.", e);
                     }
                 }
@@ -141,6 +146,7 @@ public class MapCommentSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(commentMethodName, String.class, String.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new MapCommentSetter() {
                 
@@ -151,9 +157,12 @@ public class MapCommentSetterFactory {
                     ArgUtils.notEmpty(comment, "comment");
                     
                     try {
-                        method.invoke(beanObj, key, comment);
+                        methodHandle.invoke(beanObj, key, comment);
+                        
+                    } catch (Error e) {
+                        throw e;
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comment field.", e);
                     }
                     
@@ -188,6 +197,8 @@ public class MapCommentSetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle commentFieldGetter = PropertyHandles.getter(commentField);
+        final MethodHandle commentFieldSetter = PropertyHandles.setter(commentField);
         
         if(!Map.class.isAssignableFrom(commentField.getType())) {
             return Optional.empty();
@@ -208,16 +219,19 @@ public class MapCommentSetterFactory {
                     ArgUtils.notEmpty(comment, "comment");
                     
                    try {
-                       Map<String, String> commentMapObj = (Map<String, String>) commentField.get(beanObj);
+                       Map<String, String> commentMapObj = (Map<String, String>) commentFieldGetter.invoke(beanObj);
                        if(commentMapObj == null) {
                            commentMapObj = new LinkedHashMap<>();
-                           commentField.set(beanObj, commentMapObj);
+                           commentFieldSetter.invoke(beanObj, commentMapObj);
                        }
                        
                        
                        commentMapObj.put(key, comment);
                        
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access comment field.", e);
                     }
                 }
@@ -1,7 +1,7 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.LinkedHashMap;
@@ -17,6 +17,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link MapLabelSetter}のインスタンスを作成する
  *
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -83,6 +84,8 @@ public class MapLabelSetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle labelsFieldGetter = PropertyHandles.getter(labelsField);
+        final MethodHandle labelsFieldSetter = PropertyHandles.setter(labelsField);
         
         if(!Map.class.isAssignableFrom(labelsField.getType())) {
             return Optional.empty();
@@ -102,17 +105,20 @@ public class MapLabelSetterFactory {
                     ArgUtils.notEmpty(label, "label");
                     
                     try {
-                        Map<String, String> labelsMapObj = (Map<String, String>) labelsField.get(beanObj);
+                        Map<String, String> labelsMapObj = (Map<String, String>) labelsFieldGetter.invoke(beanObj);
                         if(labelsMapObj == null) {
                             labelsMapObj = new LinkedHashMap<>();
-                            labelsField.set(beanObj, labelsMapObj);
+                            labelsFieldSetter.invoke(beanObj, labelsMapObj);
                         }
                         
                         final String mapKey = createMapKey(fieldName, key);
                         
                         labelsMapObj.put(mapKey, label);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access labels field.", e);
                     }
                 }
@@ -141,6 +147,7 @@ public class MapLabelSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(labelMethodName, String.class, String.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new MapLabelSetter() {
                 
@@ -151,9 +158,12 @@ public class MapLabelSetterFactory {
                     ArgUtils.notEmpty(label, "label");
                     
                     try {
-                        method.invoke(beanObj, key, label);
+                        methodHandle.invoke(beanObj, key, label);
+                        
+                    } catch (Error e) {
+                        throw e;
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access label field.", e);
                     }
                     
@@ -188,6 +198,8 @@ public class MapLabelSetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle labelFieldGetter = PropertyHandles.getter(labelField);
+        final MethodHandle labelFieldSetter = PropertyHandles.setter(labelField);
         
         if(!Map.class.isAssignableFrom(labelField.getType())) {
             return Optional.empty();
@@ -208,16 +220,19 @@ public class MapLabelSetterFactory {
                     ArgUtils.notEmpty(label, "label");
                     
                    try {
-                       Map<String, String> labelMapObj = (Map<String, String>) labelField.get(beanObj);
+                       Map<String, String> labelMapObj = (Map<String, String>) labelFieldGetter.invoke(beanObj);
                        if(labelMapObj == null) {
                            labelMapObj = new LinkedHashMap<>();
-                           labelField.set(beanObj, labelMapObj);
+                           labelFieldSetter.invoke(beanObj, labelMapObj);
                        }
                        
                        
                        labelMapObj.put(key, label);
                        
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access label field.", e);
                     }
                 }
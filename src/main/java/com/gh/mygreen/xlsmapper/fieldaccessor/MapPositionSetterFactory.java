@@ -1,8 +1,8 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
 import java.awt.Point;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.LinkedHashMap;
@@ -20,6 +20,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link MapPositionSetter}のインスタンスを作成する
  *
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -87,6 +88,8 @@ public class MapPositionSetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle positionsFieldGetter = PropertyHandles.getter(positionsField);
+        final MethodHandle positionsFieldSetter = PropertyHandles.setter(positionsField);
         
         if(!Map.class.isAssignableFrom(positionsField.getType())) {
             return Optional.empty();
@@ -106,17 +109,20 @@ public class MapPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        Map<String, CellPosition> positionsMapObj = (Map<String, CellPosition>) positionsField.get(beanObj);
+                        Map<String, CellPosition> positionsMapObj = (Map<String, CellPosition>) positionsFieldGetter.invoke(beanObj);
                         if(positionsMapObj == null) {
                             positionsMapObj = new LinkedHashMap<>();
-                            positionsField.set(beanObj, positionsMapObj);
+                            positionsFieldSetter.invoke(beanObj, positionsMapObj);
                         }
                         
                         final String mapKey = createMapKey(fieldName, key);
                         
                         positionsMapObj.put(mapKey, position);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions field.", e);
                     }
                 }
@@ -133,16 +139,19 @@ public class MapPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        Map<String, Point> positionsMapObj = (Map<String, Point>) positionsField.get(beanObj);
+                        Map<String, Point> positionsMapObj = (Map<String, Point>) positionsFieldGetter.invoke(beanObj);
                         if(positionsMapObj == null) {
                             positionsMapObj = new LinkedHashMap<>();
-                            positionsField.set(beanObj, positionsMapObj);
+                            positionsFieldSetter.invoke(beanObj, positionsMapObj);
                         }
                         
                         final String mapKey = createMapKey(fieldName, key);
                         positionsMapObj.put(mapKey, position.toPoint());
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions field.", e);
                     }
                 }
@@ -160,16 +169,19 @@ public class MapPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        Map<String, CellAddress> positionsMapObj = (Map<String, CellAddress>) positionsField.get(beanObj);
+                        Map<String, CellAddress> positionsMapObj = (Map<String, CellAddress>) positionsFieldGetter.invoke(beanObj);
                         if(positionsMapObj == null) {
                             positionsMapObj = new LinkedHashMap<>();
-                            positionsField.set(beanObj, positionsMapObj);
+                            positionsFieldSetter.invoke(beanObj, positionsMapObj);
                         }
                         
                         final String mapKey = createMapKey(fieldName, key);
                         positionsMapObj.put(mapKey, position.toCellAddress());
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions field.", e);
                     }
                 }
@@ -200,6 +212,7 @@ public class MapPositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, String.class, CellPosition.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new MapPositionSetter() {
                 
@@ -210,9 +223,12 @@ public class MapPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        method.invoke(beanObj, key, position);
+                        methodHandle.invoke(beanObj, key, position);
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -226,6 +242,7 @@ public class MapPositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, String.class, Point.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new MapPositionSetter() {
                 
@@ -236,9 +253,12 @@ public class MapPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        method.invoke(beanObj, key, position.toPoint());
+                        methodHandle.invoke(beanObj, key, position.toPoint());
+                        
+                    } catch (Error e) {
+                        throw e;
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -252,6 +272,7 @@ public class MapPositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, String.class, CellAddress.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new MapPositionSetter() {
                 
@@ -262,9 +283,12 @@ public class MapPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        method.invoke(beanObj, key, position.toCellAddress());
+                        methodHandle.invoke(beanObj, key, position.toCellAddress());
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -278,6 +302,7 @@ public class MapPositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, String.class, Integer.TYPE, Integer.TYPE);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new MapPositionSetter() {
                 
@@ -288,9 +313,12 @@ public class MapPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        method.invoke(beanObj, key, position.getColumn(), position.getRow());
+                        methodHandle.invoke(beanObj, key, position.getColumn(), position.getRow());
+                        
+                    } catch (Error e) {
+                        throw e;
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -326,6 +354,8 @@ public class MapPositionSetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle positionFieldGetter = PropertyHandles.getter(positionField);
+        final MethodHandle positionFieldSetter = PropertyHandles.setter(positionField);
         
         if(!Map.class.isAssignableFrom(positionField.getType())) {
             return Optional.empty();
@@ -346,15 +376,18 @@ public class MapPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                    try {
-                       Map<String, CellPosition> positionMapObj = (Map<String, CellPosition>) positionField.get(beanObj);
+                       Map<String, CellPosition> positionMapObj = (Map<String, CellPosition>) positionFieldGetter.invoke(beanObj);
                        if(positionMapObj == null) {
                            positionMapObj = new LinkedHashMap<>();
-                           positionField.set(beanObj, positionMapObj);
+                           positionFieldSetter.invoke(beanObj, positionMapObj);
                        }
                        
                        positionMapObj.put(key, position);
                        
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                 }
@@ -371,16 +404,19 @@ public class MapPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        Map<String, Point> positionMapObj = (Map<String, Point>) positionField.get(beanObj);
+                        Map<String, Point> positionMapObj = (Map<String, Point>) positionFieldGetter.invoke(beanObj);
                         if(positionMapObj == null) {
                             positionMapObj = new LinkedHashMap<>();
-                            positionField.set(beanObj, positionMapObj);
+                            positionFieldSetter.invoke(beanObj, positionMapObj);
                         }
                         
                         
                         positionMapObj.put(key, position.toPoint());
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                 }
@@ -397,16 +433,19 @@ public class MapPositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        Map<String, CellAddress> positionMapObj = (Map<String, CellAddress>) positionField.get(beanObj);
+                        Map<String, CellAddress> positionMapObj = (Map<String, CellAddress>) positionFieldGetter.invoke(beanObj);
                         if(positionMapObj == null) {
                             positionMapObj = new LinkedHashMap<>();
-                            positionField.set(beanObj, positionMapObj);
+                            positionFieldSetter.invoke(beanObj, positionMapObj);
                         }
                         
                         
                         positionMapObj.put(key, position.toCellAddress());
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                 }
@@ -1,8 +1,8 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
 import java.awt.Point;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.Map;
@@ -18,6 +18,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link PositionGetter}のインスタンスを作成する
  * 
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -74,6 +75,7 @@ public class PositionGetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle positionsFieldGetter = PropertyHandles.getter(positionsField);
         
         if(!Map.class.isAssignableFrom(positionsField.getType())) {
             return Optional.empty();
@@ -92,14 +94,17 @@ public class PositionGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        Map<String, CellPosition> positionsMapObj = (Map<String, CellPosition>) positionsField.get(beanObj);
+                        Map<String, CellPosition> positionsMapObj = (Map<String, CellPosition>) positionsFieldGetter.invoke(beanObj);
                         if(positionsMapObj == null) {
                             return Optional.empty();
                         }
                         
                         return Optional.ofNullable(positionsMapObj.get(fieldName));
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions field.", e);
                     }
                 }
@@ -115,7 +120,7 @@ public class PositionGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        Map<String, Point> positionsMapObj = (Map<String, Point>) positionsField.get(beanObj);
+                        Map<String, Point> positionsMapObj = (Map<String, Point>) positionsFieldGetter.invoke(beanObj);
                         if(positionsMapObj == null) {
                             return Optional.empty();
                         }
@@ -123,7 +128,10 @@ public class PositionGetterFactory {
                         return Optional.ofNullable(positionsMapObj.get(fieldName))
                                 .map(a -> CellPosition.of(a));
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions field.", e);
                     }
                 }
@@ -140,7 +148,7 @@ public class PositionGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        Map<String, org.apache.poi.ss.util.CellAddress> positionsMapObj = (Map<String, org.apache.poi.ss.util.CellAddress>) positionsField.get(beanObj);
+                        Map<String, org.apache.poi.ss.util.CellAddress> positionsMapObj = (Map<String, org.apache.poi.ss.util.CellAddress>) positionsFieldGetter.invoke(beanObj);
                         if(positionsMapObj == null) {
                             return Optional.empty();
                         }
@@ -148,7 +156,10 @@ public class PositionGetterFactory {
                         return Optional.ofNullable(positionsMapObj.get(fieldName))
                                 .map(a -> CellPosition.of(a));
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions field.", e);
                     }
                 }
@@ -175,6 +186,7 @@ public class PositionGetterFactory {
         } catch (NoSuchMethodException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle methodHandle = PropertyHandles.invoker(method);
         
         if(method.getReturnType().equals(CellPosition.class)) {
             return Optional.of(new PositionGetter() {
@@ -184,10 +196,13 @@ public class PositionGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        final CellPosition address = (CellPosition)method.invoke(beanObj);
+                        final CellPosition address = (CellPosition)methodHandle.invoke(beanObj);
                         return Optional.ofNullable(address);
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions getter method.", e);
                     }
                     
@@ -202,10 +217,13 @@ public class PositionGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        final Point point = (Point)method.invoke(beanObj);
+                        final Point point = (Point)methodHandle.invoke(beanObj);
                         return Optional.ofNullable(point).map(p -> CellPosition.of(p));
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions getter method.", e);
                     }
                     
@@ -220,10 +238,13 @@ public class PositionGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        final org.apache.poi.ss.util.CellAddress address = (org.apache.poi.ss.util.CellAddress)method.invoke(beanObj);
+                        final org.apache.poi.ss.util.CellAddress address = (org.apache.poi.ss.util.CellAddress)methodHandle.invoke(beanObj);
                         return Optional.ofNullable(address).map(a -> CellPosition.of(a));
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions getter method.", e);
                     }
                     
@@ -247,6 +268,7 @@ public class PositionGetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle positionFieldGetter = PropertyHandles.getter(positionField);
         
         if(positionField.getType().equals(CellPosition.class)) {
             
@@ -257,10 +279,13 @@ public class PositionGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        final CellPosition address = (CellPosition) positionField.get(beanObj);
+                        final CellPosition address = (CellPosition) positionFieldGetter.invoke(beanObj);
                         return Optional.ofNullable(address);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                 }
@@ -275,10 +300,13 @@ public class PositionGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        final Point point = (Point) positionField.get(beanObj);
+                        final Point point = (Point) positionFieldGetter.invoke(beanObj);
                         return Optional.ofNullable(point).map(p -> CellPosition.of(p));
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                 }
@@ -293,10 +321,13 @@ public class PositionGetterFactory {
                     ArgUtils.notNull(beanObj, "beanObj");
                     
                     try {
-                        final org.apache.poi.ss.util.CellAddress address = (org.apache.poi.ss.util.CellAddress) positionField.get(beanObj);
+                        final org.apache.poi.ss.util.CellAddress address = (org.apache.poi.ss.util.CellAddress) positionFieldGetter.invoke(beanObj);
                         return Optional.ofNullable(address).map(a -> CellPosition.of(a));
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                 }
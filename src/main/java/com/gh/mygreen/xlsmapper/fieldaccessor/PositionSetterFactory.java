@@ -1,8 +1,8 @@
 package com.gh.mygreen.xlsmapper.fieldaccessor;
 
 import java.awt.Point;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.LinkedHashMap;
@@ -19,6 +19,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link PositionSetter}のインスタンスを作成する
  * 
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -82,6 +83,8 @@ public class PositionSetterFactory {
             // フィールドが見つからない場合は、何もしない。
             return Optional.empty();
         }
+        final MethodHandle positionsFieldGetter = PropertyHandles.getter(positionsField);
+        final MethodHandle positionsFieldSetter = PropertyHandles.setter(positionsField);
         
         if(!Map.class.isAssignableFrom(positionsField.getType())) {
             return Optional.empty();
@@ -101,15 +104,18 @@ public class PositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        Map<String, CellPosition> positionsMapObj = (Map<String, CellPosition>) positionsField.get(beanObj);
+                        Map<String, CellPosition> positionsMapObj = (Map<String, CellPosition>) positionsFieldGetter.invoke(beanObj);
                         if(positionsMapObj == null) {
                             positionsMapObj = new LinkedHashMap<>();
-                            positionsField.set(beanObj, positionsMapObj);
+                            positionsFieldSetter.invoke(beanObj, positionsMapObj);
                         }
                         
                         positionsMapObj.put(fieldName, position);
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions field.", e);
                     }
                 }
@@ -126,15 +132,18 @@ public class PositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        Map<String, Point> positionsMapObj = (Map<String, Point>) positionsField.get(beanObj);
+                        Map<String, Point> positionsMapObj = (Map<String, Point>) positionsFieldGetter.invoke(beanObj);
                         if(positionsMapObj == null) {
                             positionsMapObj = new LinkedHashMap<>();
-                            positionsField.set(beanObj, positionsMapObj);
+                            positionsFieldSetter.invoke(beanObj, positionsMapObj);
                         }
                         
                         positionsMapObj.put(fieldName, position.toPoint());
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions field.", e);
                     }
                 }
@@ -152,15 +161,18 @@ public class PositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        Map<String, org.apache.poi.ss.util.CellAddress> positionsMapObj = (Map<String, org.apache.poi.ss.util.CellAddress>) positionsField.get(beanObj);
+                        Map<String, org.apache.poi.ss.util.CellAddress> positionsMapObj = (Map<String, org.apache.poi.ss.util.CellAddress>) positionsFieldGetter.invoke(beanObj);
                         if(positionsMapObj == null) {
                             positionsMapObj = new LinkedHashMap<>();
-                            positionsField.set(beanObj, positionsMapObj);
+                            positionsFieldSetter.invoke(beanObj, positionsMapObj);
                         }
                         
                         positionsMapObj.put(fieldName, position.toCellAddress());
                         
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access positions field.", e);
                     }
                 }
@@ -191,6 +203,7 @@ public class PositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, CellPosition.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new PositionSetter() {
                 
@@ -201,9 +214,12 @@ public class PositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        method.invoke(beanObj, position);
+                        methodHandle.invoke(beanObj, position);
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -217,6 +233,7 @@ public class PositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, Point.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new PositionSetter() {
                 
@@ -225,9 +242,12 @@ public class PositionSetterFactory {
                 public void set(final Object beanObj, final CellPosition position) {
                     
                     try {
-                        method.invoke(beanObj, position.toPoint());
+                        methodHandle.invoke(beanObj, position.toPoint());
+                        
+                    } catch (Error e) {
+                        throw e;
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -241,6 +261,7 @@ public class PositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, org.apache.poi.ss.util.CellAddress.class);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new PositionSetter() {
                 
@@ -251,9 +272,12 @@ public class PositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        method.invoke(beanObj, position.toCellAddress());
+                        methodHandle.invoke(beanObj, position.toCellAddress());
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -267,6 +291,7 @@ public class PositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, Integer.TYPE, Integer.TYPE);
             method.setAccessible(true);
+            final MethodHandle methodHandle = PropertyHandles.invoker(method);
             
             return Optional.of(new PositionSetter() {
                 
@@ -277,9 +302,12 @@ public class PositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        method.invoke(beanObj, position.getColumn(), position.getRow());
+                        methodHandle.invoke(beanObj, position.getColumn(), position.getRow());
+                        
+                    } catch (Error e) {
+                        throw e;
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -315,6 +343,7 @@ public class PositionSetterFactory {
         } catch (NoSuchFieldException | SecurityException e) {
             return Optional.empty();
         }
+        final MethodHandle positionFieldSetter = PropertyHandles.setter(positionField);
         
         if(positionField.getType().equals(CellPosition.class)) {
             
@@ -326,8 +355,11 @@ public class PositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        positionField.set(beanObj, position);
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                        positionFieldSetter.invoke(beanObj, position);
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                 }
@@ -343,8 +375,11 @@ public class PositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        positionField.set(beanObj, position.toPoint());
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                        positionFieldSetter.invoke(beanObj, position.toPoint());
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                 }
@@ -360,8 +395,11 @@ public class PositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        positionField.set(beanObj, position.toCellAddress());
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
+                        positionFieldSetter.invoke(beanObj, position.toCellAddress());
+                    } catch (Error e) {
+                        throw e;
+                        
+                    } catch (Throwable e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                 }
@@ -0,0 +1,92 @@
+package com.gh.mygreen.xlsmapper.fieldaccessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * フィールド／メソッドにアクセスするための{@link MethodHandle}を作成するクラス。
+ * <p>リフレクション({@link Field#get(Object)}、{@link Method#invoke(Object, Object...)})と異なり、
+ *   呼び出しのたびにアクセス権のチェックや、可変長引数の配列の作成を行いません。
+ *   <br>アクセッサの作成時に一度だけ作成し、セルごとに繰り返し呼び出される処理で使用します。
+ * </p>
+ * <p>作成した{@link MethodHandle}の引数と戻り値は、全て{@link Object}型に変換されます。
+ *   <br>呼び出し先で発生した例外は、{@link java.lang.reflect.InvocationTargetException}でラップされずにそのままスローされます。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+final class PropertyHandles {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * {@link Field#set(Object, Object)}のハンドル
+     */
+    private static final MethodHandle REFLECTION_FIELD_SET;
+    static {
+        try {
+            REFLECTION_FIELD_SET = LOOKUP.findVirtual(Field.class, "set",
+                    MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private PropertyHandles() {
+    }
+
+    /**
+     * フィールドの値を取得するハンドルを作成します。
+     * @param field アクセス可能({@link Field#setAccessible(boolean)})なフィールド
+     * @return {@code (Object)Object}型のハンドル
+     * @throws IllegalStateException ハンドルの作成に失敗した場合
+     */
+    static MethodHandle getter(final Field field) {
+        try {
+            return LOOKUP.unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(String.format("fail create getter handle of field '%s'.", field), e);
+        }
+    }
+
+    /**
+     * フィールドに値を設定するハンドルを作成します。
+     * <p>アクセス権などにより{@link MethodHandle}を作成できない場合は、リフレクション({@link Field#set(Object, Object)})で値を設定するハンドルを作成します。</p>
+     * @param field アクセス可能({@link Field#setAccessible(boolean)})なフィールド
+     * @return {@code (Object, Object)void}型のハンドル
+     */
+    static MethodHandle setter(final Field field) {
+        try {
+            return LOOKUP.unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+        } catch (IllegalAccessException e) {
+            return REFLECTION_FIELD_SET.bindTo(field);
+        }
+    }
+
+    /**
+     * メソッドを呼び出すハンドルを作成します。
+     * @param method アクセス可能({@link Method#setAccessible(boolean)})なインスタンスメソッド
+     * @return 第一引数がインスタンスとなる、{@code (Object, Object...)Object}型のハンドル。
+     *         戻り値がvoidのメソッドの場合は、nullを返します。
+     * @throws IllegalStateException ハンドルの作成に失敗した場合
+     */
+    static MethodHandle invoker(final Method method) {
+        try {
+            final MethodHandle handle = LOOKUP.unreflect(method);
+            return handle.asType(handle.type().generic());
+
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(String.format("fail create handle of method '%s'.", method), e);
+        }
+    }
+
+}
@@ -16,7 +16,7 @@ import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
  * <p>通常はこのクラスを継承して作成します。</p>
  *
  * @param <A> サポートするアノテーション
- * @version 2.0
+ * @version 2.1
  * @author T.TSUCHIE
  *
  */
@@ -38,6 +38,7 @@ public abstract class AbstractFieldProcessor<A extends Annotation> implements Fi
     /**
      * 指定したタイプに対する{@link CellConverter}を取得します。
      * <p>アノテーション「{@link XlsConverter}」が付与されている場合、そちらの設定値を優先します。</p>
+     * <p>作成した{@link CellConverter}は、{@link Configuration#getCellConverterCache()}にキャッシュします。</p>
      *
      * @param accessor フィールド情報
      * @param config システム情報設定。
@@ -45,6 +46,19 @@ public abstract class AbstractFieldProcessor<A extends Annotation> implements Fi
      * @throws ConversionException {@link CellConverter}が見つからない場合。
      */
     protected CellConverter<?> getCellConverter(final FieldAccessor accessor, final Configuration config) throws ConversionException {
+        return config.getCellConverterCache().get(accessor, accessor.getType(), config,
+                () -> createCellConverter(accessor, config));
+    }
+
+    /**
+     * 指定したタイプに対する{@link CellConverter}を作成します。
+     * @since 2.1
+     * @param accessor フィールド情報
+     * @param config システム情報設定。
+     * @return {@link CellConverter}のインスタンス
+     * @throws ConversionException {@link CellConverter}が見つからない場合。
+     */
+    private CellConverter<?> createCellConverter(final FieldAccessor accessor, final Configuration config) throws ConversionException {
 
         final CellConverter<?> converter;
 
@@ -66,6 +80,7 @@ public abstract class AbstractFieldProcessor<A extends Annotation> implements Fi
     /**
      * コンポーネントタイプを指定して、指定したタイプに対する{@link CellConverter}を取得します。
      * <p>アノテーション「{@link XlsConverter}」が付与されている場合、そちらの設定値を優先します。</p>
+     * <p>作成した{@link CellConverter}は、{@link Configuration#getCellConverterCache()}にキャッシュします。</p>
      *
      * @param componentType コンポーネントのクラスタイプ
      * @param accessor フィールド情報
@@ -75,6 +90,21 @@ public abstract class AbstractFieldProcessor<A extends Annotation> implements Fi
      */
     protected CellConverter<?> getCellConverter(final Class<?> componentType, final FieldAccessor accessor, final Configuration config)
             throws ConversionException {
+        return config.getCellConverterCache().get(accessor, componentType, config,
+                () -> createCellConverter(componentType, accessor, config));
+    }
+
+    /**
+     * コンポーネントタイプを指定して、指定したタイプに対する{@link CellConverter}を作成します。
+     * @since 2.1
+     * @param componentType コンポーネントのクラスタイプ
+     * @param accessor フィールド情報
+     * @param config システム情報設定。
+     * @return {@link CellConverter}のインスタンス
+     * @throws ConversionException {@link CellConverter}が見つからない場合。
+     */
+    private CellConverter<?> createCellConverter(final Class<?> componentType, final FieldAccessor accessor, final Configuration config)
+            throws ConversionException {
 
         final CellConverter<?> converter;
 
@@ -1,8 +1,11 @@
 package com.gh.mygreen.xlsmapper.fieldprocessor;
 
 import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.gh.mygreen.xlsmapper.annotation.XlsArrayCells;
 import com.gh.mygreen.xlsmapper.annotation.XlsCell;
@@ -24,6 +27,7 @@ import com.gh.mygreen.xlsmapper.fieldprocessor.impl.LabelledCellProcessor;
 import com.gh.mygreen.xlsmapper.fieldprocessor.impl.LabelledCommentProcessor;
 import com.gh.mygreen.xlsmapper.fieldprocessor.impl.SheetNameProcessor;
 import com.gh.mygreen.xlsmapper.fieldprocessor.impl.VerticalRecordsProcessor;
+import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
 
 
@@ -39,18 +43,83 @@ public class FieldProcessorRegistry {
     
     private Map<Class<? extends Annotation>, FieldProcessor<?>> pocessorMap = new ConcurrentHashMap<>();
     
+    /**
+     * 登録内容の変更回数
+     */
+    private final AtomicInteger version = new AtomicInteger();
+    
+    /**
+     * 登録内容を変更できないかどうか
+     */
+    private final boolean frozen;
+    
     public FieldProcessorRegistry() {
         this.pocessorMap = new ConcurrentHashMap<>();
+        this.frozen = false;
         
         init();
     }
     
+    /**
+     * 登録内容を変更できないスナップショットを作成するコンストラクタ。
+     * @since 2.1
+     * @param original コピー元のインスタンス
+     */
+    protected FieldProcessorRegistry(final FieldProcessorRegistry original) {
+        ArgUtils.notNull(original, "original");
+        
+        this.pocessorMap = Collections.unmodifiableMap(new HashMap<>(original.pocessorMap));
+        this.version.set(original.getVersion());
+        this.frozen = true;
+    }
+    
+    /**
+     * 現在の登録内容をコピーした、登録内容を変更できないインスタンスを作成します。
+     * <p>作成したインスタンスの{@link #init()}、{@link #registerProcessor(Class, FieldProcessor)}を呼び出すと、
+     *   {@link IllegalStateException}をスローします。
+     *   <br>コピー元の登録内容を変更しても、作成したインスタンスには反映されません。
+     * </p>
+     * <p>独自の処理を追加したサブクラスの場合は、{@link #FieldProcessorRegistry(FieldProcessorRegistry)}を使用して
+     *   このメソッドをオーバーライドしてください。
+     * </p>
+     * @since 2.1
+     * @return 登録内容を変更できないインスタンス。既に変更できない場合は、自身のインスタンスを返します。
+     */
+    public FieldProcessorRegistry snapshot() {
+        return frozen ? this : new FieldProcessorRegistry(this);
+    }
+    
+    /**
+     * 登録内容を変更できないかどうか判定します。
+     * @since 2.1
+     * @return trueの場合、{@link #snapshot()}で作成した登録内容を変更できないインスタンスです。
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+    
+    /**
+     * 登録内容を変更できるかどうか検証します。
+     * @param property 変更する内容の名称
+     * @throws IllegalStateException 登録内容を変更できない場合
+     */
+    private void assertNotFrozen(final String property) {
+        if(frozen) {
+            throw new IllegalStateException(MessageBuilder.create("config.frozen")
+                    .var("property", property)
+                    .format());
+        }
+    }
+    
     /**
      * {@link FieldProcessor}の登録状態を初期値に戻します。
+     * @throws IllegalStateException {@link #snapshot()}で作成した登録内容を変更できないインスタンスの場合
      */
     public void init() {
+        assertNotFrozen("processor");
         
         pocessorMap.clear();
+        version.incrementAndGet();
         
         //標準のフィールドプロセッサを登録する。
         registerProcessor(XlsSheetName.class, new SheetNameProcessor());
@@ -84,13 +153,26 @@ public class FieldProcessorRegistry {
      * @param annoClass 登録対象のアノテーションのクラスタイプ。
      * @param processor フィールドプロセッサーのインスタンス。{@link FieldProcessor}を実装している必要がある。
      * @throws NullPointerException {@literal annoClass == null or processor == null.}
+     * @throws IllegalStateException {@link #snapshot()}で作成した登録内容を変更できないインスタンスの場合
      */
     public <A extends Annotation> void registerProcessor(final Class<A> annoClass, final FieldProcessor<A> processor) {
         ArgUtils.notNull(annoClass, "annoClass");
         ArgUtils.notNull(processor, "processor");
+        assertNotFrozen("processor");
         
         pocessorMap.put(annoClass, processor);
+        version.incrementAndGet();
         
     }
     
+    /**
+     * 登録内容の変更回数を取得します。
+     * <p>{@link com.gh.mygreen.xlsmapper.SheetMappingPlan}のキャッシュが、最新の登録内容で作成されたものか判定する際に使用します。</p>
+     * @since 2.1
+     * @return {@link #init()}、{@link #registerProcessor(Class, FieldProcessor)}を呼び出すたびに増加します。
+     */
+    public int getVersion() {
+        return version.get();
+    }
+    
 }
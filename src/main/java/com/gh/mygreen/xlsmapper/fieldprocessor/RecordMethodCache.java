@@ -9,6 +9,7 @@ import java.util.Optional;
  * レコードクラスのコールバック用のメソッドを保持する。
  *
  *
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -69,4 +70,24 @@ public class RecordMethodCache {
         return postSaveMethods;
     }
 
+    /**
+     * 読み込み前に実行するメソッドが、リスナークラスのメソッドも含めて存在するかどうか。
+     * @since 2.1
+     * @return trueの場合、存在します。
+     */
+    public boolean hasPreLoadMethods() {
+        return !preLoadMethods.isEmpty()
+                || lisnterClasses.stream().anyMatch(listenerClass -> !listenerClass.getPreLoadMethods().isEmpty());
+    }
+
+    /**
+     * 書き込み前に実行するメソッドが、リスナークラスのメソッドも含めて存在するかどうか。
+     * @since 2.1
+     * @return trueの場合、存在します。
+     */
+    public boolean hasPreSaveMethods() {
+        return !preSaveMethods.isEmpty()
+                || lisnterClasses.stream().anyMatch(listenerClass -> !listenerClass.getPreSaveMethods().isEmpty());
+    }
+
 }
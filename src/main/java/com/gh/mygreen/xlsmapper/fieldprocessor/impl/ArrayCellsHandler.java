@@ -149,7 +149,7 @@ public class ArrayCellsHandler {
 
 
                 try {
-                    final Object value = converter.toObject(cell);
+                    final Object value = converter.toObject(cell, work);
                     result.add(value);
 
                 } catch(TypeBindException e) {
@@ -164,7 +164,7 @@ public class ArrayCellsHandler {
 
                 if(annoProxy.elementMerged()) {
                     // 結合を考慮する場合
-                    final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, row, column);
+                    final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, row, column, work.getMergedRegionIndex());
                     if(mergedRegion != null) {
                         column += POIUtils.getColumnSize(mergedRegion);
                     } else {
@@ -196,7 +196,7 @@ public class ArrayCellsHandler {
                     config.getCommentOperator().loadArrayCellComment(setter, cell, beansObj, comemntIndex, field, config));
 
                 try {
-                    final Object value = converter.toObject(cell);
+                    final Object value = converter.toObject(cell, work);
                     result.add(value);
 
                 } catch(TypeBindException e) {
@@ -210,7 +210,7 @@ public class ArrayCellsHandler {
                 }
 
                 if(annoProxy.elementMerged()) {
-                    CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, row, column);
+                    CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, row, column, work.getMergedRegionIndex());
                     if(mergedRegion != null) {
                         // 結合を考慮する場合
                         row += POIUtils.getRowSize(mergedRegion);
@@ -296,7 +296,7 @@ public class ArrayCellsHandler {
                 if(i < dataList.size()) {
                     final Object elementValue = dataList.get(i);
                     try {
-                        converter.toCell(elementValue, beansObj, sheet, cellAddress);
+                        converter.toCell(elementValue, beansObj, sheet, cellAddress, work);
 
                     } catch(TypeBindException e) {
                         work.addTypeBindError(e, cellAddress, field.getName(), label);
@@ -315,14 +315,14 @@ public class ArrayCellsHandler {
 
                 }
 
-                final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, row, column);
+                final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, row, column, work.getMergedRegionIndex());
                 if(annoProxy.elementMerged() && mergedRegion != null) {
                     // 結合を考慮する場合
                     column += POIUtils.getColumnSize(mergedRegion);
 
                 } else if(mergedRegion != null) {
                     // 結合を考慮しないで、結合されている場合は、解除する
-                    POIUtils.removeMergedRange(sheet, mergedRegion);
+                    POIUtils.removeMergedRange(sheet, mergedRegion, work.getMergedRegionIndex());
                     column++;
 
                 } else {
@@ -363,7 +363,7 @@ public class ArrayCellsHandler {
                 if(i < dataList.size()) {
                     final Object elementValue = dataList.get(i);
                     try {
-                        converter.toCell(elementValue, beansObj, sheet, cellAddress);
+                        converter.toCell(elementValue, beansObj, sheet, cellAddress, work);
 
                     } catch(TypeBindException e) {
                         work.addTypeBindError(e, cellAddress, field.getName(), label);
@@ -382,14 +382,14 @@ public class ArrayCellsHandler {
 
                 }
 
-                final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, row, column);
+                final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, row, column, work.getMergedRegionIndex());
                 if(annoProxy.elementMerged() && mergedRegion != null) {
                     // 結合を考慮する場合
                     row += POIUtils.getRowSize(mergedRegion);
 
                 } else if(mergedRegion != null) {
                     // 結合を考慮しないで、結合されている場合は、解除する
-                    POIUtils.removeMergedRange(sheet, mergedRegion);
+                    POIUtils.removeMergedRange(sheet, mergedRegion, work.getMergedRegionIndex());
                     row++;
 
                 } else {
@@ -51,7 +51,7 @@ public class CellProcessor extends AbstractFieldProcessor<XlsCell> {
         }
 
         try {
-            final Object value = converter.toObject(xlsCell);
+            final Object value = converter.toObject(xlsCell, work);
             accessor.setValue(beansObj, value);
 
         } catch(TypeBindException e) {
@@ -131,7 +131,7 @@ public class CellProcessor extends AbstractFieldProcessor<XlsCell> {
         }
 
         try {
-            converter.toCell(accessor.getValue(targetObj), targetObj, sheet, cellAddress);
+            converter.toCell(accessor.getValue(targetObj), targetObj, sheet, cellAddress, work);
 
         } catch(TypeBindException e) {
             work.addTypeBindError(e, cellAddress, accessor.getName(), null);
@@ -7,11 +7,16 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -28,6 +33,7 @@ import org.apache.poi.ss.util.AreaReference;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellRangeAddressList;
 import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,9 +69,12 @@ import com.gh.mygreen.xlsmapper.fieldprocessor.RecordMethodCache;
 import com.gh.mygreen.xlsmapper.fieldprocessor.RecordMethodFacatory;
 import com.gh.mygreen.xlsmapper.fieldprocessor.RecordsProcessorUtil;
 import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
+import com.gh.mygreen.xlsmapper.streaming.SheetRowListener;
 import com.gh.mygreen.xlsmapper.util.CellFinder;
+import com.gh.mygreen.xlsmapper.util.CellLabelIndex;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
 import com.gh.mygreen.xlsmapper.util.FieldAccessorUtils;
+import com.gh.mygreen.xlsmapper.util.MergedRegionIndex;
 import com.gh.mygreen.xlsmapper.util.POIUtils;
 import com.gh.mygreen.xlsmapper.util.Utils;
 import com.gh.mygreen.xlsmapper.validation.fieldvalidation.FieldFormatter;
@@ -137,20 +146,82 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
     }
 
+    /**
+     * レコードを1件ずつ読み込むイテレータを作成します。
+     * <p>レコードのインスタンスの作成、値の変換は、{@link Iterator#next()}を呼び出したときに行います。
+     *   <br>そのため、イテレータを使用している間は、シートを閉じないでください。
+     * </p>
+     * <p>レコードの{@link com.gh.mygreen.xlsmapper.annotation.XlsPostLoad}などの後処理は、
+     *   {@link LoadingWorkObject#addNeedPostProcess(NeedProcess)}に登録されるため、呼び出し側で実行する必要があります。
+     * </p>
+     *
+     * @since 2.1
+     * @param sheet シート情報
+     * @param beansObj マッピング対象のBean
+     * @param anno アノテーション
+     * @param accessor マッピング対象のフィールド
+     * @param config システム設定
+     * @param work 作業用の情報
+     * @return レコードのイテレータ。読み込み対象外の場合、表が見つからない場合は空のイテレータを返します。
+     * @throws XlsMapperException マッピングに失敗した場合
+     */
+    public Iterator<Object> loadRecordIterator(final Sheet sheet, final Object beansObj, final XlsHorizontalRecords anno,
+            final FieldAccessor accessor, final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
+
+        if(!Utils.isLoadCase(anno.cases())) {
+            return Collections.emptyIterator();
+        }
+
+        final Class<?> clazz = accessor.getType();
+        if(!Collection.class.isAssignableFrom(clazz) && !clazz.isArray()) {
+            throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.notSupportType")
+                    .var("property", accessor.getNameWithClass())
+                    .varWithAnno("anno", XlsHorizontalRecords.class)
+                    .varWithClass("actualType", clazz)
+                    .var("expectedType", "Collection(List/Set) or Array")
+                    .format());
+        }
+
+        Class<?> recordClass = anno.recordClass();
+        if(recordClass == Object.class) {
+            recordClass = accessor.getComponentType();
+        }
+
+        return createRecordIterator(sheet, beansObj, anno, accessor, recordClass, config, work)
+                .<Iterator<Object>>map(itr -> itr)
+                .orElse(Collections.emptyIterator());
+
+    }
+
     private List<?> loadRecords(final Sheet sheet, final Object beansObj, final XlsHorizontalRecords anno, final FieldAccessor accessor,
             final Class<?> recordClass, final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
 
+        final Optional<RecordIterator> itr = createRecordIterator(sheet, beansObj, anno, accessor, recordClass, config, work);
+        if(!itr.isPresent()) {
+            return null;
+        }
+
+        final List<Object> result = new ArrayList<>();
+        itr.get().forEachRemaining(result::add);
+        return result;
+    }
+
+    private Optional<RecordIterator> createRecordIterator(final Sheet sheet, final Object beansObj, final XlsHorizontalRecords anno, final FieldAccessor accessor,
+            final Class<?> recordClass, final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
+
         RecordsProcessorUtil.checkLoadingNestedRecordClass(recordClass, accessor, work.getAnnoReader());
 
         // get table starting position
-        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config);
+        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config, work.getLabelIndex());
         if(!initPosition.isPresent()) {
-            return null;
+            return Optional.empty();
         }
 
         // ラベルの設定
         if(Utils.isNotEmpty(anno.tableLabel())) {
-            final Optional<Cell> tableLabelCell = CellFinder.query(sheet, anno.tableLabel(), config).findOptional();
+            final Optional<Cell> tableLabelCell = CellFinder.query(sheet, anno.tableLabel(), config)
+                    .labelIndex(work.getLabelIndex())
+                    .findOptional();
             tableLabelCell.ifPresent(c -> {
                 final String label = POIUtils.getCellContents(c, config.getCellFormatter());
                 accessor.setLabel(beansObj, label);
@@ -161,47 +232,11 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
         final int initColumn = initPosition.get().getColumn();
         final int initRow = initPosition.get().getRow();
 
-        int hColumn = initColumn;
-        int hRow = initRow;
-
         // get header columns.
-        final List<RecordHeader> headers = new ArrayList<>();
-        int rangeCount = 1;
-        while(true) {
-            try {
-                Cell cell = POIUtils.getCell(sheet, hColumn, hRow);
-
-                while(POIUtils.isEmptyCellContents(cell, config.getCellFormatter()) && rangeCount < anno.range()) {
-                    cell = POIUtils.getCell(sheet, hColumn + rangeCount, hRow);
-                    rangeCount++;
-                }
-
-                final String cellValue = POIUtils.getCellContents(cell, config.getCellFormatter());
-                if(Utils.isEmpty(cellValue)){
-                    break;
-                }
-
-                headers.add(new RecordHeader(cellValue, cell.getColumnIndex() - initColumn));
-                hColumn = hColumn + rangeCount;
-                rangeCount = 1;
-
-                // 結合しているセルの場合は、はじめのセルだけ取得して、後は結合分スキップする。
-                CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
-                if(mergedRange != null) {
-                    hColumn = hColumn + (mergedRange.getLastColumn() - mergedRange.getFirstColumn());
-                }
-
-            } catch(ArrayIndexOutOfBoundsException ex) {
-                break;
-            }
-
-            if(anno.headerLimit() > 0 && headers.size() >= anno.headerLimit()){
-                break;
-            }
-        }
+        final List<RecordHeader> headers = loadHeaders(sheet, anno, initColumn, initRow, config, work.getMergedRegionIndex());
 
         // データ行の開始位置の調整
-        hRow += anno.headerBottom();
+        int hRow = initRow + anno.headerBottom();
         CellPosition startPosition = CellPosition.of(hRow, initColumn);
 
         // 独自の開始位置を指定する場合
@@ -212,7 +247,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
         }
 
-        return loadRecords(sheet, headers, anno, startPosition, 0, accessor, recordClass, config, work);
+        return Optional.of(new RecordIterator(sheet, headers, anno, startPosition, 0, accessor, recordClass, config, work));
 
     }
 
@@ -223,253 +258,446 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
             final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
 
         final List<Object> result = new ArrayList<>();
+        new RecordIterator(sheet, headers, anno, initPosition, parentMergedSize, accessor, recordClass, config, work)
+                .forEachRemaining(result::add);
 
-        final int initColumn = initPosition.getColumn();
-        final int initRow = initPosition.getRow();
+        return result;
+    }
 
-        final int maxRow = initRow + parentMergedSize;
-        int hRow = initRow;
+    /**
+     * レコードを1件ずつ読み込むイテレータ。
+     * <p>レコードのインスタンスの作成、値の変換は、次のレコードを取得するときに行います。</p>
+     *
+     * @since 2.1
+     */
+    private class RecordIterator implements Iterator<Object> {
 
-        // Check for columns
-        RecordsProcessorUtil.checkColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
-        RecordsProcessorUtil.checkMapColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
-        RecordsProcessorUtil.checkArrayColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+        private final Sheet sheet;
 
-        RecordTerminal terminal = anno.terminal();
-        if(terminal == null){
-            terminal = RecordTerminal.Empty;
-        }
+        private final List<RecordHeader> headers;
 
-        // 各種レコードのコールバック用メソッドを抽出する
-        final RecordMethodCache methodCache = new RecordMethodFacatory(work.getAnnoReader(), config)
-                .create(recordClass, ProcessCase.Load);
+        private final XlsHorizontalRecords anno;
 
-        final int startHeaderIndex = getStartHeaderIndexForLoading(headers, recordClass, work.getAnnoReader(), config);
+        private final int parentMergedSize;
 
-        // レコードの見出しに対するカラム情報のキャッシュ
-        final Map<String, List<FieldAccessor>> propertiesCache = new HashMap<>();
+        private final FieldAccessor accessor;
 
-        // カラムに対するConverterのキャッシュ
-        final Map<String, CellConverter<?>> converterCache = new HashMap<>();
+        private final Class<?> recordClass;
 
-        // get records
-        while(hRow < POIUtils.getRows(sheet)){
+        private final Configuration config;
 
-            if(parentMergedSize > 0 && hRow >= maxRow) {
-                // ネストしている処理のとき、最大の処理レコード数をチェックする。
-                break;
-            }
+        private final LoadingWorkObject work;
 
-            boolean emptyFlag = true;
-            // recordは、マッピング先のオブジェクトのインスタンス。
-            final Object record = config.createBean(recordClass);
+        private final int initColumn;
 
-            // パスの位置の変更
-            work.getErrors().pushNestedPath(accessor.getName(), result.size());
+        private final int initRow;
 
-            // execute PreProcess listener
-            methodCache.getListenerClasses().forEach(listenerClass -> {
-                listenerClass.getPreLoadMethods().forEach(method -> {
-                    Utils.invokeNeedProcessMethod(listenerClass.getObject(), method, record, sheet, config, work.getErrors(), ProcessCase.Load);
-                });
-            });
+        private final int maxRow;
 
-            // execute PreProcess method
-            methodCache.getPreLoadMethods().forEach(method -> {
-                Utils.invokeNeedProcessMethod(record, method, record, sheet, config, work.getErrors(), ProcessCase.Load);
-            });
+        private int hRow;
 
-            final List<MergedRecord> mergedRecords = new ArrayList<>();
+        private final RecordTerminal terminal;
 
-            loadMapColumns(sheet, headers, mergedRecords, CellPosition.of(hRow, initColumn), recordClass, record, config, work);
+        private final RecordMethodCache methodCache;
 
-            loadArrayColumns(sheet, headers, mergedRecords, CellPosition.of(hRow, initColumn), recordClass, record, config, work);
+        private final int startHeaderIndex;
 
-            for(int i=0; i < headers.size() && hRow < POIUtils.getRows(sheet); i++){
-                final RecordHeader headerInfo = headers.get(i);
-                int hColumn = initColumn + headerInfo.getInterval();
-                final Cell cell = POIUtils.getCell(sheet, hColumn, hRow);
+        /**
+         * レコードの見出しに対するカラム情報のキャッシュ
+         */
+        private final Map<String, List<FieldAccessor>> propertiesCache = new HashMap<>();
 
-                // find end of the table
-                if(!POIUtils.isEmptyCellContents(cell, config.getCellFormatter())){
-                    emptyFlag = false;
-                }
+        /**
+         * カラムに対するConverterのキャッシュ
+         */
+        private final Map<String, CellConverter<?>> converterCache = new HashMap<>();
 
-                if(terminal == RecordTerminal.Border && i == startHeaderIndex){
-                    if(!POIUtils.getBorderLeft(cell).equals(BorderStyle.NONE)){
-                        emptyFlag = false;
-                    } else {
-                        emptyFlag = true;
-                        break;
-                    }
-                }
+        /**
+         * 読み込んだ有効なレコードの件数
+         */
+        private int recordCount;
 
-                if(!anno.terminateLabel().equals("")){
-                    if(Utils.matches(POIUtils.getCellContents(cell, config.getCellFormatter()), anno.terminateLabel(), config)){
-                        emptyFlag = true;
-                        break;
-                    }
-                }
+        /**
+         * 表の終端に達したかどうか
+         */
+        private boolean finished;
 
-                // mapping from Excel columns to Object properties.
-                final List<FieldAccessor> propeties = propertiesCache.computeIfAbsent(headerInfo.getLabel(), key -> {
-                    return FieldAccessorUtils.getColumnPropertiesByName(
-                            record.getClass(), work.getAnnoReader(), config, key)
-                            .stream()
-                            .filter(p -> p.isReadable())
-                            .collect(Collectors.toList());
-                });
+        /**
+         * 先読みしたレコード
+         */
+        private Object nextRecord;
 
-                for(FieldAccessor property : propeties) {
-                    Cell valueCell = cell;
-                    final XlsColumn column = property.getAnnotationNullable(XlsColumn.class);
-                    if(column.headerMerged() > 0) {
-                        hColumn = hColumn + column.headerMerged();
-                        valueCell = POIUtils.getCell(sheet, hColumn, hRow);
-                    }
+        private RecordIterator(final Sheet sheet, final List<RecordHeader> headers,
+                final XlsHorizontalRecords anno,
+                final CellPosition initPosition, final int parentMergedSize,
+                final FieldAccessor accessor, final Class<?> recordClass,
+                final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
 
-                    // for merged cell
-                    if(POIUtils.isEmptyCellContents(valueCell, config.getCellFormatter())) {
-                        if(column.merged() && POIUtils.getBorderTop(valueCell).equals(BorderStyle.NONE)) {
-                            for(int k=hRow-1; k > initRow; k--){
-                                Cell tmpCell = POIUtils.getCell(sheet, hColumn, k);
-                                if(!POIUtils.getBorderBottom(tmpCell).equals(BorderStyle.NONE)){
-                                    break;
-                                }
-                                if(!POIUtils.isEmptyCellContents(tmpCell, config.getCellFormatter())){
-                                    valueCell = tmpCell;
-                                    break;
-                                }
-                            }
-                        }
-                    }
+            this.sheet = sheet;
+            this.headers = headers;
+            this.anno = anno;
+            this.parentMergedSize = parentMergedSize;
+            this.accessor = accessor;
+            this.recordClass = recordClass;
+            this.config = config;
+            this.work = work;
 
-                    if(column.headerMerged() > 0){
-                        hColumn = hColumn - column.headerMerged();
-                    }
+            this.initColumn = initPosition.getColumn();
+            this.initRow = initPosition.getRow();
 
-                    CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, valueCell.getRowIndex(), valueCell.getColumnIndex());
-                    if(mergedRange != null) {
-                        int mergedSize =  mergedRange.getLastRow() - mergedRange.getFirstRow() + 1;
-                        mergedRecords.add(new MergedRecord(headerInfo, mergedRange, mergedSize));
-                    } else {
-                        mergedRecords.add(new MergedRecord(headerInfo, CellRangeAddress.valueOf(POIUtils.formatCellAddress(valueCell)), 1));
-                    }
+            this.maxRow = initRow + parentMergedSize;
+            this.hRow = initRow;
 
-                    if(!Utils.isLoadCase(column.cases())) {
-                        continue;
-                    }
+            // Check for columns
+            RecordsProcessorUtil.checkColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+            RecordsProcessorUtil.checkMapColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+            RecordsProcessorUtil.checkArrayColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
 
-                    // set for value
-                    property.setPosition(record, CellPosition.of(valueCell));
-                    property.setLabel(record, headerInfo.getLabel());
-                    
-                    final Cell tempCommentCell = valueCell;
-                    property.getCommentSetter().ifPresent(setter -> 
-                            config.getCommentOperator().loadCellComment(setter, tempCommentCell, record, property, config));
+            this.terminal = anno.terminal() == null ? RecordTerminal.Empty : anno.terminal();
 
-                    final CellConverter<?> converter = converterCache.computeIfAbsent(property.getName(), key -> getCellConverter(property, config));
-                    if(converter instanceof FieldFormatter) {
-                        work.getErrors().registerFieldFormatter(property.getName(), property.getType(), (FieldFormatter<?>)converter, true);
-                    }
+            // 各種レコードのコールバック用メソッドを抽出する
+            this.methodCache = new RecordMethodFacatory(work.getAnnoReader(), config)
+                    .create(recordClass, ProcessCase.Load);
 
-                    try {
-                        final Object value = converter.toObject(valueCell);
-                        property.setValue(record, value);
-                    } catch(TypeBindException e) {
-                        work.addTypeBindError(e, valueCell, property.getName(), headerInfo.getLabel());
-                        if(!config.isContinueTypeBindFailure()) {
-                            throw e;
-                        }
-                    }
-                }
+            this.startHeaderIndex = getStartHeaderIndexForLoading(headers, recordClass, work.getAnnoReader(), config);
 
-            }
+        }
 
-            // execute nested record
-            final int skipSize = loadNestedRecords(sheet, headers, mergedRecords, anno, CellPosition.of(hRow, initColumn), record, config, work);
-            if(parentMergedSize > 0 && skipSize > 0 && (hRow + skipSize) > maxRow) {
-                // check over merged cell.
-                String message = String.format("Over merged size. In sheet '%s' with rowIndex=%d, over the rowIndex=%s.",
-                        sheet.getSheetName(), hRow + skipSize, maxRow);
-                throw new NestedRecordMergedSizeException(sheet.getSheetName(), skipSize, message);
+        @Override
+        public boolean hasNext() {
+            if(nextRecord == null && !finished) {
+                this.nextRecord = loadNext();
             }
 
-            if(emptyFlag){
-                // パスの位置の変更
-                work.getErrors().popNestedPath();
-                break;
+            return nextRecord != null;
+        }
+
+        @Override
+        public Object next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
             }
 
-            if(isAvailabledRecord(methodCache.getIgnoreableMethod(), record)) {
-                // 有効なレコードのみ、処理を行う
-                result.add(record);
+            final Object record = nextRecord;
+            this.nextRecord = null;
+            return record;
+        }
 
-                // set PostProcess listener
+        /**
+         * 次の有効なレコードを読み込む。
+         * @return 表の終端に達した場合は、nullを返す。
+         */
+        private Object loadNext() throws XlsMapperException {
+
+            // get records
+            while(hRow < POIUtils.getRows(sheet)){
+
+                if(parentMergedSize > 0 && hRow >= maxRow) {
+                    // ネストしている処理のとき、最大の処理レコード数をチェックする。
+                    break;
+                }
+
+                boolean emptyFlag = true;
+                // recordは、マッピング先のオブジェクトのインスタンス。
+                final Object record = config.createBean(recordClass);
+
+                // パスの位置の変更
+                work.getErrors().pushNestedPath(accessor.getName(), recordCount);
+
+                // execute PreProcess listener
                 methodCache.getListenerClasses().forEach(listenerClass -> {
-                    listenerClass.getPostLoadMethods().forEach(method -> {
-                        work.addNeedPostProcess(new NeedProcess(record, listenerClass.getObject(), method));
+                    listenerClass.getPreLoadMethods().forEach(method -> {
+                        Utils.invokeNeedProcessMethod(listenerClass.getObject(), method, record, sheet, config, work.getErrors(), ProcessCase.Load);
                     });
                 });
 
-                // set PostProcess method
-                methodCache.getPostLoadMethods().forEach(method -> {
-                    work.addNeedPostProcess(new NeedProcess(record, record, method));
+                // execute PreProcess method
+                methodCache.getPreLoadMethods().forEach(method -> {
+                    Utils.invokeNeedProcessMethod(record, method, record, sheet, config, work.getErrors(), ProcessCase.Load);
                 });
 
-            }
-
-            // パスの位置の変更
-            work.getErrors().popNestedPath();
+                // リスナーによるシートの変更は検知できないため、結合情報のインデックスを作成し直す
+                if(methodCache.hasPreLoadMethods()) {
+                    work.invalidateMergedRegionIndex();
+                }
 
-            if(skipSize > 0) {
-                hRow += skipSize;
-            } else {
-                hRow++;
-            }
-        }
+                final List<MergedRecord> mergedRecords = new ArrayList<>();
 
-        return result;
-    }
+                loadMapColumns(sheet, headers, mergedRecords, CellPosition.of(hRow, initColumn), recordClass, record, config, work);
 
-    /**
-     * 表の開始位置（見出し）の位置情報を取得する。
-     *
-     * @param sheet
-     * @param anno
-     * @param accessor
-     * @param config
-     * @return 表の開始位置。指定したラベルが見つからない場合、設定によりnullを返す。
-     * @throws AnnotationInvalidException アノテーションの値が不正で、表の開始位置が位置が見つからない場合。
-     * @throws CellNotFoundException 指定したラベルが見つからない場合。
-     */
-    private Optional<CellPosition> getHeaderPosition(final Sheet sheet, final XlsHorizontalRecords anno,
-            final FieldAccessor accessor, final Configuration config) throws AnnotationInvalidException, CellNotFoundException {
+                loadArrayColumns(sheet, headers, mergedRecords, CellPosition.of(hRow, initColumn), recordClass, record, config, work);
 
-        if(Utils.isNotEmpty(anno.headerAddress())) {
-            try {
-                return Optional.of(CellPosition.of(anno.headerAddress()));
-            } catch(IllegalArgumentException e) {
-                throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.attr.invalidAddress")
-                        .var("property", accessor.getNameWithClass())
-                        .varWithAnno("anno", XlsHorizontalRecords.class)
-                        .var("attrName", "headerAddress")
-                        .var("attrValue", anno.headerAddress())
-                        .format());
+                for(int i=0; i < headers.size() && hRow < POIUtils.getRows(sheet); i++){
+                    final RecordHeader headerInfo = headers.get(i);
+                    int hColumn = initColumn + headerInfo.getInterval();
+                    final Cell cell = POIUtils.getCell(sheet, hColumn, hRow);
 
-            }
+                    // find end of the table
+                    if(!POIUtils.isEmptyCellContents(cell, config.getCellFormatter())){
+                        emptyFlag = false;
+                    }
 
-        } else if(Utils.isNotEmpty(anno.tableLabel())) {
-            try {
-                final Cell labelCell = CellFinder.query(sheet, anno.tableLabel(), config).findWhenNotFoundException();
-                int initColumn = labelCell.getColumnIndex();
-                int initRow = labelCell.getRowIndex() + anno.bottom();
+                    if(terminal == RecordTerminal.Border && i == startHeaderIndex){
+                        if(!POIUtils.getBorderLeft(cell).equals(BorderStyle.NONE)){
+                            emptyFlag = false;
+                        } else {
+                            emptyFlag = true;
+                            break;
+                        }
+                    }
 
-                return Optional.of(CellPosition.of(initRow, initColumn));
+                    if(!anno.terminateLabel().equals("")){
+                        if(Utils.matches(POIUtils.getCellContents(cell, config.getCellFormatter()), anno.terminateLabel(), config)){
+                            emptyFlag = true;
+                            break;
+                        }
+                    }
 
-            } catch(CellNotFoundException ex) {
-                if(anno.optional()) {
-                    return Optional.empty();
+                    // mapping from Excel columns to Object properties.
+                    final List<FieldAccessor> propeties = propertiesCache.computeIfAbsent(headerInfo.getLabel(), key -> {
+                        return FieldAccessorUtils.getColumnPropertiesByName(
+                                record.getClass(), work.getAnnoReader(), config, key)
+                                .stream()
+                                .filter(p -> p.isReadable())
+                                .collect(Collectors.toList());
+                    });
+
+                    for(FieldAccessor property : propeties) {
+                        Cell valueCell = cell;
+                        final XlsColumn column = property.getAnnotationNullable(XlsColumn.class);
+                        if(column.headerMerged() > 0) {
+                            hColumn = hColumn + column.headerMerged();
+                            valueCell = POIUtils.getCell(sheet, hColumn, hRow);
+                        }
+
+                        // for merged cell
+                        if(POIUtils.isEmptyCellContents(valueCell, config.getCellFormatter())) {
+                            if(column.merged() && POIUtils.getBorderTop(valueCell).equals(BorderStyle.NONE)) {
+                                for(int k=hRow-1; k > initRow; k--){
+                                    Cell tmpCell = POIUtils.getCell(sheet, hColumn, k);
+                                    if(!POIUtils.getBorderBottom(tmpCell).equals(BorderStyle.NONE)){
+                                        break;
+                                    }
+                                    if(!POIUtils.isEmptyCellContents(tmpCell, config.getCellFormatter())){
+                                        valueCell = tmpCell;
+                                        break;
+                                    }
+                                }
+                            }
+                        }
+
+                        if(column.headerMerged() > 0){
+                            hColumn = hColumn - column.headerMerged();
+                        }
+
+                        CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, valueCell.getRowIndex(), valueCell.getColumnIndex(), work.getMergedRegionIndex());
+                        if(mergedRange != null) {
+                            int mergedSize =  mergedRange.getLastRow() - mergedRange.getFirstRow() + 1;
+                            mergedRecords.add(new MergedRecord(headerInfo, mergedRange, mergedSize));
+                        } else {
+                            mergedRecords.add(new MergedRecord(headerInfo, CellRangeAddress.valueOf(POIUtils.formatCellAddress(valueCell)), 1));
+                        }
+
+                        if(!Utils.isLoadCase(column.cases())) {
+                            continue;
+                        }
+
+                        loadColumnValue(valueCell, headerInfo, property, record, converterCache, config, work);
+                    }
+
+                }
+
+                // execute nested record
+                final int skipSize = loadNestedRecords(sheet, headers, mergedRecords, anno, CellPosition.of(hRow, initColumn), record, config, work);
+                if(parentMergedSize > 0 && skipSize > 0 && (hRow + skipSize) > maxRow) {
+                    // check over merged cell.
+                    String message = String.format("Over merged size. In sheet '%s' with rowIndex=%d, over the rowIndex=%s.",
+                            sheet.getSheetName(), hRow + skipSize, maxRow);
+                    throw new NestedRecordMergedSizeException(sheet.getSheetName(), skipSize, message);
+                }
+
+                if(emptyFlag){
+                    // パスの位置の変更
+                    work.getErrors().popNestedPath();
+                    break;
+                }
+
+                final boolean available = isAvailabledRecord(methodCache.getIgnoreableMethod(), record);
+                if(available) {
+                    // 有効なレコードのみ、処理を行う
+                    recordCount++;
+
+                    // set PostProcess listener
+                    methodCache.getListenerClasses().forEach(listenerClass -> {
+                        listenerClass.getPostLoadMethods().forEach(method -> {
+                            work.addNeedPostProcess(new NeedProcess(record, listenerClass.getObject(), method));
+                        });
+                    });
+
+                    // set PostProcess method
+                    methodCache.getPostLoadMethods().forEach(method -> {
+                        work.addNeedPostProcess(new NeedProcess(record, record, method));
+                    });
+
+                }
+
+                // パスの位置の変更
+                work.getErrors().popNestedPath();
+
+                if(skipSize > 0) {
+                    hRow += skipSize;
+                } else {
+                    hRow++;
+                }
+
+                if(available) {
+                    return record;
+                }
+            }
+
+            finished = true;
+            return null;
+
+        }
+
+    }
+
+    /**
+     * レコードのカラムの値を読み込み、プロパティに設定する。
+     *
+     * @param valueCell 値が設定されているセル
+     * @param headerInfo カラムの見出し情報
+     * @param property マッピング先のプロパティ
+     * @param record マッピング先のレコードのオブジェクト
+     * @param converterCache プロパティに対する{@link CellConverter}のキャッシュ
+     * @param config システム設定
+     * @param work 作業用の情報
+     * @throws TypeBindException 型変換に失敗し、処理を続行しない設定の場合
+     */
+    private void loadColumnValue(final Cell valueCell, final RecordHeader headerInfo, final FieldAccessor property,
+            final Object record, final Map<String, CellConverter<?>> converterCache,
+            final Configuration config, final LoadingWorkObject work) throws TypeBindException {
+
+        // set for value
+        property.setPosition(record, CellPosition.of(valueCell));
+        property.setLabel(record, headerInfo.getLabel());
+
+        property.getCommentSetter().ifPresent(setter ->
+                config.getCommentOperator().loadCellComment(setter, valueCell, record, property, config));
+
+        final CellConverter<?> converter = converterCache.computeIfAbsent(property.getName(), key -> getCellConverter(property, config));
+        if(converter instanceof FieldFormatter) {
+            work.getErrors().registerFieldFormatter(property.getName(), property.getType(), (FieldFormatter<?>)converter, true);
+        }
+
+        try {
+            final Object value = converter.toObject(valueCell, work);
+            property.setValue(record, value);
+        } catch(TypeBindException e) {
+            work.addTypeBindError(e, valueCell, property.getName(), headerInfo.getLabel());
+            if(!config.isContinueTypeBindFailure()) {
+                throw e;
+            }
+        }
+
+    }
+
+    /**
+     * 表の見出しを読み込む。
+     *
+     * @param sheet シート
+     * @param anno アノテーション
+     * @param initColumn 見出しの開始位置の列番号
+     * @param initRow 見出しの開始位置の行番号
+     * @param config システム設定
+     * @param mergedIndex 結合情報の検索用のインデックス
+     * @return 表の見出し情報
+     */
+    private List<RecordHeader> loadHeaders(final Sheet sheet, final XlsHorizontalRecords anno,
+            final int initColumn, final int initRow, final Configuration config, final MergedRegionIndex mergedIndex) {
+
+        int hColumn = initColumn;
+        final int hRow = initRow;
+
+        final List<RecordHeader> headers = new ArrayList<>();
+        int rangeCount = 1;
+        while(true) {
+            try {
+                Cell cell = POIUtils.getCell(sheet, hColumn, hRow);
+
+                while(POIUtils.isEmptyCellContents(cell, config.getCellFormatter()) && rangeCount < anno.range()) {
+                    cell = POIUtils.getCell(sheet, hColumn + rangeCount, hRow);
+                    rangeCount++;
+                }
+
+                final String cellValue = POIUtils.getCellContents(cell, config.getCellFormatter());
+                if(Utils.isEmpty(cellValue)){
+                    break;
+                }
+
+                headers.add(new RecordHeader(cellValue, cell.getColumnIndex() - initColumn));
+                hColumn = hColumn + rangeCount;
+                rangeCount = 1;
+
+                // 結合しているセルの場合は、はじめのセルだけ取得して、後は結合分スキップする。
+                CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex(), mergedIndex);
+                if(mergedRange != null) {
+                    hColumn = hColumn + (mergedRange.getLastColumn() - mergedRange.getFirstColumn());
+                }
+
+            } catch(ArrayIndexOutOfBoundsException ex) {
+                break;
+            }
+
+            if(anno.headerLimit() > 0 && headers.size() >= anno.headerLimit()){
+                break;
+            }
+        }
+
+        return headers;
+    }
+
+    /**
+     * 表の開始位置（見出し）の位置情報を取得する。
+     *
+     * @param sheet
+     * @param anno
+     * @param accessor
+     * @param config
+     * @param labelIndex ラベルの検索用のインデックス。使用しない場合はnullを指定する。
+     * @return 表の開始位置。指定したラベルが見つからない場合、設定によりnullを返す。
+     * @throws AnnotationInvalidException アノテーションの値が不正で、表の開始位置が位置が見つからない場合。
+     * @throws CellNotFoundException 指定したラベルが見つからない場合。
+     */
+    private Optional<CellPosition> getHeaderPosition(final Sheet sheet, final XlsHorizontalRecords anno,
+            final FieldAccessor accessor, final Configuration config, final CellLabelIndex labelIndex) throws AnnotationInvalidException, CellNotFoundException {
+
+        if(Utils.isNotEmpty(anno.headerAddress())) {
+            try {
+                return Optional.of(CellPosition.of(anno.headerAddress()));
+            } catch(IllegalArgumentException e) {
+                throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.attr.invalidAddress")
+                        .var("property", accessor.getNameWithClass())
+                        .varWithAnno("anno", XlsHorizontalRecords.class)
+                        .var("attrName", "headerAddress")
+                        .var("attrValue", anno.headerAddress())
+                        .format());
+
+            }
+
+        } else if(Utils.isNotEmpty(anno.tableLabel())) {
+            try {
+                final Cell labelCell = CellFinder.query(sheet, anno.tableLabel(), config)
+                        .labelIndex(labelIndex)
+                        .findWhenNotFoundException();
+                int initColumn = labelCell.getColumnIndex();
+                int initRow = labelCell.getRowIndex() + anno.bottom();
+
+                return Optional.of(CellPosition.of(initRow, initColumn));
+
+            } catch(CellNotFoundException ex) {
+                if(anno.optional()) {
+                    return Optional.empty();
                 } else {
                     throw ex;
                 }
@@ -586,7 +814,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                     property.getMapCommentSetter().ifPresent(setter -> 
                                 config.getCommentOperator().loadMapCellComment(setter, cell, record, headerInfo.getLabel(), property, config));
 
-                    CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+                    CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex(), work.getMergedRegionIndex());
                     if(mergedRange != null) {
                         int mergedSize =  mergedRange.getLastRow() - mergedRange.getFirstRow() + 1;
                         mergedRecords.add(new MergedRecord(headerInfo, mergedRange, mergedSize));
@@ -595,7 +823,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                     }
 
                     try {
-                        final Object value = converter.toObject(cell);
+                        final Object value = converter.toObject(cell, work);
                         map.put(headerInfo.getLabel(), value);
                     } catch(TypeBindException e) {
                         e.setBindClass(valueClass);  // マップの項目のタイプに変更
@@ -759,51 +987,481 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                     property.setValue(record, array);
                 }
 
-            } else {
-                // mapping by one-to-tone
+            } else {
+                // mapping by one-to-tone
+
+                int mergedSize = 1;
+                if(skipSize < mergedSize) {
+                    skipSize = mergedSize;
+                }
+
+                Class<?> recordClass = anno.recordClass();
+                if(recordClass == Object.class) {
+                    recordClass = property.getType();
+                }
+
+                List<?> value = loadRecords(sheet, headers, anno, beginPosition, mergedSize, property, recordClass, config, work);
+                if(value != null && !value.isEmpty()) {
+                    property.setValue(record, value.get(0));
+                }
+
+            }
+        }
+
+        return skipSize;
+    }
+
+    /**
+     * レコードが有効かどうか判定する
+     * <p>アノテーション{@link XlsIgnorable}のメソッドで判定を行う。
+     * @param ignoreMethod レコードの判定を無視するかどうかの判定に使用するメソッド
+     * @param record 判定対象のレコードのインスタンス。
+     * @return trueの場合は有効。
+     */
+    private boolean isAvailabledRecord(final Optional<Method> ignoreMethod, final Object record)
+            throws AnnotationReadException, AnnotationInvalidException {
+
+        if(!ignoreMethod.isPresent()) {
+            // 判定用のメソッドが存在しない場合
+            return true;
+        }
+
+        try {
+            boolean ignored = (boolean)ignoreMethod.get().invoke(record);
+            return !ignored;
+
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            throw new RuntimeException("fail execute method of ignoreable record", e);
+        }
+
+    }
+
+    /**
+     * ストリーミング読み込み用に、シートの行を1行ずつ受け取りレコードをマッピングするリスナーを作成します。
+     * <p>シートの読み込みが完了した時点で、フィールドにレコードの値を設定します。</p>
+     * <p>ストリーミング読み込みでは、次の機能はサポートしていません。
+     * <ul>
+     *   <li>ネストしたレコード(アノテーション{@link XlsNestedRecords})。</li>
+     *   <li>配列形式のカラム(アノテーション{@link XlsArrayColumns})。</li>
+     *   <li>独自のレコードの開始位置の指定(アノテーション{@link XlsRecordFinder})。</li>
+     *   <li>セルのコメントの読み込み。</li>
+     * </ul>
+     *
+     * @since 2.1
+     * @param sheet ストリーミング読み込み用の作業用のシート
+     * @param beansObj マッピング先のオブジェクト
+     * @param anno アノテーション
+     * @param accessor マッピング先のフィールド情報
+     * @param config システム設定
+     * @param work 作業用の情報
+     * @return 読み込み対象外の場合は、空を返します。
+     * @throws AnnotationInvalidException ストリーミング読み込みでサポートしていないアノテーションが付与されている場合
+     * @throws XlsMapperException 表の開始位置の指定が不正な場合
+     */
+    public Optional<SheetRowListener> createStreamingListener(final Sheet sheet, final Object beansObj, final XlsHorizontalRecords anno,
+            final FieldAccessor accessor, final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
+
+        if(!Utils.isLoadCase(anno.cases())) {
+            return Optional.empty();
+        }
+
+        final Class<?> clazz = accessor.getType();
+        if(!Collection.class.isAssignableFrom(clazz) && !clazz.isArray()) {
+            throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.notSupportType")
+                    .var("property", accessor.getNameWithClass())
+                    .varWithAnno("anno", XlsHorizontalRecords.class)
+                    .varWithClass("actualType", clazz)
+                    .var("expectedType", "Collection(List/Set) or Array")
+                    .format());
+        }
+
+        Class<?> recordClass = anno.recordClass();
+        if(recordClass == Object.class) {
+            recordClass = accessor.getComponentType();
+        }
+
+        if(accessor.hasAnnotation(XlsRecordFinder.class)) {
+            throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.streaming.notSupport")
+                    .var("property", accessor.getNameWithClass())
+                    .varWithAnno("anno", XlsRecordFinder.class)
+                    .format());
+        }
+
+        for(Class<? extends Annotation> annoClass : Arrays.asList(XlsNestedRecords.class, XlsArrayColumns.class)) {
+            final List<FieldAccessor> properties = FieldAccessorUtils.getPropertiesWithAnnotation(
+                    recordClass, work.getAnnoReader(), annoClass);
+            if(!properties.isEmpty()) {
+                throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.streaming.notSupport")
+                        .var("property", properties.get(0).getNameWithClass())
+                        .varWithAnno("anno", annoClass)
+                        .format());
+            }
+        }
+
+        return Optional.of(new StreamingRecordsListener(sheet, beansObj, anno, accessor, recordClass, config, work));
+
+    }
+
+    /**
+     * ストリーミング読み込み時の処理状態
+     */
+    private enum StreamingState {
+        /** 表の見出しのラベルの検索中 */
+        TABLE_LABEL,
+        /** 表の見出しの行の待機中 */
+        HEADER,
+        /** レコードの読み込み中 */
+        RECORD,
+        /** 読み込み完了 */
+        END
+    }
+
+    /**
+     * ストリーミング読み込み時に、1行ずつレコードをマッピングするリスナー。
+     * <p>通常の読み込み処理と同様にレコードをマッピングしますが、過去の行を遡って参照しないよう、
+     *   属性{@link XlsColumn#merged()}による結合されたセルの値は、列ごとに直前の値を保持して解決します。
+     * </p>
+     */
+    private class StreamingRecordsListener implements SheetRowListener {
+
+        private final Sheet sheet;
+
+        private final Object beansObj;
+
+        private final XlsHorizontalRecords anno;
+
+        private final FieldAccessor accessor;
+
+        private final Class<?> recordClass;
+
+        private final Configuration config;
+
+        private final LoadingWorkObject work;
+
+        private StreamingState state;
+
+        private int headerRow;
+
+        private int headerColumn;
+
+        private List<RecordHeader> headers;
+
+        /**
+         * データ行の開始位置
+         */
+        private int startRow;
+
+        /**
+         * 次に処理する行番号
+         */
+        private int nextRow;
+
+        private RecordTerminal terminal;
+
+        private RecordMethodCache methodCache;
+
+        private int startHeaderIndex;
+
+        private final List<Object> result = new ArrayList<>();
+
+        /**
+         * レコードの見出しに対するカラム情報のキャッシュ
+         */
+        private final Map<String, List<FieldAccessor>> propertiesCache = new HashMap<>();
+
+        /**
+         * カラムに対するConverterのキャッシュ
+         */
+        private final Map<String, CellConverter<?>> converterCache = new HashMap<>();
+
+        /**
+         * 結合されたセルとして扱う列番号と、その列で直前に値が設定されているセルのマップ。
+         */
+        private final Map<Integer, Cell> mergedValueCells = new HashMap<>();
+
+        private final Set<Integer> mergedColumns = new HashSet<>();
+
+        StreamingRecordsListener(final Sheet sheet, final Object beansObj, final XlsHorizontalRecords anno,
+                final FieldAccessor accessor, final Class<?> recordClass, final Configuration config, final LoadingWorkObject work) {
+
+            this.sheet = sheet;
+            this.beansObj = beansObj;
+            this.anno = anno;
+            this.accessor = accessor;
+            this.recordClass = recordClass;
+            this.config = config;
+            this.work = work;
+
+            if(Utils.isNotEmpty(anno.tableLabel())) {
+                this.state = StreamingState.TABLE_LABEL;
+
+            } else {
+                final CellPosition initPosition = getHeaderPosition(sheet, anno, accessor, config, work.getLabelIndex()).get();
+                this.headerRow = initPosition.getRow();
+                this.headerColumn = initPosition.getColumn();
+                this.state = StreamingState.HEADER;
+            }
+
+        }
+
+        @Override
+        public boolean onRow(final Row row) throws XlsMapperException {
+
+            final int rowIndex = row.getRowNum();
+
+            if(state == StreamingState.TABLE_LABEL) {
+                findTableLabel(row);
+            }
+
+            if(state == StreamingState.HEADER && rowIndex >= headerRow) {
+                startRecords();
+            }
+
+            if(state == StreamingState.RECORD && rowIndex >= startRow) {
+                // 値が存在しない行は、空の行として処理する
+                while(state == StreamingState.RECORD && nextRow < rowIndex) {
+                    final Row emptyRow = sheet.getRow(nextRow);
+                    loadRecord(emptyRow != null ? emptyRow : sheet.createRow(nextRow));
+                }
+
+                if(state == StreamingState.RECORD) {
+                    loadRecord(row);
+                }
+            }
+
+            return state != StreamingState.END;
+        }
+
+        @Override
+        public void onEndSheet() throws XlsMapperException {
+
+            if(state == StreamingState.TABLE_LABEL) {
+                this.state = StreamingState.END;
+                if(!anno.optional()) {
+                    throw new CellNotFoundException(sheet.getSheetName(), anno.tableLabel());
+                }
+                return;
+            }
+
+            if(state == StreamingState.HEADER) {
+                startRecords();
+            }
+
+            if(state == StreamingState.RECORD) {
+                finish();
+            }
+
+        }
+
+        @Override
+        public void collectRetainedRows(final Set<Integer> rowIndexes) {
+            mergedValueCells.values().forEach(cell -> rowIndexes.add(cell.getRowIndex()));
+        }
+
+        /**
+         * 表の見出しのラベルを検索する。
+         * @param row 検索対象の行
+         */
+        private void findTableLabel(final Row row) {
+
+            for(Cell cell : row) {
+                final String label = POIUtils.getCellContents(cell, config.getCellFormatter());
+                if(Utils.matches(label, anno.tableLabel(), config)) {
+                    accessor.setLabel(beansObj, label);
+
+                    this.headerRow = cell.getRowIndex() + anno.bottom();
+                    this.headerColumn = cell.getColumnIndex();
+                    this.state = StreamingState.HEADER;
+                    return;
+                }
+            }
+
+        }
+
+        /**
+         * 見出しを読み込み、レコードの読み込みを開始する。
+         */
+        private void startRecords() {
+
+            this.headers = loadHeaders(sheet, anno, headerColumn, headerRow, config, work.getMergedRegionIndex());
+
+            // Check for columns
+            RecordsProcessorUtil.checkColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+            RecordsProcessorUtil.checkMapColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+
+            this.terminal = anno.terminal() != null ? anno.terminal() : RecordTerminal.Empty;
+            this.methodCache = new RecordMethodFacatory(work.getAnnoReader(), config)
+                    .create(recordClass, ProcessCase.Load);
+            this.startHeaderIndex = getStartHeaderIndexForLoading(headers, recordClass, work.getAnnoReader(), config);
+
+            this.startRow = headerRow + anno.headerBottom();
+            this.nextRow = startRow;
+            this.state = StreamingState.RECORD;
+
+        }
+
+        /**
+         * 1レコード分を読み込む。
+         * @param row 読み込み対象の行
+         */
+        private void loadRecord(final Row row) {
+
+            final int hRow = row.getRowNum();
+
+            boolean emptyFlag = true;
+            final Object record = config.createBean(recordClass);
+
+            // パスの位置の変更
+            work.getErrors().pushNestedPath(accessor.getName(), result.size());
+
+            // execute PreProcess listener
+            methodCache.getListenerClasses().forEach(listenerClass -> {
+                listenerClass.getPreLoadMethods().forEach(method -> {
+                    Utils.invokeNeedProcessMethod(listenerClass.getObject(), method, record, sheet, config, work.getErrors(), ProcessCase.Load);
+                });
+            });
+
+            // execute PreProcess method
+            methodCache.getPreLoadMethods().forEach(method -> {
+                Utils.invokeNeedProcessMethod(record, method, record, sheet, config, work.getErrors(), ProcessCase.Load);
+            });
+
+            // リスナーによるシートの変更は検知できないため、結合情報のインデックスを作成し直す
+            if(methodCache.hasPreLoadMethods()) {
+                work.invalidateMergedRegionIndex();
+            }
+
+            loadMapColumns(sheet, headers, new ArrayList<>(), CellPosition.of(hRow, headerColumn), recordClass, record, config, work);
+
+            for(int i=0; i < headers.size(); i++) {
+                final RecordHeader headerInfo = headers.get(i);
+                final int hColumn = headerColumn + headerInfo.getInterval();
+                final Cell cell = POIUtils.getCell(sheet, hColumn, hRow);
+
+                // find end of the table
+                if(!POIUtils.isEmptyCellContents(cell, config.getCellFormatter())){
+                    emptyFlag = false;
+                }
+
+                if(terminal == RecordTerminal.Border && i == startHeaderIndex){
+                    if(!POIUtils.getBorderLeft(cell).equals(BorderStyle.NONE)){
+                        emptyFlag = false;
+                    } else {
+                        emptyFlag = true;
+                        break;
+                    }
+                }
+
+                if(!anno.terminateLabel().equals("")){
+                    if(Utils.matches(POIUtils.getCellContents(cell, config.getCellFormatter()), anno.terminateLabel(), config)){
+                        emptyFlag = true;
+                        break;
+                    }
+                }
+
+                // mapping from Excel columns to Object properties.
+                final List<FieldAccessor> propeties = propertiesCache.computeIfAbsent(headerInfo.getLabel(), key -> {
+                    return FieldAccessorUtils.getColumnPropertiesByName(
+                            record.getClass(), work.getAnnoReader(), config, key)
+                            .stream()
+                            .filter(p -> p.isReadable())
+                            .collect(Collectors.toList());
+                });
+
+                for(FieldAccessor property : propeties) {
+                    Cell valueCell = cell;
+                    final XlsColumn column = property.getAnnotationNullable(XlsColumn.class);
+                    if(column.headerMerged() > 0) {
+                        valueCell = POIUtils.getCell(sheet, hColumn + column.headerMerged(), hRow);
+                    }
+
+                    // for merged cell
+                    if(column.merged()) {
+                        final int valueColumn = valueCell.getColumnIndex();
+                        mergedColumns.add(valueColumn);
+
+                        if(POIUtils.isEmptyCellContents(valueCell, config.getCellFormatter())
+                                && POIUtils.getBorderTop(valueCell).equals(BorderStyle.NONE)
+                                && mergedValueCells.containsKey(valueColumn)) {
+                            valueCell = mergedValueCells.get(valueColumn);
+                        }
+                    }
+
+                    if(!Utils.isLoadCase(column.cases())) {
+                        continue;
+                    }
+
+                    loadColumnValue(valueCell, headerInfo, property, record, converterCache, config, work);
+                }
+
+            }
+
+            if(emptyFlag){
+                // パスの位置の変更
+                work.getErrors().popNestedPath();
+                finish();
+                return;
+            }
+
+            if(isAvailabledRecord(methodCache.getIgnoreableMethod(), record)) {
+                // 有効なレコードのみ、処理を行う
+                result.add(record);
+
+                // set PostProcess listener
+                methodCache.getListenerClasses().forEach(listenerClass -> {
+                    listenerClass.getPostLoadMethods().forEach(method -> {
+                        work.addNeedPostProcess(new NeedProcess(record, listenerClass.getObject(), method));
+                    });
+                });
+
+                // set PostProcess method
+                methodCache.getPostLoadMethods().forEach(method -> {
+                    work.addNeedPostProcess(new NeedProcess(record, record, method));
+                });
+
+            }
 
-                int mergedSize = 1;
-                if(skipSize < mergedSize) {
-                    skipSize = mergedSize;
-                }
+            // パスの位置の変更
+            work.getErrors().popNestedPath();
 
-                Class<?> recordClass = anno.recordClass();
-                if(recordClass == Object.class) {
-                    recordClass = property.getType();
+            if(hRow > startRow) {
+                // 結合されたセルとして扱う列の、直前の値を保持する
+                for(int column : mergedColumns) {
+                    final Cell cell = POIUtils.getCell(sheet, column, hRow);
+                    if(!POIUtils.getBorderBottom(cell).equals(BorderStyle.NONE)) {
+                        mergedValueCells.remove(column);
+                    } else if(!POIUtils.isEmptyCellContents(cell, config.getCellFormatter())) {
+                        mergedValueCells.put(column, cell);
+                    }
                 }
+            }
 
-                List<?> value = loadRecords(sheet, headers, anno, beginPosition, mergedSize, property, recordClass, config, work);
-                if(value != null && !value.isEmpty()) {
-                    property.setValue(record, value.get(0));
-                }
+            this.nextRow = hRow + 1;
 
-            }
         }
 
-        return skipSize;
-    }
+        /**
+         * 読み込んだレコードをフィールドに設定し、読み込みを完了する。
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void finish() {
 
-    /**
-     * レコードが有効かどうか判定する
-     * <p>アノテーション{@link XlsIgnorable}のメソッドで判定を行う。
-     * @param ignoreMethod レコードの判定を無視するかどうかの判定に使用するメソッド
-     * @param record 判定対象のレコードのインスタンス。
-     * @return trueの場合は有効。
-     */
-    private boolean isAvailabledRecord(final Optional<Method> ignoreMethod, final Object record)
-            throws AnnotationReadException, AnnotationInvalidException {
+            final Class<?> clazz = accessor.getType();
+            if(Collection.class.isAssignableFrom(clazz)) {
+                final Collection<?> collection = Utils.convertListToCollection(result, (Class<Collection>)clazz, config.getBeanFactory());
+                accessor.setValue(beansObj, collection);
 
-        if(!ignoreMethod.isPresent()) {
-            // 判定用のメソッドが存在しない場合
-            return true;
-        }
+            } else {
+                final Object array = Array.newInstance(recordClass, result.size());
+                for(int i=0; i < result.size(); i++) {
+                    Array.set(array, i, result.get(i));
+                }
+                accessor.setValue(beansObj, array);
+            }
 
-        try {
-            boolean ignored = (boolean)ignoreMethod.get().invoke(record);
-            return !ignored;
+            mergedValueCells.clear();
+            this.state = StreamingState.END;
 
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-            throw new RuntimeException("fail execute method of ignoreable record", e);
         }
 
     }
@@ -827,7 +1485,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
             final Collection<Object> value = (result == null ? new ArrayList<Object>() : (Collection<Object>) result);
             final List<Object> list = Utils.convertCollectionToList(value);
-            saveRecords(sheet, beansObj, anno, accessor, recordClass, list, config, work);
+            saveRecords(sheet, beansObj, anno, accessor, recordClass, list, config, work, work.isStreamingSave());
 
         } else if(clazz.isArray()) {
 
@@ -837,7 +1495,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
             }
 
             final List<Object> list = Utils.asList(result, recordClass);
-            saveRecords(sheet, beansObj, anno, accessor, recordClass, list, config, work);
+            saveRecords(sheet, beansObj, anno, accessor, recordClass, list, config, work, work.isStreamingSave());
 
         } else {
             throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.notSupportType")
@@ -851,12 +1509,13 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
     }
 
     private void saveRecords(final Sheet sheet, final Object beansObj, final XlsHorizontalRecords anno, final FieldAccessor accessor,
-            final Class<?> recordClass, final List<Object> result, final Configuration config, final SavingWorkObject work) throws XlsMapperException {
+            final Class<?> recordClass, final List<Object> result, final Configuration config, final SavingWorkObject work,
+            final boolean streaming) throws XlsMapperException {
 
         RecordsProcessorUtil.checkSavingNestedRecordClass(recordClass, accessor, work.getAnnoReader());
 
         // get table starting position
-        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config);
+        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config, null);
         if(!initPosition.isPresent()) {
             return;
         }
@@ -898,7 +1557,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                 rangeCount = 1;
 
                 // 結合しているセルの場合は、はじめのセルだけ取得して、後は結合分スキップする。
-                CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+                CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex(), work.getMergedRegionIndex());
                 if(mergedRange != null) {
                     hColumn = hColumn + (mergedRange.getLastColumn() - mergedRange.getFirstColumn());
                 }
@@ -924,10 +1583,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
         if(recordOptionAnno.overOperation().equals(OverOperation.Insert)
                 || recordOptionAnno.remainedOperation().equals(RemainedOperation.Delete)) {
 
-            final int mergedNum = sheet.getNumMergedRegions();
-            for(int i=0; i < mergedNum; i++) {
-                mergedRegionList.add(sheet.getMergedRegion(i));
-            }
+            mergedRegionList.addAll(sheet.getMergedRegions());
         }
 
         // データ行の開始位置の調整
@@ -942,6 +1598,13 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
         }
 
+        if(streaming
+                && isStreamingSavable(sheet, accessor, recordClass, result, startPosition, recordOptionAnno, config, work)) {
+            // レコードは、シートの処理後にストリーミングで書き込む
+            prepareStreamingSave(sheet, beansObj, anno, headers, accessor, recordClass, result, startPosition, recordOptionAnno, config, work);
+            return;
+        }
+
         // 書き込んだセルの範囲などの情報
         final RecordOperation recordOperation = new RecordOperation(recordOptionAnno);
         recordOperation.setupCellPositoin(startPosition);
@@ -950,7 +1613,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
         final List<CellRangeAddress> mergedRanges = new ArrayList<>();
 
         saveRecords(sheet, headers, anno, startPosition, new AtomicInteger(0), accessor, recordClass, result, config,
-                work, mergedRanges, recordOperation, new ArrayList<Integer>());
+                work, mergedRanges, recordOperation, new HashSet<Integer>());
 
         // 書き込むデータがない場合は、1行目の終端を操作範囲とする。
         if(result.isEmpty()) {
@@ -966,7 +1629,390 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
         }
 
         // 結合情報の補完 - POI 3.15以上のときに行う
-        correctMergedCell(sheet, recordOperation, mergedRegionList);
+        correctMergedCell(sheet, recordOperation, mergedRegionList, work.getMergedRegionIndex());
+
+    }
+
+    /**
+     * 表のレコードをストリーミングで書き込めるかどうか判定する。
+     * <p>ストリーミングでは行を昇順に作成するため、次の条件を満たす表のみを対象とします。</p>
+     * <ul>
+     *   <li>書き込むレコードが1件以上あり、レコードの行が足りない場合の操作が、行の挿入またはコピーであること。</li>
+     *   <li>レコードの列の定義が、セルの結合を行わない{@link XlsColumn}のみであること。</li>
+     *   <li>レコードの開始位置以降の行に、値を持つセルと結合したセルがないこと。</li>
+     *   <li>同じシートで、他の表をストリーミングで書き込まないこと。</li>
+     * </ul>
+     * <p>後続の処理でシートが変更される可能性があるため、書き込み時にも表の位置を再度判定します。</p>
+     *
+     * @param sheet シート
+     * @param accessor フィールド情報
+     * @param recordClass レコードのクラスタイプ
+     * @param result 書き込むレコード
+     * @param startPosition レコードの開始位置
+     * @param recordOptionAnno レコードの操作のアノテーション
+     * @param config システム設定
+     * @param work 作業用の情報
+     * @return ストリーミングで書き込める場合はtrueを返す。
+     */
+    private boolean isStreamingSavable(final Sheet sheet, final FieldAccessor accessor, final Class<?> recordClass,
+            final List<Object> result, final CellPosition startPosition, final XlsRecordOption recordOptionAnno,
+            final Configuration config, final SavingWorkObject work) {
+
+        if(!(sheet instanceof XSSFSheet) || result.isEmpty()) {
+            return false;
+        }
+
+        // ストリーミングで作成できる行は、シートの最後の表のみ
+        if(!work.getRowWriters().isEmpty()) {
+            return false;
+        }
+
+        final OverOperation overOperation = recordOptionAnno.overOperation();
+        if(!overOperation.equals(OverOperation.Insert) && !overOperation.equals(OverOperation.Copy)) {
+            return false;
+        }
+
+        if(accessor.getAnnotation(XlsRecordFinder.class).isPresent()) {
+            return false;
+        }
+
+        final AnnotationReader annoReader = work.getAnnoReader();
+        if(!FieldAccessorUtils.getPropertiesWithAnnotation(recordClass, annoReader, XlsMapColumns.class).isEmpty()
+                || !FieldAccessorUtils.getPropertiesWithAnnotation(recordClass, annoReader, XlsArrayColumns.class).isEmpty()
+                || !FieldAccessorUtils.getPropertiesWithAnnotation(recordClass, annoReader, XlsNestedRecords.class).isEmpty()) {
+            return false;
+        }
+
+        for(FieldAccessor property : FieldAccessorUtils.getPropertiesWithAnnotation(recordClass, annoReader, XlsColumn.class)) {
+            final XlsColumn column = property.getAnnotationNullable(XlsColumn.class);
+            if(column.merged() || column.headerMerged() > 0) {
+                return false;
+            }
+        }
+
+        return isLastTableArea(sheet, startPosition.getRow(), work.getMergedRegionIndex(), config);
+    }
+
+    /**
+     * 表がシートの最後に位置するかどうか判定する。
+     * <p>レコードの開始位置以降の行に、値を持つセルと結合したセルがない場合に、シートの最後とみなします。</p>
+     *
+     * @param sheet シート
+     * @param startRow レコードの開始行
+     * @param mergedRegionIndex シートの結合情報のインデックス
+     * @param config システム設定
+     * @return シートの最後に位置する場合はtrueを返す。
+     */
+    private boolean isLastTableArea(final Sheet sheet, final int startRow, final MergedRegionIndex mergedRegionIndex,
+            final Configuration config) {
+
+        for(int r=startRow; r <= sheet.getLastRowNum(); r++) {
+            final Row row = sheet.getRow(r);
+            if(row == null) {
+                continue;
+            }
+
+            for(Cell cell : row) {
+                if(!POIUtils.isEmptyCellContents(cell, config.getCellFormatter())) {
+                    return false;
+                }
+            }
+        }
+
+        return !mergedRegionIndex.existsFromRow(startRow);
+    }
+
+    /**
+     * 表のレコードをストリーミングで書き込む準備をする。
+     * <p>レコードの書き込み処理は、{@link SavingWorkObject#addRowWriter(com.gh.mygreen.xlsmapper.streaming.SheetRowWriter)}で登録し、
+     *   テンプレートのシートに対する処理が全て終わった後に実行します。
+     *   <br>書き込み時に、後続の処理で表の開始位置以降の行が変更されていた場合は、ストリーミングを行わずに通常の方法で書き込みます。
+     * </p>
+     *
+     * @param sheet シート
+     * @param beansObj マッピング対象のオブジェクト
+     * @param anno アノテーション
+     * @param headers 表の見出し情報
+     * @param accessor フィールド情報
+     * @param recordClass レコードのクラスタイプ
+     * @param result 書き込むレコード
+     * @param startPosition レコードの開始位置
+     * @param recordOptionAnno レコードの操作のアノテーション
+     * @param config システム設定
+     * @param work 作業用の情報
+     */
+    private void prepareStreamingSave(final Sheet sheet, final Object beansObj, final XlsHorizontalRecords anno,
+            final List<RecordHeader> headers, final FieldAccessor accessor,
+            final Class<?> recordClass, final List<Object> result, final CellPosition startPosition,
+            final XlsRecordOption recordOptionAnno, final Configuration config, final SavingWorkObject work) {
+
+        // Check for columns
+        RecordsProcessorUtil.checkColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+
+        work.addRowWriter(streamingSheet -> {
+
+            final MergedRegionIndex mergedRegionIndex = new MergedRegionIndex(sheet);
+            if(!isStreamingPosition(sheet, anno, accessor, startPosition, mergedRegionIndex, config)) {
+                // 表の位置以降が変更されているときは、テンプレートのシートに通常の方法で書き込む
+                work.setMergedRegionIndex(mergedRegionIndex);
+                try {
+                    saveRecords(sheet, beansObj, anno, accessor, recordClass, result, config, work, false);
+                } finally {
+                    work.setMergedRegionIndex(null);
+                }
+                return;
+            }
+
+            streamRecords(sheet, streamingSheet, headers, accessor, recordClass, result, startPosition,
+                    recordOptionAnno, config, work);
+        });
+
+    }
+
+    /**
+     * ストリーミングで書き込むときに、表の位置が準備したときから変わっていないかどうか判定する。
+     *
+     * @param sheet テンプレートのシート
+     * @param anno アノテーション
+     * @param accessor フィールド情報
+     * @param startPosition 準備したときのレコードの開始位置
+     * @param mergedRegionIndex シートの結合情報のインデックス
+     * @param config システム設定
+     * @return ストリーミングで書き込める場合はtrueを返す。
+     * @throws XlsMapperException 表の見出しの位置の取得に失敗した場合
+     */
+    private boolean isStreamingPosition(final Sheet sheet, final XlsHorizontalRecords anno, final FieldAccessor accessor,
+            final CellPosition startPosition, final MergedRegionIndex mergedRegionIndex, final Configuration config) throws XlsMapperException {
+
+        final Optional<CellPosition> headerPosition = getHeaderPosition(sheet, anno, accessor, config, null);
+        if(!headerPosition.isPresent()) {
+            return false;
+        }
+
+        final CellPosition currentPosition = CellPosition.of(headerPosition.get().getRow() + anno.headerBottom(),
+                headerPosition.get().getColumn());
+        if(!currentPosition.equals(startPosition)) {
+            return false;
+        }
+
+        return isLastTableArea(sheet, startPosition.getRow(), mergedRegionIndex, config);
+    }
+
+    /**
+     * 表のレコードをストリーミングで書き込む。
+     * <p>テンプレートのレコードの行の書式を保持してから、その行をテンプレートのシートから削除します。
+     *   <br>入力規則と名前の定義の範囲は、書き込むレコードの件数に合わせて補正します。
+     * </p>
+     *
+     * @param sheet テンプレートのシート
+     * @param streamingSheet ストリーミング書き込み用のシート
+     * @param headers 表の見出し情報
+     * @param accessor フィールド情報
+     * @param recordClass レコードのクラスタイプ
+     * @param result 書き込むレコード
+     * @param startPosition レコードの開始位置
+     * @param recordOptionAnno レコードの操作のアノテーション
+     * @param config システム設定
+     * @param work 作業用の情報
+     */
+    private void streamRecords(final Sheet sheet, final Sheet streamingSheet, final List<RecordHeader> headers,
+            final FieldAccessor accessor, final Class<?> recordClass, final List<Object> result, final CellPosition startPosition,
+            final XlsRecordOption recordOptionAnno, final Configuration config, final SavingWorkObject work) {
+
+        final int startRow = startPosition.getRow();
+        final int initColumn = startPosition.getColumn();
+
+        // テンプレートのレコードの行の書式を保持し、行を削除する
+        final List<TemplateRow> templateRows = new ArrayList<>();
+        final int lastRowNum = sheet.getLastRowNum();
+        for(int r=startRow; r <= lastRowNum; r++) {
+            final Row row = sheet.getRow(r);
+            templateRows.add(new TemplateRow(row));
+            if(row != null) {
+                sheet.removeRow(row);
+            }
+        }
+
+        if(templateRows.isEmpty()) {
+            templateRows.add(new TemplateRow(null));
+        }
+
+        // 書き込み後の範囲に合わせて、入力規則と名前の定義を補正する
+        int lastColumn = initColumn;
+        for(RecordHeader header : headers) {
+            lastColumn = Math.max(lastColumn, initColumn + header.getInterval());
+        }
+
+        final int rowSize = recordOptionAnno.remainedOperation().equals(RemainedOperation.Delete) ?
+                result.size() : Math.max(result.size(), templateRows.size());
+
+        final RecordOperation recordOperation = new RecordOperation(recordOptionAnno);
+        recordOperation.setupCellPositoin(startPosition);
+        recordOperation.setupCellPositoin(startRow + rowSize - 1, lastColumn);
+        for(int i=templateRows.size(); i < result.size(); i++) {
+            if(recordOptionAnno.overOperation().equals(OverOperation.Insert)) {
+                recordOperation.incrementInsertRecord();
+            } else {
+                recordOperation.incrementCopyRecord();
+            }
+        }
+
+        if(config.isCorrectCellDataValidationOnSave()) {
+            correctDataValidation(sheet, recordOperation);
+        }
+
+        if(config.isCorrectNameRangeOnSave()) {
+            correctNameRange(sheet, recordOperation);
+        }
+
+        // 各種レコードのコールバック用メソッドを抽出する
+        final RecordMethodCache methodCache = new RecordMethodFacatory(work.getAnnoReader(), config)
+                .create(recordClass, ProcessCase.Save);
+
+        // レコードの見出しに対するカラム情報のキャッシュ
+        final Map<String, List<FieldAccessor>> propertiesCache = new HashMap<>();
+
+        // カラムに対するConverterのキャッシュ
+        final Map<String, CellConverter<?>> converterCache = new HashMap<>();
+
+        for(int r=0; r < rowSize; r++) {
+            final Row row = streamingSheet.createRow(startRow + r);
+
+            // 足りない行は、最後の行の書式をコピーする
+            templateRows.get(Math.min(r, templateRows.size()-1)).copyTo(row);
+
+            if(r < result.size()) {
+                saveStreamingRecord(streamingSheet, row, headers, initColumn, accessor, r, result.get(r),
+                        methodCache, propertiesCache, converterCache, config, work);
+            }
+        }
+
+    }
+
+    /**
+     * ストリーミングで1レコード分を書き込む。
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void saveStreamingRecord(final Sheet sheet, final Row row, final List<RecordHeader> headers, final int initColumn,
+            final FieldAccessor accessor, final int index, final Object record,
+            final RecordMethodCache methodCache, final Map<String, List<FieldAccessor>> propertiesCache,
+            final Map<String, CellConverter<?>> converterCache, final Configuration config, final SavingWorkObject work) {
+
+        // パスの位置の変更
+        work.getErrors().pushNestedPath(accessor.getName(), index);
+
+        // execute PreProcess listner
+        methodCache.getListenerClasses().forEach(listenerClass -> {
+            listenerClass.getPreSaveMethods().forEach(method -> {
+                Utils.invokeNeedProcessMethod(listenerClass.getObject(), method, record, sheet, config, work.getErrors(), ProcessCase.Save);
+            });
+        });
+
+        // execute PreProcess method
+        methodCache.getPreSaveMethods().forEach(method -> {
+            Utils.invokeNeedProcessMethod(record, method, record, sheet, config, work.getErrors(), ProcessCase.Save);
+        });
+
+        // リスナーによるシートの変更は検知できないため、結合情報のインデックスを作成し直す
+        if(methodCache.hasPreSaveMethods()) {
+            work.invalidateMergedRegionIndex();
+        }
+
+        for(RecordHeader headerInfo : headers) {
+            final List<FieldAccessor> propeties = propertiesCache.computeIfAbsent(headerInfo.getLabel(), key -> {
+                return FieldAccessorUtils.getColumnPropertiesByName(
+                        record.getClass(), work.getAnnoReader(), config, key)
+                        .stream()
+                        .filter(p -> p.isWritable())
+                        .collect(Collectors.toList());
+            });
+
+            final CellPosition address = CellPosition.of(row.getRowNum(), initColumn + headerInfo.getInterval());
+            for(FieldAccessor property : propeties) {
+                final XlsColumn column = property.getAnnotationNullable(XlsColumn.class);
+                if(!Utils.isSaveCase(column.cases())) {
+                    continue;
+                }
+
+                // set for cell value
+                property.setPosition(record, address);
+                property.setLabel(record, headerInfo.getLabel());
+
+                final Cell valueCell = POIUtils.getCell(sheet, address);
+                property.getCommentGetter().ifPresent(getter -> config.getCommentOperator().saveCellComment(
+                        getter, valueCell, record, accessor, config));
+
+                final CellConverter converter = converterCache.computeIfAbsent(property.getName(), key -> getCellConverter(property, config));
+                if(converter instanceof FieldFormatter) {
+                    work.getErrors().registerFieldFormatter(property.getName(), property.getType(), (FieldFormatter<?>)converter, true);
+                }
+
+                try {
+                    converter.toCell(property.getValue(record), record, sheet, address, work);
+                } catch(TypeBindException e) {
+                    work.addTypeBindError(e, address, property.getName(), headerInfo.getLabel());
+                    if(!config.isContinueTypeBindFailure()) {
+                        throw e;
+                    }
+                }
+            }
+        }
+
+        // set PostProcess listener
+        methodCache.getListenerClasses().forEach(listenerClass -> {
+            listenerClass.getPostSaveMethods().forEach(method -> {
+                work.addNeedPostProcess(new NeedProcess(record, listenerClass.getObject(), method));
+            });
+        });
+
+        // set PostProcess method
+        methodCache.getPostSaveMethods().forEach(method -> {
+            work.addNeedPostProcess(new NeedProcess(record, record, method));
+        });
+
+        // パスの位置の変更
+        work.getErrors().popNestedPath();
+
+    }
+
+    /**
+     * ストリーミングで書き込むときの、テンプレートのレコードの行の書式。
+     */
+    private static class TemplateRow {
+
+        /**
+         * 行の高さ。標準の高さの場合は、-1。
+         */
+        private final short height;
+
+        /**
+         * 列番号とセルのスタイルのマップ
+         */
+        private final Map<Integer, CellStyle> cellStyles = new LinkedHashMap<>();
+
+        TemplateRow(final Row row) {
+            if(row == null) {
+                this.height = -1;
+                return;
+            }
+
+            this.height = row.getHeight() == row.getSheet().getDefaultRowHeight() ? -1 : row.getHeight();
+            for(Cell cell : row) {
+                cellStyles.put(cell.getColumnIndex(), cell.getCellStyle());
+            }
+        }
+
+        /**
+         * 行に書式をコピーする。
+         * @param row コピー先の行
+         */
+        void copyTo(final Row row) {
+            if(height >= 0) {
+                row.setHeight(height);
+            }
+
+            cellStyles.forEach((column, style) -> row.createCell(column).setCellStyle(style));
+        }
 
     }
 
@@ -1006,7 +2052,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
             final FieldAccessor accessor, final Class<?> recordClass, final List<Object> result,
             final Configuration config, final SavingWorkObject work,
             final List<CellRangeAddress> mergedRanges, final RecordOperation recordOperation,
-            final List<Integer> inserteRowsIdx) throws XlsMapperException {
+            final Set<Integer> inserteRowsIdx) throws XlsMapperException {
 
         final int initColumn = initPosition.getColumn();
         final int initRow = initPosition.getRow();
@@ -1042,8 +2088,15 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
         final int startHeaderIndex = getStartHeaderIndexForSaving(headers, recordClass, work.getAnnoReader(), config);
 
+        /*
+         * 削除する行の範囲。
+         * 行を1行ずつ削除すると、その度に下の行をずらすことになるため、連続する行はまとめて削除する。
+         */
+        int deleteStartRow = -1;
+        int deleteRowCount = 0;
+
         // get records
-        for(int r=0; r < POIUtils.getRows(sheet); r++) {
+        for(int r=0; r < POIUtils.getRows(sheet) - deleteRowCount; r++) {
 
             boolean emptyFlag = true;
 
@@ -1072,6 +2125,11 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                     Utils.invokeNeedProcessMethod(record, method, record, sheet, config, work.getErrors(), ProcessCase.Save);
                 });
 
+                // リスナーによるシートの変更は検知できないため、結合情報のインデックスを作成し直す
+                if(methodCache.hasPreSaveMethods()) {
+                    work.invalidateMergedRegionIndex();
+                }
+
             }
 
             // レコードの各列処理で既に行を追加したかどうかのフラグ。(ネスト先でも参照する)
@@ -1158,31 +2216,40 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                             } else if(recordOperation.getAnnotation().overOperation().equals(OverOperation.Copy)) {
                                 // 1つ上のセルの書式をコピーする。
                                 final Cell fromCell = POIUtils.getCell(sheet, valueCell.getColumnIndex(), valueCell.getRowIndex()-1);
-                                copyCellStyle(fromCell, valueCell);
+                                copyCellStyle(fromCell, valueCell, work.getMergedRegionIndex());
 
                                 recordOperation.incrementCopyRecord();
 
                             } else if(recordOperation.getAnnotation().overOperation().equals(OverOperation.Insert)) {
                                 // すでに他の列の処理に対して行を追加している場合は行の追加は行わない。
                                 if(!insertRows) {
-                                    // 行を下に追加する
-                                    POIUtils.insertRow(sheet, valueCell.getRowIndex());
-
-                                    // 現在のセルがずれるため、1つ上のセルを再取得する
-                                    valueCell = POIUtils.getCell(sheet, valueCell.getColumnIndex(), valueCell.getRowIndex()-1);
+                                    /*
+                                     * 残りのレコード分の行をまとめて下に追加する。
+                                     * ・1行ずつ追加すると、その度に下の行をずらすことになるため。
+                                     * ・残りのレコードは、少なくとも1行ずつ使用するため、追加した行は全て書き込み先となる。
+                                     */
+                                    final int insertRowCount = result.size() - r;
+                                    final int insertRowIndex = valueCell.getRowIndex();
+                                    POIUtils.insertRows(sheet, insertRowIndex, insertRowCount, work.getMergedRegionIndex());
+
+                                    // 現在のセルがずれるため、追加した行のセルを再取得する
+                                    valueCell = POIUtils.getCell(sheet, valueCell.getColumnIndex(), insertRowIndex);
 
                                     insertRows = true;
-                                    recordOperation.incrementInsertRecord();
-                                    inserteRowsIdx.add(valueCell.getRowIndex()+1);
+                                    recordOperation.incrementInsertRecord(insertRowCount);
+                                    for(int k=1; k <= insertRowCount; k++) {
+                                        inserteRowsIdx.add(insertRowIndex + k);
+                                    }
 
                                     if(logger.isDebugEnabled()) {
-                                        logger.debug("insert row : sheet name=[{}], row index=[{}]", sheet.getSheetName(), valueCell.getRowIndex()+1);
+                                        logger.debug("insert rows : sheet name=[{}], row index=[{}], count=[{}]",
+                                                sheet.getSheetName(), insertRowIndex+1, insertRowCount);
                                     }
                                 }
 
                                 // １つ上のセルの書式をコピーする
                                 final Cell fromCell = POIUtils.getCell(sheet, valueCell.getColumnIndex(), valueCell.getRowIndex()-1);
-                                copyCellStyle(fromCell, valueCell);
+                                copyCellStyle(fromCell, valueCell, work.getMergedRegionIndex());
                             }
 
                         }
@@ -1208,7 +2275,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                         }
 
                         try {
-                            converter.toCell(property.getValue(record), record, sheet, CellPosition.of(valueCell));
+                            converter.toCell(property.getValue(record), record, sheet, CellPosition.of(valueCell), work);
                         } catch(TypeBindException e) {
                             work.addTypeBindError(e, valueCell, property.getName(), headerInfo.getLabel());
                             if(!config.isContinueTypeBindFailure()) {
@@ -1218,7 +2285,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
                         // セルをマージする
                         if(column.merged() && (r > 0) && config.isMergeCellOnSave()) {
-                            processSavingMergedCell(valueCell, sheet, mergedRanges, config);
+                            processSavingMergedCell(valueCell, sheet, mergedRanges, config, work.getMergedRegionIndex());
                         }
                     }
                 }
@@ -1243,15 +2310,19 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
                         } else if(!deleteRows) {
                             // すでに他の列の処理に対して行を削除している場合は行の削除は行わない。
-                            final Row row = POIUtils.removeRow(sheet, hRow);
-                            deleteRows = true;
+                            if(deleteRowCount > 0 && deleteStartRow + deleteRowCount != hRow) {
+                                // 連続していない場合は、それまでの行を削除する
+                                removeRows(sheet, deleteStartRow, deleteRowCount, recordOperation, work.getMergedRegionIndex());
+                                hRow -= deleteRowCount;
+                                deleteRowCount = 0;
+                            }
 
-                            if(row != null) {
-                                if(logger.isDebugEnabled()) {
-                                    logger.debug("delete row : sheet name=[{}], row index=[{}]", sheet.getSheetName(), hRow);
-                                }
-                                recordOperation.incrementDeleteRecord();
+                            // 削除する行は、後でまとめて削除する
+                            if(deleteRowCount == 0) {
+                                deleteStartRow = hRow;
                             }
+                            deleteRowCount++;
+                            deleteRows = true;
                         }
                     }
                 }
@@ -1294,15 +2365,13 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
             work.getErrors().popNestedPath();
 
             /*
-             * 行が削除されていない場合は、次の行に進む。
-             * ・行が削除されていると、現在の行数は変わらない。
+             * 次の行に進む。
+             * ・削除する行は、まとめて削除するまでシート上に残っているため、行が削除されている場合も進む。
              */
-            if(!deleteRows) {
-                if(skipSize > 0) {
-                    hRow += skipSize;
-                } else {
-                    hRow++;
-                }
+            if(skipSize > 0) {
+                hRow += skipSize;
+            } else {
+                hRow++;
             }
 
             if(emptyFlag == true && (r > result.size())) {
@@ -1311,6 +2380,30 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
             }
         }
 
+        if(deleteRowCount > 0) {
+            removeRows(sheet, deleteStartRow, deleteRowCount, recordOperation, work.getMergedRegionIndex());
+        }
+
+    }
+
+    /**
+     * 残りのレコードの行をまとめて削除する。
+     * @param sheet シート情報
+     * @param startRow 削除する先頭の行番号
+     * @param count 削除する行数
+     * @param recordOperation レコードの操作情報
+     * @param mergedIndex 結合情報の検索用のインデックス
+     */
+    private void removeRows(final Sheet sheet, final int startRow, final int count, final RecordOperation recordOperation,
+            final MergedRegionIndex mergedIndex) {
+
+        final int removedCount = POIUtils.removeRows(sheet, startRow, count, mergedIndex);
+        if(removedCount > 0) {
+            if(logger.isDebugEnabled()) {
+                logger.debug("delete rows : sheet name=[{}], row index=[{}], count=[{}]", sheet.getSheetName(), startRow, removedCount);
+            }
+            recordOperation.incrementDeleteRecord(removedCount);
+        }
 
     }
 
@@ -1353,10 +2446,11 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
      * @param sheet
      * @param mergedRanges
      * @param config
+     * @param mergedIndex 結合情報の検索用のインデックス
      * @return
      */
     private boolean processSavingMergedCell(final Cell currentCell, final Sheet sheet,
-            final List<CellRangeAddress> mergedRanges, final Configuration config) {
+            final List<CellRangeAddress> mergedRanges, final Configuration config, final MergedRegionIndex mergedIndex) {
 
         final int row = currentCell.getRowIndex();
         final int column = currentCell.getColumnIndex();
@@ -1397,10 +2491,10 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
         if(currentMergedRange != null) {
             startRow = currentMergedRange.getFirstRow();
             mergedRanges.remove(currentMergedRange);
-            POIUtils.removeMergedRange(sheet, currentMergedRange);
+            POIUtils.removeMergedRange(sheet, currentMergedRange, mergedIndex);
         }
 
-        final CellRangeAddress newRange = POIUtils.mergeCells(sheet, column, startRow, column, row);
+        final CellRangeAddress newRange = POIUtils.mergeCells(sheet, column, startRow, column, row, mergedIndex);
         mergedRanges.add(newRange);
         return true;
 
@@ -1471,12 +2565,12 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
                         } else if(recordOperation.getAnnotation().overOperation().equals(OverOperation.Copy)) {
                             final Cell fromCell = POIUtils.getCell(sheet, cell.getColumnIndex(), cell.getRowIndex()-1);
-                            copyCellStyle(fromCell, cell);
+                            copyCellStyle(fromCell, cell, work.getMergedRegionIndex());
 
                         } else if(recordOperation.getAnnotation().overOperation().equals(OverOperation.Insert)) {
                             // 既に追加ずみなので、セルの書式のコピーのみ行う
                             final Cell fromCell = POIUtils.getCell(sheet, cell.getColumnIndex(), cell.getRowIndex()-1);
-                            copyCellStyle(fromCell, cell);
+                            copyCellStyle(fromCell, cell, work.getMergedRegionIndex());
 
                         }
                     }
@@ -1497,7 +2591,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                     
                     try {
                         Object value = property.getValueOfMap(headerInfo.getLabel(), record);
-                        converter.toCell(value, record, sheet, CellPosition.of(cell));
+                        converter.toCell(value, record, sheet, CellPosition.of(cell), work);
 
                     } catch(TypeBindException e) {
 
@@ -1569,19 +2663,19 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
                         } else if(recordOperation.getAnnotation().overOperation().equals(OverOperation.Copy)) {
                             final Cell fromCell = POIUtils.getCell(sheet, cell.getColumnIndex(), cell.getRowIndex()-1);
-                            copyCellStyle(fromCell, cell);
+                            copyCellStyle(fromCell, cell, work.getMergedRegionIndex());
 
                         } else if(recordOperation.getAnnotation().overOperation().equals(OverOperation.Insert)) {
                             // 既に追加ずみなので、セルの書式のコピーのみ行う
                             final Cell fromCell = POIUtils.getCell(sheet, cell.getColumnIndex(), cell.getRowIndex()-1);
-                            copyCellStyle(fromCell, cell);
+                            copyCellStyle(fromCell, cell, work.getMergedRegionIndex());
 
                         }
                     }
 
                     // 結合情報を考慮して、インデックス（列番号）を次のセルに進める。
                     if(arrayAnno.elementMerged()) {
-                        final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+                        final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex(), work.getMergedRegionIndex());
                         if(mergedRegion != null) {
                             iColumn += POIUtils.getColumnSize(mergedRegion);
                         } else {
@@ -1641,8 +2735,9 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
      * @since 2.0
      * @param fromCell コピー元
      * @param toCell コピー先
+     * @param mergedIndex 結合情報の検索用のインデックス
      */
-    private void copyCellStyle(final Cell fromCell, final Cell toCell) {
+    private void copyCellStyle(final Cell fromCell, final Cell toCell, final MergedRegionIndex mergedIndex) {
 
         final CellStyle style = fromCell.getCellStyle();
         toCell.setCellStyle(style);
@@ -1650,18 +2745,18 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
         // 横方向に結合されている場合、結合情報のコピーする。（XlsArrayColumns用）
         final Sheet sheet = fromCell.getSheet();
-        final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, fromCell.getRowIndex(), fromCell.getColumnIndex());
+        final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, fromCell.getRowIndex(), fromCell.getColumnIndex(), mergedIndex);
         final int mergedSize = POIUtils.getColumnSize(mergedRegion);
 
         if(POIUtils.getColumnSize(mergedRegion) >= 2) {
-            CellRangeAddress newMergedRegion = POIUtils.getMergedRegion(sheet, toCell.getRowIndex(), toCell.getColumnIndex());
+            CellRangeAddress newMergedRegion = POIUtils.getMergedRegion(sheet, toCell.getRowIndex(), toCell.getColumnIndex(), mergedIndex);
             if(newMergedRegion != null) {
                 // 既に結合している場合 - 通常はありえない。
                 return;
             }
 
             newMergedRegion = POIUtils.mergeCells(sheet,
-                    mergedRegion.getFirstColumn(), toCell.getRowIndex(), mergedRegion.getLastColumn(), toCell.getRowIndex());
+                    mergedRegion.getFirstColumn(), toCell.getRowIndex(), mergedRegion.getLastColumn(), toCell.getRowIndex(), mergedIndex);
 
             // 結合先のセルの書式も設定する
             // 中間のセルの設定
@@ -1685,7 +2780,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
             final Object record,
             final Configuration config, final SavingWorkObject work,
             final List<CellRangeAddress> mergedRanges, final RecordOperation recordOperation,
-            final List<Integer> insertRowsIdx) throws XlsMapperException {
+            final Set<Integer> insertRowsIdx) throws XlsMapperException {
 
         int skipSize = 0;
 
@@ -1730,7 +2825,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                     }
                 }
 
-                processSavingNestedMergedRecord(sheet, skipSize, valueCellPositions);
+                processSavingNestedMergedRecord(sheet, skipSize, valueCellPositions, work.getMergedRegionIndex());
 
             } else if(clazz.isArray()) {
 
@@ -1758,7 +2853,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                     skipSize = list.size();
                 }
 
-                processSavingNestedMergedRecord(sheet, skipSize, valueCellPositions);
+                processSavingNestedMergedRecord(sheet, skipSize, valueCellPositions, work.getMergedRegionIndex());
 
             } else {
 
@@ -1796,9 +2891,10 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
      * @param sheet シート
      * @param mergedSize 結合するセルのサイズ
      * @param valueCellPositions 結合する開始位置のセルのアドレス
+     * @param mergedIndex 結合情報の検索用のインデックス
      */
     private void processSavingNestedMergedRecord(final Sheet sheet, final int mergedSize,
-            final List<CellPosition> valueCellPositions) {
+            final List<CellPosition> valueCellPositions, final MergedRegionIndex mergedIndex) {
 
         if(mergedSize <= 1) {
             return;
@@ -1826,13 +2922,13 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
             // 既に結合済みのセルがある場合、外す。
             for(int rowIdx=range.getFirstRow(); rowIdx <= range.getLastRow(); rowIdx++) {
-                CellRangeAddress r = POIUtils.getMergedRegion(sheet, rowIdx, position.getColumn());
+                CellRangeAddress r = POIUtils.getMergedRegion(sheet, rowIdx, position.getColumn(), mergedIndex);
                 if(r != null) {
-                    POIUtils.removeMergedRange(sheet, r);
+                    POIUtils.removeMergedRange(sheet, r, mergedIndex);
                 }
             }
 
-            sheet.addMergedRegion(range);
+            POIUtils.addMergedRegion(sheet, range, mergedIndex);
         }
 
     }
@@ -1968,8 +3064,10 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
      * @param sheet シート
      * @param recordOperation 挿入・削除処理の情報
      * @param mergedRegionList 挿入・削除処理を行う前の結合情報
+     * @param mergedIndex 結合情報の検索用のインデックス
      */
-    private void correctMergedCell(final Sheet sheet, final RecordOperation recordOperation, final List<CellRangeAddress> mergedRegionList) {
+    private void correctMergedCell(final Sheet sheet, final RecordOperation recordOperation, final List<CellRangeAddress> mergedRegionList,
+            final MergedRegionIndex mergedIndex) {
 
         if(recordOperation.isNotExecuteRecordOperation()) {
             return;
@@ -2003,8 +3101,8 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                             mergedRange.getFirstColumn(),
                             mergedRange.getLastColumn());
 
-                    if(!isOverMergedRegion(sheet, correctedRange)) {
-                        sheet.addMergedRegion(correctedRange);
+                    if(!isOverMergedRegion(sheet, correctedRange, mergedIndex)) {
+                        POIUtils.addMergedRegion(sheet, correctedRange, mergedIndex);
                     }
 
                 }
@@ -2019,21 +3117,12 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
      * 結合する反映が既にシート情報に存在しているかどうか判定する。
      * @param sheet シート情報
      * @param region 結合領域の情報
+     * @param mergedIndex 結合情報の検索用のインデックス
      * @return trueの場合、結合情報が既に存在する。
      */
-    private boolean isOverMergedRegion(final Sheet sheet, final CellRangeAddress region) {
-
-        final int mergedCount = sheet.getNumMergedRegions();
-        for(int i=0; i < mergedCount; i++) {
-            final CellRangeAddress existsRegion = sheet.getMergedRegion(i);
-
-            if(POIUtils.intersectsRegion(existsRegion, region) || POIUtils.intersectsRegion(region, existsRegion)) {
-                return true;
-            }
-
-        }
+    private boolean isOverMergedRegion(final Sheet sheet, final CellRangeAddress region, final MergedRegionIndex mergedIndex) {
 
-        return false;
+        return POIUtils.intersectsMergedRegion(sheet, region, mergedIndex);
 
     }
 
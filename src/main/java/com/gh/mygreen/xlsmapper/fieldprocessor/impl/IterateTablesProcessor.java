@@ -123,7 +123,9 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
 
         final String label = iterateTablesAnno.tableLabel();
 
-        currentCell = CellFinder.query(sheet, label, config).find(iterateTablesAnno.optional());
+        currentCell = CellFinder.query(sheet, label, config)
+                .labelIndex(work.getLabelIndex())
+                .find(iterateTablesAnno.optional());
 
         while(currentCell != null) {
             // 1 table object instance
@@ -148,6 +150,11 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
                 Utils.invokeNeedProcessMethod(tableObj, method, tableObj, sheet, config, work.getErrors(), ProcessCase.Load);
             });
 
+            // リスナーによるシートの変更は検知できないため、結合情報のインデックスを作成し直す
+            if(methodCache.hasPreLoadMethods()) {
+                work.invalidateMergedRegionIndex();
+            }
+
             // process sinslbe labelled comment
             loadSingleLabelledComment(sheet, tableObj, currentCell, config, work);
             
@@ -166,6 +173,7 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
             resultTableList.add(tableObj);
             after = currentCell;
             currentCell = CellFinder.query(sheet, label, config)
+                    .labelIndex(work.getLabelIndex())
                     .startPosition(after)
                     .excludeStartPosition(true)
                     .findOptional()
@@ -241,6 +249,7 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
             Cell titleCell = null;
             try {
                 titleCell = CellFinder.query(sheet, anno.label(), config)
+                        .labelIndex(work.getLabelIndex())
                         .startPosition(headerCell)
                         .excludeStartPosition(true)
                         .findWhenNotFoundException();
@@ -286,6 +295,7 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
             Cell titleCell = null;
             try {
                 titleCell = CellFinder.query(sheet, anno.label(), config)
+                        .labelIndex(work.getLabelIndex())
                         .startPosition(headerCell)
                         .excludeStartPosition(true)
                         .findWhenNotFoundException();
@@ -331,6 +341,7 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
             Cell titleCell = null;
             try {
                 titleCell = CellFinder.query(sheet, anno.label(), config)
+                        .labelIndex(work.getLabelIndex())
                         .startPosition(headerCell)
                         .excludeStartPosition(true)
                         .findWhenNotFoundException();
@@ -507,6 +518,11 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
                 Utils.invokeNeedProcessMethod(tableObj, method, tableObj, sheet, config, work.getErrors(), ProcessCase.Save);
             });
 
+            // リスナーによるシートの変更は検知できないため、結合情報のインデックスを作成し直す
+            if(methodCache.hasPreSaveMethods()) {
+                work.invalidateMergedRegionIndex();
+            }
+
             if(after == null) {
                 currentCell = CellFinder.query(sheet, label, config).find(iterateTablesAnno.optional());
             } else {
@@ -28,6 +28,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link XlsLabelledArrayCells}を処理するプロセッサ。
  *
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -92,7 +93,9 @@ public class LabelledArrayCellsProcessor extends AbstractFieldProcessor<XlsLabel
             final LoadingWorkObject work) {
 
         // マッピング対象のセル情報の取得
-        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config);
+        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config)
+                .labelIndex(work.getLabelIndex())
+                .mergedIndex(work.getMergedRegionIndex());
         Optional<LabelInfo> labelInfo = labelHandler.handle(anno, ProcessCase.Load);
 
         if(!labelInfo.isPresent()) {
@@ -192,7 +195,8 @@ public class LabelledArrayCellsProcessor extends AbstractFieldProcessor<XlsLabel
             final SavingWorkObject work) throws XlsMapperException {
 
         // マッピング対象のセル情報の取得
-        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config);
+        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config)
+                .mergedIndex(work.getMergedRegionIndex());
         Optional<LabelInfo> labelInfo = labelHandler.handle(anno, ProcessCase.Save);
 
         if(!labelInfo.isPresent()) {
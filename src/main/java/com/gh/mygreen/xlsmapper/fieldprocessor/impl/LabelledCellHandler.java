@@ -17,8 +17,10 @@ import com.gh.mygreen.xlsmapper.fieldprocessor.ProcessCase;
 import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
 import com.gh.mygreen.xlsmapper.util.CellFinder;
+import com.gh.mygreen.xlsmapper.util.CellLabelIndex;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
 import com.gh.mygreen.xlsmapper.util.ClassUtils;
+import com.gh.mygreen.xlsmapper.util.MergedRegionIndex;
 import com.gh.mygreen.xlsmapper.util.POIUtils;
 import com.gh.mygreen.xlsmapper.util.Utils;
 
@@ -38,12 +40,44 @@ public class LabelledCellHandler {
 
     private final Configuration config;
 
+    /**
+     * ラベルの検索用のインデックス
+     */
+    private CellLabelIndex labelIndex;
+
+    /**
+     * 結合情報の検索用のインデックス
+     */
+    private MergedRegionIndex mergedIndex;
+
     public LabelledCellHandler(final FieldAccessor field, final Sheet sheet, final Configuration config) {
         this.field = field;
         this.sheet = sheet;
         this.config = config;
     }
 
+    /**
+     * ラベルの検索に使用するインデックスを指定する。
+     * @since 2.1
+     * @param labelIndex ラベルの検索用のインデックス。使用しない場合はnullを指定する。
+     * @return 自身のインスタンス。メソッドチェーンとして続ける。
+     */
+    public LabelledCellHandler labelIndex(final CellLabelIndex labelIndex) {
+        this.labelIndex = labelIndex;
+        return this;
+    }
+
+    /**
+     * 結合情報の検索に使用するインデックスを指定する。
+     * @since 2.1
+     * @param mergedIndex 結合情報の検索用のインデックス。使用しない場合はnullを指定する。
+     * @return 自身のインスタンス。メソッドチェーンとして続ける。
+     */
+    public LabelledCellHandler mergedIndex(final MergedRegionIndex mergedIndex) {
+        this.mergedIndex = mergedIndex;
+        return this;
+    }
+
     /**
      * ラベル情報
      *
@@ -197,7 +231,7 @@ public class LabelledCellHandler {
         int mergedRowSize = 0;
         int mergedColumnSize = 0;
         if(annoProxy.labelMerged()) {
-            CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, row, column);
+            CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, row, column, mergedIndex);
             if(mergedRegion != null) {
                 mergedRowSize = mergedRegion.getLastRow() - mergedRegion.getFirstRow();
                 mergedColumnSize = mergedRegion.getLastColumn() - mergedRegion.getFirstColumn();
@@ -275,14 +309,19 @@ public class LabelledCellHandler {
             // 属性「label」によるラベルの指定がある場合
             try {
                 if(Utils.isNotEmpty(anno.headerLabel())){
-                    Cell headerCell = CellFinder.query(sheet, anno.headerLabel(), config).findWhenNotFoundException();
+                    Cell headerCell = CellFinder.query(sheet, anno.headerLabel(), config)
+                            .labelIndex(labelIndex)
+                            .findWhenNotFoundException();
                     Cell labelCell = CellFinder.query(sheet, anno.label(), config)
+                            .labelIndex(labelIndex)
                             .startPosition(headerCell.getColumnIndex(), headerCell.getRowIndex() + 1)
                             .findWhenNotFoundException();
                     return Optional.of(CellPosition.of(labelCell));
 
                 } else {
-                    Cell labelCell = CellFinder.query(sheet, anno.label(), config).findWhenNotFoundException();
+                    Cell labelCell = CellFinder.query(sheet, anno.label(), config)
+                            .labelIndex(labelIndex)
+                            .findWhenNotFoundException();
                     return Optional.of(CellPosition.of(labelCell));
                 }
             } catch(CellNotFoundException ex){
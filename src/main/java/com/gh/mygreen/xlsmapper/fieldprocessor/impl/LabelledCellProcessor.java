@@ -39,7 +39,9 @@ public class LabelledCellProcessor extends AbstractFieldProcessor<XlsLabelledCel
         }
 
         // マッピング対象のセル情報の取得
-        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config);
+        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config)
+                .labelIndex(work.getLabelIndex())
+                .mergedIndex(work.getMergedRegionIndex());
         Optional<LabelInfo> labelInfo = labelHandler.handle(anno, ProcessCase.Load);
 
         if(!labelInfo.isPresent()) {
@@ -62,7 +64,7 @@ public class LabelledCellProcessor extends AbstractFieldProcessor<XlsLabelledCel
         }
 
         try {
-            final Object value = converter.toObject(labelInfo.get().valueCell);
+            final Object value = converter.toObject(labelInfo.get().valueCell, work);
             accessor.setValue(beansObj, value);
         } catch(TypeBindException e) {
             work.addTypeBindError(e, labelInfo.get().valueAddress, accessor.getName(), labelInfo.get().label);
@@ -82,7 +84,8 @@ public class LabelledCellProcessor extends AbstractFieldProcessor<XlsLabelledCel
         }
 
         // マッピング対象のセル情報の取得
-        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config);
+        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config)
+                .mergedIndex(work.getMergedRegionIndex());
         Optional<LabelInfo> labelInfo = labelHandler.handle(anno, ProcessCase.Save);
 
         if(!labelInfo.isPresent()) {
@@ -106,7 +109,7 @@ public class LabelledCellProcessor extends AbstractFieldProcessor<XlsLabelledCel
         }
 
         try {
-            converter.toCell(accessor.getValue(targetObj), targetObj, sheet, labelInfo.get().valueAddress);
+            converter.toCell(accessor.getValue(targetObj), targetObj, sheet, labelInfo.get().valueAddress, work);
 
         } catch(TypeBindException e) {
             work.addTypeBindError(e, labelInfo.get().valueAddress, accessor.getName(), labelInfo.get().label);
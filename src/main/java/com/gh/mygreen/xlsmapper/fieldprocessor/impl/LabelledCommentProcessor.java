@@ -39,7 +39,9 @@ public class LabelledCommentProcessor extends AbstractFieldProcessor<XlsLabelled
         validatePropertyType(accessor, anno);
         
         // マッピング対象のセル情報の取得
-        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config);
+        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config)
+                .labelIndex(work.getLabelIndex())
+                .mergedIndex(work.getMergedRegionIndex());
         Optional<CellPosition> labelAddress = labelHandler.getLabelPosition(anno);
 
         if(!labelAddress.isPresent()) {
@@ -90,7 +92,8 @@ public class LabelledCommentProcessor extends AbstractFieldProcessor<XlsLabelled
         validatePropertyType(accessor, anno);
         
         // マッピング対象のセル情報の取得
-        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config);
+        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config)
+                .mergedIndex(work.getMergedRegionIndex());
         Optional<CellPosition> labelAddress = labelHandler.getLabelPosition(anno);
 
         if(!labelAddress.isPresent()) {
@@ -13,7 +13,7 @@ import com.gh.mygreen.xlsmapper.util.CellPosition;
  * シートのレコードの操作情報。
  * レコードの書き込み後、セルの入力規則やシートの名前の範囲を修正するために利用する。
  * 
- * @version 2.0
+ * @version 2.1
  * @since 0.3
  * @author T.TSUCHIE
  *
@@ -70,6 +70,16 @@ public class RecordOperation {
         this.countInsertRecord++;
     }
     
+    /**
+     * レコードの挿入回数を指定した数だけ増やす
+     * 
+     * @since 2.1
+     * @param count 増やす回数
+     */
+    public void incrementInsertRecord(final int count) {
+        this.countInsertRecord += count;
+    }
+    
     /**
      * レコードの削除回数を1つ増やす
      */
@@ -77,6 +87,16 @@ public class RecordOperation {
         this.countDeleteRecord++;
     }
     
+    /**
+     * レコードの削除回数を指定した数だけ増やす
+     * 
+     * @since 2.1
+     * @param count 増やす回数
+     */
+    public void incrementDeleteRecord(final int count) {
+        this.countDeleteRecord += count;
+    }
+    
     /**
      * レコードの操作を行ったかどうか。
      * コピー処理、挿入処理、削除処理が該当する。
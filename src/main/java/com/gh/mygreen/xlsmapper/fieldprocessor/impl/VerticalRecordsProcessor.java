@@ -7,10 +7,13 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -61,8 +64,10 @@ import com.gh.mygreen.xlsmapper.fieldprocessor.RecordMethodFacatory;
 import com.gh.mygreen.xlsmapper.fieldprocessor.RecordsProcessorUtil;
 import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
 import com.gh.mygreen.xlsmapper.util.CellFinder;
+import com.gh.mygreen.xlsmapper.util.CellLabelIndex;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
 import com.gh.mygreen.xlsmapper.util.FieldAccessorUtils;
+import com.gh.mygreen.xlsmapper.util.MergedRegionIndex;
 import com.gh.mygreen.xlsmapper.util.POIUtils;
 import com.gh.mygreen.xlsmapper.util.Utils;
 import com.gh.mygreen.xlsmapper.validation.fieldvalidation.FieldFormatter;
@@ -130,18 +135,80 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
     }
 
+    /**
+     * レコードを1件ずつ読み込むイテレータを作成します。
+     * <p>レコードのインスタンスの作成、値の変換は、{@link Iterator#next()}を呼び出したときに行います。
+     *   <br>そのため、イテレータを使用している間は、シートを閉じないでください。
+     * </p>
+     * <p>レコードの{@link com.gh.mygreen.xlsmapper.annotation.XlsPostLoad}などの後処理は、
+     *   {@link LoadingWorkObject#addNeedPostProcess(NeedProcess)}に登録されるため、呼び出し側で実行する必要があります。
+     * </p>
+     *
+     * @since 2.1
+     * @param sheet シート情報
+     * @param beansObj マッピング対象のBean
+     * @param anno アノテーション
+     * @param accessor マッピング対象のフィールド
+     * @param config システム設定
+     * @param work 作業用の情報
+     * @return レコードのイテレータ。読み込み対象外の場合、表が見つからない場合は空のイテレータを返します。
+     * @throws XlsMapperException マッピングに失敗した場合
+     */
+    public Iterator<Object> loadRecordIterator(final Sheet sheet, final Object beansObj, final XlsVerticalRecords anno,
+            final FieldAccessor accessor, final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
+
+        if(!Utils.isLoadCase(anno.cases())) {
+            return Collections.emptyIterator();
+        }
+
+        final Class<?> clazz = accessor.getType();
+        if(!Collection.class.isAssignableFrom(clazz) && !clazz.isArray()) {
+            throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.notSupportType")
+                    .var("property", accessor.getNameWithClass())
+                    .varWithAnno("anno", XlsVerticalRecords.class)
+                    .varWithClass("actualType", clazz)
+                    .var("expectedType", "Collection(List/Set) or Array")
+                    .format());
+        }
+
+        Class<?> recordClass = anno.recordClass();
+        if(recordClass == Object.class) {
+            recordClass = accessor.getComponentType();
+        }
+
+        return createRecordIterator(sheet, beansObj, anno, accessor, recordClass, config, work)
+                .<Iterator<Object>>map(itr -> itr)
+                .orElse(Collections.emptyIterator());
+
+    }
+
    private List<?> loadRecords(final Sheet sheet, final Object beansObj, final XlsVerticalRecords anno, final FieldAccessor accessor,
            final Class<?> recordClass, final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
 
+        final Optional<RecordIterator> itr = createRecordIterator(sheet, beansObj, anno, accessor, recordClass, config, work);
+        if(!itr.isPresent()) {
+            return null;
+        }
+
+        final List<Object> result = new ArrayList<>();
+        itr.get().forEachRemaining(result::add);
+        return result;
+    }
+
+   private Optional<RecordIterator> createRecordIterator(final Sheet sheet, final Object beansObj, final XlsVerticalRecords anno, final FieldAccessor accessor,
+           final Class<?> recordClass, final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
+
         // get table starting position
-        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config);
+        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config, work.getLabelIndex());
         if(!initPosition.isPresent()) {
-            return null;
+            return Optional.empty();
         }
 
         // ラベルの設定
         if(Utils.isNotEmpty(anno.tableLabel())) {
-            final Optional<Cell> tableLabelCell = CellFinder.query(sheet, anno.tableLabel(), config).findOptional();
+            final Optional<Cell> tableLabelCell = CellFinder.query(sheet, anno.tableLabel(), config)
+                    .labelIndex(work.getLabelIndex())
+                    .findOptional();
             tableLabelCell.ifPresent(c -> {
                 final String label = POIUtils.getCellContents(c, config.getCellFormatter());
                 accessor.setLabel(beansObj, label);
@@ -184,7 +251,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                 rangeCount = 1;
 
                 // 結合しているセルの場合は、はじめのセルだけ取得して、後は結合分スキップする。
-                CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+                CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex(), work.getMergedRegionIndex());
                 if(mergedRange != null) {
                     hRow = hRow + (mergedRange.getLastRow() - mergedRange.getFirstRow());
                 }
@@ -210,7 +277,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
         }
 
-        return loadRecords(sheet, headers, anno, startPosition, 0, accessor, recordClass, config, work);
+        return Optional.of(new RecordIterator(sheet, headers, anno, startPosition, 0, accessor, recordClass, config, work));
    }
 
    private List<?> loadRecords(final Sheet sheet, final List<RecordHeader> headers,
@@ -220,219 +287,335 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
            final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
 
         final List<Object> result = new ArrayList<>();
+        new RecordIterator(sheet, headers, anno, initPosition, parentMergedSize, accessor, recordClass, config, work)
+                .forEachRemaining(result::add);
 
-        final int initColumn = initPosition.getColumn();
-        final int initRow = initPosition.getRow();
+        return result;
+    }
 
-        final int maxColumn = initColumn + parentMergedSize;
-        int hColumn = initColumn;
+    /**
+     * レコードを1件ずつ読み込むイテレータ。
+     * <p>レコードのインスタンスの作成、値の変換は、次のレコードを取得するときに行います。</p>
+     *
+     * @since 2.1
+     */
+    private class RecordIterator implements Iterator<Object> {
 
-        // Check for columns
-        RecordsProcessorUtil.checkColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
-        RecordsProcessorUtil.checkMapColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
-        RecordsProcessorUtil.checkArrayColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+        private final Sheet sheet;
 
-        RecordTerminal terminal = anno.terminal();
-        if(terminal == null){
-            terminal = RecordTerminal.Empty;
-        }
+        private final List<RecordHeader> headers;
 
-        // 各種レコードのコールバック用メソッドを抽出する
-        final RecordMethodCache methodCache = new RecordMethodFacatory(work.getAnnoReader(), config)
-                .create(recordClass, ProcessCase.Load);
+        private final XlsVerticalRecords anno;
 
-        // レコードの見出しに対するカラム情報のキャッシュ
-        final Map<String, List<FieldAccessor>> propertiesCache = new HashMap<>();
+        private final int parentMergedSize;
 
-        // カラムに対するConverterのキャッシュ
-        final Map<String, CellConverter<?>> converterCache = new HashMap<>();
+        private final FieldAccessor accessor;
 
-        final int startHeaderIndex = getStartHeaderIndexForLoading(headers, recordClass, work.getAnnoReader(), config);
+        private final Class<?> recordClass;
 
-        // get records
-        while(hColumn < POIUtils.getColumns(sheet)){
+        private final Configuration config;
 
-            if(parentMergedSize > 0 && hColumn >= maxColumn) {
-                // ネストしている処理のとき、最大の処理レコード数をチェックする。
-                break;
+        private final LoadingWorkObject work;
+
+        private final int initColumn;
+
+        private final int initRow;
+
+        private final int maxColumn;
+
+        private int hColumn;
+
+        private final RecordTerminal terminal;
+
+        private final RecordMethodCache methodCache;
+
+        private final int startHeaderIndex;
+
+        /**
+         * レコードの見出しに対するカラム情報のキャッシュ
+         */
+        private final Map<String, List<FieldAccessor>> propertiesCache = new HashMap<>();
+
+        /**
+         * カラムに対するConverterのキャッシュ
+         */
+        private final Map<String, CellConverter<?>> converterCache = new HashMap<>();
+
+        /**
+         * 読み込んだ有効なレコードの件数
+         */
+        private int recordCount;
+
+        /**
+         * 表の終端に達したかどうか
+         */
+        private boolean finished;
+
+        /**
+         * 先読みしたレコード
+         */
+        private Object nextRecord;
+
+        private RecordIterator(final Sheet sheet, final List<RecordHeader> headers,
+                final XlsVerticalRecords anno,
+                final CellPosition initPosition, final int parentMergedSize,
+                final FieldAccessor accessor, final Class<?> recordClass,
+                final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
+
+            this.sheet = sheet;
+            this.headers = headers;
+            this.anno = anno;
+            this.parentMergedSize = parentMergedSize;
+            this.accessor = accessor;
+            this.recordClass = recordClass;
+            this.config = config;
+            this.work = work;
+
+            this.initColumn = initPosition.getColumn();
+            this.initRow = initPosition.getRow();
+
+            this.maxColumn = initColumn + parentMergedSize;
+            this.hColumn = initColumn;
+
+            // Check for columns
+            RecordsProcessorUtil.checkColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+            RecordsProcessorUtil.checkMapColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+            RecordsProcessorUtil.checkArrayColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+
+            this.terminal = anno.terminal() == null ? RecordTerminal.Empty : anno.terminal();
+
+            // 各種レコードのコールバック用メソッドを抽出する
+            this.methodCache = new RecordMethodFacatory(work.getAnnoReader(), config)
+                    .create(recordClass, ProcessCase.Load);
+
+            this.startHeaderIndex = getStartHeaderIndexForLoading(headers, recordClass, work.getAnnoReader(), config);
+
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(nextRecord == null && !finished) {
+                this.nextRecord = loadNext();
             }
 
-            boolean emptyFlag = true;
-            // recordは、マッピング先のオブジェクトのインスタンス。
-            final Object record = config.createBean(recordClass);
+            return nextRecord != null;
+        }
 
-            // パスの位置の変更
-            work.getErrors().pushNestedPath(accessor.getName(), result.size());
+        @Override
+        public Object next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
 
-            // execute PreProcess listener
-            methodCache.getListenerClasses().forEach(listenerClass -> {
-                listenerClass.getPreLoadMethods().forEach(method -> {
-                    Utils.invokeNeedProcessMethod(listenerClass.getObject(), method, record, sheet, config, work.getErrors(), ProcessCase.Load);
-                });
-            });
+            final Object record = nextRecord;
+            this.nextRecord = null;
+            return record;
+        }
 
-            // execute PreProcess method
-            methodCache.getPreLoadMethods().forEach(method -> {
-                Utils.invokeNeedProcessMethod(record, method, record, sheet, config, work.getErrors(), ProcessCase.Load);
-            });
+        /**
+         * 次の有効なレコードを読み込む。
+         * @return 表の終端に達した場合は、nullを返す。
+         */
+        private Object loadNext() throws XlsMapperException {
 
-            final List<MergedRecord> mergedRecords = new ArrayList<>();
+            // get records
+            while(hColumn < POIUtils.getColumns(sheet)){
 
-            loadMapColumns(sheet, headers, mergedRecords, CellPosition.of(initRow, hColumn), recordClass, record, config, work);
+                if(parentMergedSize > 0 && hColumn >= maxColumn) {
+                    // ネストしている処理のとき、最大の処理レコード数をチェックする。
+                    break;
+                }
 
-            loadArrayColumns(sheet, headers, mergedRecords, CellPosition.of(initRow, hColumn), recordClass, record, config, work);
+                boolean emptyFlag = true;
+                // recordは、マッピング先のオブジェクトのインスタンス。
+                final Object record = config.createBean(recordClass);
 
-            for(int i=0; i < headers.size() && hColumn < POIUtils.getColumns(sheet); i++){
-                final RecordHeader headerInfo = headers.get(i);
-                int hRow = initRow + headerInfo.getInterval();
-                final Cell cell = POIUtils.getCell(sheet, hColumn, hRow);
+                // パスの位置の変更
+                work.getErrors().pushNestedPath(accessor.getName(), recordCount);
 
-                // find end of the table
-                if(!POIUtils.isEmptyCellContents(cell, config.getCellFormatter())){
-                    emptyFlag = false;
+                // execute PreProcess listener
+                methodCache.getListenerClasses().forEach(listenerClass -> {
+                    listenerClass.getPreLoadMethods().forEach(method -> {
+                        Utils.invokeNeedProcessMethod(listenerClass.getObject(), method, record, sheet, config, work.getErrors(), ProcessCase.Load);
+                    });
+                });
+
+                // execute PreProcess method
+                methodCache.getPreLoadMethods().forEach(method -> {
+                    Utils.invokeNeedProcessMethod(record, method, record, sheet, config, work.getErrors(), ProcessCase.Load);
+                });
+
+                // リスナーによるシートの変更は検知できないため、結合情報のインデックスを作成し直す
+                if(methodCache.hasPreLoadMethods()) {
+                    work.invalidateMergedRegionIndex();
                 }
 
-                if(terminal==RecordTerminal.Border && i == startHeaderIndex){
-                    if(!POIUtils.getBorderTop(cell).equals(BorderStyle.NONE)){
+                final List<MergedRecord> mergedRecords = new ArrayList<>();
+
+                loadMapColumns(sheet, headers, mergedRecords, CellPosition.of(initRow, hColumn), recordClass, record, config, work);
+
+                loadArrayColumns(sheet, headers, mergedRecords, CellPosition.of(initRow, hColumn), recordClass, record, config, work);
+
+                for(int i=0; i < headers.size() && hColumn < POIUtils.getColumns(sheet); i++){
+                    final RecordHeader headerInfo = headers.get(i);
+                    int hRow = initRow + headerInfo.getInterval();
+                    final Cell cell = POIUtils.getCell(sheet, hColumn, hRow);
+
+                    // find end of the table
+                    if(!POIUtils.isEmptyCellContents(cell, config.getCellFormatter())){
                         emptyFlag = false;
-                    } else {
-                        emptyFlag = true;
-                        break;
                     }
-                }
 
-                if(!anno.terminateLabel().equals("")){
-                    if(Utils.matches(POIUtils.getCellContents(cell, config.getCellFormatter()), anno.terminateLabel(), config)){
-                        emptyFlag = true;
-                        break;
+                    if(terminal==RecordTerminal.Border && i == startHeaderIndex){
+                        if(!POIUtils.getBorderTop(cell).equals(BorderStyle.NONE)){
+                            emptyFlag = false;
+                        } else {
+                            emptyFlag = true;
+                            break;
+                        }
                     }
-                }
 
-                // mapping from Excel columns to Object properties.
-                final List<FieldAccessor> propeties = propertiesCache.computeIfAbsent(headerInfo.getLabel(), key -> {
-                    return FieldAccessorUtils.getColumnPropertiesByName(
-                            record.getClass(), work.getAnnoReader(), config, key)
-                            .stream()
-                            .filter(p -> p.isReadable())
-                            .collect(Collectors.toList());
-                });
+                    if(!anno.terminateLabel().equals("")){
+                        if(Utils.matches(POIUtils.getCellContents(cell, config.getCellFormatter()), anno.terminateLabel(), config)){
+                            emptyFlag = true;
+                            break;
+                        }
+                    }
 
-                for(FieldAccessor property : propeties) {
-                    Cell valueCell = cell;
-                    final XlsColumn column = property.getAnnotationNullable(XlsColumn.class);
+                    // mapping from Excel columns to Object properties.
+                    final List<FieldAccessor> propeties = propertiesCache.computeIfAbsent(headerInfo.getLabel(), key -> {
+                        return FieldAccessorUtils.getColumnPropertiesByName(
+                                record.getClass(), work.getAnnoReader(), config, key)
+                                .stream()
+                                .filter(p -> p.isReadable())
+                                .collect(Collectors.toList());
+                    });
 
-                    if(column.headerMerged() > 0){
-                        hRow = hRow + column.headerMerged();
-                        valueCell = POIUtils.getCell(sheet, hColumn, hRow);
-                    }
+                    for(FieldAccessor property : propeties) {
+                        Cell valueCell = cell;
+                        final XlsColumn column = property.getAnnotationNullable(XlsColumn.class);
 
-                    // for merged cell
-                    if(POIUtils.isEmptyCellContents(valueCell, config.getCellFormatter())){
-                        CellStyle valueCellFormat = valueCell.getCellStyle();
-                        if(column.merged() && POIUtils.getBorderRight(valueCell).equals(BorderStyle.NONE)){
-                            for(int k=hColumn; k > initColumn; k--){
-                                final Cell tmpCell = POIUtils.getCell(sheet, k, hRow);
-                                final CellStyle tmpCellFormat = tmpCell.getCellStyle();
+                        if(column.headerMerged() > 0){
+                            hRow = hRow + column.headerMerged();
+                            valueCell = POIUtils.getCell(sheet, hColumn, hRow);
+                        }
 
-                                if(!POIUtils.getBorderLeft(tmpCell).equals(BorderStyle.NONE)){
-                                    break;
-                                }
+                        // for merged cell
+                        if(POIUtils.isEmptyCellContents(valueCell, config.getCellFormatter())){
+                            CellStyle valueCellFormat = valueCell.getCellStyle();
+                            if(column.merged() && POIUtils.getBorderRight(valueCell).equals(BorderStyle.NONE)){
+                                for(int k=hColumn; k > initColumn; k--){
+                                    final Cell tmpCell = POIUtils.getCell(sheet, k, hRow);
+                                    final CellStyle tmpCellFormat = tmpCell.getCellStyle();
+
+                                    if(!POIUtils.getBorderLeft(tmpCell).equals(BorderStyle.NONE)){
+                                        break;
+                                    }
 
-                                if(!POIUtils.isEmptyCellContents(tmpCell, config.getCellFormatter())){
-                                    valueCell = tmpCell;
-                                    break;
+                                    if(!POIUtils.isEmptyCellContents(tmpCell, config.getCellFormatter())){
+                                        valueCell = tmpCell;
+                                        break;
+                                    }
                                 }
                             }
                         }
-                    }
 
-                    if(column.headerMerged() > 0){
-                        hRow = hRow - column.headerMerged();
-                    }
+                        if(column.headerMerged() > 0){
+                            hRow = hRow - column.headerMerged();
+                        }
 
-                    CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, valueCell.getRowIndex(), valueCell.getColumnIndex());
-                    if(mergedRange != null) {
-                        int mergedSize =  mergedRange.getLastColumn() - mergedRange.getFirstColumn() + 1;
-                        mergedRecords.add(new MergedRecord(headerInfo, mergedRange, mergedSize));
-                    } else {
-                        mergedRecords.add(new MergedRecord(headerInfo, CellRangeAddress.valueOf(POIUtils.formatCellAddress(valueCell)), 1));
-                    }
+                        CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, valueCell.getRowIndex(), valueCell.getColumnIndex(), work.getMergedRegionIndex());
+                        if(mergedRange != null) {
+                            int mergedSize =  mergedRange.getLastColumn() - mergedRange.getFirstColumn() + 1;
+                            mergedRecords.add(new MergedRecord(headerInfo, mergedRange, mergedSize));
+                        } else {
+                            mergedRecords.add(new MergedRecord(headerInfo, CellRangeAddress.valueOf(POIUtils.formatCellAddress(valueCell)), 1));
+                        }
 
-                    if(!Utils.isLoadCase(column.cases())) {
-                        continue;
-                    }
+                        if(!Utils.isLoadCase(column.cases())) {
+                            continue;
+                        }
 
-                    // set for value
-                    property.setPosition(record, CellPosition.of(valueCell));
-                    property.setLabel(record, headerInfo.getLabel());
+                        // set for value
+                        property.setPosition(record, CellPosition.of(valueCell));
+                        property.setLabel(record, headerInfo.getLabel());
 
-                    final Cell tempCommentCell = valueCell;
-                    property.getCommentSetter().ifPresent(setter -> 
-                            config.getCommentOperator().loadCellComment(setter, tempCommentCell, record, property, config));
+                        final Cell tempCommentCell = valueCell;
+                        property.getCommentSetter().ifPresent(setter -> 
+                                config.getCommentOperator().loadCellComment(setter, tempCommentCell, record, property, config));
                     
-                    final CellConverter<?> converter = converterCache.computeIfAbsent(property.getName(), key -> getCellConverter(property, config));
-                    if(converter instanceof FieldFormatter) {
-                        work.getErrors().registerFieldFormatter(property.getName(), property.getType(), (FieldFormatter<?>)converter, true);
-                    }
+                        final CellConverter<?> converter = converterCache.computeIfAbsent(property.getName(), key -> getCellConverter(property, config));
+                        if(converter instanceof FieldFormatter) {
+                            work.getErrors().registerFieldFormatter(property.getName(), property.getType(), (FieldFormatter<?>)converter, true);
+                        }
 
-                    try {
-                        final Object value = converter.toObject(valueCell);
-                        property.setValue(record, value);
-                    } catch(TypeBindException e) {
-                        work.addTypeBindError(e, valueCell, property.getName(), headerInfo.getLabel());
-                        if(!config.isContinueTypeBindFailure()) {
-                            throw e;
+                        try {
+                            final Object value = converter.toObject(valueCell, work);
+                            property.setValue(record, value);
+                        } catch(TypeBindException e) {
+                            work.addTypeBindError(e, valueCell, property.getName(), headerInfo.getLabel());
+                            if(!config.isContinueTypeBindFailure()) {
+                                throw e;
+                            }
                         }
                     }
                 }
-            }
 
-            // execute nested record
-            final int skipSize = loadNestedRecords(sheet, headers, mergedRecords, anno, CellPosition.of(initRow, hColumn), record, config, work);
-            if(parentMergedSize > 0 && skipSize > 0 && (hColumn + skipSize) > maxColumn) {
-                // check over merged cell.
-                String message = String.format("Over merged size. In sheet '%s' with columnIndex=%d, over the columnIndex=%s.",
-                        sheet.getSheetName(), hColumn + skipSize, maxColumn);
-                throw new NestedRecordMergedSizeException(sheet.getSheetName(), skipSize, message);
-            }
+                // execute nested record
+                final int skipSize = loadNestedRecords(sheet, headers, mergedRecords, anno, CellPosition.of(initRow, hColumn), record, config, work);
+                if(parentMergedSize > 0 && skipSize > 0 && (hColumn + skipSize) > maxColumn) {
+                    // check over merged cell.
+                    String message = String.format("Over merged size. In sheet '%s' with columnIndex=%d, over the columnIndex=%s.",
+                            sheet.getSheetName(), hColumn + skipSize, maxColumn);
+                    throw new NestedRecordMergedSizeException(sheet.getSheetName(), skipSize, message);
+                }
 
 
-            if(emptyFlag){
-                // パスの位置の変更
-                work.getErrors().popNestedPath();
-                break;
-            }
+                if(emptyFlag){
+                    // パスの位置の変更
+                    work.getErrors().popNestedPath();
+                    break;
+                }
 
-            if(isAvailabledRecord(methodCache.getIgnoreableMethod(), record)) {
-                // 有効なレコードのみ、処理を行う
-                result.add(record);
+                final boolean available = isAvailabledRecord(methodCache.getIgnoreableMethod(), record);
+                if(available) {
+                    // 有効なレコードのみ、処理を行う
+                    recordCount++;
 
-                // set PostProcess listener
-                methodCache.getListenerClasses().forEach(listenerClass -> {
-                    listenerClass.getPostLoadMethods().forEach(method -> {
-                        work.addNeedPostProcess(new NeedProcess(record, listenerClass.getObject(), method));
+                    // set PostProcess listener
+                    methodCache.getListenerClasses().forEach(listenerClass -> {
+                        listenerClass.getPostLoadMethods().forEach(method -> {
+                            work.addNeedPostProcess(new NeedProcess(record, listenerClass.getObject(), method));
+                        });
                     });
-                });
 
-                // set PostProcess method
-                methodCache.getPostLoadMethods().forEach(method -> {
-                    work.addNeedPostProcess(new NeedProcess(record, record, method));
-                });
+                    // set PostProcess method
+                    methodCache.getPostLoadMethods().forEach(method -> {
+                        work.addNeedPostProcess(new NeedProcess(record, record, method));
+                    });
 
-            }
+                }
 
-            // パスの位置の変更
-            work.getErrors().popNestedPath();
+                // パスの位置の変更
+                work.getErrors().popNestedPath();
+
+                if(skipSize > 0) {
+                    hColumn += skipSize;
+                } else {
+                    hColumn++;
+                }
+
+                if(available) {
+                    return record;
+                }
 
-            if(skipSize > 0) {
-                hColumn += skipSize;
-            } else {
-                hColumn++;
             }
 
+            finished = true;
+            return null;
+
         }
 
-        return result;
     }
 
     /**
@@ -442,12 +625,13 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
      * @param anno
      * @param accessor
      * @param config
+     * @param labelIndex ラベルの検索用のインデックス。使用しない場合はnullを指定する。
      * @return 表の開始位置。指定したラベルが見つからない場合、設定によりnullを返す。
      * @throws AnnotationInvalidException アノテーションの値が不正で、表の開始位置が位置が見つからない場合。
      * @throws CellNotFoundException 指定したラベルが見つからない場合。
      */
     private Optional<CellPosition> getHeaderPosition(final Sheet sheet, final XlsVerticalRecords anno,
-            final FieldAccessor accessor, final Configuration config) throws AnnotationInvalidException, CellNotFoundException {
+            final FieldAccessor accessor, final Configuration config, final CellLabelIndex labelIndex) throws AnnotationInvalidException, CellNotFoundException {
 
         if(Utils.isNotEmpty(anno.headerAddress())) {
             try {
@@ -465,7 +649,9 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
         } else if(Utils.isNotEmpty(anno.tableLabel())) {
             try {
-                final Cell labelCell = CellFinder.query(sheet, anno.tableLabel(), config).findWhenNotFoundException();
+                final Cell labelCell = CellFinder.query(sheet, anno.tableLabel(), config)
+                        .labelIndex(labelIndex)
+                        .findWhenNotFoundException();
 
                 if(anno.tableLabelAbove()) {
                     // 表の見出しが上にある場合、左側に補正する
@@ -595,7 +781,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                     property.getMapCommentSetter().ifPresent(setter -> 
                     config.getCommentOperator().loadMapCellComment(setter, cell, record, headerInfo.getLabel(), property, config));
                     
-                    CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+                    CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex(), work.getMergedRegionIndex());
                     if(mergedRange != null) {
                         int mergedSize =  mergedRange.getLastColumn() - mergedRange.getFirstColumn() + 1;
                         mergedRecords.add(new MergedRecord(headerInfo, mergedRange, mergedSize));
@@ -604,7 +790,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                     }
 
                     try {
-                        final Object value = converter.toObject(cell);
+                        final Object value = converter.toObject(cell, work);
                         map.put(headerInfo.getLabel(), value);
                     } catch(TypeBindException e) {
                         e.setBindClass(valueClass);  // マップの項目のタイプに変更
@@ -862,7 +1048,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
         RecordsProcessorUtil.checkSavingNestedRecordClass(recordClass, accessor, work.getAnnoReader());
 
         // get table starting position
-        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config);
+        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config, null);
         if(!initPosition.isPresent()) {
             return;
         }
@@ -904,7 +1090,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                 rangeCount = 1;
 
                 // 結合しているセルの場合は、はじめのセルだけ取得して、後は結合分スキップする。
-                CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+                CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex(), work.getMergedRegionIndex());
                 if(mergedRange != null) {
                     hRow = hRow + (mergedRange.getLastRow() - mergedRange.getFirstRow());
                 }
@@ -1062,6 +1248,11 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                     Utils.invokeNeedProcessMethod(record, method, record, sheet, config, work.getErrors(), ProcessCase.Save);
                 });
 
+                // リスナーによるシートの変更は検知できないため、結合情報のインデックスを作成し直す
+                if(methodCache.hasPreSaveMethods()) {
+                    work.invalidateMergedRegionIndex();
+                }
+
             }
 
 //            // レコードの各列処理で既に行を追加したかどうかのフラグ。
@@ -1193,7 +1384,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                         }
 
                         try {
-                            converter.toCell(property.getValue(record), record, sheet, CellPosition.of(valueCell));
+                            converter.toCell(property.getValue(record), record, sheet, CellPosition.of(valueCell), work);
                         } catch(TypeBindException e) {
                             work.addTypeBindError(e, valueCell, property.getName(), headerInfo.getLabel());
                             if(!config.isContinueTypeBindFailure()) {
@@ -1203,7 +1394,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
                         // セルをマージする
                         if(column.merged() && (r > 0) && config.isMergeCellOnSave()) {
-                            processSavingMergedCell(valueCell, sheet, mergedRanges, config);
+                            processSavingMergedCell(valueCell, sheet, mergedRanges, config, work.getMergedRegionIndex());
                         }
                     }
                 }
@@ -1319,10 +1510,11 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
      * @param currentCell
      * @param sheet
      * @param mergedRanges
+     * @param mergedIndex 結合情報の検索用のインデックス
      * @return
      */
     private boolean processSavingMergedCell(final Cell currentCell, final Sheet sheet,
-            final List<CellRangeAddress> mergedRanges, final Configuration config) {
+            final List<CellRangeAddress> mergedRanges, final Configuration config, final MergedRegionIndex mergedIndex) {
 
         final int row = currentCell.getRowIndex();
         final int column = currentCell.getColumnIndex();
@@ -1362,10 +1554,10 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
         // 既に結合済みの場合は一端解除する
         if(currentMergedRange != null) {
             startColumn = currentMergedRange.getFirstColumn();
-            POIUtils.removeMergedRange(sheet, currentMergedRange);
+            POIUtils.removeMergedRange(sheet, currentMergedRange, mergedIndex);
         }
 
-        final CellRangeAddress newRange = POIUtils.mergeCells(sheet, startColumn, row, column, row);
+        final CellRangeAddress newRange = POIUtils.mergeCells(sheet, startColumn, row, column, row, mergedIndex);
         mergedRanges.add(newRange);
         return true;
 
@@ -1467,7 +1659,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
                     try {
                         Object value = property.getValueOfMap(headerInfo.getLabel(), record);
-                        converter.toCell(value, record, sheet, CellPosition.of(cell));
+                        converter.toCell(value, record, sheet, CellPosition.of(cell), work);
                     } catch(TypeBindException e) {
                         work.addTypeBindError(e, cell, String.format("%s[%s]", property.getName(), headerInfo.getLabel()), headerInfo.getLabel());
                         if(!config.isContinueTypeBindFailure()) {
@@ -1537,7 +1729,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
                         } else if(recordOperation.getAnnotation().overOperation().equals(OverOperation.Copy)) {
                             final Cell fromCell = POIUtils.getCell(sheet, cell.getColumnIndex()-1, cell.getRowIndex());
-                            copyCellStyle(fromCell, cell);
+                            copyCellStyle(fromCell, cell, work.getMergedRegionIndex());
 
                         } else if(recordOperation.getAnnotation().overOperation().equals(OverOperation.Insert)) {
                             // POIは列の追加をサポートしていないので非対応。
@@ -1554,7 +1746,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
                     // 結合情報を考慮して、インデックス（列番号）を次のセルに進める。
                     if(arrayAnno.elementMerged()) {
-                        final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+                        final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex(), work.getMergedRegionIndex());
                         if(mergedRegion != null) {
                             iRow += POIUtils.getRowSize(mergedRegion);
                         } else {
@@ -1614,8 +1806,9 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
      * @since 2.0
      * @param fromCell コピー元
      * @param toCell コピー先
+     * @param mergedIndex 結合情報の検索用のインデックス
      */
-    private void copyCellStyle(final Cell fromCell, final Cell toCell) {
+    private void copyCellStyle(final Cell fromCell, final Cell toCell, final MergedRegionIndex mergedIndex) {
 
         final CellStyle style = fromCell.getCellStyle();
         toCell.setCellStyle(style);
@@ -1623,18 +1816,18 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
         // 縦方向に結合されている場合、結合情報のコピーする。（XlsArrayColumns用）
         final Sheet sheet = fromCell.getSheet();
-        final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, fromCell.getRowIndex(), fromCell.getColumnIndex());
+        final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, fromCell.getRowIndex(), fromCell.getColumnIndex(), mergedIndex);
         final int mergedSize = POIUtils.getRowSize(mergedRegion);
 
         if(mergedSize >= 2) {
-            CellRangeAddress newMergedRegion = POIUtils.getMergedRegion(sheet, toCell.getRowIndex(), toCell.getColumnIndex());
+            CellRangeAddress newMergedRegion = POIUtils.getMergedRegion(sheet, toCell.getRowIndex(), toCell.getColumnIndex(), mergedIndex);
             if(newMergedRegion != null) {
                 // 既に結合している場合 - 通常はありえない。
                 return;
             }
 
             newMergedRegion = POIUtils.mergeCells(sheet,
-                    toCell.getColumnIndex(), mergedRegion.getFirstRow(), toCell.getColumnIndex(), mergedRegion.getLastRow());
+                    toCell.getColumnIndex(), mergedRegion.getFirstRow(), toCell.getColumnIndex(), mergedRegion.getLastRow(), mergedIndex);
 
             // 結合先のセルの書式も設定する
             for(int i=1; i < mergedSize; i++) {
@@ -1699,7 +1892,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                     }
                 }
 
-                processSavingNestedMergedRecord(sheet, skipSize, valueCellPositions);
+                processSavingNestedMergedRecord(sheet, skipSize, valueCellPositions, work.getMergedRegionIndex());
 
             } else if(clazz.isArray()) {
 
@@ -1727,7 +1920,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                     skipSize = list.size();
                 }
 
-                processSavingNestedMergedRecord(sheet, skipSize, valueCellPositions);
+                processSavingNestedMergedRecord(sheet, skipSize, valueCellPositions, work.getMergedRegionIndex());
 
             } else {
 
@@ -1765,9 +1958,10 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
      * @param sheet シート
      * @param mergedSize 結合するセルのサイズ
      * @param valueCellPositions 結合する開始位置のセルのアドレス
+     * @param mergedIndex 結合情報の検索用のインデックス
      */
     private void processSavingNestedMergedRecord(final Sheet sheet, final int mergedSize,
-            final List<CellPosition> valueCellPositions) {
+            final List<CellPosition> valueCellPositions, final MergedRegionIndex mergedIndex) {
 
         if(mergedSize <= 1) {
             return;
@@ -1795,13 +1989,13 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
             // 既に結合済みのセルがある場合、外す。
             for(int colIdx=range.getFirstColumn(); colIdx <= range.getLastColumn(); colIdx++) {
-                CellRangeAddress r = POIUtils.getMergedRegion(sheet, position.getRow(), colIdx);
+                CellRangeAddress r = POIUtils.getMergedRegion(sheet, position.getRow(), colIdx, mergedIndex);
                 if(r != null) {
-                    POIUtils.removeMergedRange(sheet, r);
+                    POIUtils.removeMergedRange(sheet, r, mergedIndex);
                 }
             }
 
-            sheet.addMergedRegion(range);
+            POIUtils.addMergedRegion(sheet, range, mergedIndex);
         }
 
     }
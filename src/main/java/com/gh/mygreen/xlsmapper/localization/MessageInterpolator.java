@@ -1,9 +1,11 @@
 package com.gh.mygreen.xlsmapper.localization;
 
+import java.util.ArrayList;
 import java.util.Formatter;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -15,6 +17,7 @@ import com.gh.mygreen.xlsmapper.expression.ExpressionEvaluationException;
 import com.gh.mygreen.xlsmapper.expression.ExpressionLanguage;
 import com.gh.mygreen.xlsmapper.expression.ExpressionLanguageJEXLImpl;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
+import com.gh.mygreen.xlsmapper.util.ConcurrentLruCache;
 import com.gh.mygreen.xlsmapper.util.StackUtils;
 import com.gh.mygreen.xlsmapper.util.Utils;
 
@@ -29,7 +32,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
  *   <br>ただし、メッセージ変数で指定されている変数が優先される。
  * </p>
  * 
- * @version 2.0
+ * @version 2.1
  * @author T.TSUCHIE
  *
  */
@@ -37,9 +40,22 @@ public class MessageInterpolator {
     
     private static final Logger logger = LoggerFactory.getLogger(MessageInterpolator.class);
     
+    /**
+     * メッセージの解析結果をキャッシュする最大件数
+     */
+    private static final int TEMPLATE_CACHE_SIZE = 1024;
+    
     private ExpressionLanguage expressionLanguage;
     
+    private final ConcurrentLruCache<String, MessageTemplate> templateCache = new ConcurrentLruCache<>(TEMPLATE_CACHE_SIZE);
+    
+    /**
+     * 設定を変更できないかどうか
+     */
+    private final boolean frozen;
+    
     public MessageInterpolator() {
+        this.frozen = false;
         
         // EL式中で使用可能な関数の登録
         ExpressionLanguageJEXLImpl el = new ExpressionLanguageJEXLImpl();
@@ -58,9 +74,48 @@ public class MessageInterpolator {
      */
     public MessageInterpolator(final ExpressionLanguage expressionLanguage) {
         ArgUtils.notNull(expressionLanguage, "expressionLanguage");
+        this.frozen = false;
         this.expressionLanguage = expressionLanguage;
     }
     
+    /**
+     * 設定を変更できないスナップショットを作成するコンストラクタ。
+     * @since 2.1
+     * @param original コピー元のインスタンス
+     */
+    protected MessageInterpolator(final MessageInterpolator original) {
+        this.frozen = true;
+        if(original.expressionLanguage instanceof ExpressionLanguageJEXLImpl) {
+            this.expressionLanguage = ((ExpressionLanguageJEXLImpl)original.expressionLanguage).snapshot();
+        } else {
+            this.expressionLanguage = original.expressionLanguage;
+        }
+    }
+    
+    /**
+     * 現在の設定値をコピーした、設定を変更できないインスタンスを作成します。
+     * <p>作成したインスタンスの{@link #setExpressionLanguage(ExpressionLanguage)}を呼び出すと、{@link IllegalStateException}をスローします。</p>
+     * <p>式言語の実装が{@link ExpressionLanguageJEXLImpl}の場合は、{@link ExpressionLanguageJEXLImpl#snapshot()}で
+     *   登録されている関数などを変更できないようにコピーします。それ以外の実装の場合は、コピー元と共有します。
+     *   <br>メッセージの解析結果のキャッシュは、作成したインスタンスごとに保持します。
+     * </p>
+     * <p>サブクラスの場合は、コピーコンストラクタを利用して本メソッドをオーバーライドしてください。</p>
+     * @since 2.1
+     * @return 設定を変更できないインスタンス。既に設定を変更できない場合は、自身のインスタンスを返します。
+     */
+    public MessageInterpolator snapshot() {
+        return frozen ? this : new MessageInterpolator(this);
+    }
+    
+    /**
+     * 設定を変更できないかどうか判定します。
+     * @since 2.1
+     * @return trueの場合、{@link #snapshot()}で作成した設定を変更できないインスタンスです。
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+    
     /**
      * メッセージを引数varsで指定した変数で補完する。
      * 
@@ -101,6 +156,7 @@ public class MessageInterpolator {
     
     /**
      * メッセージをパースし、変数に値を差し込み、EL式を評価する。
+     * <p>メッセージの解析結果は、{@link #getTemplateCache()}にキャッシュし、同じメッセージを再度解析しないようにします。</p>
      * @param message 対象のメッセージ。
      * @param vars メッセージ中の変数に対する値のマップ。
      * @param messageResolver メッセージを解決するクラス。nullの場合、指定しないと同じ意味になります。
@@ -108,9 +164,77 @@ public class MessageInterpolator {
      */
     protected String parse(final String message, final Map<String, ?> vars, boolean recursive, final MessageResolver messageResolver) {
         
+        final MessageTemplate template = getTemplate(message);
+        if(template.isLiteral()) {
+            return message;
+        }
+        
         // 評価したメッセージを格納するバッファ。
         final StringBuilder sb = new StringBuilder(message.length());
         
+        for(Token token : template.tokens) {
+            switch(token.type) {
+                case LITERAL:
+                    sb.append(token.value);
+                    break;
+                case VARIABLE:
+                    sb.append(evaluateVariable(token, vars, recursive, messageResolver));
+                    break;
+                case EXPRESSION:
+                    final String eval = evaluateExpression(token.value, vars);
+                    sb.append(recursive ? parse(eval, vars, recursive, messageResolver) : eval);
+                    break;
+            }
+        }
+        
+        return sb.toString();
+    }
+    
+    /**
+     * メッセージの解析結果を取得する。
+     * <p>変数やEL式を含まないメッセージは、キャッシュしません。</p>
+     * @param message 対象のメッセージ。
+     * @return 解析結果。
+     * @throws MessageParseException メッセージの書式が不正な場合。
+     */
+    private MessageTemplate getTemplate(final String message) {
+        
+        if(!containsSpecialChar(message)) {
+            return MessageTemplate.LITERAL;
+        }
+        
+        return templateCache.computeIfAbsent(message, MessageInterpolator::compile);
+    }
+    
+    /**
+     * 特殊文字'$', '{', '}', '\'を含むかどうか判定する。
+     */
+    private static boolean containsSpecialChar(final String message) {
+        
+        final int length = message.length();
+        for(int i=0; i < length; i++) {
+            final char c = message.charAt(i);
+            if(c == '$' || c == '{' || c == '}' || c == '\\') {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * メッセージを解析し、文字列、変数、EL式の並びに変換する。
+     * @param message 対象のメッセージ。
+     * @return 解析結果。
+     * @throws MessageParseException メッセージの書式が不正な場合。
+     */
+    private static MessageTemplate compile(final String message) {
+        
+        final MessageTemplate template = new MessageTemplate();
+        
+        // 解析中の文字列を格納するバッファ。
+        final StringBuilder sb = new StringBuilder(message.length());
+        
         /*
          * 変数とEL式を解析する際に使用する、スタック変数。
          * 式の開始が現れたらスタックに積み、式の終了が現れたらスタックから全てを取り出す。
@@ -158,14 +282,14 @@ public class MessageInterpolator {
             } else if(c == '}') {
                 
                 if(StackUtils.equalsAnyBottomElement(stack, new String[]{"{", "$"})) {
-                    // 式の終わりの場合は、式を取り出し評価する。
+                    // 式の終わりの場合は、式を取り出し変数またはEL式として追加する。
                     String expression = StackUtils.popupAndConcat(stack) + c;
                     
                     // エスケープを解除する
                     expression = Utils.removeEscapeChar(expression, '\\');
                     
-                    String result = evaluate(expression, vars, recursive, messageResolver);
-                    sb.append(result);
+                    template.addLiteral(sb);
+                    template.addExpression(expression);
                     
                 } else {
                     sb.append(c);
@@ -191,59 +315,45 @@ public class MessageInterpolator {
             sb.append(val);
         }
         
-        return sb.toString();
+        template.addLiteral(sb);
+        
+        return template;
     }
     
-    private String evaluate(final String expression, final Map<String, ?> values, final boolean recursive,
+    private String evaluateVariable(final Token token, final Map<String, ?> values, final boolean recursive,
             final MessageResolver messageResolver) {
         
-        if(expression.startsWith("{")) {
-            // 変数の置換の場合
-            final String varName = expression.substring(1, expression.length()-1);
-            
-            if(values.containsKey(varName)) {
-                // 該当するキーが存在する場合
-                final Object value = values.get(varName);
-                final String eval = (value == null) ? "" : value.toString();
-                if(!eval.isEmpty() && recursive) {
-                    return parse(eval, values, recursive, messageResolver);
-                } else {
-                    return eval;
-                }
-                
-            } else if(messageResolver != null) {
-                // メッセージコードをとして解決をする。
-                final Optional<String> eval = messageResolver.getMessage(varName);
-                if(!eval.isPresent()) {
-                    // 該当するキーが存在しない場合は、値をそのまま返す。
-                    return String.format("{%s}", varName);
-                }
-                
-                if(recursive) {
-                    return parse(eval.get(), values, recursive, messageResolver);
-                } else {
-                    return eval.get();
-                }
-                
+        final String varName = token.value;
+        
+        if(values.containsKey(varName)) {
+            // 該当するキーが存在する場合
+            final Object value = values.get(varName);
+            final String eval = (value == null) ? "" : value.toString();
+            if(!eval.isEmpty() && recursive) {
+                return parse(eval, values, recursive, messageResolver);
             } else {
+                return eval;
+            }
+            
+        } else if(messageResolver != null) {
+            // メッセージコードをとして解決をする。
+            final Optional<String> eval = messageResolver.getMessage(varName);
+            if(!eval.isPresent()) {
                 // 該当するキーが存在しない場合は、値をそのまま返す。
-                return expression.toString();
+                return String.format("{%s}", varName);
             }
             
-        } else if(expression.startsWith("${")) {
-            // EL式で処理する
-            final String expr = expression.substring(2, expression.length()-1);
-            final String eval = evaluateExpression(expr, values);
             if(recursive) {
-                return parse(eval, values, recursive, messageResolver);
+                return parse(eval.get(), values, recursive, messageResolver);
             } else {
-                return eval;
+                return eval.get();
             }
             
+        } else {
+            // 該当するキーが存在しない場合は、値をそのまま返す。
+            return token.source;
         }
         
-        throw new MessageParseException(expression, "not support expression.");
-        
     }
     
     /**
@@ -285,9 +395,96 @@ public class MessageInterpolator {
     /**
      * EL式を解析する実装クラスを設定する。
      * @param expressionLanguage EL式の解析するクラスの実装。
+     * @throws IllegalStateException {@link #snapshot()}で作成した設定を変更できないインスタンスの場合
      */
     public void setExpressionLanguage(ExpressionLanguage expressionLanguage) {
+        if(frozen) {
+            throw new IllegalStateException(MessageBuilder.create("config.frozen")
+                    .var("property", "expressionLanguage")
+                    .format());
+        }
         this.expressionLanguage = expressionLanguage;
     }
     
+    /**
+     * メッセージの解析結果のキャッシュを取得する。
+     * <p>キャッシュの統計情報の確認などに使用します。</p>
+     * @since 2.1
+     * @return メッセージの解析結果のキャッシュ。
+     */
+    public ConcurrentLruCache<String, ?> getTemplateCache() {
+        return templateCache;
+    }
+    
+    /**
+     * メッセージの解析結果。
+     * <p>文字列、変数、EL式の並びとして保持します。</p>
+     */
+    private static final class MessageTemplate {
+        
+        /**
+         * 変数やEL式を含まないメッセージ
+         */
+        private static final MessageTemplate LITERAL = new MessageTemplate();
+        
+        private final List<Token> tokens = new ArrayList<>();
+        
+        private boolean isLiteral() {
+            return this == LITERAL;
+        }
+        
+        private void addLiteral(final StringBuilder sb) {
+            if(sb.length() > 0) {
+                tokens.add(new Token(TokenType.LITERAL, sb.toString(), null));
+                sb.setLength(0);
+            }
+        }
+        
+        private void addExpression(final String expression) {
+            
+            if(expression.startsWith("{")) {
+                // 変数の置換の場合
+                tokens.add(new Token(TokenType.VARIABLE, expression.substring(1, expression.length()-1), expression));
+                
+            } else if(expression.startsWith("${")) {
+                // EL式で処理する
+                tokens.add(new Token(TokenType.EXPRESSION, expression.substring(2, expression.length()-1), expression));
+                
+            } else {
+                throw new MessageParseException(expression, "not support expression.");
+            }
+        }
+        
+    }
+    
+    private enum TokenType {
+        LITERAL,
+        VARIABLE,
+        EXPRESSION;
+    }
+    
+    /**
+     * メッセージの構成要素
+     */
+    private static final class Token {
+        
+        private final TokenType type;
+        
+        /**
+         * 文字列、変数名またはEL式
+         */
+        private final String value;
+        
+        /**
+         * 変数またはEL式の元の記述
+         */
+        private final String source;
+        
+        private Token(final TokenType type, final String value, final String source) {
+            this.type = type;
+            this.value = value;
+            this.source = source;
+        }
+    }
+    
 }
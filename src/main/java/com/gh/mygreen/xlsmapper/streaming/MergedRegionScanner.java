@@ -0,0 +1,186 @@
+package com.gh.mygreen.xlsmapper.streaming;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.util.CellRangeAddress;
+
+/**
+ * シートのXML(sheetN.xml)から、結合セルの情報(mergeCell要素)のみを抽出するクラス。
+ * <p>結合セルの情報は、XML中のセルの値(sheetData要素)の後に出力されるため、
+ *   行の読み込みの前に事前に読み込んでおく必要があります。
+ *   <br>XMLとしては解析せずに、バイト列からタグの名前のみを判定して読み飛ばすため、
+ *   セルの値をSAXで解析するのは行の読み込みの1回のみとなります。
+ * </p>
+ * <p>XMLでは、テキストと属性値中の{@literal '<'}は必ずエスケープされるため、
+ *   {@literal '<'}から始まるバイト列はタグとして判定できます。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+class MergedRegionScanner {
+
+    private static final String TAG_NAME = "mergeCell";
+
+    /**
+     * タグの名前として読み込む最大の長さ。名前空間の接頭語を含む。
+     */
+    private static final int MAX_NAME_LENGTH = 64;
+
+    /**
+     * mergeCell要素の属性として読み込む最大の長さ
+     */
+    private static final int MAX_ATTRIBUTES_LENGTH = 512;
+
+    private enum State {
+        /** タグの外 */
+        TEXT,
+        /** タグの名前の読み込み中 */
+        NAME,
+        /** mergeCell要素の属性の読み込み中 */
+        ATTRIBUTES
+    }
+
+    private final List<CellRangeAddress> mergedRegions = new ArrayList<>();
+
+    private final char[] name = new char[MAX_NAME_LENGTH];
+
+    private int nameLength;
+
+    private final StringBuilder attributes = new StringBuilder();
+
+    private State state = State.TEXT;
+
+    /**
+     * シートのXMLから、結合セルの情報を抽出する。
+     * @param in シートのXMLの入力
+     * @return 結合セルの範囲の一覧
+     * @throws IOException 読み込みに失敗した場合
+     */
+    static List<CellRangeAddress> scan(final InputStream in) throws IOException {
+
+        final MergedRegionScanner scanner = new MergedRegionScanner();
+        final byte[] buffer = new byte[64 * 1024];
+        int length;
+        while((length = in.read(buffer)) >= 0) {
+            for(int i=0; i < length; i++) {
+                scanner.accept(buffer[i]);
+            }
+        }
+
+        return scanner.mergedRegions;
+    }
+
+    private void accept(final byte b) {
+
+        switch(state) {
+            case TEXT:
+                if(b == '<') {
+                    this.nameLength = 0;
+                    this.state = State.NAME;
+                }
+                break;
+
+            case NAME:
+                if(b == ' ' || b == '\t' || b == '\r' || b == '\n' || b == '/' || b == '>') {
+                    if(isMergeCell() && b != '>') {
+                        attributes.setLength(0);
+                        this.state = State.ATTRIBUTES;
+                    } else {
+                        // 属性値中に'<'は含まれないため、次の'<'までは読み飛ばしてよい
+                        this.state = State.TEXT;
+                    }
+
+                } else if(nameLength < MAX_NAME_LENGTH) {
+                    name[nameLength++] = (char) b;
+
+                } else {
+                    this.state = State.TEXT;
+                }
+                break;
+
+            case ATTRIBUTES:
+                if(b == '>') {
+                    addMergedRegion();
+                    this.state = State.TEXT;
+
+                } else if(attributes.length() < MAX_ATTRIBUTES_LENGTH) {
+                    attributes.append((char) b);
+
+                } else {
+                    this.state = State.TEXT;
+                }
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    /**
+     * 読み込んだタグの名前が、名前空間の接頭語を除いて mergeCell かどうか判定する。
+     */
+    private boolean isMergeCell() {
+
+        final int start = nameLength - TAG_NAME.length();
+        if(start < 0 || (start > 0 && name[start - 1] != ':')) {
+            return false;
+        }
+
+        for(int i=0; i < TAG_NAME.length(); i++) {
+            if(name[start + i] != TAG_NAME.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * mergeCell要素の属性ref から、結合セルの範囲を追加する。
+     */
+    private void addMergedRegion() {
+
+        int index = 0;
+        while((index = attributes.indexOf("ref", index)) >= 0) {
+            // 他の属性名の一部の場合は読み飛ばす
+            if(index > 0 && !Character.isWhitespace(attributes.charAt(index - 1))) {
+                index += 3;
+                continue;
+            }
+
+            int pos = index + 3;
+            while(pos < attributes.length() && Character.isWhitespace(attributes.charAt(pos))) {
+                pos++;
+            }
+
+            if(pos >= attributes.length() || attributes.charAt(pos) != '=') {
+                index += 3;
+                continue;
+            }
+
+            pos++;
+            while(pos < attributes.length() && Character.isWhitespace(attributes.charAt(pos))) {
+                pos++;
+            }
+
+            if(pos >= attributes.length()) {
+                return;
+            }
+
+            final char quote = attributes.charAt(pos);
+            final int end = attributes.indexOf(String.valueOf(quote), pos + 1);
+            if((quote != '"' && quote != '\'') || end < 0) {
+                return;
+            }
+
+            mergedRegions.add(CellRangeAddress.valueOf(attributes.substring(pos + 1, end)));
+            return;
+        }
+    }
+
+}
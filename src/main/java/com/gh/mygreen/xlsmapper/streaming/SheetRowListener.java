@@ -0,0 +1,46 @@
+package com.gh.mygreen.xlsmapper.streaming;
+
+import java.util.Set;
+
+import org.apache.poi.ss.usermodel.Row;
+
+import com.gh.mygreen.xlsmapper.XlsMapperException;
+
+/**
+ * ストリーミング読み込み時に、シートの行を1行ずつ受け取るリスナー。
+ * <p>行は、シートの上から順番に通知されます。
+ *   <br>値が存在しない行は、XMLに出力されないため通知されません。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public interface SheetRowListener {
+
+    /**
+     * 1行分の読み込みが完了したときに呼ばれます。
+     *
+     * @param row 読み込んだ行。作業用のシートに一時的に保持している行です。
+     * @return 以降の行も必要な場合は、trueを返します。
+     * @throws XlsMapperException マッピングに失敗した場合
+     */
+    boolean onRow(Row row) throws XlsMapperException;
+
+    /**
+     * シートの読み込みが完了したときに呼ばれます。
+     *
+     * @throws XlsMapperException マッピングに失敗した場合
+     */
+    void onEndSheet() throws XlsMapperException;
+
+    /**
+     * 以降の処理で参照するため、作業用のシートから削除してはいけない行番号を追加します。
+     * <p>通知された直後の行以外は、ここで指定しない限り作業用のシートから削除されます。</p>
+     *
+     * @param rowIndexes 削除対象外とする行番号(0から始まる)を追加する集合。
+     */
+    default void collectRetainedRows(Set<Integer> rowIndexes) {
+
+    }
+}
@@ -0,0 +1,33 @@
+package com.gh.mygreen.xlsmapper.streaming;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+import com.gh.mygreen.xlsmapper.XlsMapperException;
+
+/**
+ * ストリーミング書き込み時に、シートに行を書き込む処理。
+ * <p>テンプレートのシートに対する処理が全て終わった後に、
+ *   {@link org.apache.poi.xssf.streaming.SXSSFWorkbook}のシートに対して呼ばれます。
+ * </p>
+ * <p>ストリーミングで書き込めない状態の場合は、引数のシートに行を作成せず、テンプレートのシートに書き込みます。
+ * </p>
+ * <p>行は、行番号の昇順に作成する必要があります。
+ *   作成した行は、一定の行数を超えると一時ファイルに出力されるため、後から参照することはできません。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@FunctionalInterface
+public interface SheetRowWriter {
+
+    /**
+     * シートに行を書き込みます。
+     *
+     * @param sheet 書き込み先のシート。
+     * @throws XlsMapperException マッピングに失敗した場合
+     */
+    void write(Sheet sheet) throws XlsMapperException;
+
+}
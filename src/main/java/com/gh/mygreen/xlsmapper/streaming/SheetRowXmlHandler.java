@@ -0,0 +1,377 @@
+package com.gh.mygreen.xlsmapper.streaming;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * シートのXML(sheetN.xml)を読み込み、1行ずつ作業用のシートに書き込みリスナーに通知するSAXのハンドラ。
+ * <p>作業用のシートには、通知中の行と、リスナーが保持を指定した行、
+ *   後続の行と結合されているセルを持つ行のみを残します。
+ * </p>
+ * <p>数式が設定されているセルは、ファイル中にキャッシュされている計算結果の値を設定します。</p>
+ * <p>ISO 8601形式の日時のセル(t="d")は、日時の値として設定します。</p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+class SheetRowXmlHandler extends DefaultHandler {
+
+    /**
+     * 全てのリスナーの処理が終了したときに、以降の読み込みを中断するための例外。
+     */
+    @SuppressWarnings("serial")
+    static class StopParsingException extends SAXException {
+
+        StopParsingException() {
+            super("stop parsing.");
+        }
+    }
+
+    private final Sheet sheet;
+
+    private final ReadOnlySharedStringsTable sharedStrings;
+
+    private final IntFunction<CellStyle> styleProvider;
+
+    private final List<SheetRowListener> activeListeners;
+
+    /**
+     * 結合セルの開始行と、その行から結合されている最後の行のマップ
+     */
+    private final Map<Integer, Integer> mergedLastRows = new HashMap<>();
+
+    /**
+     * 作業用のシートに保持している行番号。行ごとに作成し直さずに再利用する。
+     */
+    private int[] windowRows = new int[16];
+
+    /**
+     * 作業用のシートに保持している行の数
+     */
+    private int windowSize;
+
+    /**
+     * リスナーが削除対象外とした行番号。行ごとに作成し直さずに再利用する。
+     */
+    private final Set<Integer> retainedRows = new HashSet<>();
+
+    /**
+     * 現在の行
+     */
+    private Row currentRow;
+
+    /**
+     * 直前の行番号
+     */
+    private int lastRowIndex = -1;
+
+    /**
+     * 直前の列番号
+     */
+    private int lastColumnIndex = -1;
+
+    private int cellColumnIndex;
+
+    private String cellType;
+
+    private int cellStyleIndex;
+
+    private boolean inValue;
+
+    private boolean inInlineText;
+
+    private boolean inPhonetic;
+
+    private final StringBuilder value = new StringBuilder();
+
+    /**
+     * コンストラクタ
+     * @param sheet 書き込み先の作業用のシート
+     * @param sharedStrings 共有文字列のテーブル
+     * @param styleProvider スタイルのインデックスから作業用のシートのスタイルを取得する関数
+     * @param listeners 行の通知先
+     * @param mergedRegions シートの結合セルの情報
+     */
+    SheetRowXmlHandler(final Sheet sheet, final ReadOnlySharedStringsTable sharedStrings,
+            final IntFunction<CellStyle> styleProvider, final List<? extends SheetRowListener> listeners,
+            final List<CellRangeAddress> mergedRegions) {
+        this.sheet = sheet;
+        this.sharedStrings = sharedStrings;
+        this.styleProvider = styleProvider;
+        this.activeListeners = new ArrayList<>(listeners);
+
+        for(CellRangeAddress region : mergedRegions) {
+            if(region.getLastRow() > region.getFirstRow()) {
+                mergedLastRows.merge(region.getFirstRow(), region.getLastRow(), Math::max);
+            }
+        }
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName, final Attributes attributes)
+            throws SAXException {
+
+        final String name = getLocalName(localName, qName);
+        if("row".equals(name)) {
+            final String ref = attributes.getValue("r");
+            final int rowIndex = ref != null ? Integer.parseInt(ref) - 1 : lastRowIndex + 1;
+            final Row existRow = sheet.getRow(rowIndex);
+            if(existRow != null) {
+                // 前の行の処理中に作成された空の行を除去する
+                sheet.removeRow(existRow);
+            }
+
+            this.currentRow = sheet.createRow(rowIndex);
+            if(existRow == null) {
+                addWindowRow(rowIndex);
+            }
+            this.lastRowIndex = rowIndex;
+            this.lastColumnIndex = -1;
+
+        } else if("c".equals(name)) {
+            final String ref = attributes.getValue("r");
+            this.cellColumnIndex = ref != null ? new CellReference(ref).getCol() : lastColumnIndex + 1;
+            this.lastColumnIndex = cellColumnIndex;
+
+            this.cellType = attributes.getValue("t");
+            final String style = attributes.getValue("s");
+            this.cellStyleIndex = style != null ? Integer.parseInt(style) : 0;
+            value.setLength(0);
+
+        } else if("v".equals(name)) {
+            this.inValue = true;
+
+        } else if("rPh".equals(name)) {
+            this.inPhonetic = true;
+
+        } else if("t".equals(name) && !inPhonetic) {
+            this.inInlineText = true;
+
+        }
+
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) throws SAXException {
+        if(inValue || inInlineText) {
+            value.append(ch, start, length);
+        }
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+
+        final String name = getLocalName(localName, qName);
+        if("v".equals(name)) {
+            this.inValue = false;
+
+        } else if("t".equals(name)) {
+            this.inInlineText = false;
+
+        } else if("rPh".equals(name)) {
+            this.inPhonetic = false;
+
+        } else if("c".equals(name)) {
+            writeCell();
+
+        } else if("row".equals(name)) {
+            notifyRow();
+
+        } else if("sheetData".equals(name)) {
+            // 結合情報などは読み込み済みのため、以降は読み込まない
+            throw new StopParsingException();
+        }
+
+    }
+
+    private String getLocalName(final String localName, final String qName) {
+        return localName != null && !localName.isEmpty() ? localName : qName;
+    }
+
+    /**
+     * 読み込んだセルの値を作業用のシートに書き込む。
+     */
+    private void writeCell() {
+
+        final Cell cell = currentRow.createCell(cellColumnIndex);
+        final CellStyle style = styleProvider.apply(cellStyleIndex);
+        if(style != null) {
+            cell.setCellStyle(style);
+        }
+
+        final String text = value.toString();
+        if(text.isEmpty() && !"inlineStr".equals(cellType)) {
+            // 値がない場合は、空のセルのままとする
+            return;
+        }
+
+        if(cellType == null || "n".equals(cellType)) {
+            cell.setCellValue(Double.parseDouble(text));
+
+        } else if("s".equals(cellType)) {
+            cell.setCellValue(sharedStrings.getEntryAt(Integer.parseInt(text.trim())));
+
+        } else if("b".equals(cellType)) {
+            cell.setCellValue("1".equals(text) || "true".equalsIgnoreCase(text));
+
+        } else if("e".equals(cellType)) {
+            try {
+                cell.setCellErrorValue(FormulaError.forString(text).getCode());
+            } catch(IllegalArgumentException e) {
+                cell.setCellValue(text);
+            }
+
+        } else if("d".equals(cellType)) {
+            setDateCellValue(cell, text.trim());
+
+        } else {
+            // inlineStr, str(数式の結果の文字列)
+            cell.setCellValue(text);
+        }
+
+    }
+
+    /**
+     * ISO 8601形式の日時の値を、セルに設定する。
+     * <p>Excelはタイムゾーンを持たないため、オフセットが指定されている場合は、その地域の日時として扱います。
+     *   <br>解析できない場合は、文字列として設定します。
+     * </p>
+     * @param cell 設定先のセル
+     * @param text ISO 8601形式の日時
+     */
+    private void setDateCellValue(final Cell cell, final String text) {
+
+        try {
+            final LocalDateTime dateTime;
+            if(text.indexOf('T') >= 0) {
+                final char last = text.charAt(text.length() - 1);
+                if(last == 'Z' || text.lastIndexOf('+') > text.indexOf('T') || text.lastIndexOf('-') > text.indexOf('T')) {
+                    dateTime = OffsetDateTime.parse(text).toLocalDateTime();
+                } else {
+                    dateTime = LocalDateTime.parse(text);
+                }
+
+            } else if(text.indexOf(':') >= 0) {
+                // 時刻のみの場合は、日付の部分を持たないシリアル値とする
+                final LocalTime time = LocalTime.parse(text);
+                cell.setCellValue(time.toNanoOfDay() / (double) TimeUnit.DAYS.toNanos(1));
+                return;
+
+            } else {
+                dateTime = LocalDate.parse(text).atStartOfDay();
+            }
+
+            cell.setCellValue(Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant()));
+
+        } catch(DateTimeParseException e) {
+            cell.setCellValue(text);
+        }
+
+    }
+
+    /**
+     * 1行分の読み込みが完了したことをリスナーに通知する。
+     * @throws StopParsingException 全てのリスナーの処理が完了した場合
+     */
+    private void notifyRow() throws StopParsingException {
+
+        final Iterator<SheetRowListener> itr = activeListeners.iterator();
+        while(itr.hasNext()) {
+            final SheetRowListener listener = itr.next();
+            if(!listener.onRow(currentRow)) {
+                itr.remove();
+            }
+        }
+
+        // 不要になった行を作業用のシートから削除する
+        retainedRows.clear();
+        activeListeners.forEach(listener -> listener.collectRetainedRows(retainedRows));
+
+        if(sheet.getPhysicalNumberOfRows() != windowSize) {
+            // リスナーの処理で行が作成／削除された場合は、保持している行番号を作成し直す
+            this.windowSize = 0;
+            for(Row row : sheet) {
+                addWindowRow(row.getRowNum());
+            }
+        }
+
+        int retainedSize = 0;
+        for(int i=0; i < windowSize; i++) {
+            final int rowIndex = windowRows[i];
+            if(isRetainedRow(rowIndex)) {
+                windowRows[retainedSize++] = rowIndex;
+                continue;
+            }
+
+            final Row row = sheet.getRow(rowIndex);
+            if(row != null) {
+                sheet.removeRow(row);
+            }
+        }
+        this.windowSize = retainedSize;
+
+        this.currentRow = null;
+
+        if(activeListeners.isEmpty()) {
+            throw new StopParsingException();
+        }
+    }
+
+    /**
+     * 作業用のシートから削除せずに保持する行かどうか判定する。
+     * @param rowIndex 行番号
+     * @return trueの場合、保持する。
+     */
+    private boolean isRetainedRow(final int rowIndex) {
+
+        if(retainedRows.contains(rowIndex)) {
+            return true;
+        }
+
+        // 結合セルの値は先頭のセルから取得するため、結合範囲を読み終わるまで保持する
+        final Integer mergedLastRow = mergedLastRows.get(rowIndex);
+        return mergedLastRow != null && mergedLastRow > lastRowIndex;
+    }
+
+    /**
+     * 作業用のシートに保持している行番号を追加する。
+     * @param rowIndex 行番号
+     */
+    private void addWindowRow(final int rowIndex) {
+
+        if(windowSize == windowRows.length) {
+            this.windowRows = Arrays.copyOf(windowRows, windowSize * 2);
+        }
+
+        windowRows[windowSize++] = rowIndex;
+    }
+
+}
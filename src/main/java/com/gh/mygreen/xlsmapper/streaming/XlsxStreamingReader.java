@@ -0,0 +1,279 @@
+package com.gh.mygreen.xlsmapper.streaming;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.util.SAXHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbookPr;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import com.gh.mygreen.xlsmapper.XlsMapperException;
+import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+
+/**
+ * XLSX形式のファイルを、XSSFのイベントモデル({@link XSSFReader})を使用して読み込むクラス。
+ * <p>ワークブック全体をDOMとして構築せずに、シートのXMLを1行ずつ読み込みます。</p>
+ * <p>読み込んだ行は、シートと同じ名前を持つ作業用のワークブック({@link #getWorkbook()})のシートに一時的に書き込まれます。
+ *   そのため、既存の{@link com.gh.mygreen.xlsmapper.cellconverter.CellConverter}などの処理をそのまま利用することができます。
+ *   <br>作業用のシートには、値は読み込み中の行のみ、書式はセルのスタイル、結合情報のみが保持されます。
+ *   セルのコメント、入力規則などは保持されません。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class XlsxStreamingReader implements Closeable {
+
+    private final Path tempFile;
+
+    private final OPCPackage pkg;
+
+    private final ReadOnlySharedStringsTable sharedStrings;
+
+    private final StylesTable styles;
+
+    /**
+     * 作業用のワークブック
+     */
+    private final XSSFWorkbook workbook;
+
+    /**
+     * シート名とシートのXMLのパートのマップ
+     */
+    private final Map<String, PackagePart> sheetParts = new LinkedHashMap<>();
+
+    /**
+     * 元ファイルのスタイルのインデックスと、作業用のワークブックのスタイルのマップ
+     */
+    private final Map<Integer, CellStyle> styleCache = new HashMap<>();
+
+    private XlsxStreamingReader(final Path tempFile, final OPCPackage pkg) throws IOException, OpenXML4JException, SAXException {
+
+        this.tempFile = tempFile;
+        this.pkg = pkg;
+
+        final XSSFReader reader = new XSSFReader(pkg);
+        // ふりがなは、通常の読み込みと同様に値に含めない
+        this.sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+        this.styles = reader.getStylesTable();
+
+        this.workbook = new XSSFWorkbook();
+        final XSSFReader.SheetIterator itr = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while(itr.hasNext()) {
+            itr.next().close();
+            final String sheetName = itr.getSheetName();
+            sheetParts.put(sheetName, itr.getSheetPart());
+            workbook.createSheet(sheetName);
+        }
+
+        // 1904年始まりの設定の引継ぎ
+        try(InputStream in = reader.getWorkbookData()) {
+            if(isDate1904(in)) {
+                final CTWorkbookPr workbookPr = workbook.getCTWorkbook().isSetWorkbookPr() ?
+                        workbook.getCTWorkbook().getWorkbookPr() : workbook.getCTWorkbook().addNewWorkbookPr();
+                workbookPr.setDate1904(true);
+            }
+        }
+
+    }
+
+    /**
+     * XLSX形式のファイルを開きます。
+     * <p>ZIPのエントリを全てメモリ上に展開しないように、入力ストリームは一時ファイルに書き出してから開きます。</p>
+     *
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @return 読み込み用のインスタンス
+     * @throws IllegalArgumentException {@literal xlsIn == null}
+     * @throws XlsMapperException サポートしていないファイル形式の場合
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    public static XlsxStreamingReader open(final InputStream xlsIn) throws XlsMapperException, IOException {
+
+        ArgUtils.notNull(xlsIn, "xlsIn");
+
+        final Path tempFile = Files.createTempFile("xlsmapper", ".xlsx");
+        OPCPackage pkg = null;
+        try {
+            Files.copy(xlsIn, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            pkg = OPCPackage.open(tempFile.toFile(), PackageAccess.READ);
+            return new XlsxStreamingReader(tempFile, pkg);
+
+        } catch(OpenXML4JException | SAXException | RuntimeException e) {
+            if(pkg != null) {
+                pkg.revert();
+            }
+            Files.deleteIfExists(tempFile);
+            throw new XlsMapperException(MessageBuilder.create("file.failLoadExcel.notSupportType").format(), e);
+
+        } catch(IOException e) {
+            if(pkg != null) {
+                pkg.revert();
+            }
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+    }
+
+    /**
+     * 作業用のワークブックを取得します。
+     * <p>元ファイルと同じ名前、同じ順番のシートを持ちます。
+     *   {@link com.gh.mygreen.xlsmapper.SheetFinder}によるシートの検索に使用できます。
+     * </p>
+     * @return 作業用のワークブック
+     */
+    public Workbook getWorkbook() {
+        return workbook;
+    }
+
+    /**
+     * シートの行を1行ずつ読み込み、リスナーに通知します。
+     * <p>全てのリスナーの処理が完了した時点で、シートの読み込みを中断します。
+     *   <br>読み込みの終了時には、全てのリスナーの{@link SheetRowListener#onEndSheet()}を呼び出します。
+     * </p>
+     *
+     * @param sheet 作業用のワークブックのシート。
+     * @param listeners 行の通知先のリスナー
+     * @throws IllegalArgumentException {@literal sheet == null or listeners == null}
+     * @throws IllegalArgumentException 作業用のワークブックのシートではない場合
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    public void readRows(final Sheet sheet, final List<? extends SheetRowListener> listeners) throws XlsMapperException, IOException {
+
+        ArgUtils.notNull(sheet, "sheet");
+        ArgUtils.notNull(listeners, "listeners");
+
+        final PackagePart part = sheetParts.get(sheet.getSheetName());
+        if(part == null || sheet.getWorkbook() != workbook) {
+            throw new IllegalArgumentException(String.format("'%s' is not the sheet of working workbook.", sheet.getSheetName()));
+        }
+
+        if(!listeners.isEmpty()) {
+            // 結合情報は行の後に出力されているため、XMLとして解析せずに事前に読み込む
+            final List<CellRangeAddress> mergedRegions;
+            try(InputStream in = part.getInputStream()) {
+                mergedRegions = MergedRegionScanner.scan(in);
+            }
+
+            final XSSFSheet xssfSheet = (XSSFSheet) sheet;
+            for(CellRangeAddress region : mergedRegions) {
+                xssfSheet.addMergedRegionUnsafe(region);
+            }
+
+            final SheetRowXmlHandler rowHandler = new SheetRowXmlHandler(sheet, sharedStrings, this::getCellStyle,
+                    listeners, mergedRegions);
+            try(InputStream in = part.getInputStream()) {
+                parse(in, rowHandler);
+            }
+        }
+
+        for(SheetRowListener listener : listeners) {
+            listener.onEndSheet();
+        }
+
+    }
+
+    /**
+     * 元ファイルのスタイルのインデックスに対応する、作業用のワークブックのスタイルを取得する。
+     * @param index 元ファイルのスタイルのインデックス
+     * @return 存在しない場合は、nullを返す。
+     */
+    private CellStyle getCellStyle(final int index) {
+
+        if(index < 0 || index >= styles.getNumCellStyles()) {
+            return null;
+        }
+
+        return styleCache.computeIfAbsent(index, key -> {
+            final XSSFCellStyle style = workbook.createCellStyle();
+            style.cloneStyleFrom(styles.getStyleAt(key));
+            return style;
+        });
+
+    }
+
+    private static void parse(final InputStream in, final ContentHandler handler) throws IOException {
+
+        try {
+            final XMLReader xmlReader = SAXHelper.newXMLReader();
+            xmlReader.setContentHandler(handler);
+            xmlReader.parse(new InputSource(in));
+
+        } catch(SheetRowXmlHandler.StopParsingException e) {
+            // 読み込みの中断
+
+        } catch(SAXException | ParserConfigurationException e) {
+            throw new IOException(e);
+        }
+
+    }
+
+    /**
+     * ワークブックのXMLから、1904年始まりの設定かどうか判定する。
+     */
+    private static boolean isDate1904(final InputStream in) throws IOException {
+
+        final boolean[] date1904 = {false};
+        parse(in, new DefaultHandler() {
+
+            @Override
+            public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+                final String name = localName != null && !localName.isEmpty() ? localName : qName;
+                if("workbookPr".equals(name)) {
+                    final String value = attributes.getValue("date1904");
+                    date1904[0] = "1".equals(value) || "true".equalsIgnoreCase(value);
+                }
+            }
+        });
+
+        return date1904[0];
+    }
+
+    /**
+     * 読み込みに使用したリソースを解放します。
+     */
+    @Override
+    public void close() throws IOException {
+
+        try {
+            workbook.close();
+        } finally {
+            pkg.revert();
+            Files.deleteIfExists(tempFile);
+        }
+
+    }
+
+}
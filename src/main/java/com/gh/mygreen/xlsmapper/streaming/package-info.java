@@ -0,0 +1,8 @@
+/**
+ * XLSX形式のファイルをストリーミング(SAX)で読み込む機能を提供します。
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+package com.gh.mygreen.xlsmapper.streaming;
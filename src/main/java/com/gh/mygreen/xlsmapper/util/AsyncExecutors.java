@@ -0,0 +1,117 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
+
+/**
+ * 非同期に読み込み／書き込みを行う際のスレッドを管理するユーティリティクラス。
+ * <p>標準のスレッドプールは、実行環境がJDK21以上の場合、タスクごとに仮想スレッドを作成するスレッドプールを使用します。
+ *   <br>それ以外の場合は、デーモンスレッドを必要に応じて作成し、再利用するスレッドプールを使用します。
+ *   <br>読み込み／書き込みはストリームの入出力で待機するため、{@link java.util.concurrent.ForkJoinPool#commonPool()}は使用しません。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class AsyncExecutors {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncExecutors.class);
+
+    /**
+     * 標準のスレッドプール。初めて使用するときに作成する。
+     */
+    private static final class DefaultExecutorHolder {
+
+        private static final ExecutorService INSTANCE = createDefaultExecutor();
+
+    }
+
+    /**
+     * 標準のスレッドプールを取得します。
+     * <p>アプリケーションの終了時に停止する必要はありません。</p>
+     * @return 仮想スレッドを使用できる場合は、タスクごとに仮想スレッドを作成するスレッドプール。
+     */
+    public static Executor getDefaultExecutor() {
+        return DefaultExecutorHolder.INSTANCE;
+    }
+
+    /**
+     * 処理を非同期に実行します。
+     * <p>{@link CompletableFuture#supplyAsync(java.util.function.Supplier, Executor)}とは異なり、
+     *   処理で発生した検査例外を{@link java.util.concurrent.CompletionException}などでラップせずに、そのまま失敗の原因とします。
+     * </p>
+     * @param <T> 処理結果のクラスタイプ
+     * @param task 実行する処理
+     * @param executor 処理を実行するスレッドプール
+     * @return 処理結果
+     * @throws IllegalArgumentException {@literal task == null or executor == null}
+     */
+    public static <T> CompletableFuture<T> supplyAsync(final Callable<T> task, final Executor executor) {
+        ArgUtils.notNull(task, "task");
+        ArgUtils.notNull(executor, "executor");
+
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(task.call());
+                } catch(Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+
+        } catch(RuntimeException e) {
+            // スレッドプールが停止しているなどで、処理を受け付けない場合
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    private static ExecutorService createDefaultExecutor() {
+
+        final Method method = findVirtualThreadFactoryMethod();
+        if(method != null) {
+            try {
+                return (ExecutorService) method.invoke(null);
+            } catch(ReflectiveOperationException | RuntimeException e) {
+                // JDK19、20でプレビュー機能が有効でない場合など
+                logger.warn(MessageBuilder.create("log.failCreateVirtualThreadExecutor").format(), e);
+            }
+        }
+
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, "xlsmapper-async-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+
+    /**
+     * JDK21以上で追加された{@code Executors#newVirtualThreadPerTaskExecutor()}を取得する。
+     * @return 存在しない場合はnullを返す。
+     */
+    private static Method findVirtualThreadFactoryMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch(NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+}
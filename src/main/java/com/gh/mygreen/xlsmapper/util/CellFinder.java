@@ -1,5 +1,6 @@
 package com.gh.mygreen.xlsmapper.util;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.poi.ss.usermodel.Cell;
@@ -12,7 +13,11 @@ import com.gh.mygreen.xlsmapper.fieldprocessor.CellNotFoundException;
 
 /**
  * 指定したラベルを持つセルを検索するクラス。
+ * <p>読み込み中のシートなど、{@link #labelIndex(CellLabelIndex)}によりインデックスが指定されている場合は、
+ *   インデックスを使用して検索します。
+ * </p>
  *
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -52,6 +57,11 @@ public class CellFinder {
      */
     private boolean excludeStartPoisition = false;
     
+    /**
+     * ラベルの検索用のインデックス
+     */
+    private CellLabelIndex labelIndex;
+    
     /**
      * 検索する際の条件を組み立てる
      * @param sheet 検索対象のシート
@@ -75,6 +85,18 @@ public class CellFinder {
         this.config = config;
     }
     
+    /**
+     * ラベルの検索に使用するインデックスを指定する。
+     * <p>検索対象のシート以外のインデックスが指定された場合は、インデックスを使用せずにシートを走査して検索する。</p>
+     * @since 2.1
+     * @param labelIndex ラベルの検索用のインデックス。使用しない場合はnullを指定する。
+     * @return 自身のインスタンス。メソッドチェーンとして続ける。
+     */
+    public CellFinder labelIndex(final CellLabelIndex labelIndex) {
+        this.labelIndex = labelIndex;
+        return this;
+    }
+    
     /**
      * 起点なる位置を指定する。
      * @param column 列番号(0から始まる)
@@ -208,6 +230,10 @@ public class CellFinder {
         final int rowStart = startRow < 0 ? 0 : startRow;
         final int columnStart = startColumn < 0 ? 0 : startColumn;
         
+        if(labelIndex != null && labelIndex.getSheet() == sheet && labelIndex.isSearchable(label)) {
+            return findCellWithIndex(labelIndex, rowStart, columnStart);
+        }
+        
         final int maxRow = POIUtils.getRows(sheet);
         for(int i=rowStart; i < maxRow; i++) {
             final Row row = sheet.getRow(i);
@@ -235,6 +261,47 @@ public class CellFinder {
         
     }
     
+    /**
+     * インデックスを使用して、条件に一致するセルを探す。
+     * <p>シートを走査する場合と同じく、行、列の順に最初に一致したセルを返す。</p>
+     * @param labelIndex ラベルのインデックス
+     * @param rowStart 検索を開始する行番号
+     * @param columnStart 検索を開始する列番号
+     * @return 見つからない場合は、nullを返す。
+     */
+    private Cell findCellWithIndex(final CellLabelIndex labelIndex, final int rowStart, final int columnStart) {
+        
+        final List<Cell> cells = labelIndex.getCells(label);
+        
+        // 開始行以降の最初のセルを探す
+        int low = 0;
+        int high = cells.size();
+        while(low < high) {
+            final int mid = (low + high) >>> 1;
+            if(cells.get(mid).getRowIndex() < rowStart) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        
+        for(int i=low; i < cells.size(); i++) {
+            final Cell cell = cells.get(i);
+            if(cell.getColumnIndex() < columnStart) {
+                continue;
+            }
+            
+            if(excludeStartPoisition && includeInStartPosition(cell.getColumnIndex(), cell.getRowIndex())) {
+                // 開始位置を除外する場合
+                continue;
+            }
+            
+            return cell;
+        }
+        
+        return null;
+    }
+    
     /**
      * 現在の位置が検索対象の開始位置を含むかどうか判定します。
      * @param currentColumn 現在の列番号
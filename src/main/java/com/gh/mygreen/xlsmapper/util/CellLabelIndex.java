@@ -0,0 +1,153 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import com.gh.mygreen.xlsmapper.Configuration;
+
+/**
+ * シートのセルの値から、セルを検索するためのインデックス。
+ * <p>{@link CellFinder}により、ラベルを持つセルを検索する際に使用します。
+ *   <br>インデックスは、初めて検索したときに、シートを1回走査して作成します。
+ * </p>
+ * <p>インデックスの作成後にセルの値を変更しても反映されないため、
+ *   値を書き込まない読み込み処理の間のみ使用します。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class CellLabelIndex {
+
+    /**
+     * シート情報
+     */
+    private final Sheet sheet;
+
+    /**
+     * システム設定
+     */
+    private final Configuration config;
+
+    /**
+     * 正規化したセルの値をキーとした、セルの一覧。
+     * <p>セルは、行、列の順に並んでいます。</p>
+     */
+    private volatile Map<String, List<Cell>> index;
+
+    /**
+     * インデックスを作成します。
+     * @param sheet 対象のシート
+     * @param config システム設定
+     * @throws IllegalArgumentException {@literal sheet == null or config == null}
+     */
+    public CellLabelIndex(final Sheet sheet, final Configuration config) {
+        ArgUtils.notNull(sheet, "sheet");
+        ArgUtils.notNull(config, "config");
+
+        this.sheet = sheet;
+        this.config = config;
+    }
+
+    /**
+     * 対象のシートを取得します。
+     * @return シート情報
+     */
+    public Sheet getSheet() {
+        return sheet;
+    }
+
+    /**
+     * インデックスを使用して検索可能なラベルかどうか判定します。
+     * <p>正規表現のラベルや、正規化した結果が空文字となるラベルは、インデックスを使用して検索できません。</p>
+     * @param label 検索するラベル
+     * @return trueの場合、検索可能です。
+     */
+    public boolean isSearchable(final String label) {
+
+        if(label == null) {
+            return false;
+        }
+
+        if(config.isRegexLabelText() && label.startsWith("/") && label.endsWith("/")) {
+            return false;
+        }
+
+        return !Utils.normalize(label, config).isEmpty();
+    }
+
+    /**
+     * ラベルと一致するセルの一覧を取得します。
+     * @param label 検索するラベル。{@link #isSearchable(String)}がtrueとなるラベルを指定します。
+     * @return 行、列の順に並んだセルの一覧。一致するセルがない場合は、空のリストを返します。
+     */
+    public List<Cell> getCells(final String label) {
+
+        final List<Cell> cells = getIndex().get(Utils.normalize(label, config));
+        return cells == null ? Collections.emptyList() : cells;
+    }
+
+    /**
+     * インデックスを取得します。
+     * <p>まだ作成されていない場合は作成します。</p>
+     * @return インデックス
+     */
+    private Map<String, List<Cell>> getIndex() {
+
+        Map<String, List<Cell>> result = index;
+        if(result == null) {
+            synchronized(this) {
+                result = index;
+                if(result == null) {
+                    result = buildIndex();
+                    this.index = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * シートを走査してインデックスを作成します。
+     * @return インデックス
+     */
+    private Map<String, List<Cell>> buildIndex() {
+
+        final Map<String, List<Cell>> map = new HashMap<>();
+
+        final int maxRow = POIUtils.getRows(sheet);
+        for(int i=0; i < maxRow; i++) {
+            final Row row = sheet.getRow(i);
+            if(row == null) {
+                continue;
+            }
+
+            final int maxCol = row.getLastCellNum();
+            for(int j=0; j < maxCol; j++) {
+                final Cell cell = row.getCell(j);
+                if(cell == null) {
+                    continue;
+                }
+
+                final String cellValue = Utils.normalize(POIUtils.getCellContents(cell, config.getCellFormatter()), config);
+                if(cellValue == null || cellValue.isEmpty()) {
+                    continue;
+                }
+
+                map.computeIfAbsent(cellValue, key -> new ArrayList<>()).add(cell);
+            }
+        }
+
+        return map;
+    }
+
+}
@@ -0,0 +1,287 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 複数のスレッドから利用可能な、最大件数を持つLRU(Least Recently Used)方式のキャッシュ。
+ * <p>キーのハッシュ値により複数のセグメントに振り分け、セグメントごとにロックを取得するため、
+ *   異なるセグメントに対するアクセスは並列に処理されます。
+ * </p>
+ * <p>最大件数は、セグメントごとに均等に割り当てます。
+ *   セグメントの件数が割り当てを超えた場合は、そのセグメントの中で最も長く参照されていない値を破棄します。
+ * </p>
+ * <p>ヒット数、ミス数、破棄した数の統計情報を取得できます。</p>
+ *
+ * @param <K> キーのクラスタイプ
+ * @param <V> 値のクラスタイプ
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class ConcurrentLruCache<K, V> {
+
+    /**
+     * セグメント数の最大値
+     */
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * 最大件数
+     */
+    private final int maxSize;
+
+    private final Segment<K, V>[] segments;
+
+    private final int segmentMask;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * 最大件数を指定するコンストラクタ。
+     * @param maxSize 保持する値の最大件数
+     * @throws IllegalArgumentException {@literal maxSize < 1}
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLruCache(final int maxSize) {
+        ArgUtils.notMin(maxSize, 1, "maxSize");
+
+        this.maxSize = maxSize;
+
+        // 各セグメントに1件以上割り当てられるよう、2のべき乗のセグメント数にする
+        int segmentCount = 1;
+        while(segmentCount < MAX_SEGMENTS && segmentCount * 2 <= maxSize) {
+            segmentCount *= 2;
+        }
+
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+
+        // 割り切れない分は先頭のセグメントから1件ずつ割り当て、合計を最大件数に合わせる
+        final int capacity = maxSize / segmentCount;
+        final int remainder = maxSize % segmentCount;
+        for(int i=0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(i < remainder ? capacity + 1 : capacity, evictionCount);
+        }
+    }
+
+    /**
+     * キーに対する値を取得します。
+     * <p>取得した値は、最近参照された値として扱います。</p>
+     * @param key キー
+     * @return キャッシュされていない場合は、nullを返します。
+     * @throws IllegalArgumentException {@literal key == null}
+     */
+    public V get(final K key) {
+        ArgUtils.notNull(key, "key");
+
+        final V value = segmentFor(key).get(key);
+        if(value == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+
+        return value;
+    }
+
+    /**
+     * キーに対する値を保持します。
+     * <p>既に値が保持されている場合は、置き換えます。</p>
+     * @param key キー
+     * @param value 値
+     * @throws IllegalArgumentException {@literal key == null or value == null}
+     */
+    public void put(final K key, final V value) {
+        ArgUtils.notNull(key, "key");
+        ArgUtils.notNull(value, "value");
+
+        segmentFor(key).put(key, value);
+    }
+
+    /**
+     * キーに対する値を取得し、キャッシュされていない場合は作成して保持します。
+     * <p>値の作成中は、同じセグメントに対する他のスレッドのアクセスを待機させます。</p>
+     * @param key キー
+     * @param creator 値を作成する処理
+     * @return キーに対する値
+     * @throws IllegalArgumentException {@literal key == null or creator == null}
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> creator) {
+        ArgUtils.notNull(key, "key");
+        ArgUtils.notNull(creator, "creator");
+
+        final Segment<K, V> segment = segmentFor(key);
+        synchronized(segment) {
+            V value = segment.get(key);
+            if(value != null) {
+                hitCount.increment();
+                return value;
+            }
+
+            missCount.increment();
+            value = creator.apply(key);
+            if(value != null) {
+                segment.put(key, value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * キーに対する値が保持されているかどうか判定します。
+     * <p>値の参照順序、統計情報は変更しません。</p>
+     * @param key キー
+     * @return trueの場合、保持されています。
+     */
+    public boolean contains(final K key) {
+        if(key == null) {
+            return false;
+        }
+        return segmentFor(key).contains(key);
+    }
+
+    /**
+     * キーに対する値を破棄します。
+     * @param key キー
+     * @return 保持していた値。保持されていない場合は、nullを返します。
+     */
+    public V remove(final K key) {
+        if(key == null) {
+            return null;
+        }
+        return segmentFor(key).remove(key);
+    }
+
+    /**
+     * 保持している全ての値を破棄します。
+     * <p>統計情報はリセットしません。</p>
+     */
+    public void clear() {
+        for(Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * 保持している値の件数を取得します。
+     * @return 値の件数
+     */
+    public int size() {
+        int size = 0;
+        for(Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * 保持する値の最大件数を取得します。
+     * @return 値の最大件数
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * キャッシュに値が存在した回数を取得します。
+     * @return {@link #get(Object)}、{@link #computeIfAbsent(Object, Function)}でヒットした回数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * キャッシュに値が存在しなかった回数を取得します。
+     * @return {@link #get(Object)}、{@link #computeIfAbsent(Object, Function)}でミスした回数
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 最大件数を超えたために破棄した値の件数を取得します。
+     * @return 破棄した値の件数
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * 統計情報をリセットします。
+     */
+    public void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConcurrentLruCache [size=%d, maxSize=%d, hitCount=%d, missCount=%d, evictionCount=%d]",
+                size(), maxSize, getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    private Segment<K, V> segmentFor(final K key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & segmentMask];
+    }
+
+    /**
+     * キャッシュのセグメント。
+     * <p>参照順序を保持する{@link LinkedHashMap}を、インスタンス自身をロックとして操作します。</p>
+     */
+    private static final class Segment<K, V> {
+
+        private final Map<K, V> map;
+
+        private Segment(final int capacity, final LongAdder evictionCount) {
+            this.map = new LinkedHashMap<K, V>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                    if(size() > capacity) {
+                        evictionCount.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private synchronized V get(final K key) {
+            return map.get(key);
+        }
+
+        private synchronized void put(final K key, final V value) {
+            map.put(key, value);
+        }
+
+        private synchronized boolean contains(final K key) {
+            return map.containsKey(key);
+        }
+
+        private synchronized V remove(final K key) {
+            return map.remove(key);
+        }
+
+        private synchronized void clear() {
+            map.clear();
+        }
+
+        private synchronized int size() {
+            return map.size();
+        }
+
+    }
+
+}
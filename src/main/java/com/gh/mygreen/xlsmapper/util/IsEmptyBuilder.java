@@ -1,10 +1,14 @@
 package com.gh.mygreen.xlsmapper.util;
 
-import java.lang.reflect.AccessibleObject;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -48,13 +52,28 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * }
  * </code></pre>
  *
+ * <p>リフレクションを利用して判定する場合、判定対象のフィールドの情報はクラスごとにキャッシュし、
+ *   フィールドの値は{@link MethodHandle}を利用して取得します。
+ * </p>
  *
+ * @version 2.1
  * @since 0.5
  * @author T.TSUCHIE
  *
  */
 public class IsEmptyBuilder {
 
+    /**
+     * クラスごとの、リフレクションで判定する際の対象フィールドのキャッシュ。
+     */
+    private static final ClassValue<FieldValueReader[]> FIELD_READERS = new ClassValue<FieldValueReader[]>() {
+
+        @Override
+        protected FieldValueReader[] computeValue(final Class<?> type) {
+            return FieldValueReader.create(type);
+        }
+    };
+
     /**
      * 現在までの判定結果を保持する。
      * true: 値が空かどうか。
@@ -150,32 +169,25 @@ public class IsEmptyBuilder {
         }
 
         final IsEmptyBuilder builder = new IsEmptyBuilder(config);
-        final Field[] fields = obj.getClass().getDeclaredFields();
-        AccessibleObject.setAccessible(fields, true);
 
-        for(Field field : fields) {
-
-            // static フィールドかどうか
-            if(Modifier.isStatic(field.getModifiers())) {
-                continue;
-            }
+        // staticフィールドは、キャッシュの作成時に除外済み
+        for(FieldValueReader reader : FIELD_READERS.get(obj.getClass())) {
 
             // transientのフィールドかどうか。
-            if(!builder.testTransient && Modifier.isTransient(field.getModifiers())) {
+            if(!builder.testTransient && reader.transientField) {
                 continue;
             }
 
             // 除外対象のフィールド名かどうか。
-            if(excludedFields != null && excludedFields.contains(field.getName())) {
+            if(excludedFields != null && excludedFields.contains(reader.name)) {
                 continue;
             }
 
-            try {
-                final Object value = field.get(obj);
-                builder.append(value);
+            builder.append(reader.get(obj));
 
-            } catch (IllegalArgumentException | IllegalAccessException e) {
-                throw new InternalError("Unexpected IllegalAccessException");
+            // 空でないことが確定した場合は、残りのフィールドの値を取得しない
+            if(builder.isNotEmpty()) {
+                break;
             }
 
         }
@@ -834,4 +846,66 @@ public class IsEmptyBuilder {
         return testMapValue;
     }
 
+    /**
+     * リフレクションで判定する際の、フィールドの値を取得する処理。
+     */
+    private static final class FieldValueReader {
+
+        private final String name;
+
+        private final boolean transientField;
+
+        /**
+         * 型を{@literal (Object)Object}に変換した、フィールドの値を取得するハンドル
+         */
+        private final MethodHandle getter;
+
+        private FieldValueReader(final Field field, final MethodHandle getter) {
+            this.name = field.getName();
+            this.transientField = Modifier.isTransient(field.getModifiers());
+            this.getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+        }
+
+        /**
+         * クラスに定義されているフィールドのうち、staticでないフィールドの値を取得する処理を作成する。
+         * @param type 対象のクラス
+         * @return フィールドの定義順に並んだ処理
+         */
+        private static FieldValueReader[] create(final Class<?> type) {
+
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final List<FieldValueReader> list = new ArrayList<>();
+            for(Field field : type.getDeclaredFields()) {
+
+                // static フィールドかどうか
+                if(Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+
+                field.setAccessible(true);
+                try {
+                    list.add(new FieldValueReader(field, lookup.unreflectGetter(field)));
+
+                } catch (IllegalAccessException e) {
+                    throw new InternalError("Unexpected IllegalAccessException");
+                }
+            }
+
+            return list.toArray(new FieldValueReader[list.size()]);
+        }
+
+        private Object get(final Object obj) {
+            try {
+                return getter.invokeExact(obj);
+
+            } catch(Error | RuntimeException e) {
+                throw e;
+
+            } catch (Throwable e) {
+                throw new InternalError("Unexpected exception", e);
+            }
+        }
+
+    }
+
 }
@@ -0,0 +1,276 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellRangeAddressBase;
+
+/**
+ * シートのセルの結合情報を、位置から検索するためのインデックス。
+ * <p>結合情報を一定の行数ごとのブロックに振り分けて保持し、
+ *   {@link POIUtils#getMergedRegion(Sheet, int, int)}などで、シートの全ての結合情報を走査せずに検索します。
+ * </p>
+ * <p>インデックスは、読み込み／書き込み処理ごとにシート単位で作成し、作業用の情報({@link com.gh.mygreen.xlsmapper.LoadingWorkObject}、
+ *   {@link com.gh.mygreen.xlsmapper.SavingWorkObject})に保持します。他の処理とは共有しません。
+ *   <br>{@link POIUtils}の引数にインデックスを指定した結合の追加／解除、行の挿入／削除は、インデックスに反映されます。
+ * </p>
+ * <p>POIのAPIを直接使用して行をずらした場合や、結合を解除した後に別の結合を追加した場合など、
+ *   {@link POIUtils}を経由しない変更は、結合情報の数が変わらないと検知できません。
+ *   <br>そのため、リスナーのメソッドなど、シートを変更する可能性がある処理を呼び出した後は、{@link #invalidate()}で破棄します。
+ *   <br>破棄した場合や、結合情報の数が変わった場合は、次の検索時に作成し直します。
+ * </p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class MergedRegionIndex {
+
+    /**
+     * 1つのブロックの行数
+     */
+    private static final int BLOCK_SIZE = 32;
+
+    /**
+     * ブロックに振り分ける結合情報の最大のブロック数。
+     * <p>これより多くのブロックにまたがる結合情報は、ブロックに振り分けずに保持します。</p>
+     */
+    private static final int MAX_SPAN_BLOCKS = 64;
+
+    /**
+     * シート情報
+     */
+    private final Sheet sheet;
+
+    /**
+     * ブロックの番号をキーとした結合情報。
+     * <p>nullの場合は未作成。</p>
+     */
+    private Map<Integer, List<CellRangeAddress>> blocks;
+
+    /**
+     * 多くの行にまたがる結合情報
+     */
+    private List<CellRangeAddress> largeRegions;
+
+    /**
+     * インデックスに保持している結合情報の数
+     */
+    private int regionCount;
+
+    /**
+     * シートに対するインデックスを作成します。
+     * <p>インデックスの内容は、初めて検索したときに作成します。</p>
+     * @param sheet 対象のシート
+     * @throws IllegalArgumentException {@literal sheet == null}
+     */
+    public MergedRegionIndex(final Sheet sheet) {
+        ArgUtils.notNull(sheet, "sheet");
+        this.sheet = sheet;
+    }
+
+    /**
+     * 対象のシートを取得します。
+     * @return シート情報
+     */
+    public Sheet getSheet() {
+        return sheet;
+    }
+
+    /**
+     * 指定したセルを含む結合情報を取得します。
+     * @param rowIdx 行番号
+     * @param colIdx 列番号
+     * @return 結合していない場合nullを返す。
+     */
+    public synchronized CellRangeAddress find(final int rowIdx, final int colIdx) {
+
+        prepare();
+
+        for(CellRangeAddress range : getBlock(rowIdx / BLOCK_SIZE)) {
+            if(range.isInRange(rowIdx, colIdx)) {
+                return range;
+            }
+        }
+
+        for(CellRangeAddress range : largeRegions) {
+            if(range.isInRange(rowIdx, colIdx)) {
+                return range;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 指定した範囲と重複する結合情報が存在するかどうか判定します。
+     * @param region 判定対象の範囲
+     * @return trueの場合、重複する結合情報が存在します。
+     */
+    public synchronized boolean intersects(final CellRangeAddressBase region) {
+
+        prepare();
+
+        final int firstBlock = region.getFirstRow() / BLOCK_SIZE;
+        final int lastBlock = region.getLastRow() / BLOCK_SIZE;
+        for(int block = firstBlock; block <= lastBlock; block++) {
+            for(CellRangeAddress range : getBlock(block)) {
+                if(POIUtils.intersectsRegion(range, region)) {
+                    return true;
+                }
+            }
+        }
+
+        for(CellRangeAddress range : largeRegions) {
+            if(POIUtils.intersectsRegion(range, region)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 指定した行以降に掛かる結合情報が存在するかどうか判定します。
+     * @param rowIdx 行番号
+     * @return trueの場合、指定した行以降に掛かる結合情報が存在します。
+     */
+    public synchronized boolean existsFromRow(final int rowIdx) {
+
+        prepare();
+
+        final int firstBlock = rowIdx / BLOCK_SIZE;
+        for(Map.Entry<Integer, List<CellRangeAddress>> entry : blocks.entrySet()) {
+            if(entry.getKey() < firstBlock) {
+                continue;
+            }
+
+            for(CellRangeAddress range : entry.getValue()) {
+                if(range.getLastRow() >= rowIdx) {
+                    return true;
+                }
+            }
+        }
+
+        for(CellRangeAddress range : largeRegions) {
+            if(range.getLastRow() >= rowIdx) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * シートに追加した結合情報を反映します。
+     * @param range 追加した結合情報
+     */
+    synchronized void add(final CellRangeAddress range) {
+
+        if(blocks == null) {
+            return;
+        }
+
+        put(range);
+        regionCount++;
+    }
+
+    /**
+     * シートから解除した結合情報を反映します。
+     * @param range 解除した結合情報
+     */
+    synchronized void remove(final CellRangeAddress range) {
+
+        if(blocks == null) {
+            return;
+        }
+
+        boolean removed = removeFrom(largeRegions, range);
+        final int firstBlock = range.getFirstRow() / BLOCK_SIZE;
+        final int lastBlock = range.getLastRow() / BLOCK_SIZE;
+        for(int block = firstBlock; block <= lastBlock; block++) {
+            final List<CellRangeAddress> list = blocks.get(block);
+            if(list != null) {
+                removed |= removeFrom(list, range);
+            }
+        }
+
+        if(removed) {
+            regionCount--;
+        } else {
+            invalidate();
+        }
+    }
+
+    /**
+     * 行の挿入／削除など、結合情報の位置が変わった場合や、変わった可能性がある場合に、インデックスを破棄します。
+     * <p>次の検索時に作成し直します。</p>
+     */
+    public synchronized void invalidate() {
+        this.blocks = null;
+        this.largeRegions = null;
+        this.regionCount = 0;
+    }
+
+    /**
+     * インデックスを作成します。
+     * <p>作成済みでも、シートの結合情報の数が異なる場合は作成し直します。</p>
+     */
+    private void prepare() {
+
+        if(blocks != null && regionCount == sheet.getNumMergedRegions()) {
+            return;
+        }
+
+        this.blocks = new HashMap<>();
+        this.largeRegions = new ArrayList<>();
+        this.regionCount = 0;
+
+        for(CellRangeAddress range : sheet.getMergedRegions()) {
+            put(range);
+            regionCount++;
+        }
+    }
+
+    private void put(final CellRangeAddress range) {
+
+        final int firstBlock = range.getFirstRow() / BLOCK_SIZE;
+        final int lastBlock = range.getLastRow() / BLOCK_SIZE;
+        if(lastBlock - firstBlock >= MAX_SPAN_BLOCKS) {
+            largeRegions.add(range);
+            return;
+        }
+
+        for(int block = firstBlock; block <= lastBlock; block++) {
+            blocks.computeIfAbsent(block, key -> new ArrayList<>()).add(range);
+        }
+    }
+
+    private List<CellRangeAddress> getBlock(final int block) {
+        final List<CellRangeAddress> list = blocks.get(block);
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    private static boolean removeFrom(final List<CellRangeAddress> list, final CellRangeAddress range) {
+
+        boolean removed = false;
+        for(Iterator<CellRangeAddress> itr = list.iterator(); itr.hasNext(); ) {
+            final CellRangeAddress item = itr.next();
+            if(item.getFirstRow() == range.getFirstRow() && item.getLastRow() == range.getLastRow()
+                    && item.getFirstColumn() == range.getFirstColumn() && item.getLastColumn() == range.getLastColumn()) {
+                itr.remove();
+                removed = true;
+                break;
+            }
+        }
+
+        return removed;
+    }
+
+}
@@ -9,6 +9,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.TimeZone;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -39,6 +40,8 @@ import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellRangeAddressBase;
 import org.apache.poi.ss.util.CellRangeAddressList;
 import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTDataValidation;
@@ -54,7 +57,7 @@ import com.github.mygreen.cellformatter.lang.ExcelDateUtils;
 /**
  * Apache POIとJExcel APIの差を埋めるユーティリティクラス。
  *
- * @version 2.0
+ * @version 2.1
  * @author T.TSUCHIE
  *
  */
@@ -79,7 +82,7 @@ public class POIUtils {
         if(sheet instanceof HSSFSheet) {
             return SpreadsheetVersion.EXCEL97;
 
-        } else if(sheet instanceof XSSFSheet) {
+        } else if(sheet instanceof XSSFSheet || sheet instanceof SXSSFSheet) {
             return SpreadsheetVersion.EXCEL2007;
         }
 
@@ -333,6 +336,23 @@ public class POIUtils {
      * @throws IllegalArgumentException {@literal sheet == null}
      */
     public static CellRangeAddress mergeCells(final Sheet sheet, int startCol, int startRow, int endCol, int endRow) {
+        return mergeCells(sheet, startCol, startRow, endCol, endRow, null);
+    }
+
+    /**
+     * 指定した範囲のセルを結合する。
+     * @since 2.1
+     * @param sheet
+     * @param startCol
+     * @param startRow
+     * @param endCol
+     * @param endRow
+     * @param mergedIndex 結合情報の検索用のインデックス。使用しない場合はnullを指定する。
+     * @return 結合した範囲のアドレス情報
+     * @throws IllegalArgumentException {@literal sheet == null}
+     */
+    public static CellRangeAddress mergeCells(final Sheet sheet, int startCol, int startRow, int endCol, int endRow,
+            final MergedRegionIndex mergedIndex) {
         ArgUtils.notNull(sheet, "sheet");
 
         // 結合先のセルの値を空に設定する
@@ -349,10 +369,51 @@ public class POIUtils {
         }
 
         final CellRangeAddress range = new CellRangeAddress(startRow, endRow, startCol, endCol);
-        sheet.addMergedRegion(range);
+        addMergedRegion(sheet, range, mergedIndex);
         return range;
     }
 
+    /**
+     * 結合情報を追加する。
+     * @since 2.1
+     * @param sheet シート情報
+     * @param range 結合する範囲
+     * @throws IllegalArgumentException {@literal sheet == null or range == null}
+     */
+    public static void addMergedRegion(final Sheet sheet, final CellRangeAddress range) {
+        addMergedRegion(sheet, range, null);
+    }
+
+    /**
+     * 結合情報を追加する。
+     * <p>結合情報の検索用のインデックスを指定した場合は、インデックスにも反映する。</p>
+     * @since 2.1
+     * @param sheet シート情報
+     * @param range 結合する範囲
+     * @param mergedIndex 結合情報の検索用のインデックス。使用しない場合はnullを指定する。
+     * @throws IllegalArgumentException {@literal sheet == null or range == null}
+     */
+    public static void addMergedRegion(final Sheet sheet, final CellRangeAddress range, final MergedRegionIndex mergedIndex) {
+        ArgUtils.notNull(sheet, "sheet");
+        ArgUtils.notNull(range, "range");
+
+        sheet.addMergedRegion(range);
+        indexOf(sheet, mergedIndex).ifPresent(index -> index.add(range));
+    }
+
+    /**
+     * シートに対応する結合情報の検索用のインデックスを取得する。
+     * @param sheet シート情報
+     * @param mergedIndex 結合情報の検索用のインデックス。
+     * @return インデックスがnullの場合や、別のシートのインデックスの場合は、空を返す。
+     */
+    private static Optional<MergedRegionIndex> indexOf(final Sheet sheet, final MergedRegionIndex mergedIndex) {
+        if(mergedIndex == null || mergedIndex.getSheet() != sheet) {
+            return Optional.empty();
+        }
+        return Optional.of(mergedIndex);
+    }
+
     /**
      * 指定したセルのアドレスの結合情報を取得する。
      * @since 0.5
@@ -362,8 +423,28 @@ public class POIUtils {
      * @return 結合していない場合nullを返す。
      */
     public static CellRangeAddress getMergedRegion(final Sheet sheet, final int rowIdx, final int colIdx) {
+        return getMergedRegion(sheet, rowIdx, colIdx, null);
+    }
+
+    /**
+     * 指定したセルのアドレスの結合情報を取得する。
+     * <p>結合情報の検索用のインデックスを指定した場合は、インデックスを使用して検索する。</p>
+     * @since 2.1
+     * @param sheet シート情報
+     * @param rowIdx 行番号
+     * @param colIdx 列番号
+     * @param mergedIndex 結合情報の検索用のインデックス。使用しない場合はnullを指定する。
+     * @return 結合していない場合nullを返す。
+     */
+    public static CellRangeAddress getMergedRegion(final Sheet sheet, final int rowIdx, final int colIdx,
+            final MergedRegionIndex mergedIndex) {
         ArgUtils.notNull(sheet, "sheet");
 
+        final Optional<MergedRegionIndex> index = indexOf(sheet, mergedIndex);
+        if(index.isPresent()) {
+            return index.get().find(rowIdx, colIdx);
+        }
+
         final int num = sheet.getNumMergedRegions();
         for(int i=0; i < num; i ++) {
             final CellRangeAddress range = sheet.getMergedRegion(i);
@@ -382,6 +463,19 @@ public class POIUtils {
      * @return 引数で指定した結合が見つからない場合。
      */
     public static boolean removeMergedRange(final Sheet sheet, final CellRangeAddress mergedRange) {
+        return removeMergedRange(sheet, mergedRange, null);
+    }
+
+    /**
+     * 指定した範囲の結合を解除する。
+     * @since 2.1
+     * @param sheet
+     * @param mergedRange
+     * @param mergedIndex 結合情報の検索用のインデックス。使用しない場合はnullを指定する。
+     * @return 引数で指定した結合が見つからない場合。
+     */
+    public static boolean removeMergedRange(final Sheet sheet, final CellRangeAddress mergedRange,
+            final MergedRegionIndex mergedIndex) {
         ArgUtils.notNull(sheet, "sheet");
         ArgUtils.notNull(mergedRange, "mergedRange");
 
@@ -393,6 +487,48 @@ public class POIUtils {
             final String rangeAddress = range.formatAsString(sheet.getSheetName(), true);
             if(rangeAddress.equals(mergedAddress)) {
                 sheet.removeMergedRegion(i);
+                indexOf(sheet, mergedIndex).ifPresent(index -> index.remove(range));
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 指定した範囲と重複する結合情報が、シートに存在するかどうか判定する。
+     * @since 2.1
+     * @param sheet シート情報
+     * @param region 判定対象の範囲
+     * @return trueの場合、重複する結合情報が存在する。
+     * @throws IllegalArgumentException {@literal sheet == null or region == null}
+     */
+    public static boolean intersectsMergedRegion(final Sheet sheet, final CellRangeAddressBase region) {
+        return intersectsMergedRegion(sheet, region, null);
+    }
+
+    /**
+     * 指定した範囲と重複する結合情報が、シートに存在するかどうか判定する。
+     * <p>結合情報の検索用のインデックスを指定した場合は、インデックスを使用して判定する。</p>
+     * @since 2.1
+     * @param sheet シート情報
+     * @param region 判定対象の範囲
+     * @param mergedIndex 結合情報の検索用のインデックス。使用しない場合はnullを指定する。
+     * @return trueの場合、重複する結合情報が存在する。
+     * @throws IllegalArgumentException {@literal sheet == null or region == null}
+     */
+    public static boolean intersectsMergedRegion(final Sheet sheet, final CellRangeAddressBase region,
+            final MergedRegionIndex mergedIndex) {
+        ArgUtils.notNull(sheet, "sheet");
+        ArgUtils.notNull(region, "region");
+
+        final Optional<MergedRegionIndex> index = indexOf(sheet, mergedIndex);
+        if(index.isPresent()) {
+            return index.get().intersects(region);
+        }
+
+        for(CellRangeAddress existsRegion : sheet.getMergedRegions()) {
+            if(intersectsRegion(existsRegion, region)) {
                 return true;
             }
         }
@@ -435,6 +571,18 @@ public class POIUtils {
      * @return 追加した行を返す。
      */
     public static Row insertRow(final Sheet sheet, final int rowIndex) {
+        return insertRow(sheet, rowIndex, null);
+    }
+
+    /**
+     * 指定した行の下に行を1行追加する
+     * @since 2.1
+     * @param sheet
+     * @param rowIndex 追加する行数
+     * @param mergedIndex 結合情報の検索用のインデックス。使用しない場合はnullを指定する。
+     * @return 追加した行を返す。
+     */
+    public static Row insertRow(final Sheet sheet, final int rowIndex, final MergedRegionIndex mergedIndex) {
 
         ArgUtils.notNull(sheet, "sheet");
         ArgUtils.notMin(rowIndex, 0, "rowIndex");
@@ -447,9 +595,53 @@ public class POIUtils {
         }
 
         sheet.shiftRows(rowIndex, lastRow+1, 1);
+        indexOf(sheet, mergedIndex).ifPresent(MergedRegionIndex::invalidate);
         return sheet.createRow(rowIndex);
     }
 
+    /**
+     * 指定した行の位置に、複数の行をまとめて追加する。
+     * <p>{@link #insertRow(Sheet, int)}を繰り返し呼び出す場合と異なり、下の行は1回だけずらします。</p>
+     *
+     * @since 2.1
+     * @param sheet シート情報
+     * @param rowIndex 追加する位置の行番号
+     * @param count 追加する行数
+     * @throws IllegalArgumentException {@literal sheet == null or rowIndex < 0 or count < 1}
+     */
+    public static void insertRows(final Sheet sheet, final int rowIndex, final int count) {
+        insertRows(sheet, rowIndex, count, null);
+    }
+
+    /**
+     * 指定した行の位置に、複数の行をまとめて追加する。
+     * <p>{@link #insertRow(Sheet, int)}を繰り返し呼び出す場合と異なり、下の行は1回だけずらします。</p>
+     *
+     * @since 2.1
+     * @param sheet シート情報
+     * @param rowIndex 追加する位置の行番号
+     * @param count 追加する行数
+     * @param mergedIndex 結合情報の検索用のインデックス。使用しない場合はnullを指定する。
+     * @throws IllegalArgumentException {@literal sheet == null or rowIndex < 0 or count < 1}
+     */
+    public static void insertRows(final Sheet sheet, final int rowIndex, final int count, final MergedRegionIndex mergedIndex) {
+
+        ArgUtils.notNull(sheet, "sheet");
+        ArgUtils.notMin(rowIndex, 0, "rowIndex");
+        ArgUtils.notMin(count, 1, "count");
+
+        // 最終行を取得する
+        int lastRow = sheet.getLastRowNum();
+        if(lastRow >= rowIndex) {
+            sheet.shiftRows(rowIndex, lastRow+1, count);
+            indexOf(sheet, mergedIndex).ifPresent(MergedRegionIndex::invalidate);
+        }
+
+        for(int i=0; i < count; i++) {
+            sheet.createRow(rowIndex + i);
+        }
+    }
+
     /**
      * 指定した行を削除する。
      * <p>削除した行は上に詰める。
@@ -459,6 +651,19 @@ public class POIUtils {
      * @return 削除した行
      */
     public static Row removeRow(final Sheet sheet, final int rowIndex) {
+        return removeRow(sheet, rowIndex, null);
+    }
+
+    /**
+     * 指定した行を削除する。
+     * <p>削除した行は上に詰める。
+     * @since 2.1
+     * @param sheet
+     * @param rowIndex 削除する行数
+     * @param mergedIndex 結合情報の検索用のインデックス。使用しない場合はnullを指定する。
+     * @return 削除した行
+     */
+    public static Row removeRow(final Sheet sheet, final int rowIndex, final MergedRegionIndex mergedIndex) {
 
         ArgUtils.notNull(sheet, "cell");
         ArgUtils.notMin(rowIndex, 0, "rowIndex");
@@ -478,10 +683,69 @@ public class POIUtils {
         }
 
         sheet.shiftRows(rowIndex+1, lastRow, -1);
+        indexOf(sheet, mergedIndex).ifPresent(MergedRegionIndex::invalidate);
 
         return row;
     }
 
+    /**
+     * 指定した位置から、複数の行をまとめて削除する。
+     * <p>削除した行は上に詰めます。
+     *   <br>{@link #removeRow(Sheet, int)}を繰り返し呼び出す場合と異なり、下の行は1回だけずらします。
+     * </p>
+     *
+     * @since 2.1
+     * @param sheet シート情報
+     * @param rowIndex 削除する先頭の行番号
+     * @param count 削除する行数
+     * @return 実際に削除した行の数。データが何もない行は含みません。
+     * @throws IllegalArgumentException {@literal sheet == null or rowIndex < 0 or count < 1}
+     */
+    public static int removeRows(final Sheet sheet, final int rowIndex, final int count) {
+        return removeRows(sheet, rowIndex, count, null);
+    }
+
+    /**
+     * 指定した位置から、複数の行をまとめて削除する。
+     * <p>削除した行は上に詰めます。
+     *   <br>{@link #removeRow(Sheet, int)}を繰り返し呼び出す場合と異なり、下の行は1回だけずらします。
+     * </p>
+     *
+     * @since 2.1
+     * @param sheet シート情報
+     * @param rowIndex 削除する先頭の行番号
+     * @param count 削除する行数
+     * @param mergedIndex 結合情報の検索用のインデックス。使用しない場合はnullを指定する。
+     * @return 実際に削除した行の数。データが何もない行は含みません。
+     * @throws IllegalArgumentException {@literal sheet == null or rowIndex < 0 or count < 1}
+     */
+    public static int removeRows(final Sheet sheet, final int rowIndex, final int count, final MergedRegionIndex mergedIndex) {
+
+        ArgUtils.notNull(sheet, "sheet");
+        ArgUtils.notMin(rowIndex, 0, "rowIndex");
+        ArgUtils.notMin(count, 1, "count");
+
+        int removedCount = 0;
+        for(int i=0; i < count; i++) {
+            final Row row = sheet.getRow(rowIndex + i);
+            if(row != null) {
+                sheet.removeRow(row);
+                removedCount++;
+            }
+        }
+
+        // 上に削除した行数分ずらす
+        int lastRow = sheet.getLastRowNum();
+        if(rowIndex + count > lastRow) {
+            return removedCount;
+        }
+
+        sheet.shiftRows(rowIndex + count, lastRow, -count);
+        indexOf(sheet, mergedIndex).ifPresent(MergedRegionIndex::invalidate);
+
+        return removedCount;
+    }
+
 
     /**
      * 座標をExcelのアドレス形式'A1'などに変換する
@@ -912,6 +1176,9 @@ public class POIUtils {
                 return false;
             }
 
+        } else if(workbook instanceof SXSSFWorkbook) {
+            return isDateStart1904(((SXSSFWorkbook) workbook).getXSSFWorkbook());
+
         } else {
             logger.warn("unknown workbook type.", workbook.getClass().getName());
         }
@@ -7,6 +7,7 @@ import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.gh.mygreen.xlsmapper.util.PropertyPath.Token;
@@ -14,8 +15,11 @@ import com.gh.mygreen.xlsmapper.util.PropertyPath.Token;
 /**
  * クラス定義からプロパティのクラスタイプを取得する。
  * <p>プロパティは式言語の形式に似た形式をとることが可能で、フィールドにもアクセスできます。</p>
+ * <p>プロパティの解析結果をキャッシュする場合は、取得したクラスタイプもクラスとプロパティの式ごとにキャッシュし、
+ *   同じプロパティに対してリフレクションで検索し直さないようにします。
+ * </p>
  * 
- * 
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -47,6 +51,11 @@ public class PropertyTypeNavigator {
      */
     private final Map<String, PropertyPath> cacheData = new ConcurrentHashMap<>();
     
+    /**
+     * クラスとプロパティの式に対する、クラスタイプのキャッシュデータ
+     */
+    private final Map<Class<?>, Map<String, Optional<Class<?>>>> typeCache = new ConcurrentHashMap<>();
+    
      /**
      * プロパティの値を取得する。
      * <p>オプションはデフォルト値で処理する。</p>
@@ -84,6 +93,28 @@ public class PropertyTypeNavigator {
         
         ArgUtils.notEmpty(property, "property");
         
+        if(isCacheWithPath() && rootClass != null) {
+            final Map<String, Optional<Class<?>>> cache = typeCache.computeIfAbsent(rootClass, key -> new ConcurrentHashMap<>());
+            Optional<Class<?>> type = cache.get(property);
+            if(type == null) {
+                type = Optional.ofNullable(resolvePropertyType(rootClass, property));
+                cache.put(property, type);
+            }
+            return type.orElse(null);
+        }
+        
+        return resolvePropertyType(rootClass, property);
+        
+    }
+    
+    /**
+     * プロパティの式を解析し、クラスタイプを取得する。
+     * @param rootClass 取得元となるクラス
+     * @param property プロパティの式。
+     * @return プロパティのクラスタイプ。
+     */
+    private Class<?> resolvePropertyType(final Class<?> rootClass, final String property) {
+        
         final PropertyPath path = parseProperty(property);
         final LinkedList<Object> stack = new LinkedList<>();
         Class<?> targetClass = rootClass;
@@ -314,6 +345,7 @@ public class PropertyTypeNavigator {
      */
     public void clearCache() {
         this.cacheData.clear();
+        this.typeCache.clear();
     }
     
     /**
@@ -330,6 +362,7 @@ public class PropertyTypeNavigator {
      */
     public void setAllowPrivate(boolean allowPrivate) {
         this.allowPrivate = allowPrivate;
+        this.typeCache.clear();
     }
     
     /**
@@ -348,6 +381,7 @@ public class PropertyTypeNavigator {
      */
     public void setIgnoreNotResolveType(boolean ignoreNotResolveType) {
         this.ignoreNotResolveType = ignoreNotResolveType;
+        this.typeCache.clear();
     }
     
     
@@ -1,7 +1,9 @@
 package com.gh.mygreen.xlsmapper.util;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.List;
@@ -53,12 +55,30 @@ import com.gh.mygreen.xlsmapper.util.PropertyPath.Token;
  * navigator.setCacheWithPath(true);
  * </code></pre>
  *
+ * <p>プロパティにアクセスするメソッドやフィールドは、クラスとプロパティ名ごとに{@link MethodHandle}として保持し、
+ *   アクセスのたびにリフレクションで検索しないようにします。
+ *   <br>保持した情報は{@link ClassValue}によりクラスに関連付けるため、インスタンス間で共有され、
+ *   クラスがアンロードされるときに合わせて破棄されます。
+ * </p>
+ *
+ * @version 2.1
  * @since 1.0
  * @author T.TSUCHIE
  *
  */
 public class PropertyValueNavigator {
 
+    /**
+     * クラスごとの、プロパティの値を取得する処理のキャッシュ。
+     */
+    private static final ClassValue<PropertyGetters> PROPERTY_GETTERS = new ClassValue<PropertyGetters>() {
+
+        @Override
+        protected PropertyGetters computeValue(final Class<?> type) {
+            return new PropertyGetters();
+        }
+    };
+
     /**
      * 非公開のプロパティにアクセス可能かどうか。
      */
@@ -157,6 +177,7 @@ public class PropertyValueNavigator {
 
     /**
      * 今までのキャッシュデータをクリアする。
+     * <p>クラスごとの値の取得処理は、クラスの定義から決まるため、クリアしません。</p>
      */
     public void clearCache() {
         this.cacheData.clear();
@@ -196,59 +217,76 @@ public class PropertyValueNavigator {
         }
 
         final Class<?> targetClass = targetObj.getClass();
+        final PropertyGetter getter = PROPERTY_GETTERS.get(targetClass)
+                .get(targetClass, token.getValue(), allowPrivate);
+        return getter.get(targetObj);
+
+    }
+
+    /**
+     * プロパティの値を取得する処理を作成する。
+     * <p>getterメソッド、boolean用のメソッド、フィールドの順に検索します。</p>
+     * @param targetClass 取得元のクラス
+     * @param propertyName プロパティ名
+     * @param allowPrivate 非公開のプロパティにアクセス可能かどうか
+     * @return プロパティが見つからない場合、呼び出すと例外をスローする処理を返します。
+     */
+    private static PropertyGetter createPropertyGetter(final Class<?> targetClass, final String propertyName,
+            final boolean allowPrivate) {
+
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
 
         // メソッドアクセス
-        final String getterMethodName = "get" + Utils.capitalize(token.getValue());
+        final String getterMethodName = "get" + Utils.capitalize(propertyName);
         try {
             Method getterMethod = allowPrivate ?
                     targetClass.getDeclaredMethod(getterMethodName) : targetClass.getMethod(getterMethodName);
             getterMethod.setAccessible(true);
 
-            return getterMethod.invoke(targetObj);
+            return new PropertyGetter(lookup.unreflect(getterMethod), "fail access method property : " + propertyName);
 
         } catch (NoSuchMethodException | SecurityException e) {
             // not found method
 
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+        } catch (IllegalAccessException e) {
             // 値の取得に失敗
-            throw new PropertyAccessException("fail access method property : " + token.getValue(), e);
+            throw new PropertyAccessException("fail access method property : " + propertyName, e);
         }
 
         // boolean用メソッドアクセス
-        final String booleanMethodName = "is" + Utils.capitalize(token.getValue());
+        final String booleanMethodName = "is" + Utils.capitalize(propertyName);
         try {
             Method getterMethod = allowPrivate ?
                     targetClass.getDeclaredMethod(booleanMethodName) : targetClass.getMethod(booleanMethodName);;
             getterMethod.setAccessible(true);
 
-            return getterMethod.invoke(targetObj);
+            return new PropertyGetter(lookup.unreflect(getterMethod), "fail access boolean method property : " + propertyName);
 
         } catch (NoSuchMethodException | SecurityException e) {
             // not found method
 
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+        } catch (IllegalAccessException e) {
             // 値の取得に失敗
-            throw new PropertyAccessException("fail access boolean method property : " + token.getValue(), e);
+            throw new PropertyAccessException("fail access boolean method property : " + propertyName, e);
         }
 
         // フィールドアクセス
-        final String fieldName = token.getValue();
         try {
             Field field = allowPrivate ?
-                    targetClass.getDeclaredField(fieldName) : targetClass.getField(fieldName);
+                    targetClass.getDeclaredField(propertyName) : targetClass.getField(propertyName);
             field.setAccessible(true);
 
-            return field.get(targetObj);
+            return new PropertyGetter(lookup.unreflectGetter(field), "fail access field property : " + propertyName);
 
         } catch (NoSuchFieldException | SecurityException e) {
             // not found field
 
-        } catch (IllegalArgumentException | IllegalAccessException e) {
+        } catch (IllegalAccessException e) {
             // 値の取得に失敗
-            throw new PropertyAccessException("fail access field property : " + token.getValue(), e);
+            throw new PropertyAccessException("fail access field property : " + propertyName, e);
         }
 
-        throw new PropertyAccessException("not found property : " + token.getValue());
+        return PropertyGetter.notFound(propertyName);
 
     }
 
@@ -383,4 +421,85 @@ public class PropertyValueNavigator {
         this.cacheWithPath = cacheWithPath;
     }
 
+    /**
+     * 1つのクラスに対する、プロパティ名ごとの値を取得する処理。
+     * <p>非公開のプロパティにアクセス可能かどうかで検索するメソッドやフィールドが異なるため、分けて保持します。
+     *   <br>プロパティが見つからない場合は保持しないため、件数はクラスのプロパティの数を超えません。
+     * </p>
+     */
+    private static final class PropertyGetters {
+
+        private final Map<String, PropertyGetter> publicGetters = new ConcurrentHashMap<>();
+
+        private final Map<String, PropertyGetter> privateGetters = new ConcurrentHashMap<>();
+
+        private PropertyGetter get(final Class<?> targetClass, final String propertyName, final boolean allowPrivate) {
+
+            final Map<String, PropertyGetter> getters = allowPrivate ? privateGetters : publicGetters;
+            final PropertyGetter getter = getters.get(propertyName);
+            if(getter != null) {
+                return getter;
+            }
+
+            final PropertyGetter created = createPropertyGetter(targetClass, propertyName, allowPrivate);
+            if(!created.isFound()) {
+                return created;
+            }
+
+            final PropertyGetter existing = getters.putIfAbsent(propertyName, created);
+            return existing != null ? existing : created;
+        }
+
+    }
+
+    /**
+     * プロパティの値を取得する処理。
+     * <p>メソッドまたはフィールドにアクセスする{@link MethodHandle}を保持します。</p>
+     */
+    private static final class PropertyGetter {
+
+        /**
+         * 型を{@literal (Object)Object}に変換したハンドル。
+         * <p>nullの場合は、プロパティが存在しないことを表します。</p>
+         */
+        private final MethodHandle handle;
+
+        /**
+         * 値の取得に失敗したとき、またはプロパティが存在しないときの例外のメッセージ
+         */
+        private final String errorMessage;
+
+        private PropertyGetter(final MethodHandle handle, final String errorMessage) {
+            this.handle = handle == null ? null : handle.asType(MethodType.methodType(Object.class, Object.class));
+            this.errorMessage = errorMessage;
+        }
+
+        private static PropertyGetter notFound(final String propertyName) {
+            return new PropertyGetter(null, "not found property : " + propertyName);
+        }
+
+        private boolean isFound() {
+            return handle != null;
+        }
+
+        private Object get(final Object targetObj) {
+
+            if(handle == null) {
+                throw new PropertyAccessException(errorMessage);
+            }
+
+            try {
+                return handle.invokeExact(targetObj);
+
+            } catch(Error e) {
+                throw e;
+
+            } catch(Throwable e) {
+                // 値の取得に失敗
+                throw new PropertyAccessException(errorMessage, e);
+            }
+        }
+
+    }
+
 }
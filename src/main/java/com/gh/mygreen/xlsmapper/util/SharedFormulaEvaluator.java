@@ -0,0 +1,63 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * ワークブックの読み込み中に共有する、数式の評価処理。
+ * <p>{@link FormulaEvaluator}は、評価した結果をキャッシュしているため、
+ *   セルごとに作成せずに、1つのワークブックの読み込みで共有します。
+ * </p>
+ * <p>インスタンスは読み込み処理ごとに作成し、作業用の情報({@link com.gh.mygreen.xlsmapper.LoadingWorkObject})に保持します。
+ *   <br>読み込み処理が終わると作業用の情報と共に破棄されるため、他の読み込み処理とは共有しません。
+ * </p>
+ * <p>{@link FormulaEvaluator}はスレッドセーフではないため、複数のスレッドから使用してはいけません。</p>
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class SharedFormulaEvaluator {
+
+    /**
+     * 評価対象のワークブック
+     */
+    private final Workbook workbook;
+
+    /**
+     * 数式の評価処理
+     */
+    private final FormulaEvaluator evaluator;
+
+    /**
+     * ワークブックを指定してインスタンスを作成します。
+     * @param workbook 読み込み対象のワークブック
+     * @throws IllegalArgumentException {@literal workbook == null}
+     */
+    public SharedFormulaEvaluator(final Workbook workbook) {
+        ArgUtils.notNull(workbook, "workbook");
+
+        this.workbook = workbook;
+        this.evaluator = workbook.getCreationHelper().createFormulaEvaluator();
+    }
+
+    /**
+     * 評価対象のワークブックを取得します。
+     * @return コンストラクタで指定したワークブック
+     */
+    public Workbook getWorkbook() {
+        return workbook;
+    }
+
+    /**
+     * 数式を評価し、セルの値を評価結果で置き換えます。
+     * @param cell 評価対象のセル。{@link #getWorkbook()}のワークブックのセルである必要があります。
+     * @return 評価結果で置き換えたセル
+     * @see FormulaEvaluator#evaluateInCell(Cell)
+     */
+    public Cell evaluateInCell(final Cell cell) {
+        return evaluator.evaluateInCell(cell);
+    }
+
+}
@@ -1,11 +1,13 @@
 package com.gh.mygreen.xlsmapper.validation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Stack;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import com.gh.mygreen.xlsmapper.util.PropertyTypeNavigator;
@@ -20,7 +22,7 @@ import com.github.mygreen.cellformatter.lang.ArgUtils;
  * 1シート分のエラー情報を管理するクラス。
  * 
  * @param <P> シートにマッピングするクラスタイプ
- * @version 2.0
+ * @version 2.1
  * @author T.TSUCHIE
  *
  */
@@ -56,16 +58,39 @@ public class SheetBindingErrors<P> {
      */
     private String currentPath;
     
+    /**
+     * {@link #currentPath}を作成した後に、パスが変更されたかどうか。
+     */
+    private boolean currentPathChanged;
+    
     /** 
-     * 検証対象のオブジェクトの現在のパス
+     * 検証対象のオブジェクトの現在のパスを組み立てるバッファ。
+     * <p>パスの移動のたびに文字列を作成しないよう、同じバッファを使い回します。</p>
+     */
+    private final StringBuilder pathBuffer = new StringBuilder();
+    
+    /**
+     * ネストしたパスごとの、{@link #pathBuffer}中の開始位置。
+     * <p>パスの区切り文字を含めた位置を保持します。</p>
+     */
+    private int[] nestedPathOffsets = new int[8];
+    
+    /**
+     * ネストしたパスの階層数
      */
-    private Stack<String> nestedPathStack = new Stack<>();
+    private int nestedPathDepth;
     
     /**
      * エラーオブジェクト
      */
     private final List<ObjectError> errors = new ArrayList<>();
     
+    /**
+     * フィールドのパスをキーとした、フィールドエラーの{@link #errors}中のインデックス。
+     * <p>ワイルドカードによる前方一致の検索のため、パスの辞書順に保持する。</p>
+     */
+    private final TreeMap<String, List<Integer>> fieldErrorIndex = new TreeMap<>();
+    
     /**
      * フィールドの値のフォーマッタの管理クラス
      */
@@ -249,9 +274,10 @@ public class SheetBindingErrors<P> {
      */
     public void setNestedPath(final String nestedPath) {
         final String canonicalPath = normalizePath(nestedPath);
-        this.nestedPathStack.clear();
+        this.pathBuffer.setLength(0);
+        this.nestedPathDepth = 0;
         if(canonicalPath.isEmpty()) {
-            this.currentPath = buildPath();
+            this.currentPathChanged = true;
         } else {
             pushNestedPath(canonicalPath);
         }
@@ -305,8 +331,8 @@ public class SheetBindingErrors<P> {
         final String canonicalPath = normalizePath(subPath);
         ArgUtils.notEmpty(canonicalPath, "canonicalPath");
         
-        this.nestedPathStack.push(canonicalPath);
-        this.currentPath = buildPath();
+        beginNestedPath();
+        pathBuffer.append(canonicalPath);
     }
     
     /**
@@ -320,7 +346,8 @@ public class SheetBindingErrors<P> {
         ArgUtils.notEmpty(subPath, "subPath");
         ArgUtils.notMin(index, -1, "index");
         
-        pushNestedPath(String.format("%s[%d]", canonicalPath, index));
+        beginNestedPath();
+        pathBuffer.append(canonicalPath).append('[').append(index).append(']');
     }
     
     /**
@@ -334,7 +361,25 @@ public class SheetBindingErrors<P> {
         ArgUtils.notEmpty(subPath, "subPath");
         ArgUtils.notEmpty(key, "key");
         
-        pushNestedPath(String.format("%s[%s]", canonicalPath, key));
+        beginNestedPath();
+        pathBuffer.append(canonicalPath).append('[').append(key).append(']');
+    }
+    
+    /**
+     * パスを１つ下位に移動するために、現在のパスの終端の位置を記録し、区切り文字を追加する。
+     */
+    private void beginNestedPath() {
+        
+        if(nestedPathDepth == nestedPathOffsets.length) {
+            this.nestedPathOffsets = Arrays.copyOf(nestedPathOffsets, nestedPathDepth * 2);
+        }
+        
+        nestedPathOffsets[nestedPathDepth++] = pathBuffer.length();
+        if(pathBuffer.length() > 0) {
+            pathBuffer.append(PATH_SEPARATOR);
+        }
+        
+        this.currentPathChanged = true;
     }
     
     /**
@@ -344,30 +389,28 @@ public class SheetBindingErrors<P> {
      */
     public String popNestedPath() {
         
-        if(nestedPathStack.isEmpty()) {
+        if(nestedPathDepth == 0) {
             throw new IllegalStateException("Cannot pop nested path: no nested path on stack");
         }
         
-        final String subPath = nestedPathStack.pop();
-        this.currentPath = buildPath();
+        final int offset = nestedPathOffsets[--nestedPathDepth];
+        final String subPath = pathBuffer.substring(offset == 0 ? 0 : offset + PATH_SEPARATOR.length());
+        pathBuffer.setLength(offset);
+        this.currentPathChanged = true;
         return subPath;
     }
     
-    /**
-     * 現在パスのスタックに積まれているパスを結合し、１つに組み立てる。
-     * <p>ルートの時は空文字を返します。</p>
-     * @return 結合したパス
-     */
-    private String buildPath() {
-        return Utils.join(nestedPathStack, PATH_SEPARATOR);
-    }
-    
     /**
      * 現在のパスを取得します。
      * <p>ルートの時は空文字を返します。</p>
+     * <p>パスの文字列は、パスを移動した後に初めて呼び出されたときに作成します。</p>
      * @return 現在のパス
      */
     public String getCurrentPath() {
+        if(currentPathChanged) {
+            this.currentPath = pathBuffer.toString();
+            this.currentPathChanged = false;
+        }
         return currentPath;
     }
     
@@ -391,6 +434,7 @@ public class SheetBindingErrors<P> {
      */
     public void clearAllErrors() {
         this.errors.clear();
+        this.fieldErrorIndex.clear();
     }
     
     /**
@@ -401,6 +445,7 @@ public class SheetBindingErrors<P> {
     public void addError(final ObjectError error) {
         ArgUtils.notNull(error, "error");
         this.errors.add(error);
+        indexFieldError(error);
     }
     
     /**
@@ -410,7 +455,21 @@ public class SheetBindingErrors<P> {
      */
     public void addAllErrors(final Collection<ObjectError> errors) {
         ArgUtils.notNull(errors, "errors");
-        this.errors.addAll(errors);
+        for(ObjectError error : errors) {
+            this.errors.add(error);
+            indexFieldError(error);
+        }
+    }
+    
+    /**
+     * 追加したエラーがフィールドエラーの場合、パスのインデックスに登録する。
+     * @param error 追加したエラー情報
+     */
+    private void indexFieldError(final ObjectError error) {
+        if(error instanceof FieldError) {
+            fieldErrorIndex.computeIfAbsent(((FieldError)error).getField(), key -> new ArrayList<>())
+                .add(errors.size()-1);
+        }
     }
     
     /**
@@ -513,11 +572,21 @@ public class SheetBindingErrors<P> {
      * @return エラーがない場合は空のリストを返す
      */
     public List<FieldError> getFieldErrors(final String path) {
+        
+        if(fieldErrorIndex.isEmpty()) {
+            // パスを組み立てずに終了する
+            return new ArrayList<>();
+        }
+        
         final String fullPath = buildFieldPath(path);
         
-        return getFieldErrors().stream()
-                .filter(e -> isMatchingFieldError(fullPath, e))
-                .collect(Collectors.toList());
+        final List<Integer> indexes = findMatchingFieldErrorIndexes(fullPath);
+        final List<FieldError> list = new ArrayList<>(indexes.size());
+        for(int index : indexes) {
+            list.add((FieldError)errors.get(index));
+        }
+        
+        return list;
         
     }
     
@@ -528,10 +597,34 @@ public class SheetBindingErrors<P> {
      * @return エラーがない場合は空を返す
      */
     public Optional<FieldError> getFirstFieldError(final String path) {
+        
+        if(fieldErrorIndex.isEmpty()) {
+            // パスを組み立てずに終了する
+            return Optional.empty();
+        }
+        
         final String fullPath = buildFieldPath(path);
-        return getFieldErrors().stream()
-                .filter(e -> isMatchingFieldError(fullPath, e))
-                .findFirst();
+        if(fullPath == null) {
+            return Optional.empty();
+        }
+        
+        int first = -1;
+        if(fullPath.endsWith("*")) {
+            // 前方一致するパスには、完全一致するパスも含まれる
+            for(List<Integer> indexes : findWildcardEntries(fullPath)) {
+                if(first < 0 || indexes.get(0) < first) {
+                    first = indexes.get(0);
+                }
+            }
+            
+        } else {
+            final List<Integer> indexes = fieldErrorIndex.get(fullPath);
+            if(indexes != null) {
+                first = indexes.get(0);
+            }
+        }
+        
+        return first < 0 ? Optional.empty() : Optional.of((FieldError)errors.get(first));
         
     }
     
@@ -550,27 +643,57 @@ public class SheetBindingErrors<P> {
      * @return
      */
     public int getFieldErrorCount(final String path) {
-        return getFieldErrors(path).size();
+        if(fieldErrorIndex.isEmpty()) {
+            return 0;
+        }
+        return findMatchingFieldErrorIndexes(buildFieldPath(path)).size();
     }
     
     /**
-     * 指定したパスがフィールドエラーのパスと一致するかチェックするかどうか。
+     * 指定したパスに一致するフィールドエラーの、{@link #errors}中のインデックスを取得する。
+     * <p>パスが完全に一致するか、パスの最後が'*'の場合は前方一致するフィールドエラーが対象となります。</p>
      * @param path パス
-     * @param fieldError フィールドエラー
-     * @return true: 一致する場合。
+     * @return 追加した順に並んだインデックス。
      */
-    private boolean isMatchingFieldError(final String path, final FieldError fieldError) {
+    private List<Integer> findMatchingFieldErrorIndexes(final String path) {
+        
+        if(path == null) {
+            return Collections.emptyList();
+        }
+        
+        if(!path.endsWith("*")) {
+            final List<Integer> indexes = fieldErrorIndex.get(path);
+            return indexes == null ? Collections.emptyList() : indexes;
+        }
         
-        if (fieldError.getField().equals(path)) {
-            return true;
+        // 前方一致するパスには、完全一致するパスも含まれる
+        final List<Integer> result = new ArrayList<>();
+        for(List<Integer> indexes : findWildcardEntries(path)) {
+            result.addAll(indexes);
         }
         
-        if(path.endsWith("*")) {
-            String subPath = path.substring(0, path.length()-1);
-            return fieldError.getField().startsWith(subPath);
+        Collections.sort(result);
+        return result;
+    }
+    
+    /**
+     * ワイルドカード'*'で終わるパスに対して、前方一致するフィールドエラーのインデックスを取得する。
+     * @param path 最後が'*'のパス
+     * @return パスごとのインデックス。
+     */
+    private List<List<Integer>> findWildcardEntries(final String path) {
+        
+        final String subPath = path.substring(0, path.length()-1);
+        
+        final List<List<Integer>> entries = new ArrayList<>();
+        for(Map.Entry<String, List<Integer>> entry : fieldErrorIndex.tailMap(subPath, true).entrySet()) {
+            if(!entry.getKey().startsWith(subPath)) {
+                break;
+            }
+            entries.add(entry.getValue());
         }
         
-        return false;
+        return entries;
     }
     
     /**
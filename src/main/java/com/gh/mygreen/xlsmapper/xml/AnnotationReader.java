@@ -5,6 +5,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import com.gh.mygreen.xlsmapper.xml.bind.AnnotationInfo;
 import com.gh.mygreen.xlsmapper.xml.bind.ClassInfo;
@@ -17,7 +18,7 @@ import com.gh.mygreen.xlsmapper.xml.bind.AnnotationMappingInfo;
  * フィールド、メソッドのアノテーションへアクセスするためのクラス。
  * <p>Javaソースに直接アノテーションを付与する場合と、XMLで定義する方法の両方をサポートする。
  * 
- * @version 2.0
+ * @version 2.1
  * @author Naoki Takezoe
  * @author T.TSUCHIE
  *
@@ -43,6 +44,15 @@ public class AnnotationReader {
         this.xmlInfo = xmlInfo;
     }
     
+    /**
+     * XMLで定義したアノテーションの情報を取得する。
+     * @since 2.1
+     * @return 指定されていない場合は、空を返す。
+     */
+    public Optional<AnnotationMappingInfo> getAnnotationMapping() {
+        return Optional.ofNullable(xmlInfo);
+    }
+    
     /**
      * Returns all class annotations.
      *
@@ -20,7 +20,7 @@ import ognl.OgnlException;
  * <p>独自のClassLoaderを設定することが可能。
  * <p>このクラスはシングルトンです。
  * 
- * @version 0.5
+ * @version 2.1
  * @author Naoki Takezoe
  * @author T.TSUCHIE
  *
@@ -113,21 +113,51 @@ public class DynamicAnnotationBuilder {
         }
         
         Object obj = Proxy.newProxyInstance(loader, new Class[]{annoClass},
-                new InvocationHandler() {
-                    @Override
-                    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
-                        String name = method.getName();
-                        if (name.equals("annotationType")) {
-                            return annoClass;
-                        } else if(xmlValues.containsKey(name)){
-                            return xmlValues.get(name);
-                        } else {
-                            return defaultValues.get(name);
-                        }
-                    }
-        });
+                new AnnotationValueHandler(annoClass, xmlValues, defaultValues));
         
         return (Annotation) obj;
     }
     
+    /**
+     * このクラスで動的に作成したアノテーションかどうか判定する。
+     * @since 2.1
+     * @param anno 判定対象のアノテーション
+     * @return trueの場合、XMLなどから動的に作成したアノテーション。
+     */
+    public static boolean isDynamicAnnotation(final Annotation anno) {
+        return anno != null && Proxy.isProxyClass(anno.getClass())
+                && Proxy.getInvocationHandler(anno) instanceof AnnotationValueHandler;
+    }
+    
+    /**
+     * 動的に作成したアノテーションの属性値を返すハンドラ。
+     */
+    private static class AnnotationValueHandler implements InvocationHandler {
+        
+        private final Class<?> annoClass;
+        
+        private final Map<String, Object> xmlValues;
+        
+        private final Map<String, Object> defaultValues;
+        
+        private AnnotationValueHandler(final Class<?> annoClass,
+                final Map<String, Object> xmlValues, final Map<String, Object> defaultValues) {
+            this.annoClass = annoClass;
+            this.xmlValues = xmlValues;
+            this.defaultValues = defaultValues;
+        }
+        
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("annotationType")) {
+                return annoClass;
+            } else if(xmlValues.containsKey(name)){
+                return xmlValues.get(name);
+            } else {
+                return defaultValues.get(name);
+            }
+        }
+    }
+    
 }
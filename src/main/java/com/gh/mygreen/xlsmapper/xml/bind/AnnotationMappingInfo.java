@@ -1,7 +1,11 @@
 package com.gh.mygreen.xlsmapper.xml.bind;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
@@ -27,7 +31,7 @@ import com.gh.mygreen.xlsmapper.util.ArgUtils;
  * {@literal </annotations>}
  * </code></pre>
  * 
- * @version 2.0
+ * @version 2.1
  * @since 0.5
  * @author T.TSUCHIE
  * 
@@ -184,6 +188,33 @@ public class AnnotationMappingInfo implements Serializable {
         
     }
     
+    /**
+     * クラス情報などの要素を全てコピーしたインスタンスを作成する。
+     * <p>コピーしたインスタンスは、コピー元と要素を共有しないため、
+     *   コピー元に対してクラス情報の追加などを行っても、コピーしたインスタンスには反映されません。
+     * </p>
+     * @since 2.1
+     * @return コピーしたインスタンス。
+     * @throws IllegalStateException コピーに失敗した場合
+     */
+    public AnnotationMappingInfo copy() {
+        
+        try {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try(ObjectOutputStream oos = new ObjectOutputStream(out)) {
+                oos.writeObject(this);
+            }
+            
+            try(ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+                return (AnnotationMappingInfo) ois.readObject();
+            }
+            
+        } catch(IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("fail copy annotation mapping info.", e);
+        }
+        
+    }
+    
     /**
      * {@link InputStream}として返す。
      * <p>XlsLoaderなどに直接渡せる形式。</p>
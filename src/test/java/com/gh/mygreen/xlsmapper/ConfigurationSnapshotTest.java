@@ -0,0 +1,338 @@
+package com.gh.mygreen.xlsmapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+
+import com.gh.mygreen.xlsmapper.annotation.LabelledCellType;
+import com.gh.mygreen.xlsmapper.annotation.XlsCell;
+import com.gh.mygreen.xlsmapper.annotation.XlsColumn;
+import com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords;
+import com.gh.mygreen.xlsmapper.annotation.XlsLabelledCell;
+import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
+import com.gh.mygreen.xlsmapper.cellconverter.CellConverterFactory;
+import com.gh.mygreen.xlsmapper.cellconverter.impl.StringCellConverterFactory;
+import com.gh.mygreen.xlsmapper.expression.ExpressionLanguageJEXLImpl;
+import com.gh.mygreen.xlsmapper.fieldprocessor.FieldProcessor;
+import com.gh.mygreen.xlsmapper.fieldprocessor.impl.CellProcessor;
+import com.gh.mygreen.xlsmapper.xml.bind.AnnotationMappingInfo;
+import com.gh.mygreen.xlsmapper.xml.bind.ClassInfo;
+
+/**
+ * {@link Configuration#snapshot()}のテスタ
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class ConfigurationSnapshotTest {
+
+    /**
+     * 設定値をコピーし、変更できないこと
+     */
+    @Test
+    public void testSnapshot() {
+
+        Configuration config = new Configuration()
+                .setIgnoreSheetNotFound(true)
+                .setStreamingSaveWindowSize(200);
+
+        Configuration snapshot = config.snapshot();
+        assertThat(config.isFrozen()).isFalse();
+        assertThat(snapshot.isFrozen()).isTrue();
+        assertThat(snapshot.snapshot()).isSameAs(snapshot);
+
+        assertThat(snapshot.isIgnoreSheetNotFound()).isTrue();
+        assertThat(snapshot.getStreamingSaveWindowSize()).isEqualTo(200);
+        assertThat(snapshot.getCellFormatter()).isNotSameAs(config.getCellFormatter());
+        assertThat(((DefaultCellFormatter)snapshot.getCellFormatter()).isFrozen()).isTrue();
+        assertThat(snapshot.getConverterRegistry()).isNotSameAs(config.getConverterRegistry());
+        assertThat(snapshot.getConverterRegistry().isFrozen()).isTrue();
+        assertThat(snapshot.getFieldProcessorRegistry()).isNotSameAs(config.getFieldProcessorRegistry());
+        assertThat(snapshot.getFieldProcessorRegistry().isFrozen()).isTrue();
+        assertThat(snapshot.getFormulaFormatter()).isNotSameAs(config.getFormulaFormatter());
+        assertThat(snapshot.getFormulaFormatter().isFrozen()).isTrue();
+        assertThat(snapshot.getCommentOperator()).isNotSameAs(config.getCommentOperator());
+        assertThat(snapshot.getCommentOperator().isFrozen()).isTrue();
+        assertThat(snapshot.getTemplateCache()).isNotSameAs(config.getTemplateCache());
+        assertThat(snapshot.getTemplateCache().isFrozen()).isTrue();
+
+        assertThatThrownBy(() -> snapshot.setIgnoreSheetNotFound(false))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("ignoreSheetNotFound");
+        assertThatThrownBy(() -> snapshot.setCellFormatter(new DefaultCellFormatter()))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> snapshot.setAnnotationMapping(null))
+            .isInstanceOf(IllegalStateException.class);
+
+        // コピー元の変更は反映されない
+        config.setIgnoreSheetNotFound(false);
+        assertThat(snapshot.isIgnoreSheetNotFound()).isTrue();
+
+    }
+
+    /**
+     * スナップショットの作成後に、コピー元の設定を変更しても反映されないこと
+     */
+    @Test
+    public void testSnapshot_modifyOriginal() throws Exception {
+
+        Configuration config = new Configuration();
+        config.getTemplateCache().register("sample", new ByteArrayInputStream(createTemplateFile()));
+        config.setAnnotationMapping(AnnotationMappingInfo.builder()
+                .classInfo(ClassInfo.builder().name(Cover.class).buildClass())
+                .buildXml());
+
+        Configuration snapshot = config.snapshot();
+
+        CellConverterFactory<String> stringConverterFactory = snapshot.getConverterRegistry().getConverterFactory(String.class);
+        FieldProcessor<XlsCell> cellProcessor = snapshot.getFieldProcessorRegistry().getProcessor(XlsCell.class);
+        DefaultCellCommentHandler commentHandler = (DefaultCellCommentHandler)snapshot.getCommentOperator().getCommentHandler();
+
+        // コピー元の変更
+        config.getConverterRegistry().registerConverter(String.class, new StringCellConverterFactory());
+        config.getFieldProcessorRegistry().registerProcessor(XlsCell.class, new CellProcessor());
+        ((DefaultCellFormatter)config.getCellFormatter()).setCacheSize(10);
+        ((DefaultCellCommentHandler)config.getCommentOperator().getCommentHandler()).setMaxVerticalSize(10);
+        config.getCommentOperator().setCommentHandler(new DefaultCellCommentHandler());
+        ((ExpressionLanguageJEXLImpl)config.getFormulaFormatter().getExpressionLanguage()).getJexlEngine()
+                .getFunctions().put("y", Math.class);
+        config.getAnnotationMapping().get().addClassInfo(ClassInfo.builder().name(Statement.class).buildClass());
+        config.getTemplateCache().remove("sample");
+        config.getTemplateCache().register("other", new ByteArrayInputStream(createTemplateFile()));
+
+        // スナップショットは変わらない
+        assertThat(snapshot.getConverterRegistry().getConverterFactory(String.class)).isSameAs(stringConverterFactory);
+        assertThat(snapshot.getFieldProcessorRegistry().getProcessor(XlsCell.class)).isSameAs(cellProcessor);
+        assertThat(((DefaultCellFormatter)snapshot.getCellFormatter()).getCacheSize())
+            .isEqualTo(DefaultCellFormatter.DEFAULT_CACHE_SIZE);
+        assertThat(snapshot.getCommentOperator().getCommentHandler()).isSameAs(commentHandler);
+        assertThat(commentHandler.getMaxVerticalSize()).isEqualTo(4);
+        assertThat(((ExpressionLanguageJEXLImpl)snapshot.getFormulaFormatter().getExpressionLanguage()).getJexlEngine()
+                .getFunctions()).containsOnlyKeys("x");
+        assertThat(snapshot.getAnnotationMapping().get().containsClassInfo(Cover.class.getName())).isTrue();
+        assertThat(snapshot.getAnnotationMapping().get().containsClassInfo(Statement.class.getName())).isFalse();
+        assertThat(snapshot.getTemplateCache().contains("sample")).isTrue();
+        assertThat(snapshot.getTemplateCache().contains("other")).isFalse();
+        assertThat(snapshot.getTemplateCache().createWorkbook("sample")).isPresent();
+
+        // 数式のフォーマットは、コピーしたEL関数で評価できる
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("rowNumber", 3);
+        assertThat(snapshot.getFormulaFormatter().interpolate("SUM(A${rowNumber}:C${rowNumber})", vars))
+            .isEqualTo("SUM(A3:C3)");
+
+    }
+
+    /**
+     * スナップショットが保持するインスタンスの登録内容を変更できないこと
+     */
+    @Test
+    public void testSnapshot_modifyCollaborators() throws Exception {
+
+        Configuration snapshot = new Configuration().snapshot();
+
+        assertThatThrownBy(() -> snapshot.getConverterRegistry().registerConverter(String.class, new StringCellConverterFactory()))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> snapshot.getFieldProcessorRegistry().registerProcessor(XlsCell.class, new CellProcessor()))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> snapshot.getFieldProcessorRegistry().init())
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ((DefaultCellFormatter)snapshot.getCellFormatter()).setCacheSize(10))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> snapshot.getFormulaFormatter().setExpressionLanguage(new ExpressionLanguageJEXLImpl()))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ((ExpressionLanguageJEXLImpl)snapshot.getFormulaFormatter().getExpressionLanguage())
+                .getJexlEngine().setFunctions(new HashMap<>()))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ((ExpressionLanguageJEXLImpl)snapshot.getFormulaFormatter().getExpressionLanguage())
+                .getJexlEngine().getFunctions().put("y", Math.class))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.getCommentOperator().setCommentHandler(new DefaultCellCommentHandler()))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ((DefaultCellCommentHandler)snapshot.getCommentOperator().getCommentHandler()).setMaxVerticalSize(10))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> snapshot.getTemplateCache().register("sample", new ByteArrayInputStream(createTemplateFile())))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> snapshot.getTemplateCache().clear())
+            .isInstanceOf(IllegalStateException.class);
+
+    }
+
+    /**
+     * 1つのインスタンスを共有して、読み込みと書き込みを同時に実行する。
+     * 結果は、1つずつ順に実行した場合と一致すること。
+     */
+    @Test
+    public void testConcurrentLoadAndSave() throws Exception {
+
+        final int fileCount = 40;
+        final int repeat = 5;
+
+        List<byte[]> files = new ArrayList<>();
+        for(int i=0; i < fileCount; i++) {
+            files.add(createStatementFile(i));
+        }
+
+        final byte[] template = createTemplateFile();
+
+        // 1つずつ順に実行した結果
+        XlsMapper sequentialMapper = new XlsMapper();
+        List<String> expected = new ArrayList<>();
+        for(int i=0; i < fileCount; i++) {
+            expected.add(loadStatement(sequentialMapper, files.get(i)));
+        }
+        assertThat(expected.get(0)).startsWith("顧客0,1:商品0-0:1,000,2:商品0-1:1,001");
+
+        XlsMapper mapper = new XlsMapper();
+        mapper.setConfiguration(new Configuration().snapshot());
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<String>> loadFutures = new ArrayList<>();
+            List<Future<String>> saveFutures = new ArrayList<>();
+            for(int r=0; r < repeat; r++) {
+                for(int i=0; i < fileCount; i++) {
+                    final byte[] file = files.get(i);
+                    final String name = "顧客" + r + "-" + i;
+
+                    loadFutures.add(executor.submit(() -> loadStatement(mapper, file)));
+                    saveFutures.add(executor.submit((Callable<String>) () -> {
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        mapper.save(new ByteArrayInputStream(template), out, new Cover(name));
+                        return mapper.load(new ByteArrayInputStream(out.toByteArray()), Cover.class).name;
+                    }));
+                }
+            }
+
+            for(int i=0; i < loadFutures.size(); i++) {
+                assertThat(loadFutures.get(i).get(60, TimeUnit.SECONDS)).isEqualTo(expected.get(i % fileCount));
+            }
+
+            for(int i=0; i < saveFutures.size(); i++) {
+                assertThat(saveFutures.get(i).get(60, TimeUnit.SECONDS))
+                    .isEqualTo("顧客" + (i / fileCount) + "-" + (i % fileCount));
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+    private String loadStatement(final XlsMapper mapper, final byte[] file) throws Exception {
+
+        Statement statement = mapper.load(new ByteArrayInputStream(file), Statement.class);
+
+        StringBuilder sb = new StringBuilder(statement.name);
+        for(Item item : statement.items) {
+            sb.append(",").append(item.no).append(":").append(item.product).append(":").append(item.amount);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 明細のファイルを作成する。ファイルごとにレコード数と値を変える。
+     */
+    private byte[] createStatementFile(final int index) throws Exception {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            Sheet sheet = book.createSheet("明細");
+
+            CellStyle amountStyle = book.createCellStyle();
+            amountStyle.setDataFormat(book.createDataFormat().getFormat("#,##0"));
+
+            Row row0 = sheet.createRow(0);
+            row0.createCell(0).setCellValue("名前");
+            row0.createCell(1).setCellValue("顧客" + index);
+
+            sheet.createRow(2).createCell(0).setCellValue("一覧");
+
+            Row header = sheet.createRow(3);
+            header.createCell(0).setCellValue("No");
+            header.createCell(1).setCellValue("商品");
+            header.createCell(2).setCellValue("金額");
+
+            for(int i=0; i < 5 + index % 7; i++) {
+                Row row = sheet.createRow(4 + i);
+                row.createCell(0).setCellValue(i + 1);
+                row.createCell(1).setCellValue("商品" + index + "-" + i);
+                row.createCell(2).setCellValue((index + 1) * 1000 + i);
+                row.getCell(2).setCellStyle(amountStyle);
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            book.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    private byte[] createTemplateFile() throws Exception {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            Sheet sheet = book.createSheet("表紙");
+            sheet.createRow(0).createCell(0).setCellValue("名前");
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            book.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    @XlsSheet(name="明細")
+    private static class Statement {
+
+        @XlsLabelledCell(label="名前", type=LabelledCellType.Right)
+        private String name;
+
+        @XlsHorizontalRecords(tableLabel="一覧")
+        private List<Item> items;
+
+    }
+
+    private static class Item {
+
+        @XlsColumn(columnName="No")
+        private int no;
+
+        @XlsColumn(columnName="商品")
+        private String product;
+
+        @XlsColumn(columnName="金額")
+        private String amount;
+
+    }
+
+    @XlsSheet(name="表紙")
+    private static class Cover {
+
+        @XlsCell(address="B1")
+        private String name;
+
+        public Cover() {
+
+        }
+
+        private Cover(final String name) {
+            this.name = name;
+        }
+
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.gh.mygreen.xlsmapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Locale;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+
+import com.gh.mygreen.xlsmapper.util.POIUtils;
+
+/**
+ * {@link DefaultCellFormatter}のテスタ
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class DefaultCellFormatterTest {
+    
+    /**
+     * キャッシュが有効な場合は、キャッシュした値を返す
+     */
+    @Test
+    public void testFormat_cached() throws Exception {
+        
+        try(Workbook workbook = new XSSFWorkbook()) {
+            Sheet sheet1 = workbook.createSheet("sheet1");
+            Sheet sheet2 = workbook.createSheet("sheet2");
+            
+            Cell cell1 = POIUtils.getCell(sheet1, 1, 2);
+            cell1.setCellValue("abc");
+            Cell cell2 = POIUtils.getCell(sheet2, 1, 2);
+            cell2.setCellValue("def");
+            
+            DefaultCellFormatter formatter = new DefaultCellFormatter();
+            formatter.init(true);
+            
+            assertThat(formatter.format(cell1, Locale.JAPANESE)).isEqualTo("abc");
+            assertThat(formatter.format(cell2, Locale.JAPANESE)).isEqualTo("def");
+            
+            // 値を変更しても、キャッシュした値を返す
+            cell1.setCellValue("xyz");
+            assertThat(formatter.format(cell1, Locale.JAPANESE)).isEqualTo("abc");
+            
+            // ロケールごとにキャッシュする
+            assertThat(formatter.format(cell1, Locale.ENGLISH)).isEqualTo("xyz");
+            
+            // 初期化するとキャッシュがクリアされる
+            formatter.init(true);
+            assertThat(formatter.format(cell1, Locale.JAPANESE)).isEqualTo("xyz");
+            
+            // キャッシュが無効な場合
+            formatter.init(false);
+            cell1.setCellValue("123");
+            assertThat(formatter.format(cell1, Locale.JAPANESE)).isEqualTo("123");
+        }
+        
+    }
+    
+    /**
+     * シートごとにキャッシュを有効にした場合は、他のシートのキャッシュに影響しない
+     */
+    @Test
+    public void testFormat_sheetScope() throws Exception {
+        
+        try(Workbook workbook = new XSSFWorkbook()) {
+            Sheet sheet1 = workbook.createSheet("sheet1");
+            Sheet sheet2 = workbook.createSheet("sheet2");
+            
+            Cell cell1 = POIUtils.getCell(sheet1, 1, 2);
+            cell1.setCellValue("abc");
+            Cell cell2 = POIUtils.getCell(sheet2, 1, 2);
+            cell2.setCellValue("def");
+            
+            DefaultCellFormatter formatter = new DefaultCellFormatter();
+            formatter.initSheet(sheet1, true);
+            formatter.initSheet(sheet2, false);
+            
+            assertThat(formatter.format(cell1, Locale.JAPANESE)).isEqualTo("abc");
+            assertThat(formatter.format(cell2, Locale.JAPANESE)).isEqualTo("def");
+            
+            // キャッシュを有効にしたシートのみ、キャッシュした値を返す
+            cell1.setCellValue("xyz");
+            cell2.setCellValue("uvw");
+            assertThat(formatter.format(cell1, Locale.JAPANESE)).isEqualTo("abc");
+            assertThat(formatter.format(cell2, Locale.JAPANESE)).isEqualTo("uvw");
+            
+            // 他のシートの初期化、破棄は影響しない
+            formatter.initSheet(sheet2, true);
+            formatter.releaseSheet(sheet2);
+            assertThat(formatter.format(cell1, Locale.JAPANESE)).isEqualTo("abc");
+            
+            // 破棄するとキャッシュしない
+            formatter.releaseSheet(sheet1);
+            assertThat(formatter.format(cell1, Locale.JAPANESE)).isEqualTo("xyz");
+        }
+        
+    }
+    
+    /**
+     * キャッシュのサイズを超える場合は、値が置き換えられる
+     */
+    @Test
+    public void testFormat_cacheSize() throws Exception {
+        
+        try(Workbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("sheet");
+            
+            DefaultCellFormatter formatter = new DefaultCellFormatter();
+            formatter.setCacheSize(16);
+            formatter.init(true);
+            
+            for(int i=0; i < 100; i++) {
+                Cell cell = POIUtils.getCell(sheet, 0, i);
+                cell.setCellValue("value" + i);
+                assertThat(formatter.format(cell, Locale.JAPANESE)).isEqualTo("value" + i);
+            }
+            
+            // 古い値は置き換えられているため、変更後の値を返すものがある
+            int changedCount = 0;
+            for(int i=0; i < 100; i++) {
+                Cell cell = POIUtils.getCell(sheet, 0, i);
+                cell.setCellValue("changed" + i);
+                String value = formatter.format(cell, Locale.JAPANESE);
+                assertThat(value).isIn("value" + i, "changed" + i);
+                if(value.equals("changed" + i)) {
+                    changedCount++;
+                }
+            }
+            
+            assertThat(changedCount).isGreaterThanOrEqualTo(100 - 16);
+        }
+        
+        assertThatThrownBy(() -> new DefaultCellFormatter().setCacheSize(0))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+    }
+    
+}
@@ -0,0 +1,154 @@
+package com.gh.mygreen.xlsmapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gh.mygreen.xlsmapper.annotation.XlsCell;
+import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
+
+/**
+ * {@link XlsSaver#saveBatch(List)}のテスタ
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class SaveJobTest {
+
+    private byte[] template;
+
+    @Before
+    public void setUp() throws Exception {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            Sheet sheet = book.createSheet("テンプレート");
+            sheet.createRow(0).createCell(0).setCellValue("名前");
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            book.write(out);
+            this.template = out.toByteArray();
+        }
+    }
+
+    /**
+     * 1つずつ順に書き込む
+     */
+    @Test
+    public void testSaveBatch_sequential() throws Exception {
+
+        XlsSaver saver = new XlsSaver();
+        saver.getConfiguration().getTemplateCache().register("sample", new ByteArrayInputStream(template));
+
+        List<ByteArrayOutputStream> outputs = new ArrayList<>();
+        List<SaveJob<SampleSheet>> jobs = createJobs(outputs, 5);
+
+        // テンプレートの入力を指定する
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        outputs.add(out);
+        jobs.add(SaveJob.withTemplate(new ByteArrayInputStream(template), new SampleSheet("入力"), () -> out));
+
+        List<SaveJobResult<SampleSheet>> results = saver.saveBatch(jobs);
+        assertThat(results).hasSize(6);
+
+        for(int i=0; i < 5; i++) {
+            assertThat(results.get(i).isSuccess()).isTrue();
+            assertThat(results.get(i).getBindingErrors()).isPresent();
+            assertThat(readName(outputs.get(i))).isEqualTo("顧客" + i);
+        }
+
+        assertThat(results.get(5).isSuccess()).isTrue();
+        assertThat(readName(outputs.get(5))).isEqualTo("入力");
+
+    }
+
+    /**
+     * 並列に書き込む。一部の処理が失敗しても、残りの処理は続行する。
+     */
+    @Test
+    public void testSaveBatch_parallel() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            XlsSaver saver = new XlsSaver();
+            saver.getConfiguration()
+                .setBatchSavingExecutor(executor)
+                .getTemplateCache().register("sample", new ByteArrayInputStream(template));
+
+            List<ByteArrayOutputStream> outputs = new ArrayList<>();
+            List<SaveJob<SampleSheet>> jobs = createJobs(outputs, 50);
+
+            // 登録されていないテンプレート
+            jobs.add(25, SaveJob.withTemplateId("unknown", new SampleSheet("失敗"), () -> new ByteArrayOutputStream()));
+
+            List<SaveJobResult<SampleSheet>> results = saver.saveBatch(jobs);
+            assertThat(results).hasSize(51);
+
+            for(int i=0; i < results.size(); i++) {
+                SaveJobResult<SampleSheet> result = results.get(i);
+                assertThat(result.getJob()).isSameAs(jobs.get(i));
+
+                if(i == 25) {
+                    assertThat(result.isSuccess()).isFalse();
+                    assertThat(result.getBindingErrors()).isEmpty();
+                    assertThat(result.getException().get())
+                        .isInstanceOf(XlsMapperException.class)
+                        .hasMessageContaining("unknown");
+                    continue;
+                }
+
+                final int index = i < 25 ? i : i - 1;
+                assertThat(result.isSuccess()).isTrue();
+                assertThat(result.getException()).isEmpty();
+                assertThat(readName(outputs.get(index))).isEqualTo("顧客" + index);
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+    private List<SaveJob<SampleSheet>> createJobs(final List<ByteArrayOutputStream> outputs, final int count) {
+
+        List<SaveJob<SampleSheet>> jobs = new ArrayList<>();
+        for(int i=0; i < count; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            outputs.add(out);
+            jobs.add(SaveJob.withTemplateId("sample", new SampleSheet("顧客" + i), () -> out));
+        }
+
+        return jobs;
+    }
+
+    private String readName(final ByteArrayOutputStream out) throws Exception {
+        try(Workbook book = WorkbookFactory.create(new ByteArrayInputStream(out.toByteArray()))) {
+            return book.getSheet("テンプレート").getRow(0).getCell(1).getStringCellValue();
+        }
+    }
+
+    @XlsSheet(name="テンプレート")
+    private static class SampleSheet {
+
+        @XlsCell(address="B1")
+        private String name;
+
+        private SampleSheet(final String name) {
+            this.name = name;
+        }
+
+    }
+
+}
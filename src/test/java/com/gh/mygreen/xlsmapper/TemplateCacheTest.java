@@ -0,0 +1,162 @@
+package com.gh.mygreen.xlsmapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gh.mygreen.xlsmapper.annotation.XlsCell;
+import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
+
+/**
+ * {@link TemplateCache}のテスタ
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class TemplateCacheTest {
+
+    private byte[] template;
+
+    /**
+     * テンプレートのZIPを展開したときのサイズ
+     */
+    private long templateSize;
+
+    @Before
+    public void setUp() throws Exception {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            Sheet sheet = book.createSheet("テンプレート");
+            sheet.createRow(0).createCell(0).setCellValue("名前");
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            book.write(out);
+            this.template = out.toByteArray();
+        }
+
+        try(ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(template))) {
+            final byte[] buffer = new byte[8192];
+            while(in.getNextEntry() != null) {
+                int length;
+                while((length = in.read(buffer)) >= 0) {
+                    templateSize += length;
+                }
+            }
+        }
+    }
+
+    /**
+     * 登録したテンプレートを元に、繰り返し書き込む
+     */
+    @Test
+    public void testSave() throws Exception {
+
+        XlsSaver saver = new XlsSaver();
+        saver.getConfiguration().getTemplateCache().register("sample", new ByteArrayInputStream(template));
+
+        for(int i=0; i < 3; i++) {
+            SampleSheet beanObj = new SampleSheet();
+            beanObj.name = "山田" + i;
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            saver.save("sample", out, beanObj);
+
+            try(Workbook book = WorkbookFactory.create(new ByteArrayInputStream(out.toByteArray()))) {
+                Sheet sheet = book.getSheet("テンプレート");
+                assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("名前");
+                assertThat(sheet.getRow(0).getCell(1).getStringCellValue()).isEqualTo("山田" + i);
+            }
+        }
+
+        // 登録されていないテンプレート
+        assertThatThrownBy(() -> saver.save("unknown", new ByteArrayOutputStream(), new SampleSheet()))
+            .isInstanceOf(XlsMapperException.class)
+            .hasMessageContaining("unknown");
+
+    }
+
+    /**
+     * 内容のハッシュ値をIDとして登録する
+     */
+    @Test
+    public void testRegister_hash() throws Exception {
+
+        TemplateCache cache = new TemplateCache();
+
+        String id1 = cache.register(new ByteArrayInputStream(template));
+        String id2 = cache.register(new ByteArrayInputStream(template));
+
+        assertThat(id1).isEqualTo(id2);
+        assertThat(cache.size()).isEqualTo(1);
+        // 圧縮せずに格納し直しているため、展開したサイズより大きくなること
+        assertThat(cache.getTotalBytes()).isGreaterThan(templateSize);
+
+        // 展開済みのパートから作成したワークブックは、互いに独立していること
+        try(Workbook book1 = cache.createWorkbook(id1).get();
+                Workbook book2 = cache.createWorkbook(id1).get()) {
+            book1.getSheet("テンプレート").getRow(0).getCell(0).setCellValue("変更");
+            assertThat(book2.getSheet("テンプレート").getRow(0).getCell(0).getStringCellValue()).isEqualTo("名前");
+        }
+
+        assertThat(cache.createWorkbook("unknown")).isEmpty();
+
+    }
+
+    /**
+     * 合計サイズの上限を超えた場合は、使用されていないテンプレートから破棄する
+     */
+    @Test
+    public void testEviction() throws Exception {
+
+        final long size = getStoredSize();
+        TemplateCache cache = new TemplateCache(size * 2L);
+        cache.register("t1", new ByteArrayInputStream(template));
+        cache.register("t2", new ByteArrayInputStream(template));
+
+        // t1を使用する
+        cache.createWorkbook("t1").get().close();
+
+        cache.register("t3", new ByteArrayInputStream(template));
+
+        assertThat(cache.contains("t1")).isTrue();
+        assertThat(cache.contains("t2")).isFalse();
+        assertThat(cache.contains("t3")).isTrue();
+        assertThat(cache.getTotalBytes()).isEqualTo(size * 2L);
+        assertThat(cache.getEvictionCount()).isEqualTo(1L);
+
+        // 上限を超えるテンプレート
+        TemplateCache small = new TemplateCache(10L);
+        assertThatThrownBy(() -> small.register("t1", new ByteArrayInputStream(template)))
+            .isInstanceOf(IllegalArgumentException.class);
+
+    }
+
+    /**
+     * テンプレートを登録したときに保持するサイズを取得する
+     */
+    private long getStoredSize() throws Exception {
+        TemplateCache cache = new TemplateCache();
+        cache.register(new ByteArrayInputStream(template));
+        return cache.getTotalBytes();
+    }
+
+    @XlsSheet(name="テンプレート")
+    private static class SampleSheet {
+
+        @XlsCell(address="B1")
+        private String name;
+
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.gh.mygreen.xlsmapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gh.mygreen.xlsmapper.annotation.XlsCell;
+import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
+import com.gh.mygreen.xlsmapper.util.AsyncExecutors;
+import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
+
+/**
+ * {@link XlsMapper}の非同期に読み込み／書き込みを行うメソッドのテスタ
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class XlsMapperAsyncTest {
+
+    private byte[] template;
+
+    @Before
+    public void setUp() throws Exception {
+
+        try(XSSFWorkbook book = new XSSFWorkbook()) {
+            Sheet sheet = book.createSheet("テンプレート");
+            sheet.createRow(0).createCell(0).setCellValue("名前");
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            book.write(out);
+            this.template = out.toByteArray();
+        }
+    }
+
+    /**
+     * 標準のスレッドプールで書き込み、読み込む
+     */
+    @Test
+    public void testSaveAndLoad() throws Exception {
+
+        XlsMapper mapper = new XlsMapper();
+        assertThat(mapper.getConfiguration().getAsyncExecutor()).isSameAs(AsyncExecutors.getDefaultExecutor());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SheetBindingErrors<SampleSheet> saveResult = mapper.saveAsync(new ByteArrayInputStream(template), out, new SampleSheet("山田"))
+                .get(60, TimeUnit.SECONDS);
+        assertThat(saveResult.hasErrors()).isFalse();
+
+        SheetBindingErrors<SampleSheet> loadResult = mapper.loadAsync(new ByteArrayInputStream(out.toByteArray()), SampleSheet.class)
+                .get(60, TimeUnit.SECONDS);
+        assertThat(loadResult.getTarget().name).isEqualTo("山田");
+
+        // テンプレートのIDを指定する
+        mapper.getConfiguration().getTemplateCache().register("sample", new ByteArrayInputStream(template));
+
+        ByteArrayOutputStream out2 = new ByteArrayOutputStream();
+        mapper.saveAsync("sample", out2, new SampleSheet("鈴木")).get(60, TimeUnit.SECONDS);
+        assertThat(mapper.load(new ByteArrayInputStream(out2.toByteArray()), SampleSheet.class).name).isEqualTo("鈴木");
+
+    }
+
+    /**
+     * 失敗した場合は、例外をラップせずに原因とする
+     */
+    @Test
+    public void testFailure() throws Exception {
+
+        XlsMapper mapper = new XlsMapper();
+
+        // 登録されていないテンプレート
+        assertThatThrownBy(() -> mapper.saveAsync("unknown", new ByteArrayOutputStream(), new SampleSheet("山田")).get())
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(XlsMapperException.class);
+
+        // ファイルの読み込みに失敗
+        InputStream errorIn = new InputStream() {
+
+            @Override
+            public int read() throws IOException {
+                throw new IOException("read error");
+            }
+        };
+
+        assertThatThrownBy(() -> mapper.loadAsync(errorIn, SampleSheet.class).get())
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IOException.class);
+
+        // 引数の不正は、呼び出し時に例外をスローする
+        assertThatThrownBy(() -> mapper.loadAsync(null, SampleSheet.class))
+            .isInstanceOf(IllegalArgumentException.class);
+
+    }
+
+    /**
+     * 独自のスレッドプールを指定する
+     */
+    @Test
+    public void testCustomExecutor() throws Exception {
+
+        AtomicInteger count = new AtomicInteger();
+        Executor executor = task -> {
+            count.incrementAndGet();
+            task.run();
+        };
+
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setAsyncExecutor(executor);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        mapper.saveAsync(new ByteArrayInputStream(template), out, new SampleSheet("山田")).get();
+        mapper.loadAsync(new ByteArrayInputStream(out.toByteArray()), SampleSheet.class).get();
+
+        assertThat(count.get()).isEqualTo(2);
+
+        // 標準のスレッドプールに戻す
+        mapper.getConfiguration().setAsyncExecutor(null);
+        assertThat(mapper.getConfiguration().getAsyncExecutor()).isSameAs(AsyncExecutors.getDefaultExecutor());
+
+    }
+
+    @XlsSheet(name="テンプレート")
+    private static class SampleSheet {
+
+        @XlsCell(address="B1")
+        private String name;
+
+        public SampleSheet() {
+
+        }
+
+        private SampleSheet(final String name) {
+            this.name = name;
+        }
+
+    }
+
+}
@@ -31,6 +31,7 @@ import com.gh.mygreen.xlsmapper.fieldprocessor.FieldProcessor;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
 import com.gh.mygreen.xlsmapper.util.POIUtils;
 import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
+import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 import com.gh.mygreen.xlsmapper.xml.bind.AnnotationMappingInfo;
 
 /**
@@ -429,6 +430,55 @@ public class XlsMapperTest {
         
     }
     
+    /**
+     * マッピング情報のキャッシュ
+     * @since 2.1
+     */
+    @Test
+    public void testMappingPlan_cache() throws Exception {
+        
+        Configuration config = mapper.getConfiguration();
+        AnnotationReader annoReader = new AnnotationReader(null);
+        
+        SheetMappingPlan plan = config.getMappingPlan(CustomAnnoSheet.class, annoReader);
+        assertThat(plan.getAccessorProxies()).hasSize(1);
+        assertThat(config.getMappingPlan(CustomAnnoSheet.class, new AnnotationReader(null))).isSameAs(plan);
+        
+        // アノテーションのマッピング情報が異なる場合
+        AnnotationMappingInfo xmlInfo = createXml()
+                .classInfo(createClass(CustomAnnoSheet.class)
+                        .field(createField("customProcessor")
+                                .annotation(createAnnotation(CustomProcessorAnno.class)
+                                        .attribute("address", "B3")
+                                    .buildAnnotation())
+                                .buildField())
+                        .buildClass())
+                .buildXml();
+        
+        SheetMappingPlan xmlPlan = config.getMappingPlan(CustomAnnoSheet.class, new AnnotationReader(xmlInfo));
+        assertThat(xmlPlan).isNotSameAs(plan);
+        assertThat(xmlPlan.getAccessorProxies()).hasSize(2);
+        assertThat(config.getMappingPlan(CustomAnnoSheet.class, new AnnotationReader(xmlInfo))).isSameAs(xmlPlan);
+        
+        // アノテーションで指定したFieldProcessorは、取得ごとにインスタンスを作成する
+        FieldProcessor<?> processor1 = getCustomProcessor(xmlPlan);
+        FieldProcessor<?> processor2 = getCustomProcessor(xmlPlan);
+        assertThat(processor1).isInstanceOf(CustomFieldProcessor.class);
+        assertThat(processor2).isInstanceOf(CustomFieldProcessor.class).isNotSameAs(processor1);
+        
+        // FieldProcessorの登録内容が変更された場合
+        config.getFieldProcessorRegistry().registerProcessor(CustomProcessorAnno.class, new CustomFieldProcessor());
+        assertThat(config.getMappingPlan(CustomAnnoSheet.class, annoReader)).isNotSameAs(plan);
+        
+    }
+    
+    private FieldProcessor<?> getCustomProcessor(final SheetMappingPlan plan) {
+        return plan.getAccessorProxies().stream()
+                .filter(proxy -> proxy.getAnnotation() instanceof CustomProcessorAnno)
+                .findFirst()
+                .get().getProcessor();
+    }
+    
     /**
      * アノテーション{@literal @XlsSheet}の付与がない
      *
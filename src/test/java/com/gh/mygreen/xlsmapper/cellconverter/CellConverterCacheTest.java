@@ -0,0 +1,186 @@
+package com.gh.mygreen.xlsmapper.cellconverter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gh.mygreen.xlsmapper.Configuration;
+import com.gh.mygreen.xlsmapper.annotation.XlsCell;
+import com.gh.mygreen.xlsmapper.annotation.XlsDateTimeConverter;
+import com.gh.mygreen.xlsmapper.cellconverter.impl.DateCellConverterFactory;
+import com.gh.mygreen.xlsmapper.cellconverter.impl.IntegerCellConverterFactory;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorFactory;
+import com.gh.mygreen.xlsmapper.textformatter.TextFormatter;
+import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
+
+/**
+ * {@link CellConverterCache}のテスタ
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class CellConverterCacheTest {
+    
+    private Configuration config;
+    
+    @Before
+    public void setUp() throws Exception {
+        this.config = new Configuration();
+    }
+    
+    /**
+     * 同じフィールドに対しては、作成済みのConverterを返す
+     */
+    @Test
+    public void testGet_cached() throws Exception {
+        
+        final AtomicInteger createCount = new AtomicInteger();
+        
+        // 読み込みごとにフィールド情報を作成し直す場合
+        CellConverter<?> converter1 = config.getCellConverterCache().get(createAccessor("number"), Integer.class, config,
+                () -> createNumberConverter("number", createCount));
+        CellConverter<?> converter2 = config.getCellConverterCache().get(createAccessor("number"), Integer.class, config,
+                () -> createNumberConverter("number", createCount));
+        
+        assertThat(converter2).isSameAs(converter1);
+        assertThat(createCount.get()).isEqualTo(1);
+        
+        // 異なるフィールドの場合
+        CellConverter<?> converter3 = config.getCellConverterCache().get(createAccessor("date"), Date.class, config,
+                () -> new DateCellConverterFactory().create(createAccessor("date"), config));
+        assertThat(converter3).isNotSameAs(converter1);
+        
+        // Converterの登録内容が変更された場合
+        config.getConverterRegistry().registerConverter(Integer.class, new IntegerCellConverterFactory());
+        CellConverter<?> converter4 = config.getCellConverterCache().get(createAccessor("number"), Integer.class, config,
+                () -> createNumberConverter("number", createCount));
+        
+        assertThat(converter4).isNotSameAs(converter1);
+        assertThat(createCount.get()).isEqualTo(2);
+        
+    }
+    
+    /**
+     * 最大件数を超えた場合は、最も長く参照されていないConverterを破棄する
+     */
+    @Test
+    public void testGet_maxSize() throws Exception {
+        
+        final CellConverterCache cache = new CellConverterCache(1);
+        assertThat(cache.getMaxSize()).isEqualTo(1);
+        
+        final AtomicInteger createCount = new AtomicInteger();
+        
+        CellConverter<?> converter1 = cache.get(createAccessor("number"), Integer.class, config,
+                () -> createNumberConverter("number", createCount));
+        cache.get(createAccessor("date"), Date.class, config,
+                () -> new DateCellConverterFactory().create(createAccessor("date"), config));
+        assertThat(cache.size()).isEqualTo(1);
+        
+        CellConverter<?> converter2 = cache.get(createAccessor("number"), Integer.class, config,
+                () -> createNumberConverter("number", createCount));
+        
+        assertThat(converter2).isNotSameAs(converter1);
+        assertThat(createCount.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+        
+    }
+    
+    /**
+     * キャッシュが無効な場合は、毎回作成する
+     */
+    @Test
+    public void testGet_disabled() throws Exception {
+        
+        config.setCacheCellConverter(false);
+        
+        final AtomicInteger createCount = new AtomicInteger();
+        
+        CellConverter<?> converter1 = config.getCellConverterCache().get(createAccessor("number"), Integer.class, config,
+                () -> createNumberConverter("number", createCount));
+        CellConverter<?> converter2 = config.getCellConverterCache().get(createAccessor("number"), Integer.class, config,
+                () -> createNumberConverter("number", createCount));
+        
+        assertThat(converter2).isNotSameAs(converter1);
+        assertThat(createCount.get()).isEqualTo(2);
+        
+    }
+    
+    /**
+     * キャッシュしたConverterの書式を、複数のスレッドで使用する
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testTextFormatter_multiThread() throws Exception {
+        
+        final BaseCellConverter<Date> converter = (BaseCellConverter<Date>) config.getCellConverterCache().get(
+                createAccessor("date"), Date.class, config,
+                () -> new DateCellConverterFactory().create(createAccessor("date"), config));
+        final TextFormatter<Date> textFormatter = converter.getTextFormatter();
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for(int i=0; i < 8; i++) {
+                final int day = i + 1;
+                results.add(executor.submit(() -> {
+                    final SimpleDateFormat expectedFormat = new SimpleDateFormat("yyyy/MM/dd");
+                    for(int j=0; j < 500; j++) {
+                        final String text = String.format("2017/03/%02d", day);
+                        final Date value = textFormatter.parse(text);
+                        if(!expectedFormat.format(value).equals(text) || !textFormatter.format(value).equals(text)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            
+            for(Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+            
+        } finally {
+            executor.shutdown();
+        }
+        
+    }
+    
+    private FieldAccessor createAccessor(final String fieldName) {
+        try {
+            return new FieldAccessorFactory(new AnnotationReader(null))
+                    .create(SampleBean.class.getDeclaredField(fieldName));
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private CellConverter<?> createNumberConverter(final String fieldName, final AtomicInteger createCount) {
+        createCount.incrementAndGet();
+        return new IntegerCellConverterFactory().create(createAccessor(fieldName), config);
+    }
+    
+    private static class SampleBean {
+        
+        @XlsCell(address="A1")
+        private Integer number;
+        
+        @XlsCell(address="B1")
+        @XlsDateTimeConverter(javaPattern="yyyy/MM/dd")
+        private Date date;
+        
+    }
+    
+}
@@ -0,0 +1,146 @@
+package com.gh.mygreen.xlsmapper.cellconverter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+
+import com.gh.mygreen.xlsmapper.DefaultCellFormatter;
+import com.gh.mygreen.xlsmapper.util.POIUtils;
+
+/**
+ * {@link CellStyleProxy}のテスタ
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class CellStyleProxyTest {
+    
+    /**
+     * 同じ設定の変更は、作成済みのスタイルを使い回す
+     */
+    @Test
+    public void testReuseStyle() throws Exception {
+        
+        try(Workbook workbook = new XSSFWorkbook()) {
+            assertReuseStyle(workbook);
+        }
+        
+        try(Workbook workbook = new HSSFWorkbook()) {
+            assertReuseStyle(workbook);
+        }
+        
+    }
+    
+    private void assertReuseStyle(final Workbook workbook) {
+        
+        final Sheet sheet = workbook.createSheet("style");
+        final CellStyle baseStyle = workbook.createCellStyle();
+        final CellStyleRegistry registry = new CellStyleRegistry(workbook);
+        
+        final int beforeCount = workbook.getNumCellStyles();
+        
+        for(int i=0; i < 1000; i++) {
+            final Cell cell = POIUtils.getCell(sheet, 0, i);
+            cell.setCellStyle(baseStyle);
+            
+            final CellStyleProxy proxy = new CellStyleProxy(cell, registry);
+            proxy.setWrapText();
+            proxy.setHorizontalAlignment(HorizontalAlignment.CENTER);
+            proxy.setDataFormat("0.00", new DefaultCellFormatter());
+        }
+        
+        // 変更内容ごとに1つずつ作成される
+        assertThat(workbook.getNumCellStyles()).isEqualTo(beforeCount + 3);
+        
+        final CellStyle style = POIUtils.getCell(sheet, 0, 999).getCellStyle();
+        assertThat(style.getIndex()).isEqualTo(POIUtils.getCell(sheet, 0, 0).getCellStyle().getIndex());
+        assertThat(style.getWrapText()).isTrue();
+        assertThat(style.getAlignmentEnum()).isEqualTo(HorizontalAlignment.CENTER);
+        assertThat(style.getDataFormatString()).isEqualTo("0.00");
+        
+        // 元のスタイルは変更されない
+        assertThat(baseStyle.getWrapText()).isFalse();
+        assertThat(baseStyle.getAlignmentEnum()).isEqualTo(HorizontalAlignment.GENERAL);
+        
+    }
+    
+    /**
+     * スタイルの管理情報がない場合や、別のワークブックの管理情報の場合は、セルごとにスタイルを作成する
+     */
+    @Test
+    public void testNotReuseStyle() throws Exception {
+        
+        try(Workbook workbook = new XSSFWorkbook(); Workbook otherWorkbook = new XSSFWorkbook()) {
+            
+            final Sheet sheet = workbook.createSheet("style");
+            final CellStyle baseStyle = workbook.createCellStyle();
+            final CellStyleRegistry otherRegistry = new CellStyleRegistry(otherWorkbook);
+            
+            final int beforeCount = workbook.getNumCellStyles();
+            final int otherBeforeCount = otherWorkbook.getNumCellStyles();
+            
+            for(int i=0; i < 10; i++) {
+                final Cell cell = POIUtils.getCell(sheet, 0, i);
+                cell.setCellStyle(baseStyle);
+                
+                final CellStyleProxy proxy = new CellStyleProxy(cell, i % 2 == 0 ? null : otherRegistry);
+                proxy.setWrapText();
+                proxy.setHorizontalAlignment(HorizontalAlignment.CENTER);
+                
+                // 1つのセルに対しては、一度だけ作成する
+                assertThat(workbook.getNumCellStyles()).isEqualTo(beforeCount + i + 1);
+            }
+            
+            assertThat(otherWorkbook.getNumCellStyles()).isEqualTo(otherBeforeCount);
+            
+            final CellStyle style = POIUtils.getCell(sheet, 0, 9).getCellStyle();
+            assertThat(style.getWrapText()).isTrue();
+            assertThat(style.getAlignmentEnum()).isEqualTo(HorizontalAlignment.CENTER);
+            
+            // 元のスタイルは変更されない
+            assertThat(baseStyle.getWrapText()).isFalse();
+        }
+        
+    }
+    
+    /**
+     * ストリーミング用のワークブックは、元のワークブックの管理情報を使用する
+     */
+    @Test
+    public void testReuseStyle_streaming() throws Exception {
+        
+        try(XSSFWorkbook workbook = new XSSFWorkbook()) {
+            workbook.createSheet("style");
+            final CellStyleRegistry registry = new CellStyleRegistry(workbook);
+            
+            final SXSSFWorkbook streamingWorkbook = new SXSSFWorkbook(workbook);
+            try {
+                final Sheet sheet = streamingWorkbook.getSheet("style");
+                final int beforeCount = workbook.getNumCellStyles();
+                
+                for(int i=0; i < 100; i++) {
+                    final Cell cell = sheet.createRow(i).createCell(0);
+                    
+                    final CellStyleProxy proxy = new CellStyleProxy(cell, registry);
+                    proxy.setShrinkToFit();
+                }
+                
+                assertThat(workbook.getNumCellStyles()).isEqualTo(beforeCount + 1);
+                
+            } finally {
+                streamingWorkbook.dispose();
+            }
+        }
+        
+    }
+    
+}
@@ -5,6 +5,8 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
 import java.awt.Point;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -16,19 +18,29 @@ import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.gh.mygreen.xlsmapper.DefaultCellFormatter;
 import com.gh.mygreen.xlsmapper.XlsMapper;
+import com.gh.mygreen.xlsmapper.annotation.LabelledCellType;
 import com.gh.mygreen.xlsmapper.annotation.RecordTerminal;
 import com.gh.mygreen.xlsmapper.annotation.XlsColumn;
 import com.gh.mygreen.xlsmapper.annotation.XlsDefaultValue;
 import com.gh.mygreen.xlsmapper.annotation.XlsFormula;
 import com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords;
 import com.gh.mygreen.xlsmapper.annotation.XlsIgnorable;
+import com.gh.mygreen.xlsmapper.annotation.XlsLabelledCell;
 import com.gh.mygreen.xlsmapper.annotation.XlsNumberConverter;
 import com.gh.mygreen.xlsmapper.annotation.XlsOrder;
 import com.gh.mygreen.xlsmapper.annotation.XlsRecordOption;
@@ -910,6 +922,99 @@ public class NumberCellConverterTest {
     /**
      * 数値型の書き込みテスト
      */
+    /**
+     * 数式のセルの読み込みテスト
+     * <p>再計算しない場合は、ファイルに保存されている計算結果を読み込む。</p>
+     * @since 2.1
+     */
+    @Test
+    public void test_load_formula() throws Exception {
+
+        // 計算結果を保存した後に、参照先の値を変更したファイルを作成する
+        final byte[] data;
+        try(Workbook book = new XSSFWorkbook()) {
+            final Sheet sheet = book.createSheet("数式");
+            final Row row1 = sheet.createRow(0);
+            row1.createCell(0).setCellValue("値");
+            final Cell valueCell = row1.createCell(1);
+            valueCell.setCellValue(10);
+
+            final Row row2 = sheet.createRow(1);
+            row2.createCell(0).setCellValue("計算");
+            final Cell formulaCell = row2.createCell(1);
+            formulaCell.setCellFormula("B1*2");
+            book.getCreationHelper().createFormulaEvaluator().evaluateFormulaCellEnum(formulaCell);
+
+            valueCell.setCellValue(50);
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            book.write(out);
+            data = out.toByteArray();
+        }
+
+        {
+            // 再計算する場合
+            XlsMapper mapper = new XlsMapper();
+            FormulaSheet sheet = mapper.load(new ByteArrayInputStream(data), FormulaSheet.class);
+
+            assertThat(sheet.value, is(50));
+            assertThat(sheet.result, is(100));
+        }
+
+        {
+            // 再計算しない場合
+            XlsMapper mapper = new XlsMapper();
+            mapper.getConfiguration().setFormulaRecalcurationOnLoad(false);
+            FormulaSheet sheet = mapper.load(new ByteArrayInputStream(data), FormulaSheet.class);
+
+            assertThat(sheet.value, is(50));
+            assertThat(sheet.result, is(20));
+        }
+
+    }
+
+    /**
+     * 数値のセルは、フォーマットせずに値を直接読み込む
+     * @since 2.1
+     */
+    @Test
+    public void test_load_direct() throws Exception {
+
+        final byte[] data;
+        try(Workbook book = new XSSFWorkbook()) {
+            final Sheet sheet = book.createSheet("数式");
+            final Row row1 = sheet.createRow(0);
+            row1.createCell(0).setCellValue("値");
+            row1.createCell(1).setCellValue(123);
+
+            final Row row2 = sheet.createRow(1);
+            row2.createCell(0).setCellValue("計算");
+            row2.createCell(1).setCellValue(456);
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            book.write(out);
+            data = out.toByteArray();
+        }
+
+        // 数値のセルをフォーマットした場合は、異なる値を返す
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setCellFormatter(new DefaultCellFormatter() {
+
+            @Override
+            public String format(final Cell cell, final Locale locale) {
+                if(cell != null && cell.getCellTypeEnum().equals(CellType.NUMERIC)) {
+                    return "999";
+                }
+                return super.format(cell, locale);
+            }
+        });
+
+        FormulaSheet sheet = mapper.load(new ByteArrayInputStream(data), FormulaSheet.class);
+        assertThat(sheet.value, is(123));
+        assertThat(sheet.result, is(456));
+
+    }
+
     @Test
     public void test_save_number() throws Exception {
 
@@ -1313,6 +1418,17 @@ public class NumberCellConverterTest {
 
     }
 
+    @XlsSheet(name="数式")
+    private static class FormulaSheet {
+
+        @XlsLabelledCell(label="値", type=LabelledCellType.Right)
+        private Integer value;
+
+        @XlsLabelledCell(label="計算", type=LabelledCellType.Right)
+        private Integer result;
+
+    }
+
     @XlsSheet(name="数値型")
     private static class NumberSheet {
 
@@ -0,0 +1,259 @@
+package com.gh.mygreen.xlsmapper.fieldaccessor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import com.gh.mygreen.xlsmapper.annotation.XlsCell;
+import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
+
+/**
+ * {@link PropertyHandles}と、それを使用したアクセッサの例外処理のテスタ
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+@RunWith(Enclosed.class)
+public class PropertyHandlesTest {
+
+    /**
+     * {@link PropertyHandles}によるハンドルの作成
+     */
+    public static class Handles {
+
+        /**
+         * フィールドの値の取得と設定
+         */
+        @Test
+        public void testField() throws Throwable {
+
+            Field field = SampleBean.class.getDeclaredField("name");
+            field.setAccessible(true);
+
+            SampleBean bean = new SampleBean();
+            PropertyHandles.setter(field).invoke(bean, "山田");
+
+            assertThat(bean.name).isEqualTo("山田");
+            assertThat(PropertyHandles.getter(field).invoke(bean)).isEqualTo("山田");
+        }
+
+        /**
+         * アクセス可能なfinalなインスタンスフィールドに値を設定する
+         */
+        @Test
+        public void testSetter_finalField() throws Throwable {
+
+            Field field = SampleBean.class.getDeclaredField("finalName");
+            field.setAccessible(true);
+
+            SampleBean bean = new SampleBean();
+            MethodHandle setter = PropertyHandles.setter(field);
+            setter.invoke(bean, "鈴木");
+
+            assertThat(field.get(bean)).isEqualTo("鈴木");
+            assertThat(PropertyHandles.getter(field).invoke(bean)).isEqualTo("鈴木");
+
+            // 型が一致しない値
+            assertThatThrownBy(() -> setter.invoke(bean, 123))
+                .isInstanceOf(ClassCastException.class);
+        }
+
+        /**
+         * {@link MethodHandle}で書き込めないフィールドは、{@link Field#set(Object, Object)}を使用したハンドルで設定する
+         */
+        @Test
+        public void testSetter_fallbackReflection() throws Throwable {
+
+            // アクセス可能にしていないprivateなフィールドは、ハンドルが作成できないため、リフレクションで設定する。
+            Field field = SampleBean.class.getDeclaredField("name");
+
+            MethodHandle setter = PropertyHandles.setter(field);
+            assertThat(setter.type()).isEqualTo(MethodType.methodType(void.class, Object.class, Object.class));
+
+            // Field#setの例外がそのままスローされる
+            SampleBean bean = new SampleBean();
+            assertThatThrownBy(() -> setter.invoke(bean, "山田"))
+                .isInstanceOf(IllegalAccessException.class);
+
+            // アクセス可能にすると、Field#setで設定できる
+            field.setAccessible(true);
+            setter.invoke(bean, "山田");
+            assertThat(bean.name).isEqualTo("山田");
+        }
+
+        /**
+         * プリミティブ型のフィールドに、nullを設定する
+         */
+        @Test
+        public void testSetter_nullToPrimitive() throws Throwable {
+
+            SampleBean bean = new SampleBean();
+
+            Field field = SampleBean.class.getDeclaredField("count");
+            field.setAccessible(true);
+            assertThatThrownBy(() -> PropertyHandles.setter(field).invoke(bean, null))
+                .isInstanceOf(NullPointerException.class);
+
+            Field finalField = SampleBean.class.getDeclaredField("finalCount");
+            finalField.setAccessible(true);
+            assertThatThrownBy(() -> PropertyHandles.setter(finalField).invoke(bean, null))
+                .isInstanceOf(NullPointerException.class);
+
+            assertThat(bean.count).isEqualTo(0);
+        }
+
+    }
+
+    /**
+     * {@link FieldAccessor}での例外のラップ
+     */
+    public static class Accessor {
+
+        private FieldAccessorFactory accessorFactory;
+
+        @Before
+        public void setUp() throws Exception {
+            this.accessorFactory = new FieldAccessorFactory(new AnnotationReader(null));
+        }
+
+        /**
+         * finalなフィールドに値を設定する
+         */
+        @Test
+        public void testSetValue_finalField() throws Exception {
+
+            FieldAccessor accessor = accessorFactory.create(SampleBean.class.getDeclaredField("finalName"));
+
+            SampleBean bean = new SampleBean();
+            accessor.setValue(bean, "鈴木");
+            assertThat(accessor.getValue(bean)).isEqualTo("鈴木");
+        }
+
+        /**
+         * プリミティブ型のフィールドに、nullを設定する
+         */
+        @Test
+        public void testSetValue_nullToPrimitive() throws Exception {
+
+            SampleBean bean = new SampleBean();
+
+            FieldAccessor accessor = accessorFactory.create(SampleBean.class.getDeclaredField("count"));
+            assertThatThrownBy(() -> accessor.setValue(bean, null))
+                .isInstanceOf(FieldAccessException.class)
+                .hasCauseInstanceOf(NullPointerException.class);
+
+            FieldAccessor finalAccessor = accessorFactory.create(SampleBean.class.getDeclaredField("finalCount"));
+            assertThatThrownBy(() -> finalAccessor.setValue(bean, null))
+                .isInstanceOf(FieldAccessException.class)
+                .hasCauseInstanceOf(NullPointerException.class);
+        }
+
+        /**
+         * getter/setterメソッドでスローされた例外
+         */
+        @Test
+        public void testMethodException() throws Exception {
+
+            FieldAccessor accessor = accessorFactory.create(ErrorBean.class.getDeclaredField("value"));
+            assertThat(accessor.getGetter()).isNotEmpty();
+            assertThat(accessor.getSetter()).isNotEmpty();
+
+            // 実行時例外はラップする
+            ErrorBean bean = new ErrorBean(new IllegalStateException("runtime"));
+            assertThatThrownBy(() -> accessor.getValue(bean))
+                .isInstanceOf(FieldAccessException.class)
+                .hasCause(bean.error);
+            assertThatThrownBy(() -> accessor.setValue(bean, "abc"))
+                .isInstanceOf(FieldAccessException.class)
+                .hasCause(bean.error);
+
+            // 検査例外はラップする
+            ErrorBean checkedBean = new ErrorBean(new IOException("checked"));
+            assertThatThrownBy(() -> accessor.getValue(checkedBean))
+                .isInstanceOf(FieldAccessException.class)
+                .hasCause(checkedBean.error);
+            assertThatThrownBy(() -> accessor.setValue(checkedBean, "abc"))
+                .isInstanceOf(FieldAccessException.class)
+                .hasCause(checkedBean.error);
+
+            // エラーはラップしない
+            ErrorBean errorBean = new ErrorBean(new StackOverflowError("error"));
+            assertThatThrownBy(() -> accessor.getValue(errorBean))
+                .isSameAs(errorBean.error);
+            assertThatThrownBy(() -> accessor.setValue(errorBean, "abc"))
+                .isSameAs(errorBean.error);
+        }
+
+        /**
+         * 位置情報などのメソッドでスローされたエラーは、ラップしない
+         */
+        @Test
+        public void testFactoryMethodError() throws Exception {
+
+            ErrorBean errorBean = new ErrorBean(new OutOfMemoryError("error"));
+
+            Optional<LabelGetter> labelGetter = new LabelGetterFactory().create(ErrorBean.class, "value");
+            assertThat(labelGetter).isNotEmpty();
+            assertThatThrownBy(() -> labelGetter.get().get(errorBean))
+                .isSameAs(errorBean.error);
+
+            ErrorBean runtimeBean = new ErrorBean(new IllegalStateException("runtime"));
+            assertThatThrownBy(() -> labelGetter.get().get(runtimeBean))
+                .isInstanceOf(RuntimeException.class)
+                .hasCause(runtimeBean.error);
+        }
+
+    }
+
+    private static class SampleBean {
+
+        @XlsCell(address="A1")
+        private String name;
+
+        @XlsCell(address="A2")
+        private final String finalName = null;
+
+        @XlsCell(address="A3")
+        private int count;
+
+        @XlsCell(address="A4")
+        private final int finalCount = 0;
+
+    }
+
+    private static class ErrorBean {
+
+        @XlsCell(address="A1")
+        private String value;
+
+        private final Throwable error;
+
+        private ErrorBean(final Throwable error) {
+            this.error = error;
+        }
+
+        public String getValue() throws Throwable {
+            throw error;
+        }
+
+        public void setValue(String value) throws Throwable {
+            throw error;
+        }
+
+        public String getValueLabel() throws Throwable {
+            throw error;
+        }
+
+    }
+
+}
@@ -23,15 +23,24 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.apache.poi.ss.usermodel.BorderStyle;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import com.gh.mygreen.xlsmapper.AnnotationInvalidException;
 import com.gh.mygreen.xlsmapper.Configuration;
+import com.gh.mygreen.xlsmapper.RecordIterator;
 import com.gh.mygreen.xlsmapper.XlsMapper;
 import com.gh.mygreen.xlsmapper.annotation.LabelledCellType;
 import com.gh.mygreen.xlsmapper.annotation.RecordTerminal;
@@ -48,6 +57,7 @@ import com.gh.mygreen.xlsmapper.annotation.XlsLabelledCell;
 import com.gh.mygreen.xlsmapper.annotation.XlsMapColumns;
 import com.gh.mygreen.xlsmapper.annotation.XlsNestedRecords;
 import com.gh.mygreen.xlsmapper.annotation.XlsOrder;
+import com.gh.mygreen.xlsmapper.annotation.XlsPostSave;
 import com.gh.mygreen.xlsmapper.annotation.XlsRecordFinder;
 import com.gh.mygreen.xlsmapper.annotation.XlsRecordOption;
 import com.gh.mygreen.xlsmapper.annotation.XlsRecordOption.OverOperation;
@@ -991,6 +1001,246 @@ public class AnnoHorizontalRecordsTest {
         
     }
     
+    /**
+     * ストリーミングによる読み込み - 開始位置、終了位置の指定
+     *
+     * @since 2.1
+     */
+    @Test
+    public void test_load_hr_streaming_position() throws Exception {
+
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setContinueTypeBindFailure(true)
+            .setStreamingLoad(true);
+
+        try(InputStream in = new FileInputStream(inputFile)) {
+
+            SheetBindingErrors<StartedPositionSheet> errors = mapper.loadDetail(in, StartedPositionSheet.class);
+
+            StartedPositionSheet sheet = errors.getTarget();
+
+            assertThat(sheet.normalRecords1, hasSize(2));
+            for(NormalRecord record : sheet.normalRecords1) {
+                assertRecord(record, errors);
+            }
+
+            assertThat(sheet.normalRecords2, hasSize(2));
+            for(NormalRecord record : sheet.normalRecords2) {
+                assertRecord(record, errors);
+            }
+
+            assertThat(sheet.normalRecords3, hasSize(2));
+            for(NormalRecord record : sheet.normalRecords3) {
+                assertRecord(record, errors);
+            }
+
+            assertThat(sheet.normalRecords4, hasSize(2));
+            for(NormalRecord record : sheet.normalRecords4) {
+                assertRecord(record, errors);
+            }
+
+            assertThat(sheet.normalRecords5, is(nullValue()));
+
+        }
+
+        try(InputStream in = new FileInputStream(inputFile)) {
+            SheetBindingErrors<EndPositionSheet> errors = mapper.loadDetail(in, EndPositionSheet.class);
+
+            EndPositionSheet sheet = errors.getTarget();
+
+            assertThat(sheet.normalRecords1, hasSize(2));
+            for(NormalRecord record : sheet.normalRecords1) {
+                assertRecord(record, errors);
+            }
+
+            assertThat(sheet.normalRecords2, hasSize(3));
+            for(NormalRecord record : sheet.normalRecords2) {
+                assertRecord(record, errors);
+            }
+
+            assertThat(sheet.normalRecords3, hasSize(2));
+            for(NormalRecord record : sheet.normalRecords3) {
+                assertRecord(record, errors);
+            }
+
+            assertThat(sheet.normalRecords4, hasSize(2));
+            for(NormalRecord record : sheet.normalRecords4) {
+                assertRecord(record, errors);
+            }
+
+        }
+    }
+
+    /**
+     * ストリーミングによる読み込み - 見出しの空白、カラムの設定
+     *
+     * @since 2.1
+     */
+    @Test
+    public void test_load_hr_streaming_column() throws Exception {
+
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setContinueTypeBindFailure(true)
+            .setStreamingLoad(true);
+
+        try(InputStream in = new FileInputStream(inputFile)) {
+
+            SheetBindingErrors<HeaderSpaceSheet> errors = mapper.loadDetail(in, HeaderSpaceSheet.class);
+
+            HeaderSpaceSheet sheet = errors.getTarget();
+
+            assertThat(sheet.records1, hasSize(2));
+            for(HeaderSpaceSheet.UserRecord record : sheet.records1) {
+                assertRecord(record, errors);
+            }
+
+            assertThat(sheet.records4, hasSize(2));
+            for(HeaderSpaceSheet.UserRecord record : sheet.records4) {
+                assertRecord(record, errors);
+            }
+
+        }
+
+        try(InputStream in = new FileInputStream(inputFile)) {
+            SheetBindingErrors<ColumnSettingSheet> errors = mapper.loadDetail(in, ColumnSettingSheet.class);
+
+            ColumnSettingSheet sheet = errors.getTarget();
+
+            assertThat(sheet.mergedRecords, hasSize(7));
+            for(MergedRecord record : sheet.mergedRecords) {
+                assertRecord(record, errors);
+            }
+
+            assertThat(sheet.headerMergedRecords, hasSize(2));
+            for(HeaderMergedRecord record : sheet.headerMergedRecords) {
+                assertRecord(record, errors);
+            }
+
+            assertThat(sheet.optionalRecords1, hasSize(2));
+            for(OptionalRecord record : sheet.optionalRecords1) {
+                assertRecord(record, errors, true);
+            }
+
+            assertThat(sheet.convertedRecord, hasSize(2));
+            for(ConvertedRecord record : sheet.convertedRecord) {
+                assertRecord(record, errors, false);
+            }
+
+        }
+
+        try(InputStream in = new FileInputStream(inputFile)) {
+            SheetBindingErrors<MapColumnSettingSheet> errors = mapper.loadDetail(in, MapColumnSettingSheet.class);
+
+            MapColumnSettingSheet sheet = errors.getTarget();
+
+            assertThat(sheet.mapRecords1, hasSize(2));
+            for(MapRecord record : sheet.mapRecords1) {
+                assertRecord(record, errors, false);
+            }
+
+            assertThat(sheet.mapRecords2, hasSize(2));
+            for(MapConvertedRecord record : sheet.mapRecords2) {
+                assertRecord(record, errors, false);
+            }
+
+        }
+    }
+
+    /**
+     * ストリーミングによる読み込み - ネストしたレコードはサポートしない
+     *
+     * @since 2.1
+     */
+    @Test(expected=AnnotationInvalidException.class)
+    public void test_load_hr_streaming_nestedRecords() throws Exception {
+
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setContinueTypeBindFailure(true)
+            .setStreamingLoad(true);
+
+        try(InputStream in = new FileInputStream(inputFile)) {
+            mapper.load(in, NestedSheet.class);
+
+            fail();
+        }
+    }
+
+    /**
+     * イテレータによる読み込み
+     * @since 2.1
+     */
+    @Test
+    public void test_load_hr_iterator() throws Exception {
+
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setContinueTypeBindFailure(true);
+
+        try(InputStream in = new FileInputStream(inputFile);
+                RecordIterator<NormalRecord> itr = mapper.loadIterator(in, StartedPositionSheet.class, "normalRecords1", NormalRecord.class)) {
+
+            int count = 0;
+            while(itr.hasNext()) {
+                NormalRecord record = itr.next();
+                assertRecord(record, itr.getErrors());
+                count++;
+            }
+
+            assertThat(count, is(2));
+            assertThat(itr.getErrors().getSheetName(), is("開始位置の指定"));
+        }
+
+        // 表が見つからない場合
+        try(InputStream in = new FileInputStream(inputFile);
+                RecordIterator<NormalRecord> itr = mapper.loadIterator(in, StartedPositionSheet.class, "normalRecords5", NormalRecord.class)) {
+
+            assertThat(itr.hasNext(), is(false));
+        }
+    }
+
+    /**
+     * ストリームによる読み込み - ネストしたレコード
+     * @since 2.1
+     */
+    @Test
+    public void test_load_hr_stream() throws Exception {
+
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setContinueTypeBindFailure(true);
+
+        final NestedSheet expected;
+        try(InputStream in = new FileInputStream(inputFile)) {
+            expected = mapper.load(in, NestedSheet.class);
+        }
+
+        try(InputStream in = new FileInputStream(inputFile);
+                Stream<NestedSheet.OneToOneRecord> stream = mapper.loadStream(in, NestedSheet.class, "oneToOneRecords", NestedSheet.OneToOneRecord.class)) {
+
+            List<NestedSheet.OneToOneRecord> records = stream.collect(Collectors.toList());
+            assertThat(records, hasSize(expected.oneToOneRecords.size()));
+
+            for(int i=0; i < records.size(); i++) {
+                assertThat(records.get(i).no, is(expected.oneToOneRecords.get(i).no));
+                assertThat(records.get(i).className, is(expected.oneToOneRecords.get(i).className));
+            }
+        }
+    }
+
+    /**
+     * イテレータによる読み込み - 表のアノテーションが付与されていないフィールドを指定
+     * @since 2.1
+     */
+    @Test(expected=AnnotationInvalidException.class)
+    public void test_load_hr_iterator_notFoundField() throws Exception {
+
+        XlsMapper mapper = new XlsMapper();
+
+        try(InputStream in = new FileInputStream(inputFile)) {
+            mapper.loadIterator(in, StartedPositionSheet.class, "unknownRecords", NormalRecord.class);
+
+            fail();
+        }
+    }
+
     private void assertRecord(final NormalRecord record, final SheetBindingErrors<?> errors) {
 
         if(record.no == 1) {
@@ -3718,6 +3968,138 @@ public class AnnoHorizontalRecordsTest {
         }
         
     }
+
+    /**
+     * 書き込みのテスト - ストリーミングによる書き込み
+     * @since 2.1
+     */
+    @Test
+    public void test_save_hr_streaming() throws Exception {
+
+        // テンプレートの作成（表がシートの最後に位置する）
+        File templateStreamingFile = new File(OUT_DIR, "anno_HorizonalRecords_streaming_template.xlsx");
+        try(Workbook book = new XSSFWorkbook();
+                OutputStream out = new FileOutputStream(templateStreamingFile)) {
+
+            Sheet sheet = book.createSheet("ストリーミング");
+            sheet.createRow(0).createCell(0).setCellValue("ストリーミングの表");
+
+            Row headerRow = sheet.createRow(1);
+            headerRow.createCell(0).setCellValue("No.");
+            headerRow.createCell(1).setCellValue("名称");
+            headerRow.createCell(2).setCellValue("値");
+
+            // 書式のみを設定したレコードのテンプレート行
+            CellStyle style = book.createCellStyle();
+            style.setBorderBottom(BorderStyle.THIN);
+            Row recordRow = sheet.createRow(2);
+            for(int i=0; i < 3; i++) {
+                recordRow.createCell(i).setCellStyle(style);
+            }
+
+            book.write(out);
+        }
+
+        // テストデータの作成
+        final StreamingSheet outSheet = new StreamingSheet();
+        for(int i=0; i < 300; i++) {
+            outSheet.add(new NormalRecord().name("名前" + i).value(i * 1.5));
+        }
+
+        // ファイルへの書き込み
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setContinueTypeBindFailure(false)
+            .setStreamingSave(true)
+            .setStreamingSaveWindowSize(10);
+
+        File outFile = new File(OUT_DIR, outFilename);
+        try(InputStream template = new FileInputStream(templateStreamingFile);
+                OutputStream out = new FileOutputStream(outFile)) {
+
+            mapper.save(template, out, outSheet);
+        }
+
+        // 書き込んだファイルを読み込み値の検証を行う。
+        try(InputStream in = new FileInputStream(outFile)) {
+            SheetBindingErrors<StreamingSheet> errors = mapper.loadDetail(in, StreamingSheet.class);
+
+            StreamingSheet sheet = errors.getTarget();
+
+            assertThat(sheet.records, hasSize(outSheet.records.size()));
+            for(int i=0; i < sheet.records.size(); i++) {
+                assertRecord(sheet.records.get(i), outSheet.records.get(i), errors);
+            }
+        }
+
+        // テンプレート行の書式が引き継がれていること
+        try(Workbook book = WorkbookFactory.create(new FileInputStream(outFile))) {
+            Sheet sheet = book.getSheet("ストリーミング");
+            assertThat(sheet.getLastRowNum(), is(301));
+            assertThat(sheet.getRow(301).getCell(1).getCellStyle().getBorderBottomEnum(), is(BorderStyle.THIN));
+        }
+
+    }
+
+    /**
+     * 書き込みのテスト - ストリーミングによる書き込みで、表の後のセルを書き込む場合
+     * <p>通常の方法で書き込まれること。</p>
+     * @since 2.1
+     */
+    @Test
+    public void test_save_hr_streaming_footer() throws Exception {
+
+        // テンプレートの作成（表がシートの最後に位置する）
+        File templateStreamingFile = new File(OUT_DIR, "anno_HorizonalRecords_streaming_footer_template.xlsx");
+        try(Workbook book = new XSSFWorkbook();
+                OutputStream out = new FileOutputStream(templateStreamingFile)) {
+
+            Sheet sheet = book.createSheet("ストリーミング");
+            sheet.createRow(0).createCell(0).setCellValue("ストリーミングの表");
+
+            Row headerRow = sheet.createRow(1);
+            headerRow.createCell(0).setCellValue("No.");
+            headerRow.createCell(1).setCellValue("名称");
+            headerRow.createCell(2).setCellValue("値");
+
+            // 通常の方法で書き込むときに、表の終端として判定できるように罫線を設定する
+            CellStyle style = book.createCellStyle();
+            style.setBorderLeft(BorderStyle.THIN);
+            style.setBorderBottom(BorderStyle.THIN);
+            Row recordRow = sheet.createRow(2);
+            for(int i=0; i < 3; i++) {
+                recordRow.createCell(i).setCellStyle(style);
+            }
+
+            book.write(out);
+        }
+
+        // テストデータの作成
+        final StreamingFooterSheet outSheet = new StreamingFooterSheet();
+        for(int i=0; i < 30; i++) {
+            outSheet.add(new NormalRecord().name("名前" + i).value(i * 1.5));
+        }
+
+        // ファイルへの書き込み
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setContinueTypeBindFailure(false)
+            .setStreamingSave(true)
+            .setStreamingSaveWindowSize(10);
+
+        File outFile = new File(OUT_DIR, "anno_HorizonalRecords_streaming_footer_out.xlsx");
+        try(InputStream template = new FileInputStream(templateStreamingFile);
+                OutputStream out = new FileOutputStream(outFile)) {
+
+            mapper.save(template, out, outSheet);
+        }
+
+        // 表の後に書き込んだセルが、レコードの挿入に合わせて移動していること
+        try(Workbook book = WorkbookFactory.create(new FileInputStream(outFile))) {
+            Sheet sheet = book.getSheet("ストリーミング");
+            assertThat(sheet.getRow(31).getCell(1).getStringCellValue(), is("名前29"));
+            assertThat(sheet.getRow(32).getCell(0).getStringCellValue(), is("合計"));
+        }
+
+    }
     
     /**
      * 書き込んだレコードを検証するための
@@ -4781,6 +5163,64 @@ public class AnnoHorizontalRecordsTest {
 
     }
 
+    /**
+     * ストリーミングによる書き込み用のシート
+     *
+     */
+    @XlsSheet(name="ストリーミング")
+    private static class StreamingSheet {
+
+        @XlsHorizontalRecords(tableLabel="ストリーミングの表", terminal=RecordTerminal.Empty)
+        @XlsRecordOption(overOperation=OverOperation.Insert)
+        private List<NormalRecord> records;
+
+        /**
+         * noを自動的に付与する。
+         * @param record
+         * @return 自身のインスタンス
+         */
+        public StreamingSheet add(NormalRecord record) {
+            if(records == null) {
+                this.records = new ArrayList<>();
+            }
+
+            this.records.add(record);
+            record.no(records.size());
+
+            return this;
+        }
+
+    }
+
+    /**
+     * ストリーミングによる書き込みで、表の後にセルを書き込むシート
+     *
+     */
+    @XlsSheet(name="ストリーミング")
+    private static class StreamingFooterSheet {
+
+        @XlsHorizontalRecords(tableLabel="ストリーミングの表", terminal=RecordTerminal.Empty)
+        @XlsRecordOption(overOperation=OverOperation.Insert)
+        private List<NormalRecord> records;
+
+        public StreamingFooterSheet add(NormalRecord record) {
+            if(records == null) {
+                this.records = new ArrayList<>();
+            }
+
+            this.records.add(record);
+            record.no(records.size());
+
+            return this;
+        }
+
+        @XlsPostSave
+        public void handlePostSave(final Sheet sheet) {
+            POIUtils.getCell(sheet, CellPosition.of(3, 0)).setCellValue("合計");
+        }
+
+    }
+
     /**
      * 見出しに空白がある場合のシート
      *
@@ -22,6 +22,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Sheet;
@@ -145,6 +147,27 @@ public class AnnoVerticalRecordsTest {
         }
     }
 
+    /**
+     * ストリームによる読み込み
+     * @since 2.1
+     */
+    @Test
+    public void test_load_vr_stream() throws Exception {
+
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setContinueTypeBindFailure(true);
+
+        try(InputStream in = new FileInputStream(inputFile);
+                Stream<NormalRecord> stream = mapper.loadStream(in, StartedPositionSheet.class, "normalRecords1", NormalRecord.class)) {
+
+            List<NormalRecord> records = stream.collect(Collectors.toList());
+            assertThat(records, hasSize(2));
+            for(NormalRecord record : records) {
+                assertRecord(record, null);
+            }
+        }
+    }
+
     /**
      * 開始位置の指定のテスト - ラベル指定が不正
      */
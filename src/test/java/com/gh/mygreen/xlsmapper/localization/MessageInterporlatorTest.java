@@ -15,7 +15,7 @@ import com.gh.mygreen.xlsmapper.localization.MessageInterpolator;
 /**
  * {@link MessageInterpolator}のテスタ
  * 
- * @version 2.0
+ * @version 2.1
  * @since 0.5
  * @author T.TSUCHIE
  *
@@ -228,5 +228,35 @@ public class MessageInterporlatorTest {
         
     }
     
+    /**
+     * 解析したメッセージをキャッシュする
+     * @since 2.1
+     */
+    @Test
+    public void testInterpolate_cache() {
+        
+        MessageInterpolator interpolator = new MessageInterpolator();
+        
+        String message = "{validatedValue} は、${min}以上の値を入力してください。";
+        
+        for(int i=0; i < 3; i++) {
+            Map<String, Object> vars = new HashMap<>();
+            vars.put("validatedValue", i);
+            vars.put("min", 10);
+            
+            String actual = interpolator.interpolate(message, vars);
+            assertThat(actual, is(i + " は、10以上の値を入力してください。"));
+        }
+        
+        assertThat(interpolator.getTemplateCache().size(), is(1));
+        assertThat(interpolator.getTemplateCache().getMissCount(), is(1L));
+        assertThat(interpolator.getTemplateCache().getHitCount(), is(2L));
+        
+        // 変数を含まないメッセージはキャッシュしない
+        assertThat(interpolator.interpolate("入力してください。", new HashMap<>()), is("入力してください。"));
+        assertThat(interpolator.getTemplateCache().size(), is(1));
+        
+    }
+    
    
 }
@@ -0,0 +1,196 @@
+package com.gh.mygreen.xlsmapper.streaming;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.util.SAXHelper;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+/**
+ * {@link SheetRowXmlHandler}と{@link MergedRegionScanner}のテスタ
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class SheetRowXmlHandlerTest {
+
+    private XSSFWorkbook workbook;
+
+    private Sheet sheet;
+
+    @Before
+    public void setUp() throws Exception {
+        this.workbook = new XSSFWorkbook();
+        this.sheet = workbook.createSheet("Streaming");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        workbook.close();
+    }
+
+    /**
+     * ISO 8601形式の日時のセル(t="d")
+     */
+    @Test
+    public void testDateCell() throws Exception {
+
+        final String xml = "<worksheet><sheetData>"
+                + "<row r=\"1\">"
+                + "<c r=\"A1\" t=\"d\"><v>2016-03-15T10:20:30</v></c>"
+                + "<c r=\"B1\" t=\"d\"><v>2016-03-15</v></c>"
+                + "<c r=\"C1\" t=\"d\"><v>12:00:00</v></c>"
+                + "<c r=\"D1\" t=\"d\"><v>2016-03-15T10:20:30Z</v></c>"
+                + "<c r=\"E1\" t=\"d\"><v>abc</v></c>"
+                + "</row>"
+                + "</sheetData></worksheet>";
+
+        final List<Row> rows = new ArrayList<>();
+        parse(xml, Collections.emptyList(), row -> {
+            assertThat(row.getCell(0).getDateCellValue()).isEqualTo(toDate(LocalDateTime.of(2016, 3, 15, 10, 20, 30)));
+            assertThat(row.getCell(1).getDateCellValue()).isEqualTo(toDate(LocalDateTime.of(2016, 3, 15, 0, 0, 0)));
+            assertThat(row.getCell(2).getNumericCellValue()).isEqualTo(0.5d);
+            assertThat(row.getCell(3).getDateCellValue()).isEqualTo(toDate(LocalDateTime.of(2016, 3, 15, 10, 20, 30)));
+
+            // 解析できない場合は文字列
+            assertThat(row.getCell(4).getCellTypeEnum()).isEqualTo(CellType.STRING);
+            assertThat(row.getCell(4).getStringCellValue()).isEqualTo("abc");
+
+            rows.add(row);
+            return true;
+        });
+
+        assertThat(rows).hasSize(1);
+
+    }
+
+    /**
+     * 通知後の行は、結合セルを含む行とリスナーが指定した行のみ保持すること
+     */
+    @Test
+    public void testRetainedRows() throws Exception {
+
+        final StringBuilder xml = new StringBuilder("<worksheet><sheetData>");
+        for(int i=1; i <= 10; i++) {
+            xml.append("<row r=\"").append(i).append("\"><c r=\"A").append(i).append("\"><v>").append(i).append("</v></c></row>");
+        }
+        xml.append("</sheetData></worksheet>");
+
+        // 2行目から4行目までの結合
+        final List<CellRangeAddress> mergedRegions = Arrays.asList(CellRangeAddress.valueOf("A2:A4"));
+
+        final List<Integer> physicalRows = new ArrayList<>();
+        parse(xml.toString(), mergedRegions, new SheetRowListener() {
+
+            @Override
+            public boolean onRow(final Row row) {
+                physicalRows.add(sheet.getPhysicalNumberOfRows());
+
+                // リスナーの処理で作成される行
+                if(row.getRowNum() == 5) {
+                    sheet.createRow(20);
+                }
+                return true;
+            }
+
+            @Override
+            public void onEndSheet() {
+            }
+
+            @Override
+            public void collectRetainedRows(final Set<Integer> rowIndexes) {
+                rowIndexes.add(0);
+            }
+        });
+
+        // 1行目は常に保持し、2行目は結合範囲の4行目を読み終わるまで保持する
+        assertThat(physicalRows).containsExactly(1, 2, 3, 3, 2, 2, 2, 2, 2, 2);
+        assertThat(sheet.getRow(0)).isNotNull();
+        assertThat(sheet.getRow(1)).isNull();
+        assertThat(sheet.getRow(20)).isNull();
+
+    }
+
+    /**
+     * 結合セルの情報の抽出
+     */
+    @Test
+    public void testScanMergedRegions() throws Exception {
+
+        final String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<x:worksheet xmlns:x=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">"
+                + "<x:sheetData><x:row r=\"1\"><x:c r=\"A1\" t=\"inlineStr\"><x:is><x:t>mergeCell ref=&quot;C1:D1&quot; &lt;mergeCell ref=\"E1:F1\"/&gt;</x:t></x:is></x:c></x:row></x:sheetData>"
+                + "<x:mergeCells count=\"2\">"
+                + "<x:mergeCell ref=\"A1:B2\"/>"
+                + "<x:mergeCell\n  ref='A10:C12' />"
+                + "</x:mergeCells>"
+                + "</x:worksheet>";
+
+        final List<CellRangeAddress> regions = MergedRegionScanner.scan(
+                new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(regions).extracting(CellRangeAddress::formatAsString)
+            .containsExactly("A1:B2", "A10:C12");
+
+    }
+
+    private Date toDate(final LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private void parse(final String xml, final List<CellRangeAddress> mergedRegions, final RowCallback callback) throws Exception {
+
+        parse(xml, mergedRegions, new SheetRowListener() {
+
+            @Override
+            public boolean onRow(final Row row) {
+                return callback.onRow(row);
+            }
+
+            @Override
+            public void onEndSheet() {
+            }
+        });
+    }
+
+    private void parse(final String xml, final List<CellRangeAddress> mergedRegions, final SheetRowListener listener) throws Exception {
+
+        final SheetRowXmlHandler handler = new SheetRowXmlHandler(sheet, null, index -> null,
+                Arrays.asList(listener), mergedRegions);
+
+        final XMLReader xmlReader = SAXHelper.newXMLReader();
+        xmlReader.setContentHandler(handler);
+        try {
+            xmlReader.parse(new InputSource(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))));
+        } catch(SheetRowXmlHandler.StopParsingException e) {
+            // 読み込みの終了
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowCallback {
+
+        boolean onRow(Row row);
+    }
+
+}
@@ -105,6 +105,66 @@ public class CellFinderTest {
         
     }
     
+    /**
+     * ラベルのインデックスを使用して検索する場合
+     * @since 2.1
+     */
+    @Test
+    public void testFind_labelIndex() {
+        
+        config.setNormalizeLabelText(true);
+        final CellLabelIndex labelIndex = new CellLabelIndex(sheet, config);
+        
+        {
+            Optional<Cell> cell = CellFinder.query(sheet, "テスト", config)
+                    .labelIndex(labelIndex)
+                    .findOptional();
+            
+            assertThat(cell).isNotEmpty();
+            assertThat(CellPosition.of(cell.get()).toString()).isEqualTo("B4");
+        }
+        
+        {
+            // 開始位置を含まない場合
+            Optional<Cell> cell = CellFinder.query(sheet, "テスト", config)
+                    .labelIndex(labelIndex)
+                    .startPosition(CellPosition.of("B4"))
+                    .excludeStartPosition(true)
+                    .findOptional();
+            
+            assertThat(cell).isEmpty();
+        }
+        
+        {
+            // 開始位置より前の列は検索しない
+            Optional<Cell> cell = CellFinder.query(sheet, "テスト", config)
+                    .labelIndex(labelIndex)
+                    .startColumn(2)
+                    .findOptional();
+            
+            assertThat(cell).isEmpty();
+        }
+        
+        {
+            // 正規化
+            Optional<Cell> cell = CellFinder.query(sheet, "ABCefg", config)
+                    .labelIndex(labelIndex)
+                    .findOptional();
+            
+            assertThat(cell).isNotEmpty();
+            assertThat(CellPosition.of(cell.get()).toString()).isEqualTo("B8");
+        }
+        
+        {
+            // セルが見つからない場合
+            assertThatThrownBy(() -> CellFinder.query(sheet, "あいう", config)
+                    .labelIndex(labelIndex)
+                    .findWhenNotFoundException())
+                .isInstanceOf(CellNotFoundException.class);
+        }
+        
+    }
+    
     /**
      * 正規表現による検索が有効
      */
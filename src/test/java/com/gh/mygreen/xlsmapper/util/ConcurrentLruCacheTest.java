@@ -0,0 +1,143 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * {@link ConcurrentLruCache}のテスタ
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class ConcurrentLruCacheTest {
+
+    /**
+     * 値の取得と統計情報
+     */
+    @Test
+    public void testGetAndPut() {
+
+        ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(10);
+
+        assertThat(cache.get("a")).isNull();
+        cache.put("a", "A");
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.contains("b")).isFalse();
+
+        assertThat(cache.computeIfAbsent("b", key -> "B")).isEqualTo("B");
+        assertThat(cache.computeIfAbsent("b", key -> "X")).isEqualTo("B");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(2L);
+        assertThat(cache.getMissCount()).isEqualTo(2L);
+        assertThat(cache.getEvictionCount()).isEqualTo(0L);
+
+        assertThat(cache.remove("a")).isEqualTo("A");
+        assertThat(cache.contains("a")).isFalse();
+
+        cache.clear();
+        assertThat(cache.size()).isEqualTo(0);
+
+        cache.resetStatistics();
+        assertThat(cache.getHitCount()).isEqualTo(0L);
+        assertThat(cache.getMissCount()).isEqualTo(0L);
+
+    }
+
+    /**
+     * 最大件数を超えた場合、最も長く参照されていない値を破棄する
+     */
+    @Test
+    public void testEviction() {
+
+        // セグメントが1つになるサイズ
+        ConcurrentLruCache<Integer, String> cache = new ConcurrentLruCache<>(1);
+        cache.put(1, "1");
+        cache.put(2, "2");
+
+        assertThat(cache.contains(1)).isFalse();
+        assertThat(cache.get(2)).isEqualTo("2");
+        assertThat(cache.getEvictionCount()).isEqualTo(1L);
+
+        // 複数のセグメント
+        cache = new ConcurrentLruCache<>(64);
+        for(int i=0; i < 1000; i++) {
+            cache.put(i, String.valueOf(i));
+
+            // 最初の値を参照し続ける
+            assertThat(cache.get(0)).isEqualTo("0");
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+        assertThat(cache.getEvictionCount()).isEqualTo(1000L - cache.size());
+        assertThat(cache.contains(999)).isTrue();
+
+    }
+
+    /**
+     * 引数の不正
+     */
+    @Test
+    public void testInvalidArgs() {
+
+        assertThatThrownBy(() -> new ConcurrentLruCache<String, String>(0))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(10);
+        assertThatThrownBy(() -> cache.put(null, "A"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cache.put("a", null))
+            .isInstanceOf(IllegalArgumentException.class);
+
+    }
+
+    /**
+     * 複数のスレッドから同時に利用する
+     */
+    @Test
+    public void testConcurrent() throws Exception {
+
+        final ConcurrentLruCache<Integer, Integer> cache = new ConcurrentLruCache<>(100);
+
+        final int threadCount = 8;
+        final int count = 10000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for(int t=0; t < threadCount; t++) {
+                final int seed = t;
+                futures.add(executor.submit(() -> {
+                    for(int i=0; i < count; i++) {
+                        final int key = (i * 31 + seed) % 300;
+                        final Integer value = cache.computeIfAbsent(key, k -> k * 2);
+                        assertThat(value).isEqualTo(key * 2);
+                    }
+                }));
+            }
+
+            for(Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo((long)threadCount * count);
+        assertThat(cache.getMissCount() - cache.getEvictionCount()).isEqualTo((long)cache.size());
+
+    }
+
+}
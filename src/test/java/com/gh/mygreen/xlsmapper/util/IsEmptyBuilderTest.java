@@ -19,6 +19,7 @@ import com.gh.mygreen.xlsmapper.util.IsEmptyConfig;
 
 /**
  * {@link IsEmptyBuilder}のテスタ。
+ * @version 2.1
  * @since 0.5
  * @author T.TSUCHIE
  *
@@ -402,6 +403,27 @@ public class IsEmptyBuilderTest {
         assertThat(IsEmptyBuilder.reflectionIsEmpty(obj, IsEmptyConfig.create().withTestTransient(false), "age"), is(true));
     }
     
+    /**
+     * 同じクラスに対して、設定を変えて繰り返し判定する
+     * @since 2.1
+     */
+    @Test
+    public void test_relection_repeat() {
+        
+        for(int i=0; i < 3; i++) {
+            Sample obj = new Sample();
+            obj.no = i;
+            
+            // 0を空として扱う
+            assertThat(IsEmptyBuilder.reflectionIsEmpty(obj, IsEmptyConfig.create().withZeroAsEmpty(true)), is(i == 0));
+            assertThat(IsEmptyBuilder.reflectionIsEmpty(obj, IsEmptyConfig.create().withZeroAsEmpty(true), "no"), is(true));
+            
+            // transientも対象とする
+            assertThat(IsEmptyBuilder.reflectionIsEmpty(obj, IsEmptyConfig.create().withTestTransient(true), "no"), is(false));
+        }
+        
+    }
+    
     private static class Sample {
         
         private static int id = 1;
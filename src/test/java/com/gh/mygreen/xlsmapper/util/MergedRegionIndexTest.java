@@ -0,0 +1,144 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link MergedRegionIndex}のテスタ
+ *
+ * @since 2.1
+ * @author T.TSUCHIE
+ *
+ */
+public class MergedRegionIndexTest {
+    
+    private XSSFWorkbook workbook;
+    
+    private Sheet sheet;
+    
+    private MergedRegionIndex index;
+    
+    @Before
+    public void setUp() throws Exception {
+        this.workbook = new XSSFWorkbook();
+        this.sheet = workbook.createSheet("Merged");
+        
+        // 小さい結合を多数と、多くの行にまたがる結合を作成する
+        for(int i=0; i < 200; i++) {
+            sheet.addMergedRegion(new CellRangeAddress(i*2, i*2+1, 0, 1));
+        }
+        sheet.addMergedRegion(new CellRangeAddress(0, 5000, 5, 5));
+        
+        this.index = new MergedRegionIndex(sheet);
+    }
+    
+    @After
+    public void tearDown() throws Exception {
+        workbook.close();
+    }
+    
+    @Test
+    public void testFind() {
+        
+        assertThat(index.getSheet()).isSameAs(sheet);
+        
+        assertThat(POIUtils.getMergedRegion(sheet, 101, 1, index).formatAsString()).isEqualTo("A101:B102");
+        assertThat(POIUtils.getMergedRegion(sheet, 4000, 5, index).formatAsString()).isEqualTo("F1:F5001");
+        assertThat(POIUtils.getMergedRegion(sheet, 101, 2, index)).isNull();
+        assertThat(POIUtils.getMergedRegion(sheet, 400, 0, index)).isNull();
+        
+        assertThat(POIUtils.intersectsMergedRegion(sheet, new CellRangeAddress(399, 410, 1, 3), index)).isTrue();
+        assertThat(POIUtils.intersectsMergedRegion(sheet, new CellRangeAddress(400, 410, 0, 4), index)).isFalse();
+        
+    }
+    
+    /**
+     * 結合の追加と解除を反映する
+     */
+    @Test
+    public void testFind_modifyRegion() {
+        
+        assertThat(POIUtils.getMergedRegion(sheet, 500, 0, index)).isNull();
+        
+        POIUtils.mergeCells(sheet, 0, 500, 2, 501, index);
+        assertThat(POIUtils.getMergedRegion(sheet, 501, 2, index).formatAsString()).isEqualTo("A501:C502");
+        
+        assertThat(POIUtils.removeMergedRange(sheet, new CellRangeAddress(500, 501, 0, 2), index)).isTrue();
+        assertThat(POIUtils.getMergedRegion(sheet, 501, 2, index)).isNull();
+        
+        // POIUtilsを経由しない場合も、結合の数が変わると作成し直す
+        sheet.addMergedRegion(new CellRangeAddress(600, 600, 0, 3));
+        assertThat(POIUtils.getMergedRegion(sheet, 600, 3, index).formatAsString()).isEqualTo("A601:D601");
+        
+    }
+    
+    /**
+     * インデックスを指定しない場合や、別のシートのインデックスを指定した場合は、シートから直接検索する
+     */
+    @Test
+    public void testFind_withoutIndex() {
+        
+        final Sheet otherSheet = workbook.createSheet("Other");
+        final MergedRegionIndex otherIndex = new MergedRegionIndex(otherSheet);
+        
+        assertThat(POIUtils.getMergedRegion(sheet, 101, 1).formatAsString()).isEqualTo("A101:B102");
+        assertThat(POIUtils.getMergedRegion(sheet, 101, 1, otherIndex).formatAsString()).isEqualTo("A101:B102");
+        assertThat(POIUtils.getMergedRegion(otherSheet, 101, 1, index)).isNull();
+        
+    }
+    
+    /**
+     * POIのAPIを直接使用して、結合の数が変わらない変更をした場合は、破棄することで反映する
+     */
+    @Test
+    public void testFind_invalidate() {
+        
+        assertThat(POIUtils.getMergedRegion(sheet, 0, 0, index).formatAsString()).isEqualTo("A1:B2");
+        
+        // 結合を解除した後に、別の結合を追加する
+        sheet.removeMergedRegion(0);
+        sheet.addMergedRegion(new CellRangeAddress(700, 701, 0, 1));
+        assertThat(sheet.getNumMergedRegions()).isEqualTo(201);
+        
+        index.invalidate();
+        assertThat(POIUtils.getMergedRegion(sheet, 0, 0, index)).isNull();
+        assertThat(POIUtils.getMergedRegion(sheet, 701, 1, index).formatAsString()).isEqualTo("A701:B702");
+        
+        // 行をずらす
+        for(int i=0; i < 10; i++) {
+            sheet.createRow(i);
+        }
+        sheet.shiftRows(2, 9, 1);
+        
+        index.invalidate();
+        assertThat(POIUtils.getMergedRegion(sheet, 2, 0, index)).isNull();
+        assertThat(POIUtils.getMergedRegion(sheet, 3, 0, index).formatAsString()).isEqualTo("A4:B5");
+        
+    }
+    
+    /**
+     * 行の挿入を反映する
+     */
+    @Test
+    public void testFind_insertRow() {
+        
+        for(int i=0; i < 10; i++) {
+            sheet.createRow(i);
+        }
+        
+        assertThat(POIUtils.getMergedRegion(sheet, 2, 0, index).formatAsString()).isEqualTo("A3:B4");
+        
+        POIUtils.insertRow(sheet, 0, index);
+        assertThat(POIUtils.getMergedRegion(sheet, 0, 0, index)).isNull();
+        assertThat(POIUtils.getMergedRegion(sheet, 2, 0, index).formatAsString()).isEqualTo("A2:B3");
+        assertThat(POIUtils.getMergedRegion(sheet, 3, 0, index).formatAsString()).isEqualTo("A4:B5");
+        
+    }
+    
+}
@@ -16,6 +16,7 @@ import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellRangeAddressList;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -202,6 +203,66 @@ public class POIUtilsTest {
 //     * ・HSSF形式
 //     * @since 0.5
 //     */
+    /**
+     * {@link POIUtils#insertRows(Sheet, int, int)}
+     * @since 2.1
+     */
+    @Test
+    public void testInsertRows() throws Exception {
+        
+        Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet();
+        for(int i=0; i < 5; i++) {
+            POIUtils.getCell(sheet, 0, i).setCellValue("row" + i);
+        }
+        
+        POIUtils.insertRows(sheet, 2, 3);
+        
+        assertThat(sheet.getLastRowNum(), is(7));
+        assertThat(POIUtils.getCell(sheet, 0, 1).getStringCellValue(), is("row1"));
+        for(int i=2; i < 5; i++) {
+            assertThat(sheet.getRow(i), is(notNullValue()));
+            assertThat(sheet.getRow(i).getPhysicalNumberOfCells(), is(0));
+        }
+        assertThat(POIUtils.getCell(sheet, 0, 5).getStringCellValue(), is("row2"));
+        assertThat(POIUtils.getCell(sheet, 0, 7).getStringCellValue(), is("row4"));
+        
+        // 最終行より下に追加する場合
+        POIUtils.insertRows(sheet, 10, 2);
+        assertThat(sheet.getLastRowNum(), is(11));
+        
+        workbook.close();
+    }
+    
+    /**
+     * {@link POIUtils#removeRows(Sheet, int, int)}
+     * @since 2.1
+     */
+    @Test
+    public void testRemoveRows() throws Exception {
+        
+        Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet();
+        for(int i=0; i < 6; i++) {
+            POIUtils.getCell(sheet, 0, i).setCellValue("row" + i);
+        }
+        
+        int removedCount = POIUtils.removeRows(sheet, 1, 3);
+        
+        assertThat(removedCount, is(3));
+        assertThat(sheet.getLastRowNum(), is(2));
+        assertThat(POIUtils.getCell(sheet, 0, 0).getStringCellValue(), is("row0"));
+        assertThat(POIUtils.getCell(sheet, 0, 1).getStringCellValue(), is("row4"));
+        assertThat(POIUtils.getCell(sheet, 0, 2).getStringCellValue(), is("row5"));
+        
+        // 末尾の行を削除する場合
+        removedCount = POIUtils.removeRows(sheet, 2, 5);
+        assertThat(removedCount, is(1));
+        assertThat(sheet.getLastRowNum(), is(1));
+        
+        workbook.close();
+    }
+    
 //    @Test
 //    public void testRemoeDataValidationRegion_hssf() throws Exception {
 //        
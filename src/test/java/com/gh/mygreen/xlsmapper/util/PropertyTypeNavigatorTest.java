@@ -13,6 +13,7 @@ import org.junit.Test;
 /**
  * {@link PropertyTypeNavigator}のテスタ
  *
+ * @version 2.1
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -222,6 +223,35 @@ public class PropertyTypeNavigatorTest {
         
     }
     
+    /**
+     * クラスタイプのキャッシュ
+     * @since 2.1
+     */
+    @Test
+    public void test_cache_propertyType() {
+        
+        navigator.setAllowPrivate(true);
+        navigator.setIgnoreNotResolveType(true);
+        navigator.setCacheWithPath(true);
+        
+        for(int i=0; i < 2; i++) {
+            assertThat(navigator.getPropertyType(Person.class, "books[0].title")).isEqualTo(String.class);
+            assertThat(navigator.getPropertyType(Person.class, "noGenerics[0]")).isNull();
+            
+            // ルートのクラスが異なる場合
+            assertThat(navigator.getPropertyType(Book.class, "title")).isEqualTo(String.class);
+        }
+        
+        // オプションを変更した場合は、キャッシュを破棄する
+        navigator.setIgnoreNotResolveType(false);
+        assertThatThrownBy(() -> navigator.getPropertyType(Person.class, "noGenerics[0]"))
+            .isInstanceOf(IllegalStateException.class);
+        
+        navigator.clearCache();
+        assertThat(navigator.getPropertyType(Person.class, "books[0].title")).isEqualTo(String.class);
+        
+    }
+    
     private static class Person {
         
         private String name;
@@ -18,7 +18,7 @@ import com.gh.mygreen.xlsmapper.util.PropertyValueNavigator;
 /**
  * {@link PropertyValueNavigator}のテスタ
  * 
- * @version 2.0
+ * @version 2.1
  * @since 1.0
  * @author T.TSUCHIE
  *
@@ -639,6 +639,104 @@ public class PropertyValueNavigatorTest {
         fail();
     }
     
+    /**
+     * 値の取得処理はインスタンス間で共有するが、非公開のプロパティへのアクセス可否は区別すること
+     * @since 2.1
+     */
+    @Test
+    public void test_shared_getter_allowPrivate() {
+        
+        Person obj = new Person();
+        obj.name = "山田太郎";
+        
+        PropertyValueNavigator privateNavigator = new PropertyValueNavigator();
+        privateNavigator.setAllowPrivate(true);
+        assertThat(privateNavigator.getProperty(obj, "name"), is("山田太郎"));
+        
+        PropertyValueNavigator publicNavigator = new PropertyValueNavigator();
+        try {
+            publicNavigator.getProperty(obj, "name");
+            fail();
+        } catch(PropertyAccessException e) {
+            assertThat(e.getMessage(), is("not found property : name"));
+        }
+        
+        // 見つからなかったプロパティは、アクセス可否を変更すると取得できること
+        publicNavigator.setAllowPrivate(true);
+        assertThat(publicNavigator.getProperty(obj, "name"), is("山田太郎"));
+        
+    }
+    
+    /**
+     * 同じパスで、要素のクラスが異なる場合
+     * @since 2.1
+     */
+    @Test
+    public void test_getProperty_polymorphic() {
+        
+        navigator.setAllowPrivate(true);
+        navigator.setCacheWithPath(true);
+        
+        Holder holder1 = new Holder();
+        holder1.item = new Book("本1", 100);
+        
+        Holder holder2 = new Holder();
+        holder2.item = new Magazine("雑誌1");
+        
+        for(int i=0; i < 2; i++) {
+            assertThat(navigator.getProperty(holder1, "item.title"), is("本1"));
+            assertThat(navigator.getProperty(holder2, "item.title"), is("雑誌1"));
+        }
+        
+    }
+    
+    private static class Holder {
+        
+        private Object item;
+        
+    }
+    
+    private static class Magazine {
+        
+        private final String title;
+        
+        private Magazine(String title) {
+            this.title = title;
+        }
+        
+        public String getTitle() {
+            return title;
+        }
+    }
+    
+    /**
+     * getterメソッドで例外が発生した場合
+     * @since 2.1
+     */
+    @Test
+    public void test_property_method_exception() {
+        
+        navigator.setAllowPrivate(true);
+        
+        ErrorBean obj = new ErrorBean();
+        for(int i=0; i < 2; i++) {
+            try {
+                navigator.getProperty(obj, "value");
+                fail();
+            } catch(PropertyAccessException e) {
+                assertThat(e.getCause(), instanceOf(UnsupportedOperationException.class));
+            }
+        }
+        
+    }
+    
+    private static class ErrorBean {
+        
+        public String getValue() {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
     private static class Person {
         
         private String name;
@@ -21,6 +21,7 @@ import com.gh.mygreen.xlsmapper.util.CellPosition;
 /**
  * {@link SheetBindingErrors}のテスタ
  * 
+ * @version 2.1
  * @since 0.5
  * @author T.TSUCHIE
  *
@@ -117,6 +118,21 @@ public class SheetBindingErrorsTest {
         errors.pushNestedPath("map", "code01");
         assertThat(errors.getCurrentPath()).isEqualTo("sheet.map[code01]");
         
+        // 取り出したパスの値
+        assertThat(errors.popNestedPath()).isEqualTo("map[code01]");
+        assertThat(errors.popNestedPath()).isEqualTo("sheet");
+        assertThat(errors.getCurrentPath()).isEqualTo("");
+        
+        // 深くネストした場合
+        for(int i=0; i < 20; i++) {
+            errors.pushNestedPath("list", i);
+        }
+        assertThat(errors.getCurrentPath()).startsWith("list[0].list[1].").endsWith(".list[19]");
+        for(int i=19; i >= 0; i--) {
+            assertThat(errors.popNestedPath()).isEqualTo("list[" + i + "]");
+        }
+        assertThat(errors.getCurrentPath()).isEqualTo("");
+        
         // エラーの場合 - ネストするパスの指定が空の場合
         assertThatThrownBy(() -> {
             errors.setRootPath();
@@ -206,6 +222,48 @@ public class SheetBindingErrorsTest {
 
     }
     
+    /**
+     * パスを指定したフィールドエラーの検索 - 追加した順序の保持
+     * @since 2.1
+     */
+    @Test
+    public void test_getFieldErrors_order() {
+        
+        SampleSheet sheet = new SampleSheet();
+        SheetBindingErrors<SampleSheet> errors = new SheetBindingErrors<>(sheet);
+        
+        // パスの辞書順とは異なる順序で追加する
+        List<ObjectError> list = new ArrayList<>();
+        list.add(new FieldErrorBuilder(errors.getObjectName(), "list[1].f02", new String[]{"e01"}).build());
+        list.add(new FieldErrorBuilder(errors.getObjectName(), "list[0].f01", new String[]{"e02"}).build());
+        list.add(new ObjectErrorBuilder(errors.getObjectName(), new String[]{"e03"}).build());
+        list.add(new FieldErrorBuilder(errors.getObjectName(), "list[1].f01", new String[]{"e04"}).build());
+        list.add(new FieldErrorBuilder(errors.getObjectName(), "list[1].f02", new String[]{"e05"}).build());
+        list.add(new FieldErrorBuilder(errors.getObjectName(), "map[a01].f01", new String[]{"e06"}).build());
+        errors.addAllErrors(list);
+        
+        assertThat(errors.getFieldErrors("list*")).extracting(e -> e.getCodes()[0])
+            .containsExactly("e01", "e02", "e04", "e05");
+        assertThat(errors.getFieldErrors("list[1].f02")).extracting(e -> e.getCodes()[0])
+            .containsExactly("e01", "e05");
+        assertThat(errors.getFirstFieldError("list[1].*").get().getCodes()[0]).isEqualTo("e01");
+        assertThat(errors.getFirstFieldError("list[0]*").get().getCodes()[0]).isEqualTo("e02");
+        assertThat(errors.getFieldErrorCount("*")).isEqualTo(5);
+        assertThat(errors.hasFieldErrors("list[2].*")).isFalse();
+        assertThat(errors.hasFieldErrors("list")).isFalse();
+        
+        // 現在のパスを付与して検索する
+        errors.pushNestedPath("list", 1);
+        assertThat(errors.getFieldErrors("f02")).extracting(e -> e.getCodes()[0])
+            .containsExactly("e01", "e05");
+        assertThat(errors.getFieldErrorCount("*")).isEqualTo(3);
+        errors.popNestedPath();
+        
+        errors.clearAllErrors();
+        assertThat(errors.hasFieldErrors("list*")).isFalse();
+        
+    }
+    
     /**
      * シート、セルなどの情報のエラーのテスト
      */